@@ -108,7 +108,6 @@ DEPLOY_FILES=(
     "docker-compose.yml"
     "render.yaml"
     ".env.example"
-    "application-prod.properties"
 )
 
 for file in "${DEPLOY_FILES[@]}"; do
@@ -176,13 +175,17 @@ echo ""
 
 # 10. Recommandations de sécurité
 echo "10. Vérifications de sécurité..."
+# Le profil prod est celui du classpath: un fichier à la racine (répertoire de
+# lancement) le remplacerait sans suivre ses évolutions
 if [ -f "application-prod.properties" ]; then
-    if grep -q "admin123" application-prod.properties 2>/dev/null; then
-        print_warning "Mot de passe admin par défaut dans application-prod.properties"
-        echo "   Changez-le avant le déploiement en production !"
-    else
-        print_ok "Pas de mot de passe par défaut détecté"
-    fi
+    print_warning "application-prod.properties à la racine remplace src/main/resources/application-prod.properties"
+    echo "   Supprimez-le et modifiez le profil du classpath."
+fi
+if grep -q "admin123" src/main/resources/application-prod.properties 2>/dev/null; then
+    print_warning "Mot de passe admin par défaut dans application-prod.properties"
+    echo "   Changez-le avant le déploiement en production !"
+else
+    print_ok "Pas de mot de passe par défaut détecté"
 fi
 echo ""
 
@@ -0,0 +1,5 @@
+#!/bin/sh
+# Autorise la réplication en flux depuis le réseau compose (profil "replica").
+# Exécuté par l'image postgres à la création de la base uniquement.
+set -e
+echo "host replication ${POSTGRES_USER} all scram-sha-256" >> "$PGDATA/pg_hba.conf"
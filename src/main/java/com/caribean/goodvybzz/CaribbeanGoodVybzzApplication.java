@@ -2,6 +2,7 @@ package com.caribean.goodvybzz;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Classe principale de l'application caribean Good Vybzz.
@@ -19,11 +20,15 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  *   <li>H2 Database (développement) / PostgreSQL (production)</li>
  * </ul>
  * 
+ * <p>Les tâches planifiées ({@code @Scheduled}) sont activées pour les traitements
+ * de fond (flux temps réel du tableau de bord, etc.).</p>
+ * 
  * @author caribean Good Vybzz Development Team
  * @version 1.0.0
  * @since 2025-01-15
  */
 @SpringBootApplication
+@EnableScheduling
 public class CaribbeanGoodVybzzApplication {
 
     /**
@@ -0,0 +1,69 @@
+package com.caribean.goodvybzz.config;
+
+import com.caribean.goodvybzz.service.ContactWriteBehindService;
+import com.caribean.goodvybzz.service.SpamFilterService;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Contrôle de l'occupation des files de traitement en arrière-plan.
+ *
+ * <p><strong>Files suivies:</strong></p>
+ * <ul>
+ *   <li>{@code contactWriteBehind}: messages de contact en attente d'écriture. Pleine, elle
+ *       refuse les nouveaux messages: l'instance passe {@code OUT_OF_SERVICE} pour que le
+ *       répartiteur de charge envoie les visiteurs vers une autre instance</li>
+ *   <li>{@code spamFilter}: messages en attente d'analyse anti-spam. Pleine, les messages
+ *       suivants ne sont simplement pas analysés</li>
+ * </ul>
+ *
+ * <p>Une file remplie au-delà de {@code app.health.queue-warning-threshold} rend l'état
+ * {@code DEGRADED}.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see HealthCheckConfig
+ */
+public class BackgroundQueuesHealthIndicator extends CachedHealthIndicator {
+
+    private final ContactWriteBehindService contactWriteBehindService;
+    private final SpamFilterService spamFilterService;
+    private final double warningThreshold;
+
+    public BackgroundQueuesHealthIndicator(ContactWriteBehindService contactWriteBehindService,
+                                           SpamFilterService spamFilterService, double warningThreshold,
+                                           Duration maxAge) {
+        super(maxAge);
+        this.contactWriteBehindService = contactWriteBehindService;
+        this.spamFilterService = spamFilterService;
+        this.warningThreshold = warningThreshold;
+    }
+
+    @Override
+    protected Health check() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        int writeBehindDepth = contactWriteBehindService.getQueueDepth();
+        int writeBehindCapacity = contactWriteBehindService.getQueueCapacity();
+        int spamDepth = spamFilterService.getQueueDepth();
+        int spamCapacity = spamFilterService.getQueueCapacity();
+        details.put("contactWriteBehind", Map.of("depth", writeBehindDepth, "capacity", writeBehindCapacity));
+        details.put("spamFilter", Map.of("depth", spamDepth, "capacity", spamCapacity));
+
+        Status status = Status.UP;
+        if (isAboveWarning(writeBehindDepth, writeBehindCapacity) || isAboveWarning(spamDepth, spamCapacity)) {
+            status = DEGRADED;
+        }
+        if (writeBehindDepth >= writeBehindCapacity) {
+            status = Status.OUT_OF_SERVICE;
+        }
+        return Health.status(status).withDetails(details).build();
+    }
+
+    private boolean isAboveWarning(int depth, int capacity) {
+        return capacity > 0 && (double) depth / capacity >= warningThreshold;
+    }
+}
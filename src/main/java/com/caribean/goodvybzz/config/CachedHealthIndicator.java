@@ -0,0 +1,91 @@
+package com.caribean.goodvybzz.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Contrôle de santé exécuté en arrière-plan, dont la sonde ne lit que le dernier résultat.
+ *
+ * <p>Une sonde ne déclenche ainsi jamais de requête à la base ni d'accès disque, et ne
+ * peut pas rester bloquée derrière un contrôle lent. En contrepartie, un contrôle qui
+ * ne se termine plus (base figée, disque réseau injoignable) laisserait un ancien
+ * résultat: au-delà de {@code app.health.max-age}, le résultat est déclaré périmé et
+ * le contrôle signalé en panne.</p>
+ *
+ * <p>Chaque résultat porte la date et la durée du contrôle ({@code checkedAt},
+ * {@code checkDurationMs}).</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see HealthCheckConfig
+ */
+public abstract class CachedHealthIndicator implements HealthIndicator {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(CachedHealthIndicator.class);
+
+    /**
+     * Fonctionnement dégradé: l'instance sert toujours les requêtes (HTTP 200), mais un
+     * budget ou un seuil est dépassé.
+     */
+    public static final Status DEGRADED = new Status("DEGRADED");
+
+    private final Duration maxAge;
+
+    private volatile Health cached = Health.unknown().withDetail("reason", "premier contrôle en cours").build();
+    // Avant le premier contrôle: date de création, pour détecter un premier contrôle bloqué
+    private volatile long checkedAtNanos = System.nanoTime();
+    private volatile Instant checkedAt;
+
+    protected CachedHealthIndicator(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Exécute le contrôle.
+     *
+     * @return l'état constaté
+     * @throws Exception si le contrôle échoue (l'état est alors {@code DOWN})
+     */
+    protected abstract Health check() throws Exception;
+
+    /**
+     * Exécute le contrôle et conserve son résultat; appelé par le planificateur.
+     */
+    void refresh() {
+        long start = System.nanoTime();
+        Health.Builder builder;
+        try {
+            Health health = check();
+            builder = Health.status(health.getStatus()).withDetails(health.getDetails());
+        } catch (Exception e) {
+            builder = Health.down(e);
+        }
+        Status previous = cached.getStatus();
+        checkedAt = Instant.now();
+        checkedAtNanos = System.nanoTime();
+        cached = builder
+                .withDetail("checkedAt", checkedAt)
+                .withDetail("checkDurationMs", (checkedAtNanos - start) / 1_000_000)
+                .build();
+        if (!cached.getStatus().equals(previous) && !Status.UNKNOWN.equals(previous)) {
+            log.warn("Contrôle de santé {}: {} -> {} {}", getClass().getSimpleName(), previous,
+                    cached.getStatus(), cached.getDetails());
+        }
+    }
+
+    @Override
+    public Health health() {
+        Health health = cached;
+        if (System.nanoTime() - checkedAtNanos > maxAge.toNanos()) {
+            return Health.down()
+                    .withDetail("reason", "résultat périmé: aucun contrôle terminé depuis "
+                            + (checkedAt != null ? checkedAt : "le démarrage"))
+                    .withDetail("lastStatus", health.getStatus().getCode())
+                    .build();
+        }
+        return health;
+    }
+}
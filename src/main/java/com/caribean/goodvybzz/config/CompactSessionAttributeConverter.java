@@ -0,0 +1,170 @@
+package com.caribean.goodvybzz.config;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sérialisation compacte des attributs de session stockés en base.
+ *
+ * <p>Les deux attributs présents dans chaque session d'administration sont écrits
+ * dans un format binaire minimal au lieu de la sérialisation Java, qui y inscrit
+ * les noms de toutes les classes traversées:</p>
+ * <ul>
+ *   <li>le contexte de sécurité: nom d'utilisateur, rôles et adresse IP de connexion</li>
+ *   <li>le jeton CSRF: nom de l'en-tête, du paramètre et valeur</li>
+ * </ul>
+ *
+ * <p>Tout autre attribut (requête sauvegardée, attributs flash...) reste sérialisé
+ * par Java. Un flux compact commence par un octet qu'un flux Java ne peut pas avoir
+ * en tête (ceux-ci commencent par {@code 0xACED}), ce qui permet de relire les deux formats.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see SessionConfig
+ */
+public class CompactSessionAttributeConverter implements GenericConverter {
+
+    private static final byte COMPACT_MARKER = 0x01;
+    private static final byte SECURITY_CONTEXT = 1;
+    private static final byte CSRF_TOKEN = 2;
+
+    private final SerializingConverter serializer = new SerializingConverter();
+    private final DeserializingConverter deserializer;
+
+    public CompactSessionAttributeConverter(ClassLoader classLoader) {
+        this.deserializer = new DeserializingConverter(classLoader);
+    }
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return Set.of(new ConvertiblePair(Object.class, byte[].class), new ConvertiblePair(byte[].class, Object.class));
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (source == null) {
+            return null;
+        }
+        return targetType.getType() == byte[].class ? encode(source) : decode((byte[]) source);
+    }
+
+    private byte[] encode(Object value) {
+        try {
+            if (value.getClass() == SecurityContextImpl.class && isCompactable(((SecurityContextImpl) value).getAuthentication())) {
+                return writeSecurityContext((SecurityContextImpl) value);
+            }
+            if (value.getClass() == DefaultCsrfToken.class) {
+                return writeCsrfToken((DefaultCsrfToken) value);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return serializer.convert(value);
+    }
+
+    private Object decode(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != COMPACT_MARKER) {
+            return deserializer.convert(bytes);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            byte type = in.readByte();
+            return switch (type) {
+                case SECURITY_CONTEXT -> readSecurityContext(in);
+                case CSRF_TOKEN -> new DefaultCsrfToken(in.readUTF(), in.readUTF(), in.readUTF());
+                default -> throw new IllegalStateException("Type d'attribut de session inconnu: " + type);
+            };
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Seule une authentification par formulaire, avec un principal sans restriction
+     * de compte, peut être reconstruite à l'identique.
+     */
+    private static boolean isCompactable(Authentication authentication) {
+        return authentication != null
+                && authentication.getClass() == UsernamePasswordAuthenticationToken.class
+                && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof User user
+                && user.isEnabled() && user.isAccountNonExpired()
+                && user.isAccountNonLocked() && user.isCredentialsNonExpired()
+                && (authentication.getDetails() == null
+                    || authentication.getDetails().getClass() == WebAuthenticationDetails.class);
+    }
+
+    private static byte[] writeSecurityContext(SecurityContextImpl context) throws IOException {
+        Authentication authentication = context.getAuthentication();
+        Collection<? extends GrantedAuthority> authorities = authentication.getAuthorities();
+        String remoteAddress = authentication.getDetails() instanceof WebAuthenticationDetails details
+                ? details.getRemoteAddress() : null;
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(COMPACT_MARKER);
+            out.writeByte(SECURITY_CONTEXT);
+            out.writeUTF(authentication.getName());
+            out.writeShort(authorities.size());
+            for (GrantedAuthority authority : authorities) {
+                out.writeUTF(authority.getAuthority());
+            }
+            out.writeBoolean(remoteAddress != null);
+            if (remoteAddress != null) {
+                out.writeUTF(remoteAddress);
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static SecurityContextImpl readSecurityContext(DataInputStream in) throws IOException {
+        String username = in.readUTF();
+        int count = in.readUnsignedShort();
+        List<GrantedAuthority> authorities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            authorities.add(new SimpleGrantedAuthority(in.readUTF()));
+        }
+        String remoteAddress = in.readBoolean() ? in.readUTF() : null;
+
+        // Le mot de passe n'est jamais conservé en session: Spring Security l'efface après connexion.
+        User principal = new User(username, "", authorities);
+        UsernamePasswordAuthenticationToken authentication =
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities);
+        if (remoteAddress != null) {
+            authentication.setDetails(new WebAuthenticationDetails(remoteAddress, null));
+        }
+        return new SecurityContextImpl(authentication);
+    }
+
+    private static byte[] writeCsrfToken(DefaultCsrfToken token) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(COMPACT_MARKER);
+            out.writeByte(CSRF_TOKEN);
+            out.writeUTF(token.getHeaderName());
+            out.writeUTF(token.getParameterName());
+            out.writeUTF(token.getToken());
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,69 @@
+package com.caribean.goodvybzz.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Contrôle de la saturation des pools de connexions Hikari.
+ *
+ * <p>Un pool est saturé lorsque des threads attendent une connexion, ou lorsque la part
+ * de connexions utilisées atteint {@code app.health.pool-saturation-threshold}: l'état
+ * est alors {@code DEGRADED}. Le pool ne met jamais l'instance en panne à lui seul; le
+ * contrôle de la base ({@link DatabaseLatencyHealthIndicator}) s'en charge si les
+ * connexions ne sont plus obtenues à temps.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see HealthCheckConfig
+ */
+public class ConnectionPoolHealthIndicator extends CachedHealthIndicator {
+
+    private final List<HikariDataSource> pools;
+    private final double saturationThreshold;
+
+    public ConnectionPoolHealthIndicator(List<HikariDataSource> pools, double saturationThreshold, Duration maxAge) {
+        super(maxAge);
+        this.pools = pools;
+        this.saturationThreshold = saturationThreshold;
+    }
+
+    @Override
+    protected Health check() {
+        Status status = Status.UP;
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (HikariDataSource pool : pools) {
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            if (bean == null) {
+                // Pool pas encore démarré (réplique injoignable au démarrage, par exemple)
+                details.put(pool.getPoolName(), Map.of("started", false));
+                continue;
+            }
+            int active = bean.getActiveConnections();
+            int max = pool.getMaximumPoolSize();
+            int waiting = bean.getThreadsAwaitingConnection();
+            double usage = max > 0 ? (double) active / max : 0;
+            boolean saturated = waiting > 0 || usage >= saturationThreshold;
+            if (saturated) {
+                status = DEGRADED;
+            }
+
+            Map<String, Object> poolDetails = new LinkedHashMap<>();
+            poolDetails.put("active", active);
+            poolDetails.put("idle", bean.getIdleConnections());
+            poolDetails.put("total", bean.getTotalConnections());
+            poolDetails.put("max", max);
+            poolDetails.put("threadsAwaiting", waiting);
+            poolDetails.put("usage", Math.round(usage * 100) / 100.0);
+            poolDetails.put("saturated", saturated);
+            details.put(pool.getPoolName(), poolDetails);
+        }
+        return Health.status(status).withDetails(details).build();
+    }
+}
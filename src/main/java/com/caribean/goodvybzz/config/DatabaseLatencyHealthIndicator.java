@@ -0,0 +1,48 @@
+package com.caribean.goodvybzz.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Contrôle de la base: durée d'un aller-retour, obtention de la connexion comprise.
+ *
+ * <p><strong>États:</strong></p>
+ * <ul>
+ *   <li>{@code UP}: réponse dans le budget {@code app.health.db-latency-budget}</li>
+ *   <li>{@code DEGRADED}: réponse hors budget (base chargée ou pool saturé)</li>
+ *   <li>{@code DOWN}: pas de réponse dans {@code app.health.db-query-timeout}, ou erreur</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see HealthCheckConfig
+ */
+public class DatabaseLatencyHealthIndicator extends CachedHealthIndicator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration budget;
+
+    public DatabaseLatencyHealthIndicator(DataSource dataSource, Duration budget, Duration queryTimeout,
+                                          Duration maxAge) {
+        super(maxAge);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setQueryTimeout((int) Math.max(1, queryTimeout.toSeconds()));
+        this.budget = budget;
+    }
+
+    @Override
+    protected Health check() {
+        long start = System.nanoTime();
+        jdbcTemplate.queryForObject("select 1", Integer.class);
+        long latencyMs = (System.nanoTime() - start) / 1_000_000;
+
+        return Health.status(latencyMs <= budget.toMillis() ? Status.UP : DEGRADED)
+                .withDetail("latencyMs", latencyMs)
+                .withDetail("budgetMs", budget.toMillis())
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.caribean.goodvybzz.config;
+
+import com.caribean.goodvybzz.service.ContactWriteBehindService;
+import com.caribean.goodvybzz.service.SpamFilterService;
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contrôles de santé de l'application, calculés en arrière-plan.
+ *
+ * <p><strong>Contrôles</strong> (nom dans {@code /actuator/health}):</p>
+ * <ul>
+ *   <li>{@code dbLatency}: aller-retour vers la base, comparé à un budget</li>
+ *   <li>{@code connectionPool}: saturation des pools Hikari</li>
+ *   <li>{@code uploadDirectory}: écriture et espace libre du répertoire des médias</li>
+ *   <li>{@code backgroundQueues}: occupation des files d'arrière-plan</li>
+ * </ul>
+ *
+ * <p>Ils composent le groupe {@code readiness} (voir {@code application.properties});
+ * le groupe {@code liveness} ne dépend que de l'état interne de l'application, pour
+ * qu'une base indisponible ne fasse pas redémarrer toutes les instances. Chaque contrôle
+ * dispose de son propre thread: un disque bloqué ne retarde pas le contrôle de la base.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see CachedHealthIndicator
+ */
+@Configuration
+@EnableConfigurationProperties(HealthCheckProperties.class)
+public class HealthCheckConfig {
+
+    /**
+     * Contrôle de la latence de la base, sur une requête minimale.
+     *
+     * @param dataSource la source de données de l'application
+     * @param properties la configuration des contrôles
+     * @return le contrôle de latence
+     */
+    @Bean
+    public DatabaseLatencyHealthIndicator dbLatencyHealthIndicator(DataSource dataSource,
+                                                                   HealthCheckProperties properties) {
+        return new DatabaseLatencyHealthIndicator(dataSource, properties.getDbLatencyBudget(),
+                properties.getDbQueryTimeout(), properties.getMaxAge());
+    }
+
+    /**
+     * Contrôle des pools de connexions: pool de l'application et, si elle est activée,
+     * pool de la réplique.
+     *
+     * @param dataSources les sources de données déclarées
+     * @param replicaMonitor le moniteur de la réplique, s'il existe
+     * @param properties la configuration des contrôles
+     * @return le contrôle des pools
+     */
+    @Bean
+    public ConnectionPoolHealthIndicator connectionPoolHealthIndicator(ObjectProvider<DataSource> dataSources,
+                                                                       ObjectProvider<ReplicaMonitor> replicaMonitor,
+                                                                       HealthCheckProperties properties) {
+        List<HikariDataSource> pools = new ArrayList<>();
+        dataSources.orderedStream()
+                .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class,
+                        HikariDataSource.class))
+                .filter(Objects::nonNull)
+                .filter(pool -> pools.stream().noneMatch(known -> known == pool))
+                .forEach(pools::add);
+        replicaMonitor.ifAvailable(monitor -> pools.add(monitor.getDataSource()));
+        return new ConnectionPoolHealthIndicator(pools, properties.getPoolSaturationThreshold(), properties.getMaxAge());
+    }
+
+    /**
+     * Contrôle du répertoire des médias, le même que celui de {@code MediaService}.
+     *
+     * @param uploadDirectory le répertoire de téléversement
+     * @param properties la configuration des contrôles
+     * @return le contrôle du répertoire
+     */
+    @Bean
+    public UploadDirectoryHealthIndicator uploadDirectoryHealthIndicator(
+            @Value("${media.upload.directory:src/main/resources/static/media}") String uploadDirectory,
+            HealthCheckProperties properties) {
+        return new UploadDirectoryHealthIndicator(Paths.get(uploadDirectory), properties.getUploadMinFreeSpace(),
+                properties.getMaxAge());
+    }
+
+    /**
+     * Contrôle des files d'enregistrement des messages et d'analyse anti-spam.
+     *
+     * @param contactWriteBehindService le service d'enregistrement différé des messages
+     * @param spamFilterService le service d'analyse anti-spam
+     * @param properties la configuration des contrôles
+     * @return le contrôle des files
+     */
+    @Bean
+    public BackgroundQueuesHealthIndicator backgroundQueuesHealthIndicator(
+            ContactWriteBehindService contactWriteBehindService, SpamFilterService spamFilterService,
+            HealthCheckProperties properties) {
+        return new BackgroundQueuesHealthIndicator(contactWriteBehindService, spamFilterService,
+                properties.getQueueWarningThreshold(), properties.getMaxAge());
+    }
+
+    /**
+     * Exécute périodiquement chaque contrôle sur son propre thread.
+     *
+     * <p>Le planificateur n'est pas exposé comme {@code ScheduledExecutorService}: Spring
+     * Boot n'en créerait plus pour les tâches {@code @Scheduled} de l'application.</p>
+     *
+     * @param indicators les contrôles calculés en arrière-plan
+     * @param properties la configuration des contrôles
+     * @return le planificateur des contrôles
+     */
+    @Bean
+    public HealthCheckScheduler healthCheckScheduler(List<CachedHealthIndicator> indicators,
+                                                     HealthCheckProperties properties) {
+        return new HealthCheckScheduler(indicators, properties.getRefreshInterval());
+    }
+
+    /**
+     * Planificateur des contrôles de santé, arrêté avec le contexte.
+     */
+    public static final class HealthCheckScheduler implements DisposableBean {
+
+        private final ScheduledThreadPoolExecutor executor;
+
+        HealthCheckScheduler(List<CachedHealthIndicator> indicators, Duration refreshInterval) {
+            this.executor = new ScheduledThreadPoolExecutor(indicators.size(), runnable -> {
+                Thread thread = new Thread(runnable, "health-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            for (CachedHealthIndicator indicator : indicators) {
+                executor.scheduleWithFixedDelay(indicator::refresh, 0, refreshInterval.toMillis(),
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+
+        @Override
+        public void destroy() {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.caribean.goodvybzz.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration des contrôles de santé calculés en arrière-plan.
+ *
+ * <p>Chaque contrôle est exécuté toutes les {@code refresh-interval}; les sondes
+ * ({@code /actuator/health/readiness}, {@code /actuator/health/liveness}) ne lisent
+ * que le dernier résultat.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see HealthCheckConfig
+ */
+@ConfigurationProperties(prefix = "app.health")
+public class HealthCheckProperties {
+
+    /**
+     * Intervalle entre deux exécutions d'un contrôle.
+     */
+    private Duration refreshInterval = Duration.ofSeconds(10);
+
+    /**
+     * Âge au-delà duquel un résultat est considéré comme périmé (contrôle bloqué):
+     * le contrôle est alors signalé en panne.
+     */
+    private Duration maxAge = Duration.ofSeconds(60);
+
+    /**
+     * Durée d'aller-retour tolérée pour une requête à la base; au-delà, {@code DEGRADED}.
+     */
+    private Duration dbLatencyBudget = Duration.ofMillis(100);
+
+    /**
+     * Durée maximale de la requête de contrôle de la base.
+     */
+    private Duration dbQueryTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Taux d'occupation du pool de connexions au-delà duquel il est signalé saturé.
+     */
+    private double poolSaturationThreshold = 0.9;
+
+    /**
+     * Espace libre minimal du répertoire des médias; en dessous, {@code DEGRADED}.
+     */
+    private DataSize uploadMinFreeSpace = DataSize.ofMegabytes(500);
+
+    /**
+     * Taux de remplissage d'une file d'arrière-plan au-delà duquel elle est signalée.
+     */
+    private double queueWarningThreshold = 0.8;
+
+    public Duration getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(Duration refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Duration maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    public Duration getDbLatencyBudget() {
+        return dbLatencyBudget;
+    }
+
+    public void setDbLatencyBudget(Duration dbLatencyBudget) {
+        this.dbLatencyBudget = dbLatencyBudget;
+    }
+
+    public Duration getDbQueryTimeout() {
+        return dbQueryTimeout;
+    }
+
+    public void setDbQueryTimeout(Duration dbQueryTimeout) {
+        this.dbQueryTimeout = dbQueryTimeout;
+    }
+
+    public double getPoolSaturationThreshold() {
+        return poolSaturationThreshold;
+    }
+
+    public void setPoolSaturationThreshold(double poolSaturationThreshold) {
+        this.poolSaturationThreshold = poolSaturationThreshold;
+    }
+
+    public DataSize getUploadMinFreeSpace() {
+        return uploadMinFreeSpace;
+    }
+
+    public void setUploadMinFreeSpace(DataSize uploadMinFreeSpace) {
+        this.uploadMinFreeSpace = uploadMinFreeSpace;
+    }
+
+    public double getQueueWarningThreshold() {
+        return queueWarningThreshold;
+    }
+
+    public void setQueueWarningThreshold(double queueWarningThreshold) {
+        this.queueWarningThreshold = queueWarningThreshold;
+    }
+}
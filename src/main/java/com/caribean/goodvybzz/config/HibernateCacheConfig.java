@@ -0,0 +1,80 @@
+package com.caribean.goodvybzz.config;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.HibernateMetrics;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.Collections;
+
+/**
+ * Gestionnaire et métriques du cache de second niveau Hibernate.
+ *
+ * <p>Le cache lui-même est activé par {@code spring.jpa.properties.hibernate.cache.*}
+ * et les régions sont décrites par {@code hibernate-cache.conf}. Le gestionnaire Caffeine
+ * est créé ici plutôt que par Hibernate: Hibernate convertit l'URI de configuration en URL,
+ * ce qui n'aboutit pour {@code classpath:} qu'une fois Tomcat démarré, et donne dans le jar
+ * exécutable une URL que Caffeine ne sait pas lire. Les statistiques Hibernate
+ * ({@code hibernate.generate_statistics}) sont publiées dans Micrometer:</p>
+ * <ul>
+ *   <li>{@code hibernate.second.level.cache.requests} (succès/échecs, par région)</li>
+ *   <li>{@code hibernate.second.level.cache.puts} (entrées chargées, par région)</li>
+ *   <li>{@code hibernate.cache.query.requests} et {@code hibernate.cache.query.plan}</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.model.Media
+ * @see com.caribean.goodvybzz.model.AdminUser
+ */
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * Configuration des régions, lue par Caffeine depuis le classpath.
+     */
+    private static final URI CACHE_CONFIG = URI.create("classpath:hibernate-cache.conf");
+
+    /**
+     * Gestionnaire JCache des régions du cache de second niveau.
+     *
+     * @return le gestionnaire de cache Caffeine
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager() {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider)
+                Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        return provider.getCacheManager(CACHE_CONFIG, HibernateCacheConfig.class.getClassLoader());
+    }
+
+    /**
+     * Transmet le gestionnaire de cache à Hibernate.
+     *
+     * @param hibernateCacheManager le gestionnaire des régions
+     * @return la personnalisation des propriétés Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    /**
+     * Publie les statistiques de l'{@code entityManagerFactory}.
+     *
+     * @param entityManagerFactory la fabrique d'{@code EntityManager} de l'application
+     * @return le binder des métriques Hibernate
+     */
+    @Bean
+    public MeterBinder hibernateMetrics(EntityManagerFactory entityManagerFactory) {
+        return new HibernateMetrics(entityManagerFactory.unwrap(SessionFactory.class),
+                "entityManagerFactory", Collections.emptyList());
+    }
+}
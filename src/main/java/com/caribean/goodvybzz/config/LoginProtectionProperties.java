@@ -0,0 +1,154 @@
+package com.caribean.goodvybzz.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration de la protection du formulaire de connexion administrateur.
+ *
+ * <p><strong>Deux protections complémentaires:</strong></p>
+ * <ul>
+ *   <li>La vérification BCrypt s'exécute sur un pool borné: une rafale de tentatives
+ *       ne peut pas monopoliser les threads du serveur</li>
+ *   <li>Les échecs répétés, par nom d'utilisateur et par adresse IP, imposent une
+ *       attente qui double à chaque nouvel échec</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see ThrottledAuthenticationProvider
+ */
+@ConfigurationProperties(prefix = "app.login")
+public class LoginProtectionProperties {
+
+    /**
+     * Nombre de threads dédiés à la vérification des mots de passe.
+     */
+    private int hashThreads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Nombre maximal de vérifications en attente; au-delà, la connexion est refusée.
+     */
+    private int hashQueueCapacity = 20;
+
+    /**
+     * Délai maximal d'attente d'une vérification (file d'attente comprise).
+     */
+    private Duration hashTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Nombre d'échecs tolérés avant la première attente imposée.
+     */
+    private int freeAttempts = 3;
+
+    /**
+     * Attente imposée après le premier échec au-delà des essais tolérés.
+     */
+    private Duration baseDelay = Duration.ofSeconds(1);
+
+    /**
+     * Attente maximale imposée, quel que soit le nombre d'échecs.
+     */
+    private Duration maxDelay = Duration.ofMinutes(15);
+
+    /**
+     * Durée sans échec après laquelle le compteur d'une clé est oublié.
+     */
+    private Duration resetAfter = Duration.ofHours(1);
+
+    /**
+     * Nombre maximal de clés (utilisateurs et adresses IP) suivies simultanément.
+     */
+    private int maxKeys = 10000;
+
+    /**
+     * Durée pendant laquelle un nom d'utilisateur inconnu est mémorisé.
+     */
+    private Duration unknownUserTtl = Duration.ofSeconds(30);
+
+    /**
+     * Intervalle de purge des compteurs inactifs.
+     */
+    private Duration evictionInterval = Duration.ofMinutes(1);
+
+    public int getHashThreads() {
+        return hashThreads;
+    }
+
+    public void setHashThreads(int hashThreads) {
+        this.hashThreads = hashThreads;
+    }
+
+    public int getHashQueueCapacity() {
+        return hashQueueCapacity;
+    }
+
+    public void setHashQueueCapacity(int hashQueueCapacity) {
+        this.hashQueueCapacity = hashQueueCapacity;
+    }
+
+    public Duration getHashTimeout() {
+        return hashTimeout;
+    }
+
+    public void setHashTimeout(Duration hashTimeout) {
+        this.hashTimeout = hashTimeout;
+    }
+
+    public int getFreeAttempts() {
+        return freeAttempts;
+    }
+
+    public void setFreeAttempts(int freeAttempts) {
+        this.freeAttempts = freeAttempts;
+    }
+
+    public Duration getBaseDelay() {
+        return baseDelay;
+    }
+
+    public void setBaseDelay(Duration baseDelay) {
+        this.baseDelay = baseDelay;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public void setMaxDelay(Duration maxDelay) {
+        this.maxDelay = maxDelay;
+    }
+
+    public Duration getResetAfter() {
+        return resetAfter;
+    }
+
+    public void setResetAfter(Duration resetAfter) {
+        this.resetAfter = resetAfter;
+    }
+
+    public int getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public Duration getUnknownUserTtl() {
+        return unknownUserTtl;
+    }
+
+    public void setUnknownUserTtl(Duration unknownUserTtl) {
+        this.unknownUserTtl = unknownUserTtl;
+    }
+
+    public Duration getEvictionInterval() {
+        return evictionInterval;
+    }
+
+    public void setEvictionInterval(Duration evictionInterval) {
+        this.evictionInterval = evictionInterval;
+    }
+}
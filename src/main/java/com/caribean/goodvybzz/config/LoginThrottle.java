@@ -0,0 +1,160 @@
+package com.caribean.goodvybzz.config;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Temporisation exponentielle des échecs de connexion, par clé.
+ *
+ * <p>Les premiers échecs sont tolérés; chaque échec suivant impose une attente
+ * deux fois plus longue que le précédent, jusqu'à un plafond. Un succès efface
+ * le compteur de la clé.</p>
+ *
+ * <p><strong>Mémoire bornée:</strong></p>
+ * <ul>
+ *   <li>Une clé sans échec depuis {@code resetAfter} et dont l'attente est écoulée
+ *       est oubliée par la purge périodique</li>
+ *   <li>Lorsque {@code maxKeys} clés sont suivies, les clés inactives sont purgées
+ *       immédiatement; si la table reste pleine, l'échec d'une nouvelle clé n'est pas
+ *       enregistré et un avertissement est journalisé (au plus une fois par minute).
+ *       Refuser ces clés bloquerait aussi les administrateurs légitimes; le pool borné
+ *       de vérification des mots de passe continue de protéger le CPU</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see ThrottledAuthenticationProvider
+ */
+public class LoginThrottle {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(LoginThrottle.class);
+
+    private static final long SATURATION_LOG_INTERVAL_NANOS = 60_000_000_000L;
+
+    private final int freeAttempts;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final long resetAfterNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, Failures> failures = new ConcurrentHashMap<>();
+    private final AtomicLong nextSaturationLog;
+
+    /**
+     * @param freeAttempts nombre d'échecs tolérés sans attente
+     * @param baseDelay première attente imposée
+     * @param maxDelay attente maximale
+     * @param resetAfter durée sans échec après laquelle le compteur est oublié
+     * @param maxKeys nombre maximal de clés suivies
+     */
+    public LoginThrottle(int freeAttempts, Duration baseDelay, Duration maxDelay, Duration resetAfter, int maxKeys) {
+        this(freeAttempts, baseDelay, maxDelay, resetAfter, maxKeys, System::nanoTime);
+    }
+
+    /**
+     * Constructeur avec horloge injectée (tests).
+     */
+    LoginThrottle(int freeAttempts, Duration baseDelay, Duration maxDelay, Duration resetAfter, int maxKeys,
+                  LongSupplier nanoClock) {
+        if (freeAttempts < 0 || baseDelay.isNegative() || baseDelay.isZero() || maxDelay.compareTo(baseDelay) < 0) {
+            throw new IllegalArgumentException("Paramètres de temporisation des connexions invalides");
+        }
+        this.freeAttempts = freeAttempts;
+        this.baseDelayNanos = baseDelay.toNanos();
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.resetAfterNanos = resetAfter.toNanos();
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+        this.nextSaturationLog = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    /**
+     * Retourne l'attente restante avant qu'une nouvelle tentative soit acceptée.
+     *
+     * @param key la clé (utilisateur ou adresse IP)
+     * @return 0 si la tentative est permise, sinon l'attente en nanosecondes
+     */
+    public long remainingDelay(String key) {
+        Failures current = failures.get(key);
+        if (current == null) {
+            return 0;
+        }
+        return Math.max(0, current.blockedUntil - nanoClock.getAsLong());
+    }
+
+    /**
+     * Enregistre un échec et calcule l'attente imposée à la clé.
+     *
+     * @param key la clé (utilisateur ou adresse IP)
+     */
+    public void recordFailure(String key) {
+        long now = nanoClock.getAsLong();
+        if (failures.size() >= maxKeys && !failures.containsKey(key)) {
+            evictIdle();
+            if (failures.size() >= maxKeys) {
+                logSaturation(now);
+                return;
+            }
+        }
+        failures.compute(key, (k, previous) -> {
+            int count = previous == null || now - previous.lastFailure > resetAfterNanos ? 1 : previous.count + 1;
+            return new Failures(count, now, now + delayFor(count));
+        });
+    }
+
+    /**
+     * Efface le compteur d'une clé après une connexion réussie.
+     *
+     * @param key la clé (utilisateur ou adresse IP)
+     */
+    public void reset(String key) {
+        failures.remove(key);
+    }
+
+    /**
+     * Oublie les clés inactives dont l'attente est écoulée.
+     *
+     * @return le nombre de clés supprimées
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = failures.size();
+        failures.values().removeIf(f -> now - f.lastFailure > resetAfterNanos && now - f.blockedUntil >= 0);
+        return before - failures.size();
+    }
+
+    /**
+     * Retourne le nombre de clés actuellement suivies.
+     *
+     * @return le nombre de clés
+     */
+    public int size() {
+        return failures.size();
+    }
+
+    private void logSaturation(long now) {
+        long due = nextSaturationLog.get();
+        if (now - due >= 0 && nextSaturationLog.compareAndSet(due, now + SATURATION_LOG_INTERVAL_NANOS)) {
+            log.warn("Temporisation des connexions saturée: {} utilisateurs ou adresses suivis "
+                    + "(maximum atteint), les échecs des nouvelles clés ne sont plus comptés", failures.size());
+        }
+    }
+
+    private long delayFor(int count) {
+        int excess = count - freeAttempts;
+        if (excess <= 0) {
+            return 0;
+        }
+        // Le décalage est borné pour éviter le débordement; le plafond s'applique ensuite.
+        long delay = baseDelayNanos << Math.min(excess - 1, 30);
+        return delay <= 0 ? maxDelayNanos : Math.min(delay, maxDelayNanos);
+    }
+
+    /**
+     * État immuable d'une clé, remplacé à chaque échec.
+     */
+    private record Failures(int count, long lastFailure, long blockedUntil) {
+    }
+}
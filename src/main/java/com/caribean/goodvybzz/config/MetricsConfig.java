@@ -0,0 +1,105 @@
+package com.caribean.goodvybzz.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Métriques de l'application, exportées pour Prometheus ({@code /actuator/prometheus}).
+ *
+ * <p><strong>Métriques configurées ici:</strong></p>
+ * <ul>
+ *   <li>{@code http.server.requests}: histogramme de latence (centiles calculables côté
+ *       Prometheus et seuils d'objectif de latence {@code app.metrics.http.slo}) pour les
+ *       routes publiques uniquement; l'administration, l'actuator et les ressources statiques
+ *       gardent un simple compteur et une durée totale</li>
+ *   <li>{@code app.view.render}: durée de rendu par vue ({@link ViewRenderMetricsInterceptor})</li>
+ * </ul>
+ *
+ * <p>Les méthodes publiques des services annotés {@code @Timed} sont mesurées sous
+ * {@code app.service} par l'aspect configuré par Spring Boot; le temps d'attente d'une
+ * connexion au pool est publié par Hikari ({@code hikaricp.connections.acquire}).</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ */
+@Configuration
+public class MetricsConfig implements WebMvcConfigurer {
+
+    /**
+     * Préfixes des routes exclues des histogrammes de latence.
+     */
+    private static final List<String> NON_PUBLIC_PREFIXES = List.of("/admin", "/actuator", "/h2-console",
+            "/login", "/logout");
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ViewRenderMetricsInterceptor(meterRegistry));
+    }
+
+    /**
+     * Active l'histogramme de latence des requêtes HTTP des routes publiques.
+     *
+     * <p>Méthode statique: le filtre doit exister avant le registre de métriques, dont
+     * dépend cette configuration.</p>
+     *
+     * @param httpSlo les seuils d'objectif de latence des routes publiques
+     * @return le filtre de métriques
+     */
+    @Bean
+    public static MeterFilter publicRouteHistogramFilter(
+            @Value("${app.metrics.http.slo:100ms,250ms,500ms,1s,2s}") List<Duration> httpSlo) {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!"http.server.requests".equals(id.getName()) || !isPublicRoute(id.getTag("uri"))) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .serviceLevelObjectives(httpSlo.stream().mapToDouble(Duration::toNanos).toArray())
+                        .minimumExpectedValue((double) Duration.ofMillis(5).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(10).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    /**
+     * @param uri le modèle d'URI de la requête ({@code /media/{id}}), ou {@code UNKNOWN},
+     *            {@code NOT_FOUND}, {@code REDIRECTION}...
+     * @return {@code true} si la route est une page publique du site
+     */
+    private static boolean isPublicRoute(String uri) {
+        if (uri == null || !uri.startsWith("/")) {
+            return false;
+        }
+        for (String prefix : NON_PUBLIC_PREFIXES) {
+            if (uri.startsWith(prefix)) {
+                return false;
+            }
+        }
+        for (String directory : StaticResourceConfig.STATIC_DIRECTORIES) {
+            if (uri.startsWith("/" + directory + "/")) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
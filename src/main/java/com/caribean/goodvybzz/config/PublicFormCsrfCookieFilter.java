@@ -0,0 +1,49 @@
+package com.caribean.goodvybzz.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Résout le jeton CSRF avant le rendu des pages de formulaire publiques.
+ *
+ * <p>Le jeton est normalement chargé à la demande, lorsque le formulaire est rendu.
+ * Avec un dépôt par cookie, il faut que l'en-tête {@code Set-Cookie} parte avant
+ * que la réponse ne soit validée: sur une page longue, le tampon de sortie peut déjà
+ * avoir été envoyé au moment d'atteindre le formulaire. Les autres pages publiques
+ * (et les ressources statiques) ne reçoivent aucun cookie.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see SignedCookieCsrfTokenRepository
+ */
+public class PublicFormCsrfCookieFilter extends OncePerRequestFilter {
+
+    private final Set<String> formPages;
+
+    public PublicFormCsrfCookieFilter(Set<String> formPages) {
+        this.formPages = formPages;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !"GET".equals(request.getMethod()) || !formPages.contains(path);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        CsrfToken token = (CsrfToken) request.getAttribute(CsrfToken.class.getName());
+        if (token != null) {
+            token.getToken();
+        }
+        filterChain.doFilter(request, response);
+    }
+}
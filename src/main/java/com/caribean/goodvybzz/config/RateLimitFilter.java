@@ -0,0 +1,153 @@
+package com.caribean.goodvybzz.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Filtre de limitation de débit des formulaires publics (inscription, contact).
+ *
+ * <p>Placé avant la chaîne Spring Security: une requête refusée ne crée ni session
+ * ni jeton CSRF et n'atteint jamais le pool de connexions. Le client reçoit un
+ * statut 429 avec l'en-tête {@code Retry-After}.</p>
+ *
+ * <p><strong>Clés de limitation:</strong></p>
+ * <ul>
+ *   <li>Adresse du client ({@code getRemoteAddr()}). Derrière le répartiteur de charge
+ *       (profil prod), Tomcat la remplace par l'adresse d'origine de
+ *       {@code X-Forwarded-For}, uniquement lorsque la connexion provient d'un proxy
+ *       de confiance ({@code server.forward-headers-strategy=native})</li>
+ *   <li>Optionnellement l'email soumis, pour freiner un même envoi réparti sur plusieurs adresses</li>
+ * </ul>
+ *
+ * <p>Métriques: {@code app.rate_limit.rejected} (par route et par clé) et
+ * {@code app.rate_limit.clients} (clients suivis par route).</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see RateLimiter
+ * @see RateLimitProperties
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private final List<LimitedRoute> routes = new ArrayList<>();
+    private final long evictionIntervalNanos;
+    private final AtomicLong nextEviction;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        for (Map.Entry<String, RateLimitProperties.Route> entry : properties.getRoutes().entrySet()) {
+            routes.add(new LimitedRoute(entry.getKey(), entry.getValue(), properties.getMaxClients(), meterRegistry));
+        }
+        this.evictionIntervalNanos = properties.getEvictionInterval().toNanos();
+        this.nextEviction = new AtomicLong(System.nanoTime() + evictionIntervalNanos);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return findRoute(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        evictIfDue();
+        LimitedRoute route = findRoute(request);
+
+        long wait = route.ipLimiter.tryAcquire(request.getRemoteAddr());
+        Counter rejection = route.rejectedByIp;
+        if (wait == 0 && route.emailLimiter != null) {
+            String email = request.getParameter(route.config.getEmailParameter());
+            if (email != null && !email.isBlank()) {
+                wait = route.emailLimiter.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+                rejection = route.rejectedByEmail;
+            }
+        }
+
+        if (wait > 0) {
+            rejection.increment();
+            long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+            if (log.isDebugEnabled()) {
+                log.debug("Requête {} {} limitée pour {} (réessayer dans {} s)",
+                        request.getMethod(), request.getRequestURI(), request.getRemoteAddr(), retryAfter);
+            }
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader("Retry-After", Long.toString(retryAfter));
+            response.setContentType("text/plain;charset=UTF-8");
+            response.getWriter().write("Trop de requêtes. Veuillez réessayer dans " + retryAfter + " seconde(s).");
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private LimitedRoute findRoute(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (LimitedRoute route : routes) {
+            if (route.config.getPath().equals(path) && route.config.getMethods().contains(request.getMethod())) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Purge au fil de l'eau, sans thread dédié: une seule requête par intervalle s'en charge.
+     */
+    private void evictIfDue() {
+        long now = System.nanoTime();
+        long due = nextEviction.get();
+        if (now - due >= 0 && nextEviction.compareAndSet(due, now + evictionIntervalNanos)) {
+            for (LimitedRoute route : routes) {
+                route.ipLimiter.evictIdle();
+                if (route.emailLimiter != null) {
+                    route.emailLimiter.evictIdle();
+                }
+            }
+        }
+    }
+
+    /**
+     * Route limitée avec ses limiteurs et ses compteurs de refus.
+     */
+    private static final class LimitedRoute {
+        private final RateLimitProperties.Route config;
+        private final RateLimiter ipLimiter;
+        private final RateLimiter emailLimiter;
+        private final Counter rejectedByIp;
+        private final Counter rejectedByEmail;
+
+        private LimitedRoute(String name, RateLimitProperties.Route config, int maxClients, MeterRegistry registry) {
+            this.config = config;
+            this.ipLimiter = new RateLimiter(config.getLimit(), config.getPeriod(), config.getBurst(), maxClients);
+            this.emailLimiter = config.isPerEmail()
+                    ? new RateLimiter(config.getLimit(), config.getPeriod(), config.getBurst(), maxClients)
+                    : null;
+            this.rejectedByIp = Counter.builder("app.rate_limit.rejected")
+                    .description("Requêtes refusées par la limitation de débit")
+                    .tag("route", name).tag("key", "ip")
+                    .register(registry);
+            this.rejectedByEmail = Counter.builder("app.rate_limit.rejected")
+                    .description("Requêtes refusées par la limitation de débit")
+                    .tag("route", name).tag("key", "email")
+                    .register(registry);
+            Gauge.builder("app.rate_limit.clients", ipLimiter, RateLimiter::size)
+                    .description("Clients suivis par la limitation de débit")
+                    .tag("route", name)
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.caribean.goodvybzz.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration de la limitation de débit des formulaires publics.
+ *
+ * <p>Chaque route est déclarée sous {@code app.rate-limit.routes.<nom>}; le nom sert
+ * d'étiquette aux métriques. Exemple:</p>
+ * <pre>
+ * app.rate-limit.routes.contact.path=/contact
+ * app.rate-limit.routes.contact.limit=5
+ * app.rate-limit.routes.contact.period=10m
+ * app.rate-limit.routes.contact.burst=3
+ * app.rate-limit.routes.contact.per-email=true
+ * </pre>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see RateLimitFilter
+ */
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * Active ou désactive la limitation de débit.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Nombre maximal de clients suivis simultanément (borne mémoire).
+     */
+    private int maxClients = 10000;
+
+    /**
+     * Intervalle de purge des compteurs inactifs.
+     */
+    private Duration evictionInterval = Duration.ofMinutes(1);
+
+    /**
+     * Routes limitées, par nom.
+     */
+    private Map<String, Route> routes = new LinkedHashMap<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxClients() {
+        return maxClients;
+    }
+
+    public void setMaxClients(int maxClients) {
+        this.maxClients = maxClients;
+    }
+
+    public Duration getEvictionInterval() {
+        return evictionInterval;
+    }
+
+    public void setEvictionInterval(Duration evictionInterval) {
+        this.evictionInterval = evictionInterval;
+    }
+
+    public Map<String, Route> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Route> routes) {
+        this.routes = routes;
+    }
+
+    /**
+     * Limite appliquée à une route.
+     */
+    public static class Route {
+
+        /**
+         * Chemin exact de la route (sans le contexte de l'application).
+         */
+        private String path;
+
+        /**
+         * Méthodes HTTP limitées (par défaut: les soumissions de formulaire).
+         */
+        private List<String> methods = List.of("POST");
+
+        /**
+         * Nombre de requêtes autorisées par période, en régime continu.
+         */
+        private int limit = 10;
+
+        /**
+         * Période de référence de la limite.
+         */
+        private Duration period = Duration.ofMinutes(1);
+
+        /**
+         * Nombre de requêtes acceptées d'affilée avant d'imposer le rythme moyen.
+         */
+        private int burst = 5;
+
+        /**
+         * Applique aussi la limite à l'adresse email soumise, quelle que soit l'adresse IP.
+         */
+        private boolean perEmail;
+
+        /**
+         * Nom du paramètre de formulaire contenant l'email.
+         */
+        private String emailParameter = "email";
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public int getLimit() {
+            return limit;
+        }
+
+        public void setLimit(int limit) {
+            this.limit = limit;
+        }
+
+        public Duration getPeriod() {
+            return period;
+        }
+
+        public void setPeriod(Duration period) {
+            this.period = period;
+        }
+
+        public int getBurst() {
+            return burst;
+        }
+
+        public void setBurst(int burst) {
+            this.burst = burst;
+        }
+
+        public boolean isPerEmail() {
+            return perEmail;
+        }
+
+        public void setPerEmail(boolean perEmail) {
+            this.perEmail = perEmail;
+        }
+
+        public String getEmailParameter() {
+            return emailParameter;
+        }
+
+        public void setEmailParameter(String emailParameter) {
+            this.emailParameter = emailParameter;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.caribean.goodvybzz.config;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Limiteur de débit par clé, sans verrou (algorithme GCRA, équivalent à un seau à jetons).
+ *
+ * <p>Chaque clé ne stocke qu'un {@link AtomicLong}: l'instant théorique d'arrivée de la
+ * prochaine requête (TAT). Une requête est acceptée si ce TAT ne dépasse pas l'instant
+ * courant de plus que la tolérance de rafale; elle avance alors le TAT d'un intervalle
+ * d'émission par un simple compare-and-set.</p>
+ *
+ * <p><strong>Mémoire bornée:</strong></p>
+ * <ul>
+ *   <li>Un compteur dont le TAT est passé équivaut à un seau plein: il peut être oublié
+ *       sans changer le comportement, ce que fait la purge périodique</li>
+ *   <li>Lorsque {@code maxKeys} clés sont suivies, les clés revenues à un seau plein sont
+ *       purgées immédiatement (au plus une fois par seconde); si la table reste pleine,
+ *       une nouvelle clé est refusée pendant un intervalle d'émission. Une table pleine
+ *       de clients actifs signale une attaque distribuée: laisser passer ces clients
+ *       désactiverait la limitation au moment où elle sert</li>
+ * </ul>
+ *
+ * <p>Les instants proviennent de {@link System#nanoTime()} et ne sont comparés que par
+ * différence, ce qui reste correct lorsque le compteur déborde.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see RateLimitFilter
+ */
+public class RateLimiter {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(RateLimiter.class);
+
+    private static final long FORCED_EVICTION_INTERVAL_NANOS = 1_000_000_000L;
+    private static final long SATURATION_LOG_INTERVAL_NANOS = 60_000_000_000L;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+    private final ConcurrentMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final AtomicLong nextForcedEviction;
+    private final AtomicLong nextSaturationLog;
+    private final AtomicLong saturationRejections = new AtomicLong();
+
+    /**
+     * @param limit nombre de requêtes autorisées par période
+     * @param period période de référence
+     * @param burst nombre de requêtes acceptées d'affilée
+     * @param maxKeys nombre maximal de clés suivies
+     */
+    public RateLimiter(int limit, Duration period, int burst, int maxKeys) {
+        this(limit, period, burst, maxKeys, System::nanoTime);
+    }
+
+    /**
+     * Constructeur avec horloge injectée (tests).
+     */
+    RateLimiter(int limit, Duration period, int burst, int maxKeys, LongSupplier nanoClock) {
+        if (limit <= 0 || burst <= 0 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("Limite, rafale et période doivent être strictement positives");
+        }
+        this.emissionIntervalNanos = period.toNanos() / limit;
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+        long now = nanoClock.getAsLong();
+        this.nextForcedEviction = new AtomicLong(now);
+        this.nextSaturationLog = new AtomicLong(now);
+    }
+
+    /**
+     * Tente de consommer une requête pour la clé donnée.
+     *
+     * @param key la clé du client (adresse IP, email...)
+     * @return 0 si la requête est acceptée, sinon le délai d'attente en nanosecondes
+     */
+    public long tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            if (buckets.size() >= maxKeys && !makeRoom(now)) {
+                return emissionIntervalNanos;
+            }
+            tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long current = tat.get();
+            long start = current - now > 0 ? current : now;
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (tat.compareAndSet(current, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Oublie les clés revenues à un seau plein (TAT dépassé).
+     *
+     * @return le nombre de clés supprimées
+     */
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(tat -> tat.get() - now <= 0);
+        return before - buckets.size();
+    }
+
+    /**
+     * Table pleine: purge anticipée des clés inactives, puis refus si aucune place ne se libère.
+     *
+     * @param now l'instant courant
+     * @return true si la nouvelle clé peut être suivie
+     */
+    private boolean makeRoom(long now) {
+        long due = nextForcedEviction.get();
+        if (now - due >= 0 && nextForcedEviction.compareAndSet(due, now + FORCED_EVICTION_INTERVAL_NANOS)) {
+            evictIdle();
+            if (buckets.size() < maxKeys) {
+                return true;
+            }
+        }
+        long rejected = saturationRejections.incrementAndGet();
+        long logDue = nextSaturationLog.get();
+        if (now - logDue >= 0 && nextSaturationLog.compareAndSet(logDue, now + SATURATION_LOG_INTERVAL_NANOS)) {
+            log.warn("Limitation de débit saturée: {} clients actifs suivis (maximum atteint), "
+                    + "{} nouveau(x) client(s) refusé(s) depuis le démarrage", buckets.size(), rejected);
+        }
+        return false;
+    }
+
+    /**
+     * Retourne le nombre de clés actuellement suivies.
+     *
+     * @return le nombre de clés
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Retourne le nombre de nouveaux clients refusés faute de place dans la table.
+     *
+     * @return le nombre de refus par saturation
+     */
+    public long getSaturationRejections() {
+        return saturationRejections.get();
+    }
+}
@@ -0,0 +1,168 @@
+package com.caribean.goodvybzz.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.Cookie;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Source de données qui répartit les connexions entre la base principale et la réplique.
+ *
+ * <p><strong>Règles de routage:</strong></p>
+ * <ul>
+ *   <li>Écritures, et tout accès hors transaction en lecture seule: base principale</li>
+ *   <li>Transactions en lecture seule: réplique, si elle est disponible et à jour</li>
+ *   <li>Après une modification validée, les lectures de la même session restent sur la base
+ *       principale le temps que la réplique la reçoive (lecture de ses propres écritures).
+ *       Seules les sessions d'administration sont concernées: les pages publiques n'en créent pas</li>
+ *   <li>Si aucune connexion ne peut être obtenue de la réplique, la base principale prend le relais</li>
+ * </ul>
+ *
+ * <p>Le caractère lecture seule d'une transaction n'est connu qu'une fois celle-ci
+ * démarrée: cette source doit être enveloppée dans un
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, qui ne
+ * demande la connexion qu'à la première requête SQL.</p>
+ *
+ * <p>La session est reconnue à son cookie, sans la charger: la charger (ou charger le
+ * contexte de sécurité qu'elle contient) demanderait elle-même une connexion.</p>
+ *
+ * <p><strong>Métriques:</strong> {@code app.datasource.routing} (connexions obtenues,
+ * par pool et par motif).</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see ReplicaDataSourceConfig
+ * @see ReplicaMonitor
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    enum Route { PRIMARY, REPLICA }
+
+    private final DataSource primary;
+    private final ReplicaMonitor replicaMonitor;
+    private final String sessionCookieName;
+    private final Cache<String, Boolean> pinnedSessions;
+
+    private final Counter readWrites;
+    private final Counter reads;
+    private final Counter readsPinned;
+    private final Counter readsReplicaUnusable;
+    private final Counter readsReplicaFailed;
+
+    public ReadWriteRoutingDataSource(DataSource primary, ReplicaMonitor replicaMonitor, String sessionCookieName,
+                                      Duration readYourWritesWindow, int maxPinnedSessions,
+                                      MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicaMonitor = replicaMonitor;
+        this.sessionCookieName = sessionCookieName;
+        this.pinnedSessions = Caffeine.newBuilder()
+                .expireAfterWrite(readYourWritesWindow)
+                .maximumSize(maxPinnedSessions)
+                .build();
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replicaMonitor.getDataSource()));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+
+        this.readWrites = routingCounter(meterRegistry, "primary", "read_write");
+        this.reads = routingCounter(meterRegistry, "replica", "read");
+        this.readsPinned = routingCounter(meterRegistry, "primary", "read_your_writes");
+        this.readsReplicaUnusable = routingCounter(meterRegistry, "primary", "replica_unusable");
+        this.readsReplicaFailed = routingCounter(meterRegistry, "primary", "replica_failed");
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String pool, String reason) {
+        return Counter.builder("app.datasource.routing")
+                .description("Connexions obtenues, par pool et motif de routage")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            readWrites.increment();
+            pinAfterCommit();
+            return Route.PRIMARY;
+        }
+        if (!replicaMonitor.isUsable()) {
+            readsReplicaUnusable.increment();
+            return Route.PRIMARY;
+        }
+        String session = currentSession();
+        if (session != null && pinnedSessions.getIfPresent(session) != null) {
+            readsPinned.increment();
+            return Route.PRIMARY;
+        }
+        return Route.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        if (target == primary) {
+            return primary.getConnection();
+        }
+        try {
+            Connection connection = target.getConnection();
+            reads.increment();
+            return connection;
+        } catch (SQLException e) {
+            replicaMonitor.markUnavailable(e);
+            readsReplicaFailed.increment();
+            return primary.getConnection();
+        }
+    }
+
+    /**
+     * Maintient sur la base principale les lectures de la session courante une fois
+     * la transaction d'écriture validée.
+     */
+    private void pinAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String session = currentSession();
+        if (session != null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    pinnedSessions.put(session, Boolean.TRUE);
+                }
+            });
+        }
+    }
+
+    /**
+     * @return la valeur du cookie de session de la requête en cours, ou {@code null}
+     */
+    private String currentSession() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        Cookie[] cookies = servletAttributes.getRequest().getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (sessionCookieName.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+}
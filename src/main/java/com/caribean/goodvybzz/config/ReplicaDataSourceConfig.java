@@ -0,0 +1,149 @@
+package com.caribean.goodvybzz.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.session.jdbc.config.annotation.SpringSessionDataSource;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+/**
+ * Sources de données avec réplique en lecture ({@code app.datasource.replica.enabled=true}).
+ *
+ * <p>Remplace la source de données configurée par Spring Boot par deux pools:</p>
+ * <ul>
+ *   <li>{@code primary}: base principale ({@code spring.datasource.*}), pour les écritures
+ *       et les migrations</li>
+ *   <li>{@code replica}: réplique ({@code app.datasource.replica.*}), pour les transactions
+ *       en lecture seule; connexions en lecture seule, délai d'obtention court pour basculer
+ *       rapidement sur la base principale en cas de panne</li>
+ * </ul>
+ *
+ * <p>Le pool de la réplique n'est volontairement pas déclaré comme bean: une réplique
+ * indisponible est contournée et ne doit pas rendre l'application indisponible aux yeux
+ * du contrôle de santé {@code db}. Chaque pool publie ses métriques
+ * {@code hikaricp.connections.*}, distinguées par l'étiquette {@code pool}.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see ReadWriteRoutingDataSource
+ * @see ReplicaMonitor
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaDataSourceConfig {
+
+    /**
+     * Pool de connexions de la base principale.
+     *
+     * <p>Les sessions HTTP y accèdent directement, sans routage: elles sont réécrites
+     * à chaque requête et ne doivent jamais être lues sur une réplique en retard.</p>
+     *
+     * @param properties la configuration {@code spring.datasource.*}
+     * @return le pool principal
+     */
+    @Bean
+    @SpringSessionDataSource
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Surveillance de la réplique, propriétaire de son pool de connexions.
+     *
+     * @param replica la configuration de la réplique
+     * @param primary la configuration de la base principale (identifiants par défaut)
+     * @param environment l'environnement, pour les réglages {@code app.datasource.replica.hikari.*}
+     * @param meterRegistry le registre de métriques
+     * @return le moniteur de la réplique
+     */
+    @Bean
+    public ReplicaMonitor replicaMonitor(ReplicaDataSourceProperties replica, DataSourceProperties primary,
+                                         Environment environment, MeterRegistry meterRegistry) {
+        if (!StringUtils.hasText(replica.getUrl())) {
+            throw new IllegalStateException("app.datasource.replica.url est requis lorsque la réplique est activée");
+        }
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(StringUtils.hasText(replica.getUsername()) ? replica.getUsername() : primary.determineUsername())
+                .password(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        dataSource.setConnectionTimeout(2000);
+        // Démarrage possible même si la réplique est injoignable: la base principale prend le relais
+        dataSource.setInitializationFailTimeout(-1);
+        Binder.get(environment).bind("app.datasource.replica.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        return new ReplicaMonitor(dataSource, replica.getMaxLag(), replica.getHealthCheckInterval(), meterRegistry);
+    }
+
+    /**
+     * Source de données de l'application: routage entre base principale et réplique.
+     *
+     * @param primary le pool principal
+     * @param replicaMonitor le moniteur de la réplique
+     * @param replica la configuration de la réplique
+     * @param sessionCookieName le nom du cookie de session
+     * @param meterRegistry le registre de métriques
+     * @return la source de données routée
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary, ReplicaMonitor replicaMonitor,
+                                 ReplicaDataSourceProperties replica,
+                                 @Value("${server.servlet.session.cookie.name:SESSION}") String sessionCookieName,
+                                 MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicaMonitor, sessionCookieName,
+                replica.getReadYourWritesWindow(), replica.getMaxPinnedSessions(), meterRegistry);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(routing);
+        // Valeurs par défaut des deux pools, fixées pour ne pas ouvrir de connexion au démarrage
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        return dataSource;
+    }
+
+    /**
+     * Rend la connexion au pool à la fin de chaque transaction.
+     *
+     * <p>Par défaut, Spring fait conserver à Hibernate la connexion obtenue jusqu'à la
+     * fermeture de l'{@code EntityManager}: un {@code EntityManager} partagé par plusieurs
+     * transactions verrait une transaction d'écriture suivant une lecture réutiliser la
+     * connexion (en lecture seule) de la réplique.</p>
+     *
+     * @return le réglage de gestion des connexions d'Hibernate
+     */
+    @Bean
+    public HibernatePropertiesCustomizer releaseConnectionAfterTransaction() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,125 @@
+package com.caribean.goodvybzz.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration de la base réplique utilisée pour les lectures.
+ *
+ * <p>Lorsque la réplique est activée, les transactions en lecture seule
+ * ({@code @Transactional(readOnly = true)}) sont servies par un pool de connexions
+ * distinct ouvert sur la réplique; les écritures restent sur la base principale.</p>
+ *
+ * <p>Le pool de la réplique se règle par {@code app.datasource.replica.hikari.*},
+ * comme le pool principal par {@code spring.datasource.hikari.*}.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see ReplicaDataSourceConfig
+ */
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    /**
+     * Active le routage des lectures vers la réplique.
+     */
+    private boolean enabled = false;
+
+    /**
+     * URL JDBC de la réplique.
+     */
+    private String url;
+
+    /**
+     * Utilisateur de la réplique; à défaut, celui de la base principale.
+     */
+    private String username;
+
+    /**
+     * Mot de passe de la réplique; à défaut, celui de la base principale.
+     */
+    private String password;
+
+    /**
+     * Retard de réplication toléré; au-delà, les lectures repassent sur la base principale.
+     */
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    /**
+     * Intervalle de vérification de la disponibilité et du retard de la réplique.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * Nombre maximal de sessions dont les lectures sont maintenues sur la base
+     * principale après une modification.
+     */
+    private int maxPinnedSessions = 1000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public Duration getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public void setHealthCheckInterval(Duration healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    public int getMaxPinnedSessions() {
+        return maxPinnedSessions;
+    }
+
+    public void setMaxPinnedSessions(int maxPinnedSessions) {
+        this.maxPinnedSessions = maxPinnedSessions;
+    }
+
+    /**
+     * Durée pendant laquelle une session lit sur la base principale après une
+     * modification: le retard toléré, plus l'intervalle entre deux mesures de ce retard.
+     *
+     * @return la durée de maintien sur la base principale
+     */
+    public Duration getReadYourWritesWindow() {
+        return maxLag.plus(healthCheckInterval);
+    }
+}
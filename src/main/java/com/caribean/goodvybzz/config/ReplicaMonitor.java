@@ -0,0 +1,149 @@
+package com.caribean.goodvybzz.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Surveillance de la base réplique: disponibilité et retard de réplication.
+ *
+ * <p>Une vérification périodique, sur un thread dédié, ouvre une connexion sur la
+ * réplique et mesure son retard sur la base principale. La réplique n'est utilisée
+ * que si la dernière vérification a réussi et que le retard mesuré ne dépasse pas
+ * le maximum toléré; tant qu'aucune vérification n'a abouti, toutes les lectures
+ * vont à la base principale.</p>
+ *
+ * <p><strong>Mesure du retard (PostgreSQL):</strong></p>
+ * <ul>
+ *   <li>Nul si tout le WAL reçu a été rejoué, tant que la réception est active</li>
+ *   <li>Sinon, ancienneté de la dernière transaction rejouée</li>
+ *   <li>Sans le rôle {@code pg_monitor}, l'état de la réception n'est pas visible:
+ *       le retard est alors surestimé lorsque la base principale est inactive</li>
+ * </ul>
+ * <p>Pour une autre base (réplique H2 locale), seule la connexion est vérifiée.</p>
+ *
+ * <p><strong>Métriques:</strong> {@code app.datasource.replica.usable} et
+ * {@code app.datasource.replica.lag} (secondes).</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see ReadWriteRoutingDataSource
+ */
+public class ReplicaMonitor {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(ReplicaMonitor.class);
+
+    private static final String POSTGRESQL_LAG_SQL =
+            "select case " +
+            "when not pg_is_in_recovery() then 0 " +
+            "when exists (select 1 from pg_stat_wal_receiver where status = 'streaming') " +
+            "and pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 " +
+            "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end";
+
+    private final HikariDataSource dataSource;
+    private final double maxLagSeconds;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean usable;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaMonitor(HikariDataSource dataSource, Duration maxLag, Duration checkInterval,
+                          MeterRegistry meterRegistry) {
+        this.dataSource = dataSource;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("app.datasource.replica.usable", this, monitor -> monitor.usable ? 1 : 0)
+                .description("Réplique utilisée pour les lectures (1) ou écartée (0)")
+                .register(meterRegistry);
+        Gauge.builder("app.datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("Dernier retard de réplication mesuré")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        scheduler.scheduleWithFixedDelay(this::check, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return le pool de connexions de la réplique
+     */
+    public HikariDataSource getDataSource() {
+        return dataSource;
+    }
+
+    /**
+     * @return {@code true} si les lectures peuvent être servies par la réplique
+     */
+    public boolean isUsable() {
+        return usable;
+    }
+
+    /**
+     * Écarte la réplique jusqu'à la prochaine vérification réussie, après un échec
+     * d'obtention de connexion.
+     *
+     * @param cause l'erreur rencontrée
+     */
+    public void markUnavailable(SQLException cause) {
+        if (usable) {
+            usable = false;
+            log.warn("Réplique indisponible, lectures sur la base principale: {}", cause.getMessage());
+        }
+    }
+
+    void check() {
+        boolean wasUsable = usable;
+        try (Connection connection = dataSource.getConnection()) {
+            double lag = measureLag(connection);
+            lagSeconds = lag;
+            usable = lag <= maxLagSeconds;
+            if (wasUsable && !usable) {
+                log.warn("Retard de la réplique trop important ({} s), lectures sur la base principale", lag);
+            } else if (!wasUsable && usable) {
+                log.info("Réplique disponible (retard {} s), lectures routées vers la réplique", lag);
+            }
+        } catch (SQLException | RuntimeException e) {
+            lagSeconds = Double.NaN;
+            usable = false;
+            if (wasUsable) {
+                log.warn("Réplique indisponible, lectures sur la base principale: {}", e.getMessage());
+            } else if (log.isDebugEnabled()) {
+                log.debug("Réplique toujours indisponible: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static double measureLag(Connection connection) throws SQLException {
+        if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+            if (!connection.isValid(2)) {
+                throw new SQLException("Connexion à la réplique invalide");
+            }
+            return 0;
+        }
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(POSTGRESQL_LAG_SQL)) {
+            resultSet.next();
+            return resultSet.getDouble(1);
+        }
+    }
+
+    /**
+     * Arrête la surveillance et ferme le pool de la réplique.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+        dataSource.close();
+    }
+}
@@ -0,0 +1,183 @@
+package com.caribean.goodvybzz.config;
+
+import com.caribean.goodvybzz.dto.SlowRequest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Coût d'une requête HTTP en cours, accumulé pendant son traitement.
+ *
+ * <p>Le profil est attaché au thread de la requête: les requêtes SQL exécutées sur ce
+ * thread y sont comptées ({@link SqlAccountingListener}); celles des traitements en
+ * arrière-plan ne le sont pas. Les échantillons de pile sont ajoutés par le thread
+ * d'échantillonnage de {@link SlowRequestLog}.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see SlowRequestFilter
+ */
+final class RequestProfile {
+
+    /**
+     * Nombre maximal de requêtes SQL distinctes suivies par requête HTTP (borne mémoire).
+     */
+    private static final int MAX_DISTINCT_STATEMENTS = 200;
+
+    /**
+     * Longueur maximale du texte SQL conservé.
+     */
+    private static final int MAX_SQL_LENGTH = 500;
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final String method;
+    private final String uri;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private final long startAllocatedBytes = allocatedBytes();
+    private final Thread thread = Thread.currentThread();
+    private final int stackDepth;
+    private final int maxSamples;
+
+    private int sqlCount;
+    private long sqlNanos;
+    private final Map<String, long[]> statements = new HashMap<>();
+
+    // Alimentés par le thread d'échantillonnage
+    private boolean finished;
+    private int stackSamples;
+    private final Map<List<String>, int[]> stacks = new HashMap<>();
+
+    private RequestProfile(String method, String uri, int stackDepth, int maxSamples) {
+        this.method = method;
+        this.uri = uri;
+        this.stackDepth = stackDepth;
+        this.maxSamples = maxSamples;
+    }
+
+    /**
+     * Démarre le profil de la requête traitée par le thread courant.
+     */
+    static RequestProfile start(String method, String uri, int stackDepth, int maxSamples) {
+        RequestProfile profile = new RequestProfile(method, uri, stackDepth, maxSamples);
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    /**
+     * @return le profil de la requête traitée par le thread courant, ou {@code null}
+     */
+    static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Détache le profil du thread courant.
+     */
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * Compte une exécution SQL (une requête ou un lot).
+     */
+    void addStatement(String sql, long nanos) {
+        sqlCount++;
+        sqlNanos += nanos;
+        long[] total = statements.get(sql);
+        if (total == null) {
+            if (statements.size() >= MAX_DISTINCT_STATEMENTS) {
+                return;
+            }
+            total = new long[2];
+            statements.put(sql, total);
+        }
+        total[0]++;
+        total[1] += nanos;
+    }
+
+    /**
+     * Prélève un échantillon de la pile du thread de la requête.
+     */
+    synchronized void sample() {
+        if (finished || stackSamples >= maxSamples) {
+            return;
+        }
+        StackTraceElement[] trace = thread.getStackTrace();
+        List<String> frames = Arrays.stream(trace)
+                .limit(stackDepth)
+                .map(StackTraceElement::toString)
+                .toList();
+        stacks.computeIfAbsent(frames, key -> new int[1])[0]++;
+        stackSamples++;
+    }
+
+    /**
+     * Arrête l'échantillonnage: le thread peut désormais traiter une autre requête.
+     */
+    synchronized void finish() {
+        finished = true;
+    }
+
+    /**
+     * Construit le compte rendu de la requête terminée.
+     *
+     * @param status le statut de la réponse
+     * @param exception l'exception levée, ou {@code null}
+     * @param bytesWritten les octets écrits dans la réponse
+     * @param topEntries le nombre de requêtes SQL et de piles conservées
+     * @return le compte rendu
+     */
+    synchronized SlowRequest toSlowRequest(int status, Throwable exception, long bytesWritten, int topEntries) {
+        long allocated = startAllocatedBytes >= 0 ? allocatedBytes() - startAllocatedBytes : -1;
+
+        List<SlowRequest.Statement> topStatements = statements.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> entry) -> entry.getValue()[1]).reversed())
+                .limit(topEntries)
+                .map(entry -> new SlowRequest.Statement(abbreviate(entry.getKey()), (int) entry.getValue()[0],
+                        toMillis(entry.getValue()[1])))
+                .toList();
+        List<SlowRequest.StackSample> hotStacks = stacks.entrySet().stream()
+                .sorted(Comparator.comparingInt((Map.Entry<List<String>, int[]> entry) -> entry.getValue()[0]).reversed())
+                .limit(topEntries)
+                .map(entry -> new SlowRequest.StackSample(entry.getKey(), entry.getValue()[0]))
+                .toList();
+
+        return new SlowRequest(method, uri, status, exception != null ? exception.getClass().getName() : null,
+                startedAt, elapsedNanos() / 1_000_000, sqlCount, toMillis(sqlNanos), bytesWritten, allocated,
+                topStatements, stackSamples, hotStacks);
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+
+    private static String abbreviate(String sql) {
+        String flat = sql.replaceAll("\\s+", " ").trim();
+        return flat.length() > MAX_SQL_LENGTH ? flat.substring(0, MAX_SQL_LENGTH) + "…" : flat;
+    }
+
+    /**
+     * @return les octets alloués par le thread courant, ou -1 si la JVM ne les mesure pas
+     */
+    private static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemorySupported()
+                && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
@@ -1,12 +1,31 @@
 package com.caribean.goodvybzz.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.info.InfoEndpoint;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.ExceptionMappingAuthenticationFailureHandler;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.csrf.CsrfFilter;
+import org.springframework.security.web.savedrequest.NullRequestCache;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Configuration de la sécurité de l'application Caribbean Good Vybzz
@@ -16,40 +35,135 @@ import org.springframework.security.web.SecurityFilterChain;
  * - Les autorisations d'accès aux différentes pages
  * - La page de connexion personnalisée
  * - La protection CSRF
+ * - L'absence de session pour les visiteurs anonymes des pages publiques
+ * - L'accès aux endpoints Actuator (santé publique, métriques en HTTP Basic)
  * - L'encodage des mots de passe
+ * - La temporisation des échecs de connexion (voir {@link ThrottledAuthenticationProvider})
  *
  * @author Caribbean Good Vybzz Development Team
  * @version 1.0.0
  */
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(LoginProtectionProperties.class)
 public class SecurityConfig {
 
     /**
-     * Configure la chaîne de filtres de sécurité
+     * Pages et ressources publiques, servies sans session
+     */
+    private static final String[] PUBLIC_PATHS = {
+            "/",
+            "/index",
+            "/inscription",
+            "/contact",
+            "/media",
+            "/media/**",
+            "/favicon.ico",
+            "/error"
+    };
+
+    /**
+     * Pages publiques contenant un formulaire protégé contre le CSRF
+     */
+    private static final Set<String> PUBLIC_FORM_PAGES = Set.of("/inscription", "/contact");
+
+    /**
+     * Exclut les ressources statiques de Spring Security
+     *
+     * Ces fichiers sont identiques pour tous les visiteurs et ne lisent aucun état :
+     * ils sont servis sans traverser la moindre chaîne de filtres de sécurité.
+     *
+     * @return La personnalisation excluant les ressources statiques
+     */
+    @Bean
+    public WebSecurityCustomizer staticResourcesCustomizer() {
+        return web -> web.ignoring().requestMatchers(
+                Arrays.stream(StaticResourceConfig.STATIC_DIRECTORIES)
+                        .map(directory -> "/" + directory + "/**")
+                        .toArray(String[]::new));
+    }
+
+    /**
+     * Configure la chaîne de filtres des pages publiques
+     *
+     * Aucune session n'est créée ni lue : le contexte de sécurité vit le temps de la
+     * requête et le jeton CSRF des formulaires est un cookie signé (double soumission).
+     * Un robot qui parcourt le site ne coûte donc aucune session en base.
+     *
+     * @param http L'objet HttpSecurity pour configurer la sécurité
+     * @param csrfSecret Le secret de signature des jetons CSRF (partagé entre instances)
+     * @param csrfSecretRequired Si vrai, le démarrage échoue sans secret CSRF
+     * @return La chaîne de filtres des pages publiques
+     * @throws Exception En cas d'erreur de configuration
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain publicSecurityFilterChain(HttpSecurity http,
+                                                         @Value("${app.security.csrf.secret:}") String csrfSecret,
+                                                         @Value("${app.security.csrf.secret-required:false}") boolean csrfSecretRequired)
+            throws Exception {
+        http
+                .securityMatcher(PUBLIC_PATHS)
+                .authorizeHttpRequests(authorize -> authorize.anyRequest().permitAll())
+
+                // Ni création ni lecture de session
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext(context -> context
+                        .securityContextRepository(new RequestAttributeSecurityContextRepository()))
+                .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+
+                // Jeton CSRF signé, transmis par cookie
+                .csrf(csrf -> csrf
+                        .csrfTokenRepository(new SignedCookieCsrfTokenRepository(csrfSecret, csrfSecretRequired))
+                )
+                .addFilterAfter(new PublicFormCsrfCookieFilter(PUBLIC_FORM_PAGES), CsrfFilter.class);
+
+        return http.build();
+    }
+
+    /**
+     * Configure la chaîne de filtres des endpoints Actuator
+     *
+     * Les contrôles de santé (orchestrateur, répartiteur de charge) et les informations
+     * de version restent publics. Les autres endpoints, dont {@code /actuator/prometheus},
+     * demandent un compte administrateur en HTTP Basic, sans session : le collecteur de
+     * métriques s'authentifie à chaque requête.
+     *
+     * @param http L'objet HttpSecurity pour configurer la sécurité
+     * @return La chaîne de filtres des endpoints Actuator
+     * @throws Exception En cas d'erreur de configuration
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .authorizeHttpRequests(authorize -> authorize
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class, InfoEndpoint.class)).permitAll()
+                        .anyRequest().authenticated()
+                )
+                .httpBasic(basic -> { })
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+                // Lecture seule, sans cookie de session : pas de jeton CSRF
+                .csrf(csrf -> csrf.disable());
+
+        return http.build();
+    }
+
+    /**
+     * Configure la chaîne de filtres de sécurité de l'administration
      *
      * @param http L'objet HttpSecurity pour configurer la sécurité
      * @return La chaîne de filtres de sécurité configurée
      * @throws Exception En cas d'erreur de configuration
      */
     @Bean
+    @Order(3)
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 // Configuration des autorisations
                 .authorizeHttpRequests(authorize -> authorize
-                        // Pages publiques - accessibles à tous
-                        .requestMatchers(
-                                "/",
-                                "/inscription",
-                                "/contact",
-                                "/media",
-                                "/css/**",
-                                "/js/**",
-                                "/images/**",
-                                "/media/**",
-                                "/error"
-                        ).permitAll()
-
                         // Console H2 (uniquement en développement)
                         .requestMatchers("/h2-console/**").permitAll()
 
@@ -63,12 +177,16 @@ public class SecurityConfig {
                         .anyRequest().authenticated()
                 )
 
+                // Pas de requête mémorisée : la connexion mène toujours au tableau de bord,
+                // et une URL inconnue visitée par un robot ne crée pas de session
+                .requestCache(cache -> cache.requestCache(new NullRequestCache()))
+
                 // Configuration du formulaire de connexion
                 .formLogin(form -> form
                         .loginPage("/admin/login")           // Page de connexion personnalisée
                         .loginProcessingUrl("/login")         // URL qui traite le formulaire de login
                         .defaultSuccessUrl("/admin/dashboard", true)  // Redirection après connexion réussie
-                        .failureUrl("/admin/login?error=true") // Redirection en cas d'erreur
+                        .failureHandler(loginFailureHandler()) // Redirection en cas d'erreur, selon sa cause
                         .permitAll()
                 )
 
@@ -77,7 +195,7 @@ public class SecurityConfig {
                         .logoutUrl("/logout")                 // URL de déconnexion
                         .logoutSuccessUrl("/admin/login?logout=true")  // Redirection après déconnexion
                         .invalidateHttpSession(true)          // Invalider la session
-                        .deleteCookies("JSESSIONID")          // Supprimer les cookies
+                        .deleteCookies("SESSION")             // Supprimer le cookie de session (Spring Session)
                         .permitAll()
                 )
 
@@ -95,6 +213,41 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Fournisseur d'authentification unique de l'application
+     *
+     * Vérifie les mots de passe sur un pool borné et temporise les échecs répétés.
+     * Étant le seul AuthenticationProvider déclaré, il remplace le fournisseur par défaut.
+     *
+     * @param userDetailsService Le service de chargement des administrateurs
+     * @param passwordEncoder L'encodeur de mots de passe
+     * @param properties La configuration de la protection des connexions
+     * @param meterRegistry Le registre des métriques
+     * @return Le fournisseur d'authentification
+     */
+    @Bean
+    public ThrottledAuthenticationProvider authenticationProvider(UserDetailsService userDetailsService,
+                                                                  PasswordEncoder passwordEncoder,
+                                                                  LoginProtectionProperties properties,
+                                                                  MeterRegistry meterRegistry) {
+        return new ThrottledAuthenticationProvider(userDetailsService, passwordEncoder, properties, meterRegistry);
+    }
+
+    /**
+     * Redirige vers la page de connexion avec un code d'erreur propre à chaque cause
+     *
+     * @return Le gestionnaire d'échec de connexion
+     */
+    private static ExceptionMappingAuthenticationFailureHandler loginFailureHandler() {
+        ExceptionMappingAuthenticationFailureHandler handler = new ExceptionMappingAuthenticationFailureHandler();
+        handler.setDefaultFailureUrl("/admin/login?error=true");
+        handler.setExceptionMappings(Map.of(
+                ThrottledAuthenticationProvider.LoginThrottledException.class.getName(), "/admin/login?error=throttled",
+                AuthenticationServiceException.class.getName(), "/admin/login?error=busy"
+        ));
+        return handler;
+    }
+
     /**
      * Bean pour l'encodeur de mots de passe
      *
@@ -0,0 +1,41 @@
+package com.caribean.goodvybzz.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+
+/**
+ * Configuration des sessions HTTP partagées.
+ *
+ * <p>Les sessions sont conservées en base par Spring Session JDBC (tables
+ * {@code SPRING_SESSION} et {@code SPRING_SESSION_ATTRIBUTES}) sur la source de
+ * données de l'application: une administratrice reste connectée lors d'un
+ * redéploiement ou lorsque ses requêtes passent d'une instance à l'autre.</p>
+ *
+ * <p><strong>Réglages ({@code spring.session.jdbc.*}):</strong></p>
+ * <ul>
+ *   <li>Seuls les attributs modifiés sont réécrits ({@code save-mode=on-set-attribute})</li>
+ *   <li>Les modifications sont écrites une fois, en fin de requête ({@code flush-mode=on-save})</li>
+ *   <li>Les sessions expirées sont supprimées en une requête par la tâche {@code cleanup-cron}</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see CompactSessionAttributeConverter
+ */
+@Configuration
+public class SessionConfig {
+
+    /**
+     * Service de conversion utilisé par Spring Session pour (dé)sérialiser les attributs.
+     *
+     * @return le service de conversion des attributs de session
+     */
+    @Bean("springSessionConversionService")
+    public ConversionService springSessionConversionService() {
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(new CompactSessionAttributeConverter(SessionConfig.class.getClassLoader()));
+        return conversionService;
+    }
+}
@@ -0,0 +1,142 @@
+package com.caribean.goodvybzz.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.web.csrf.CsrfToken;
+import org.springframework.security.web.csrf.CsrfTokenRepository;
+import org.springframework.security.web.csrf.DefaultCsrfToken;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Dépôt de jetons CSRF sans session: jeton signé transmis par cookie (« double soumission »).
+ *
+ * <p>Le jeton est conservé dans un cookie {@code HttpOnly} et recopié dans le champ caché
+ * des formulaires; une soumission n'est acceptée que si les deux concordent. Le jeton est
+ * signé par HMAC-SHA256: seule l'application en émet, une valeur inventée est refusée.
+ * La signature ne lie pas le jeton à un visiteur: un jeton obtenu par un tiers reste valide.</p>
+ *
+ * <p>En HTTPS, le cookie porte le préfixe {@code __Host-}: le navigateur ne l'accepte que
+ * de l'hôte lui-même (sécurisé, sans attribut {@code Domain}). C'est ce qui empêche un tiers
+ * d'imposer son propre jeton depuis un sous-domaine ou une page HTTP (« cookie tossing »).
+ * En HTTP (développement), le cookie n'a pas de préfixe et cette protection n'existe pas.</p>
+ *
+ * <p><strong>Format:</strong> {@code <nonce>.<signature>}, en Base64 URL sans remplissage.</p>
+ *
+ * <p>Avec plusieurs instances, le secret ({@code app.security.csrf.secret}) doit être
+ * partagé. Il est obligatoire en production ({@code app.security.csrf.secret-required});
+ * ailleurs, sans secret configuré, un secret aléatoire est tiré à chaque démarrage et les
+ * formulaires affichés avant un redémarrage sont refusés.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see SecurityConfig
+ */
+public class SignedCookieCsrfTokenRepository implements CsrfTokenRepository {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(SignedCookieCsrfTokenRepository.class);
+
+    private static final String COOKIE_NAME = "CSRF-TOKEN";
+    private static final String HOST_COOKIE_NAME = "__Host-" + COOKIE_NAME;
+    private static final String PARAMETER_NAME = "_csrf";
+    private static final String HEADER_NAME = "X-CSRF-TOKEN";
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int NONCE_BYTES = 16;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecureRandom random = new SecureRandom();
+    private final SecretKeySpec key;
+
+    /**
+     * @param secret le secret de signature; vide pour un secret aléatoire propre à l'instance
+     * @param secretRequired si vrai, l'absence de secret empêche le démarrage
+     * @throws IllegalStateException si le secret est requis mais absent
+     */
+    public SignedCookieCsrfTokenRepository(String secret, boolean secretRequired) {
+        byte[] keyBytes;
+        if (StringUtils.hasText(secret)) {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        } else if (secretRequired) {
+            throw new IllegalStateException("Secret CSRF manquant: définir CSRF_SECRET (app.security.csrf.secret)");
+        } else {
+            log.warn("Aucun secret CSRF configuré (app.security.csrf.secret): secret aléatoire propre à cette instance");
+            keyBytes = new byte[32];
+            random.nextBytes(keyBytes);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    @Override
+    public CsrfToken generateToken(HttpServletRequest request) {
+        byte[] nonce = new byte[NONCE_BYTES];
+        random.nextBytes(nonce);
+        String encodedNonce = ENCODER.encodeToString(nonce);
+        return new DefaultCsrfToken(HEADER_NAME, PARAMETER_NAME, encodedNonce + "." + sign(encodedNonce));
+    }
+
+    @Override
+    public void saveToken(CsrfToken token, HttpServletRequest request, HttpServletResponse response) {
+        // Le préfixe __Host- impose le chemin racine
+        String path = request.isSecure() || !StringUtils.hasLength(request.getContextPath())
+                ? "/" : request.getContextPath();
+        ResponseCookie cookie = ResponseCookie.from(cookieName(request), token == null ? "" : token.getToken())
+                .path(path)
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .maxAge(token == null ? 0 : -1)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    @Override
+    public CsrfToken loadToken(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        String name = cookieName(request);
+        for (Cookie cookie : cookies) {
+            if (name.equals(cookie.getName())) {
+                return isValid(cookie.getValue())
+                        ? new DefaultCsrfToken(HEADER_NAME, PARAMETER_NAME, cookie.getValue())
+                        : null;
+            }
+        }
+        return null;
+    }
+
+    private static String cookieName(HttpServletRequest request) {
+        return request.isSecure() ? HOST_COOKIE_NAME : COOKIE_NAME;
+    }
+
+    private boolean isValid(String value) {
+        int dot = value == null ? -1 : value.indexOf('.');
+        if (dot <= 0) {
+            return false;
+        }
+        byte[] expected = sign(value.substring(0, dot)).getBytes(StandardCharsets.US_ASCII);
+        byte[] actual = value.substring(dot + 1).getBytes(StandardCharsets.US_ASCII);
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    private String sign(String encodedNonce) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return ENCODER.encodeToString(mac.doFinal(encodedNonce.getBytes(StandardCharsets.US_ASCII)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Signature HMAC indisponible", e);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.caribean.goodvybzz.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration de la capture des requêtes HTTP lentes.
+ *
+ * <p>Le filtre est enregistré en tête de la chaîne, avant Spring Session et Spring
+ * Security: le chargement de la session et l'authentification comptent dans la durée
+ * et dans les requêtes SQL de la requête.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see SlowRequestFilter
+ */
+@Configuration
+@EnableConfigurationProperties(SlowRequestProperties.class)
+@ConditionalOnProperty(prefix = "app.slow-requests", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SlowRequestConfig {
+
+    /**
+     * Journal des requêtes lentes, consulté par l'administration.
+     *
+     * @param properties la configuration de la capture
+     * @param meterRegistry le registre des métriques
+     * @return le journal des requêtes lentes
+     */
+    @Bean
+    public SlowRequestLog slowRequestLog(SlowRequestProperties properties, MeterRegistry meterRegistry) {
+        return new SlowRequestLog(properties, meterRegistry);
+    }
+
+    /**
+     * Enregistre le filtre de mesure avant Spring Session.
+     *
+     * @param properties la configuration de la capture
+     * @param slowRequestLog le journal des requêtes lentes
+     * @return l'enregistrement du filtre
+     */
+    @Bean
+    public FilterRegistrationBean<SlowRequestFilter> slowRequestFilter(SlowRequestProperties properties,
+                                                                       SlowRequestLog slowRequestLog) {
+        FilterRegistrationBean<SlowRequestFilter> registration =
+                new FilterRegistrationBean<>(new SlowRequestFilter(properties, slowRequestLog));
+        registration.setName("slowRequestFilter");
+        // Après l'encodage des caractères, avant SessionRepositoryFilter (HIGHEST_PRECEDENCE + 50)
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /**
+     * Enveloppe la source de données de l'application dans un proxy JDBC qui compte
+     * les requêtes SQL de chaque requête HTTP.
+     *
+     * <p>Méthode statique: un {@code BeanPostProcessor} est créé avant les autres beans.
+     * Le proxy délègue {@code unwrap()}: les métriques et le contrôle de santé du pool
+     * Hikari retrouvent le pool sous-jacent.</p>
+     *
+     * @return le post-processeur de la source de données
+     */
+    @Bean
+    public static BeanPostProcessor sqlAccountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return ProxyDataSourceBuilder.create(beanName, dataSource)
+                            .listener(new SqlAccountingListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,222 @@
+package com.caribean.goodvybzz.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Mesure le coût de chaque requête HTTP et capture les requêtes lentes.
+ *
+ * <p><strong>Mesures, par requête:</strong></p>
+ * <ul>
+ *   <li>Durée totale, du premier filtre à la réponse écrite</li>
+ *   <li>Nombre et durée des requêtes SQL exécutées sur le thread de la requête</li>
+ *   <li>Octets écrits dans la réponse (avant compression)</li>
+ *   <li>Octets alloués par le thread de la requête</li>
+ *   <li>Piles d'appels, échantillonnées une fois le seuil dépassé</li>
+ * </ul>
+ *
+ * <p>Seules les requêtes dépassant {@code app.slow-requests.threshold} sont conservées
+ * ({@link SlowRequestLog}). Les ressources statiques et l'actuator ne sont pas mesurés;
+ * une requête asynchrone (flux SSE du tableau de bord) n'est mesurée que jusqu'au
+ * démarrage de son traitement asynchrone et n'est jamais conservée.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see SlowRequestConfig
+ */
+public class SlowRequestFilter extends OncePerRequestFilter {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(SlowRequestFilter.class);
+
+    private final SlowRequestProperties properties;
+    private final SlowRequestLog slowRequestLog;
+
+    public SlowRequestFilter(SlowRequestProperties properties, SlowRequestLog slowRequestLog) {
+        this.properties = properties;
+        this.slowRequestLog = slowRequestLog;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/actuator/")) {
+            return true;
+        }
+        for (String directory : StaticResourceConfig.STATIC_DIRECTORIES) {
+            if (path.startsWith("/" + directory + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestProfile profile = RequestProfile.start(request.getMethod(), request.getRequestURI(),
+                properties.getStackDepth(), properties.getMaxSamples());
+        ScheduledFuture<?> sampling = slowRequestLog.scheduleSampling(profile);
+        CountingResponse countingResponse = new CountingResponse(response);
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, countingResponse);
+        } catch (IOException | ServletException | RuntimeException | Error e) {
+            failure = e;
+            throw e;
+        } finally {
+            profile.finish();
+            sampling.cancel(false);
+            RequestProfile.clear();
+            if (!request.isAsyncStarted() && profile.elapsedNanos() >= properties.getThreshold().toNanos()) {
+                int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+                slowRequestLog.record(profile.toSlowRequest(status, failure, countingResponse.getBytesWritten(),
+                        properties.getTopEntries()));
+                log.warn("Requête lente: {} {} en {} ms", request.getMethod(), request.getRequestURI(),
+                        profile.elapsedNanos() / 1_000_000);
+            }
+        }
+    }
+
+    /**
+     * Réponse qui compte les octets écrits, par le flux binaire comme par le flux texte.
+     *
+     * <p>Aucun tampon n'est ajouté: chaque écriture est transmise telle quelle à la réponse
+     * d'origine. En UTF-8, les octets du flux texte sont calculés caractère par caractère;
+     * dans un autre encodage, un caractère compte pour un octet.</p>
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private long bytesWritten;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        bytesWritten++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        bytesWritten += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        delegate.setWriteListener(writeListener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                PrintWriter delegate = super.getWriter();
+                boolean utf8 = StandardCharsets.UTF_8.name().equalsIgnoreCase(getCharacterEncoding());
+                writer = new PrintWriter(new Writer() {
+                    @Override
+                    public void write(int c) {
+                        delegate.write(c);
+                        bytesWritten += utf8 ? utf8Length((char) c) : 1;
+                    }
+
+                    @Override
+                    public void write(char[] buffer, int off, int len) {
+                        delegate.write(buffer, off, len);
+                        if (utf8) {
+                            for (int i = off; i < off + len; i++) {
+                                bytesWritten += utf8Length(buffer[i]);
+                            }
+                        } else {
+                            bytesWritten += len;
+                        }
+                    }
+
+                    @Override
+                    public void write(String text, int off, int len) {
+                        delegate.write(text, off, len);
+                        if (utf8) {
+                            for (int i = off; i < off + len; i++) {
+                                bytesWritten += utf8Length(text.charAt(i));
+                            }
+                        } else {
+                            bytesWritten += len;
+                        }
+                    }
+
+                    @Override
+                    public void flush() {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() {
+                        delegate.close();
+                    }
+                }) {
+                    @Override
+                    public boolean checkError() {
+                        // Erreurs d'écriture (client déconnecté) relevées par la réponse d'origine
+                        return super.checkError() || delegate.checkError();
+                    }
+                };
+            }
+            return writer;
+        }
+
+        /**
+         * Octets d'un caractère en UTF-8; chaque moitié d'une paire de substitution compte pour 2.
+         */
+        private static int utf8Length(char c) {
+            if (c < 0x80) {
+                return 1;
+            }
+            if (c < 0x800 || Character.isSurrogate(c)) {
+                return 2;
+            }
+            return 3;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.caribean.goodvybzz.config;
+
+import com.caribean.goodvybzz.dto.SlowRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Journal borné des dernières requêtes lentes, et échantillonneur de leurs piles.
+ *
+ * <p>Les {@code capacity} dernières requêtes ayant dépassé le seuil sont conservées
+ * en mémoire, sur chaque instance; au-delà, la plus ancienne est oubliée. La page
+ * d'administration les présente de la plus lente à la plus rapide.</p>
+ *
+ * <p><strong>Échantillonnage:</strong> chaque requête programme un premier relevé de sa
+ * pile à l'échéance du seuil, sur un unique thread dédié. Une requête terminée avant
+ * annule ce relevé sans avoir coûté davantage; une requête lente voit sa pile relevée
+ * toutes les {@code sample-interval}, jusqu'à sa fin ou à {@code max-samples} relevés.</p>
+ *
+ * <p><strong>Métriques:</strong> {@code app.slow_requests.captured} (requêtes lentes
+ * capturées).</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see SlowRequestFilter
+ */
+public class SlowRequestLog implements DisposableBean {
+
+    private final SlowRequestProperties properties;
+    private final ScheduledThreadPoolExecutor sampler;
+    private final Deque<SlowRequest> entries;
+    private final Counter captured;
+
+    public SlowRequestLog(SlowRequestProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.entries = new ArrayDeque<>(properties.getCapacity());
+        this.sampler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "slow-request-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Les relevés annulés (cas de presque toutes les requêtes) quittent aussitôt la file
+        this.sampler.setRemoveOnCancelPolicy(true);
+        this.captured = Counter.builder("app.slow_requests.captured")
+                .description("Requêtes HTTP lentes capturées")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Programme l'échantillonnage de la pile d'une requête, à partir du seuil.
+     *
+     * @param profile le profil de la requête
+     * @return le relevé programmé, à annuler à la fin de la requête
+     */
+    ScheduledFuture<?> scheduleSampling(RequestProfile profile) {
+        return sampler.scheduleAtFixedRate(profile::sample, properties.getThreshold().toNanos(),
+                properties.getSampleInterval().toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Conserve une requête lente, en oubliant la plus ancienne si le journal est plein.
+     *
+     * @param request la requête lente
+     */
+    void record(SlowRequest request) {
+        synchronized (entries) {
+            if (entries.size() >= properties.getCapacity()) {
+                entries.removeFirst();
+            }
+            entries.addLast(request);
+        }
+        captured.increment();
+    }
+
+    /**
+     * @return les requêtes lentes conservées, de la plus lente à la plus rapide
+     */
+    public List<SlowRequest> getSlowestFirst() {
+        List<SlowRequest> snapshot;
+        synchronized (entries) {
+            snapshot = new ArrayList<>(entries);
+        }
+        snapshot.sort(Comparator.comparingLong(SlowRequest::durationMs).reversed());
+        return snapshot;
+    }
+
+    /**
+     * Vide le journal.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * @return la durée au-delà de laquelle une requête est capturée
+     */
+    public Duration getThreshold() {
+        return properties.getThreshold();
+    }
+
+    @Override
+    public void destroy() {
+        sampler.shutdownNow();
+    }
+}
@@ -0,0 +1,112 @@
+package com.caribean.goodvybzz.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration de la capture des requêtes HTTP lentes.
+ *
+ * <p>Une requête dont la durée dépasse {@code threshold} est conservée avec le détail
+ * de son coût (requêtes SQL, octets écrits et alloués, piles échantillonnées) et
+ * consultable dans l'administration ({@code /admin/slow-requests}).</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see SlowRequestFilter
+ */
+@ConfigurationProperties(prefix = "app.slow-requests")
+public class SlowRequestProperties {
+
+    /**
+     * Active la mesure des requêtes et la capture des requêtes lentes.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Durée au-delà de laquelle une requête est considérée comme lente; c'est aussi
+     * le délai avant le premier échantillon de pile.
+     */
+    private Duration threshold = Duration.ofMillis(1000);
+
+    /**
+     * Nombre de requêtes lentes conservées; les plus anciennes laissent leur place.
+     */
+    private int capacity = 50;
+
+    /**
+     * Intervalle entre deux échantillons de la pile d'une requête lente.
+     */
+    private Duration sampleInterval = Duration.ofMillis(50);
+
+    /**
+     * Nombre maximal d'échantillons de pile par requête.
+     */
+    private int maxSamples = 200;
+
+    /**
+     * Nombre d'appels conservés en haut de chaque pile échantillonnée.
+     */
+    private int stackDepth = 25;
+
+    /**
+     * Nombre de requêtes SQL distinctes et de piles conservées par requête lente.
+     */
+    private int topEntries = 5;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    public void setThreshold(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public Duration getSampleInterval() {
+        return sampleInterval;
+    }
+
+    public void setSampleInterval(Duration sampleInterval) {
+        this.sampleInterval = sampleInterval;
+    }
+
+    public int getMaxSamples() {
+        return maxSamples;
+    }
+
+    public void setMaxSamples(int maxSamples) {
+        this.maxSamples = maxSamples;
+    }
+
+    public int getStackDepth() {
+        return stackDepth;
+    }
+
+    public void setStackDepth(int stackDepth) {
+        this.stackDepth = stackDepth;
+    }
+
+    public int getTopEntries() {
+        return topEntries;
+    }
+
+    public void setTopEntries(int topEntries) {
+        this.topEntries = topEntries;
+    }
+}
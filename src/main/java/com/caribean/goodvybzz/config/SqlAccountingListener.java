@@ -0,0 +1,40 @@
+package com.caribean.goodvybzz.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Compte les requêtes SQL dans le profil de la requête HTTP en cours.
+ *
+ * <p>Branché sur la source de données par {@code datasource-proxy}; sans profil sur le
+ * thread courant (tâches planifiées, traitements en arrière-plan), rien n'est mesuré.
+ * Un lot JDBC compte pour une exécution, sous le texte de sa première requête.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see RequestProfile
+ */
+class SqlAccountingListener implements QueryExecutionListener {
+
+    private static final String START = SqlAccountingListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (RequestProfile.current() != null) {
+            execInfo.addCustomValue(START, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestProfile profile = RequestProfile.current();
+        Long start = execInfo.getCustomValue(START, Long.class);
+        if (profile == null || start == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        profile.addStatement(queryInfoList.get(0).getQuery(), System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,200 @@
+package com.caribean.goodvybzz.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.lang.Nullable;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.AbstractResourceResolver;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.HttpResource;
+import org.springframework.web.servlet.resource.ResourceResolverChain;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Service des ressources statiques (CSS, JS, images).
+ *
+ * <p>Les fichiers sont minifiés et pré-compressés ({@code .gz}) au build par Maven.
+ * À l'exécution:</p>
+ * <ul>
+ *   <li>les URL portent l'empreinte du contenu ({@code /css/style-<md5>.css}); les liens
+ *       {@code @{/css/style.css}} des templates sont réécrits automatiquement</li>
+ *   <li>la version {@code .gz} est servie telle quelle aux navigateurs qui l'acceptent</li>
+ *   <li>une URL versionnée ne change jamais de contenu: elle est mise en cache un an,
+ *       sans revalidation ({@code immutable})</li>
+ *   <li>une URL sans empreinte (lien écrit en dur, ancienne page en cache) change de
+ *       contenu à chaque déploiement: elle est revalidée à chaque usage
+ *       ({@code no-cache}), une réponse 304 suffisant tant que l'ETag n'a pas changé</li>
+ * </ul>
+ *
+ * <p>Ces chemins ne traversent pas Spring Security (voir {@link SecurityConfig}).</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ */
+@Configuration
+public class StaticResourceConfig implements WebMvcConfigurer {
+
+    /**
+     * Répertoires de ressources statiques versionnées, sous {@code classpath:/static/}.
+     */
+    static final String[] STATIC_DIRECTORIES = {"css", "js", "images"};
+
+    /**
+     * Cache des URL versionnées, appliqué par {@link ImmutableVersionResolver}.
+     */
+    static final CacheControl VERSIONED_CACHE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    /**
+     * Cache des URL sans empreinte.
+     */
+    static final CacheControl UNVERSIONED_CACHE = CacheControl.noCache().cachePublic();
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        for (String directory : STATIC_DIRECTORIES) {
+            registry.addResourceHandler("/" + directory + "/**")
+                    .addResourceLocations("classpath:/static/" + directory + "/")
+                    .setCacheControl(UNVERSIONED_CACHE)
+                    .setEtagGenerator(StaticResourceConfig::etagOf)
+                    .resourceChain(true)
+                    .addResolver(new EncodedResourceResolver())
+                    .addResolver(new ImmutableVersionResolver())
+                    .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+        }
+    }
+
+    /**
+     * ETag d'une ressource: l'empreinte pour une URL versionnée, sinon la date et la
+     * taille du fichier (sans relire son contenu à chaque requête).
+     */
+    @Nullable
+    private static String etagOf(Resource resource) {
+        try {
+            if (resource instanceof HttpResource httpResource && httpResource.getResponseHeaders().getETag() != null) {
+                return httpResource.getResponseHeaders().getETag();
+            }
+            return "\"" + Long.toHexString(resource.lastModified()) + "-" + Long.toHexString(resource.contentLength()) + "\"";
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Placé juste avant {@link VersionResourceResolver}: celui-ci ne renvoie une
+     * {@link HttpResource} (portant l'ETag de la version) que pour une URL dont il a
+     * retiré l'empreinte. Seules ces ressources reçoivent le cache immuable, qui
+     * remplace alors le {@code no-cache} du gestionnaire.
+     */
+    static final class ImmutableVersionResolver extends AbstractResourceResolver {
+
+        @Override
+        @Nullable
+        protected Resource resolveResourceInternal(@Nullable HttpServletRequest request, String requestPath,
+                                                   List<? extends Resource> locations, ResourceResolverChain chain) {
+            Resource resource = chain.resolveResource(request, requestPath, locations);
+            return resource instanceof HttpResource versioned ? new ImmutableResource(resource, versioned) : resource;
+        }
+
+        @Override
+        @Nullable
+        protected String resolveUrlPathInternal(String resourceUrlPath, List<? extends Resource> locations,
+                                                ResourceResolverChain chain) {
+            return chain.resolveUrlPath(resourceUrlPath, locations);
+        }
+    }
+
+    /**
+     * Ressource versionnée à laquelle s'ajoute l'en-tête {@code Cache-Control} immuable.
+     */
+    private static final class ImmutableResource extends AbstractResource implements HttpResource {
+        private final Resource resource;
+        private final HttpResource versioned;
+
+        private ImmutableResource(Resource resource, HttpResource versioned) {
+            this.resource = resource;
+            this.versioned = versioned;
+        }
+
+        @Override
+        public HttpHeaders getResponseHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.putAll(versioned.getResponseHeaders());
+            headers.setCacheControl(VERSIONED_CACHE);
+            return headers;
+        }
+
+        @Override
+        public boolean exists() {
+            return resource.exists();
+        }
+
+        @Override
+        public boolean isReadable() {
+            return resource.isReadable();
+        }
+
+        @Override
+        public boolean isFile() {
+            return resource.isFile();
+        }
+
+        @Override
+        public URL getURL() throws IOException {
+            return resource.getURL();
+        }
+
+        @Override
+        public URI getURI() throws IOException {
+            return resource.getURI();
+        }
+
+        @Override
+        public File getFile() throws IOException {
+            return resource.getFile();
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return resource.getInputStream();
+        }
+
+        @Override
+        public long contentLength() throws IOException {
+            return resource.contentLength();
+        }
+
+        @Override
+        public long lastModified() throws IOException {
+            return resource.lastModified();
+        }
+
+        @Override
+        public Resource createRelative(String relativePath) throws IOException {
+            return resource.createRelative(relativePath);
+        }
+
+        @Override
+        @Nullable
+        public String getFilename() {
+            return resource.getFilename();
+        }
+
+        @Override
+        public String getDescription() {
+            return resource.getDescription();
+        }
+    }
+}
@@ -0,0 +1,299 @@
+package com.caribean.goodvybzz.config;
+
+import com.caribean.goodvybzz.event.AdminAccountChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.authentication.AccountStatusUserDetailsChecker;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Fournisseur d'authentification du formulaire administrateur, protégé contre les abus.
+ *
+ * <p><strong>Déroulement d'une tentative:</strong></p>
+ * <ul>
+ *   <li>Refus immédiat si l'utilisateur ou l'adresse IP est temporisé, sans aucun hachage.
+ *       L'adresse est celle de la requête: derrière le répartiteur de charge, celle du
+ *       client d'origine ({@code server.forward-headers-strategy=native}, profil prod),
+ *       sans quoi tous les visiteurs partageraient l'adresse du proxy</li>
+ *   <li>Un nom d'utilisateur inconnu récemment est refusé sans requête en base; la réponse
+ *       est retardée d'une durée comparable à un hachage, sans consommer de CPU, pour ne
+ *       pas révéler quels comptes existent</li>
+ *   <li>La vérification BCrypt s'exécute sur un pool de threads borné; si sa file est
+ *       pleine, la tentative est refusée au lieu d'attendre</li>
+ * </ul>
+ *
+ * <p><strong>Métriques:</strong> {@code app.login.hash} (durée des vérifications),
+ * {@code app.login.rejected} (refus par motif), {@code app.login.hash.queue} et
+ * {@code app.login.throttled_keys}.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see LoginThrottle
+ * @see LoginProtectionProperties
+ */
+public class ThrottledAuthenticationProvider implements AuthenticationProvider {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(ThrottledAuthenticationProvider.class);
+
+    /**
+     * Retard appliqué aux utilisateurs inconnus tant qu'aucun hachage n'a été mesuré.
+     */
+    private static final long DEFAULT_PADDING_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final UserDetailsService userDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    private final LoginThrottle throttle;
+    private final ThreadPoolExecutor hashExecutor;
+    private final long hashTimeoutNanos;
+    private final long unknownUserTtlNanos;
+    private final int maxKeys;
+    private final ConcurrentMap<String, Long> unknownUsers = new ConcurrentHashMap<>();
+    private final AccountStatusUserDetailsChecker statusChecker = new AccountStatusUserDetailsChecker();
+
+    private final long evictionIntervalNanos;
+    private final AtomicLong nextEviction;
+
+    private final Timer hashTimer;
+    private final Counter rejectedThrottled;
+    private final Counter rejectedUnknownUser;
+    private final Counter rejectedBadCredentials;
+    private final Counter rejectedSaturated;
+
+    public ThrottledAuthenticationProvider(UserDetailsService userDetailsService,
+                                           PasswordEncoder passwordEncoder,
+                                           LoginProtectionProperties properties,
+                                           MeterRegistry meterRegistry) {
+        this.userDetailsService = userDetailsService;
+        this.passwordEncoder = passwordEncoder;
+        this.throttle = new LoginThrottle(properties.getFreeAttempts(), properties.getBaseDelay(),
+                properties.getMaxDelay(), properties.getResetAfter(), properties.getMaxKeys());
+        this.hashTimeoutNanos = properties.getHashTimeout().toNanos();
+        this.unknownUserTtlNanos = properties.getUnknownUserTtl().toNanos();
+        this.maxKeys = properties.getMaxKeys();
+        this.evictionIntervalNanos = properties.getEvictionInterval().toNanos();
+        this.nextEviction = new AtomicLong(System.nanoTime() + evictionIntervalNanos);
+
+        AtomicInteger counter = new AtomicInteger();
+        this.hashExecutor = new ThreadPoolExecutor(properties.getHashThreads(), properties.getHashThreads(),
+                0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getHashQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "login-hash-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.hashTimer = Timer.builder("app.login.hash")
+                .description("Durée de vérification des mots de passe")
+                .register(meterRegistry);
+        this.rejectedThrottled = rejectedCounter(meterRegistry, "throttled");
+        this.rejectedUnknownUser = rejectedCounter(meterRegistry, "unknown_user");
+        this.rejectedBadCredentials = rejectedCounter(meterRegistry, "bad_credentials");
+        this.rejectedSaturated = rejectedCounter(meterRegistry, "saturated");
+        Gauge.builder("app.login.hash.queue", hashExecutor, executor -> executor.getQueue().size())
+                .description("Vérifications de mot de passe en attente")
+                .register(meterRegistry);
+        Gauge.builder("app.login.throttled_keys", throttle, LoginThrottle::size)
+                .description("Utilisateurs et adresses IP suivis après un échec de connexion")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        evictIfDue();
+        String username = authentication.getName() == null ? "" : authentication.getName().trim();
+        String userKey = "user:" + username.toLowerCase(Locale.ROOT);
+        String ipKey = "ip:" + remoteAddress(authentication);
+
+        long wait = Math.max(throttle.remainingDelay(userKey), throttle.remainingDelay(ipKey));
+        if (wait > 0) {
+            rejectedThrottled.increment();
+            long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(wait + TimeUnit.SECONDS.toNanos(1) - 1));
+            if (log.isDebugEnabled()) {
+                log.debug("Connexion temporisée pour {} / {} ({} s)", userKey, ipKey, seconds);
+            }
+            throw new LoginThrottledException(seconds);
+        }
+
+        String password = authentication.getCredentials() == null ? "" : authentication.getCredentials().toString();
+        UserDetails user = knownUser(username);
+        if (user == null) {
+            // Retard comparable à une vérification, sans occuper de thread de hachage.
+            LockSupport.parkNanos(paddingNanos());
+            throw failed(userKey, ipKey, rejectedUnknownUser);
+        }
+
+        statusChecker.check(user);
+        if (!verify(password, user.getPassword())) {
+            throw failed(userKey, ipKey, rejectedBadCredentials);
+        }
+
+        throttle.reset(userKey);
+        UsernamePasswordAuthenticationToken result =
+                UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+        result.setDetails(authentication.getDetails());
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return UsernamePasswordAuthenticationToken.class.isAssignableFrom(authentication);
+    }
+
+    /**
+     * Oublie un nom d'utilisateur mémorisé comme inconnu dès que le compte est créé ou réactivé.
+     *
+     * @param event l'événement de modification du compte
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAdminAccountChanged(AdminAccountChangedEvent event) {
+        unknownUsers.remove(event.username());
+    }
+
+    /**
+     * Arrête le pool de vérification à l'arrêt du contexte.
+     */
+    public void shutdown() {
+        hashExecutor.shutdownNow();
+    }
+
+    /**
+     * Charge l'utilisateur, en court-circuitant les noms inconnus récemment.
+     *
+     * @return l'utilisateur, ou {@code null} s'il est inconnu ou inactif
+     */
+    private UserDetails knownUser(String username) {
+        Long expiresAt = unknownUsers.get(username);
+        if (expiresAt != null) {
+            if (expiresAt - System.nanoTime() > 0) {
+                return null;
+            }
+            unknownUsers.remove(username, expiresAt);
+        }
+        try {
+            return userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            if (unknownUsers.size() < maxKeys) {
+                unknownUsers.put(username, System.nanoTime() + unknownUserTtlNanos);
+            }
+            return null;
+        }
+    }
+
+    private boolean verify(String rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = hashExecutor.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    return passwordEncoder.matches(rawPassword, encodedPassword);
+                } finally {
+                    hashTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedSaturated.increment();
+            log.warn("File de vérification des mots de passe pleine, connexion refusée");
+            throw new AuthenticationServiceException("Service de connexion surchargé, veuillez réessayer.");
+        }
+
+        try {
+            return result.get(hashTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejectedSaturated.increment();
+            log.warn("Vérification de mot de passe trop lente, connexion refusée");
+            throw new AuthenticationServiceException("Service de connexion surchargé, veuillez réessayer.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new AuthenticationServiceException("Connexion interrompue", e);
+        } catch (ExecutionException e) {
+            throw new AuthenticationServiceException("Erreur lors de la vérification du mot de passe", e.getCause());
+        }
+    }
+
+    private BadCredentialsException failed(String userKey, String ipKey, Counter reason) {
+        reason.increment();
+        throttle.recordFailure(userKey);
+        throttle.recordFailure(ipKey);
+        return new BadCredentialsException("Nom d'utilisateur ou mot de passe incorrect");
+    }
+
+    private long paddingNanos() {
+        double mean = hashTimer.mean(TimeUnit.NANOSECONDS);
+        return mean > 0 ? (long) mean : DEFAULT_PADDING_NANOS;
+    }
+
+    private static String remoteAddress(Authentication authentication) {
+        if (authentication.getDetails() instanceof WebAuthenticationDetails details
+                && details.getRemoteAddress() != null) {
+            return details.getRemoteAddress();
+        }
+        return "inconnue";
+    }
+
+    /**
+     * Purge au fil de l'eau, sans thread dédié: une seule tentative par intervalle s'en charge.
+     */
+    private void evictIfDue() {
+        long now = System.nanoTime();
+        long due = nextEviction.get();
+        if (now - due >= 0 && nextEviction.compareAndSet(due, now + evictionIntervalNanos)) {
+            throttle.evictIdle();
+            unknownUsers.values().removeIf(expiresAt -> expiresAt - now <= 0);
+        }
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("app.login.rejected")
+                .description("Tentatives de connexion refusées")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Tentative refusée parce que l'utilisateur ou l'adresse IP est temporisé.
+     */
+    public static class LoginThrottledException extends AuthenticationException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final long retryAfterSeconds;
+
+        public LoginThrottledException(long retryAfterSeconds) {
+            super("Trop de tentatives de connexion. Veuillez réessayer dans " + retryAfterSeconds + " seconde(s).");
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+}
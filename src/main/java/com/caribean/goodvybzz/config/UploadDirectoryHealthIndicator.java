@@ -0,0 +1,55 @@
+package com.caribean.goodvybzz.config;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Contrôle du répertoire des médias uploadés ({@code media.upload.directory}, celui de
+ * {@link com.caribean.goodvybzz.service.MediaService}).
+ *
+ * <p>Le répertoire est créé s'il manque, comme le fait l'upload, puis un fichier témoin
+ * y est écrit et supprimé: un volume monté en lecture seule ou absent est ainsi détecté
+ * avant le premier upload.</p>
+ *
+ * <p><strong>États:</strong></p>
+ * <ul>
+ *   <li>{@code UP}: répertoire accessible en écriture, espace libre suffisant</li>
+ *   <li>{@code DEGRADED}: espace libre sous {@code app.health.upload-min-free-space}</li>
+ *   <li>{@code DOWN}: répertoire impossible à créer ou en lecture seule</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see HealthCheckConfig
+ */
+public class UploadDirectoryHealthIndicator extends CachedHealthIndicator {
+
+    private final Path directory;
+    private final DataSize minFreeSpace;
+
+    public UploadDirectoryHealthIndicator(Path directory, DataSize minFreeSpace, Duration maxAge) {
+        super(maxAge);
+        this.directory = directory.toAbsolutePath().normalize();
+        this.minFreeSpace = minFreeSpace;
+    }
+
+    @Override
+    protected Health check() throws Exception {
+        Files.createDirectories(directory);
+        Path probe = Files.createTempFile(directory, ".health-", ".tmp");
+        Files.delete(probe);
+
+        long freeBytes = Files.getFileStore(directory).getUsableSpace();
+        return Health.status(freeBytes >= minFreeSpace.toBytes() ? Status.UP : DEGRADED)
+                .withDetail("path", directory.toString())
+                .withDetail("writable", true)
+                .withDetail("freeBytes", freeBytes)
+                .withDetail("minFreeBytes", minFreeSpace.toBytes())
+                .build();
+    }
+}
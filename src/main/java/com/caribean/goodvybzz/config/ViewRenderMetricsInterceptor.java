@@ -0,0 +1,64 @@
+package com.caribean.goodvybzz.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mesure la durée de rendu des vues Thymeleaf.
+ *
+ * <p>Le rendu a lieu entre {@link #postHandle} (le contrôleur a choisi sa vue) et
+ * {@link #afterCompletion} (la réponse est écrite): c'est l'intervalle mesuré, hors
+ * traitement du contrôleur. Les redirections et les réponses sans vue ne sont pas mesurées.</p>
+ *
+ * <p><strong>Métriques:</strong> {@code app.view.render} (par vue, fragment compris,
+ * et par exception levée pendant le rendu).</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see MetricsConfig
+ */
+public class ViewRenderMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = ViewRenderMetricsInterceptor.class.getName() + ".start";
+    private static final String VIEW_ATTRIBUTE = ViewRenderMetricsInterceptor.class.getName() + ".view";
+
+    private final MeterRegistry meterRegistry;
+
+    public ViewRenderMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                           ModelAndView modelAndView) {
+        if (modelAndView == null || !modelAndView.isReference()) {
+            return;
+        }
+        String viewName = modelAndView.getViewName();
+        if (viewName == null || viewName.startsWith("redirect:") || viewName.startsWith("forward:")) {
+            return;
+        }
+        request.setAttribute(VIEW_ATTRIBUTE, viewName);
+        request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        Timer.builder("app.view.render")
+                .description("Durée de rendu des vues")
+                .tag("view", (String) request.getAttribute(VIEW_ATTRIBUTE))
+                .tag("exception", ex != null ? ex.getClass().getSimpleName() : "none")
+                .register(meterRegistry)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+}
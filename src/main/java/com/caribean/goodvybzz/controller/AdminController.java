@@ -1,17 +1,35 @@
 package com.caribean.goodvybzz.controller;
 
+import com.caribean.goodvybzz.config.SlowRequestLog;
+import com.caribean.goodvybzz.dto.AdminUserView;
+import com.caribean.goodvybzz.dto.ContactSearchResult;
+import com.caribean.goodvybzz.dto.ContactView;
+import com.caribean.goodvybzz.dto.MediaView;
+import com.caribean.goodvybzz.dto.MemberView;
+import com.caribean.goodvybzz.dto.NewsletterProgress;
 import com.caribean.goodvybzz.model.Contact;
 import com.caribean.goodvybzz.model.Media;
 import com.caribean.goodvybzz.model.Member;
+import com.caribean.goodvybzz.service.AdminUserService;
 import com.caribean.goodvybzz.service.ContactService;
+import com.caribean.goodvybzz.service.DashboardEventBroadcaster;
 import com.caribean.goodvybzz.service.MediaService;
 import com.caribean.goodvybzz.service.MemberService;
+import com.caribean.goodvybzz.service.NewsletterService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.security.Principal;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -21,10 +39,17 @@ import java.util.stream.Collectors;
  *
  * Gère toutes les fonctionnalités de l'espace administrateur :
  * - Authentification et connexion
- * - Tableau de bord avec statistiques
+ * - Tableau de bord avec statistiques (et flux temps réel SSE)
  * - Gestion des membres
  * - Gestion des messages de contact
  * - Gestion des médias (photos et vidéos)
+ * - Diffusion des lettres d'information aux membres actifs
+ * - Consultation des requêtes lentes capturées
+ *
+ * Les actions POST de gestion répondent de deux façons :
+ * - requête classique : redirection vers la liste complète (Post/Redirect/Get)
+ * - requête XMLHttpRequest : uniquement le fragment Thymeleaf de l'élément modifié
+ *   et les compteurs de la page, que le layout remplace sur place
  *
  * @author Caribbean Good Vybzz Development Team
  * @version 1.0.0
@@ -42,6 +67,38 @@ public class AdminController {
     @Autowired
     private MediaService mediaService;
 
+    @Autowired
+    private DashboardEventBroadcaster dashboardEventBroadcaster;
+
+    @Autowired
+    private NewsletterService newsletterService;
+
+    @Autowired
+    private AdminUserService adminUserService;
+
+    /**
+     * Journal des requêtes lentes; absent si la capture est désactivée.
+     */
+    @Autowired(required = false)
+    private SlowRequestLog slowRequestLog;
+
+    /**
+     * En-tête envoyé par le layout d'administration pour demander une réponse partielle.
+     */
+    private static final String PARTIAL_REQUEST_HEADER = "X-Requested-With";
+
+    /**
+     * Expose l'URI courante au layout d'administration (mise en évidence du menu actif),
+     * l'objet {@code #request} n'étant plus accessible depuis les templates Thymeleaf 3.1.
+     *
+     * @param request la requête HTTP courante
+     * @return l'URI de la requête
+     */
+    @ModelAttribute("requestURI")
+    public String requestURI(HttpServletRequest request) {
+        return request.getRequestURI();
+    }
+
     /**
      * Affiche la page de connexion administrateur
      *
@@ -67,9 +124,9 @@ public class AdminController {
         // Statistiques générales
         model.addAttribute("totalMembers", allMembers.size());
 
-        // Compter les membres actifs (en utilisant la méthode getStatus() qui retourne une String)
+        // Compter les membres actifs
         long activeMembers = allMembers.stream()
-                .filter(m -> "ACTIVE".equalsIgnoreCase(m.getStatus().name()))
+                .filter(m -> m.getStatus() == Member.MemberStatus.ACTIF)
                 .count();
         model.addAttribute("activeMembers", activeMembers);
 
@@ -86,22 +143,47 @@ public class AdminController {
         model.addAttribute("publishedMedia", publishedMedia);
 
         // Membres en attente de validation
-        List<Member> pendingMembers = allMembers.stream()
-                .filter(m -> "PENDING".equalsIgnoreCase(m.getStatus().name()))
+        List<MemberView> pendingMembers = allMembers.stream()
+                .filter(m -> m.getStatus() == Member.MemberStatus.EN_ATTENTE)
                 .limit(5)
+                .map(MemberView::from)
                 .collect(Collectors.toList());
         model.addAttribute("pendingMembers", pendingMembers);
 
         // Messages récents non lus
-        List<Contact> recentMessages = allContacts.stream()
+        List<ContactView> recentMessages = allContacts.stream()
                 .filter(c -> !c.getRead())
                 .limit(5)
+                .map(ContactView::from)
                 .collect(Collectors.toList());
         model.addAttribute("recentMessages", recentMessages);
 
+        // Dernières connexions des administrateurs
+        model.addAttribute("admins", adminUserService.getAllAdmins().stream()
+                .map(AdminUserView::from)
+                .collect(Collectors.toList()));
+
         return "admin/dashboard";
     }
 
+    /**
+     * Flux Server-Sent Events du tableau de bord.
+     *
+     * <p>Pousse de petits deltas (membre inscrit, message reçu, média publié)
+     * que la page applique directement à ses compteurs et listes, sans rechargement.</p>
+     *
+     * @return l'émetteur SSE de la connexion, ou 503 avec {@code Retry-After}
+     *         si le nombre maximal de connexions est atteint
+     */
+    @GetMapping(path = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> dashboardStream() {
+        return dashboardEventBroadcaster.subscribe()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                        .header(HttpHeaders.RETRY_AFTER, Long.toString(dashboardEventBroadcaster.getRetryAfterSeconds()))
+                        .build());
+    }
+
     /**
      * Affiche la page de gestion des membres
      *
@@ -121,33 +203,40 @@ public class AdminController {
             members = memberService.getAllMembers();
         }
 
-        model.addAttribute("members", members);
+        model.addAttribute("members", members.stream().map(MemberView::from).collect(Collectors.toList()));
+        addMemberCounters(model);
         return "admin/members";
     }
 
     /**
-     * Approuve un membre (change son statut à ACTIVE)
+     * Approuve un membre (change son statut à ACTIF)
      *
      * @param id L'identifiant du membre
+     * @param request La requête HTTP (réponse partielle si XMLHttpRequest)
+     * @param model Le modèle pour la réponse partielle
      * @param redirectAttributes Attributs pour le message flash
-     * @return Redirection vers la page des membres
+     * @return Le fragment de la ligne du membre, ou une redirection vers la page des membres
      */
     @PostMapping("/members/approve/{id}")
-    public String approveMember(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+    public String approveMember(@PathVariable Long id, HttpServletRequest request,
+                                Model model, RedirectAttributes redirectAttributes) {
+        boolean partial = isPartialRequest(request);
         try {
-            Optional<Member> memberOpt = memberService.getMemberById(id);
-            if (memberOpt.isPresent()) {
-                Member member = memberOpt.get();
-                member.setStatus(Member.MemberStatus.valueOf("ACTIVE"));
-                memberService.saveMember(member);
-                redirectAttributes.addFlashAttribute("successMessage",
+            boolean approved = memberService.approveMember(id);
+            Member member = findMember(id);
+            model.addAttribute("member", MemberView.from(member));
+            if (approved) {
+                notify(partial, model, redirectAttributes, "successMessage",
                         "Le membre " + member.getFirstName() + " " + member.getLastName() + " a été approuvé.");
+            } else {
+                notify(partial, model, redirectAttributes, "warningMessage",
+                        "Le membre " + member.getFirstName() + " " + member.getLastName() + " n'est plus en attente.");
             }
         } catch (Exception e) {
-            redirectAttributes.addFlashAttribute("errorMessage",
+            notify(partial, model, redirectAttributes, "errorMessage",
                     "Erreur lors de l'approbation du membre: " + e.getMessage());
         }
-        return "redirect:/admin/members";
+        return memberResponse(partial, model);
     }
 
     /**
@@ -155,73 +244,101 @@ public class AdminController {
      *
      * @param id L'identifiant du membre
      * @param status Le nouveau statut
+     * @param expected Le statut affiché lors du choix (à défaut, le statut actuel): la
+     *                 modification n'a lieu que si le membre l'a toujours
+     * @param request La requête HTTP (réponse partielle si XMLHttpRequest)
+     * @param model Le modèle pour la réponse partielle
      * @param redirectAttributes Attributs pour le message flash
-     * @return Redirection vers la page des membres
+     * @return Le fragment de la ligne du membre, ou une redirection vers la page des membres
      */
     @PostMapping("/members/status/{id}")
     public String changeMemberStatus(@PathVariable Long id,
                                      @RequestParam String status,
+                                     @RequestParam(required = false) String expected,
+                                     HttpServletRequest request,
+                                     Model model,
                                      RedirectAttributes redirectAttributes) {
+        boolean partial = isPartialRequest(request);
         try {
-            Optional<Member> memberOpt = memberService.getMemberById(id);
-            if (memberOpt.isPresent()) {
-                Member member = memberOpt.get();
-                member.setStatus(Member.MemberStatus.valueOf(status.toUpperCase()));
-                memberService.saveMember(member);
-                redirectAttributes.addFlashAttribute("successMessage",
+            Member.MemberStatus newStatus = Member.MemberStatus.valueOf(status.toUpperCase());
+            Member.MemberStatus expectedStatus = StringUtils.hasText(expected)
+                    ? Member.MemberStatus.valueOf(expected.toUpperCase())
+                    : findMember(id).getStatus();
+            boolean changed = memberService.transitionStatus(id, expectedStatus, newStatus);
+            Member member = findMember(id);
+            model.addAttribute("member", MemberView.from(member));
+            if (changed) {
+                notify(partial, model, redirectAttributes, "successMessage",
                         "Le statut du membre a été modifié.");
+            } else if (member.getStatus() == newStatus) {
+                notify(partial, model, redirectAttributes, "warningMessage",
+                        "Le membre avait déjà ce statut.");
+            } else {
+                notify(partial, model, redirectAttributes, "warningMessage",
+                        "Le statut du membre a été modifié entre-temps par un autre administrateur; "
+                        + "statut actuel affiché.");
             }
         } catch (Exception e) {
-            redirectAttributes.addFlashAttribute("errorMessage",
+            notify(partial, model, redirectAttributes, "errorMessage",
                     "Erreur lors de la modification du statut: " + e.getMessage());
         }
-        return "redirect:/admin/members";
+        return memberResponse(partial, model);
     }
 
     /**
      * Supprime un membre
      *
      * @param id L'identifiant du membre
+     * @param request La requête HTTP (réponse partielle si XMLHttpRequest)
+     * @param model Le modèle pour la réponse partielle
      * @param redirectAttributes Attributs pour le message flash
-     * @return Redirection vers la page des membres
+     * @return Les compteurs mis à jour, ou une redirection vers la page des membres
      */
     @PostMapping("/members/delete/{id}")
-    public String deleteMember(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+    public String deleteMember(@PathVariable Long id, HttpServletRequest request,
+                               Model model, RedirectAttributes redirectAttributes) {
+        boolean partial = isPartialRequest(request);
         try {
             memberService.deleteMember(id);
-            redirectAttributes.addFlashAttribute("successMessage",
+            model.addAttribute("removedId", id);
+            notify(partial, model, redirectAttributes, "successMessage",
                     "Le membre a été supprimé.");
         } catch (Exception e) {
-            redirectAttributes.addFlashAttribute("errorMessage",
+            notify(partial, model, redirectAttributes, "errorMessage",
                     "Erreur lors de la suppression du membre: " + e.getMessage());
         }
-        return "redirect:/admin/members";
+        return memberResponse(partial, model);
     }
 
     /**
      * Affiche la page de gestion des messages de contact
      *
-     * @param filter Filtre optionnel (unread, read)
+     * @param filter Filtre optionnel (unread, read, spam)
+     * @param q Texte recherché, y compris dans les messages archivés (remplace le filtre)
      * @param model Le modèle pour passer les données à la vue
      * @return Le nom de la vue de gestion des messages
      */
     @GetMapping("/contacts")
-    public String contacts(@RequestParam(required = false) String filter, Model model) {
-        List<Contact> contacts;
-
-        if ("unread".equals(filter)) {
-            contacts = contactService.getAllContacts().stream()
-                    .filter(c -> !c.getRead())
-                    .collect(Collectors.toList());
+    public String contacts(@RequestParam(required = false) String filter,
+                           @RequestParam(required = false) String q, Model model) {
+        List<ContactView> contacts;
+
+        if (StringUtils.hasText(q)) {
+            ContactSearchResult result = contactService.searchMessages(q);
+            contacts = result.messages();
+            model.addAttribute("search", result);
+        } else if ("unread".equals(filter)) {
+            contacts = toViews(contactService.getUnreadMessages());
         } else if ("read".equals(filter)) {
-            contacts = contactService.getAllContacts().stream()
-                    .filter(Contact::getRead)
-                    .collect(Collectors.toList());
+            contacts = toViews(contactService.getReadMessages());
+        } else if ("spam".equals(filter)) {
+            contacts = toViews(contactService.getSpamMessages());
         } else {
-            contacts = contactService.getAllContacts();
+            contacts = toViews(contactService.getAllContacts());
         }
 
         model.addAttribute("contacts", contacts);
+        addContactCounters(model);
         return "admin/contacts";
     }
 
@@ -229,45 +346,95 @@ public class AdminController {
      * Bascule le statut lu/non lu d'un message
      *
      * @param id L'identifiant du message
+     * @param read Le statut voulu (optionnel): sans lui, le statut actuel est inversé
+     * @param request La requête HTTP (réponse partielle si XMLHttpRequest)
+     * @param model Le modèle pour la réponse partielle
      * @param redirectAttributes Attributs pour le message flash
-     * @return Redirection vers la page des messages
+     * @return Le fragment de la ligne du message, ou une redirection vers la page des messages
      */
     @PostMapping("/contacts/toggle-read/{id}")
-    public String toggleReadStatus(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+    public String toggleReadStatus(@PathVariable Long id,
+                                   @RequestParam(required = false) Boolean read,
+                                   HttpServletRequest request,
+                                   Model model, RedirectAttributes redirectAttributes) {
+        boolean partial = isPartialRequest(request);
         try {
-            Optional<Contact> contactOpt = contactService.getContactById(id);
-            if (contactOpt.isPresent()) {
-                Contact contact = contactOpt.get();
-                contact.setRead(!contact.getRead());
-                contactService.saveContact(contact);
-                redirectAttributes.addFlashAttribute("successMessage",
+            if (read == null) {
+                model.addAttribute("contact", ContactView.from(contactService.toggleReadStatus(id)));
+                notify(partial, model, redirectAttributes, "successMessage",
                         "Le statut du message a été modifié.");
+            } else {
+                boolean changed = contactService.updateReadStatus(id, read);
+                model.addAttribute("contact", ContactView.from(findContact(id)));
+                notify(partial, model, redirectAttributes, changed ? "successMessage" : "warningMessage",
+                        changed ? "Le statut du message a été modifié."
+                                : "Le message était déjà marqué comme " + (read ? "lu." : "non lu."));
             }
         } catch (Exception e) {
-            redirectAttributes.addFlashAttribute("errorMessage",
+            notify(partial, model, redirectAttributes, "errorMessage",
                     "Erreur lors de la modification du statut: " + e.getMessage());
         }
-        return "redirect:/admin/contacts";
+        return contactResponse(partial, model);
+    }
+
+    /**
+     * Classe un message comme indésirable ou légitime (apprentissage du filtre anti-spam).
+     * Le message quitte la liste affichée (boîte de réception ou indésirables).
+     *
+     * @param id L'identifiant du message
+     * @param spam true pour indésirable, false pour légitime
+     * @param request La requête HTTP (réponse partielle si XMLHttpRequest)
+     * @param model Le modèle pour la réponse partielle
+     * @param redirectAttributes Attributs pour le message flash
+     * @return Les compteurs mis à jour, ou une redirection vers la page des messages
+     */
+    @PostMapping("/contacts/spam/{id}")
+    public String markContactAsSpam(@PathVariable Long id,
+                                    @RequestParam(defaultValue = "true") boolean spam,
+                                    HttpServletRequest request,
+                                    Model model,
+                                    RedirectAttributes redirectAttributes) {
+        boolean partial = isPartialRequest(request);
+        try {
+            boolean changed = contactService.markAsSpam(id, spam);
+            model.addAttribute("removedId", id);
+            if (changed) {
+                notify(partial, model, redirectAttributes, "successMessage",
+                        spam ? "Le message a été classé indésirable." : "Le message a été remis dans la boîte de réception.");
+            } else {
+                notify(partial, model, redirectAttributes, "warningMessage",
+                        spam ? "Le message était déjà classé indésirable." : "Le message était déjà dans la boîte de réception.");
+            }
+        } catch (Exception e) {
+            notify(partial, model, redirectAttributes, "errorMessage",
+                    "Erreur lors du classement du message: " + e.getMessage());
+        }
+        return contactResponse(partial, model);
     }
 
     /**
      * Supprime un message de contact
      *
      * @param id L'identifiant du message
+     * @param request La requête HTTP (réponse partielle si XMLHttpRequest)
+     * @param model Le modèle pour la réponse partielle
      * @param redirectAttributes Attributs pour le message flash
-     * @return Redirection vers la page des messages
+     * @return Les compteurs mis à jour, ou une redirection vers la page des messages
      */
     @PostMapping("/contacts/delete/{id}")
-    public String deleteContact(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+    public String deleteContact(@PathVariable Long id, HttpServletRequest request,
+                                Model model, RedirectAttributes redirectAttributes) {
+        boolean partial = isPartialRequest(request);
         try {
             contactService.deleteContact(id);
-            redirectAttributes.addFlashAttribute("successMessage",
+            model.addAttribute("removedId", id);
+            notify(partial, model, redirectAttributes, "successMessage",
                     "Le message a été supprimé.");
         } catch (Exception e) {
-            redirectAttributes.addFlashAttribute("errorMessage",
+            notify(partial, model, redirectAttributes, "errorMessage",
                     "Erreur lors de la suppression du message: " + e.getMessage());
         }
-        return "redirect:/admin/contacts";
+        return contactResponse(partial, model);
     }
 
     /**
@@ -302,7 +469,8 @@ public class AdminController {
             mediaList = allMedia;
         }
 
-        model.addAttribute("mediaList", mediaList);
+        model.addAttribute("mediaList", mediaList.stream().map(MediaView::from).collect(Collectors.toList()));
+        addMediaCounters(model);
         return "admin/manage-media";
     }
 
@@ -310,45 +478,59 @@ public class AdminController {
      * Bascule le statut publié/non publié d'un média
      *
      * @param id L'identifiant du média
+     * @param published Le statut voulu (optionnel): sans lui, le statut actuel est inversé
+     * @param request La requête HTTP (réponse partielle si XMLHttpRequest)
+     * @param model Le modèle pour la réponse partielle
      * @param redirectAttributes Attributs pour le message flash
-     * @return Redirection vers la page des médias
+     * @return Le fragment de la carte du média, ou une redirection vers la page des médias
      */
     @PostMapping("/media/toggle-publish/{id}")
-    public String togglePublishStatus(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+    public String togglePublishStatus(@PathVariable Long id,
+                                      @RequestParam(required = false) Boolean published,
+                                      HttpServletRequest request,
+                                      Model model, RedirectAttributes redirectAttributes) {
+        boolean partial = isPartialRequest(request);
         try {
             Optional<Media> mediaOpt = mediaService.getMediaById(id);
             if (mediaOpt.isPresent()) {
-                Media media = mediaOpt.get();
-                media.setPublished(!media.getPublished());
-                mediaService.saveMedia(media);
-                redirectAttributes.addFlashAttribute("successMessage",
-                        "Le statut de publication du média a été modifié.");
+                boolean target = published != null ? published : !mediaOpt.get().getPublished();
+                boolean changed = mediaService.togglePublishStatus(id, target);
+                Media media = mediaService.getMediaById(id).orElse(mediaOpt.get());
+                model.addAttribute("media", MediaView.from(media));
+                notify(partial, model, redirectAttributes, changed ? "successMessage" : "warningMessage",
+                        changed ? "Le statut de publication du média a été modifié."
+                                : "Le média était déjà " + (target ? "publié." : "dépublié."));
             }
         } catch (Exception e) {
-            redirectAttributes.addFlashAttribute("errorMessage",
+            notify(partial, model, redirectAttributes, "errorMessage",
                     "Erreur lors de la modification du statut: " + e.getMessage());
         }
-        return "redirect:/admin/media";
+        return mediaResponse(partial, model);
     }
 
     /**
      * Supprime un média
      *
      * @param id L'identifiant du média
+     * @param request La requête HTTP (réponse partielle si XMLHttpRequest)
+     * @param model Le modèle pour la réponse partielle
      * @param redirectAttributes Attributs pour le message flash
-     * @return Redirection vers la page des médias
+     * @return Les compteurs mis à jour, ou une redirection vers la page des médias
      */
     @PostMapping("/media/delete/{id}")
-    public String deleteMedia(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+    public String deleteMedia(@PathVariable Long id, HttpServletRequest request,
+                              Model model, RedirectAttributes redirectAttributes) {
+        boolean partial = isPartialRequest(request);
         try {
             mediaService.deleteMedia(id);
-            redirectAttributes.addFlashAttribute("successMessage",
+            model.addAttribute("removedId", id);
+            notify(partial, model, redirectAttributes, "successMessage",
                     "Le média a été supprimé.");
         } catch (Exception e) {
-            redirectAttributes.addFlashAttribute("errorMessage",
+            notify(partial, model, redirectAttributes, "errorMessage",
                     "Erreur lors de la suppression du média: " + e.getMessage());
         }
-        return "redirect:/admin/media";
+        return mediaResponse(partial, model);
     }
 
     /**
@@ -365,4 +547,185 @@ public class AdminController {
                 "La fonctionnalité d'ajout de média n'est pas encore implémentée.");
         return "redirect:/admin/media";
     }
+
+    /**
+     * Affiche la page des lettres d'information (formulaire d'envoi et suivi des diffusions)
+     *
+     * @param model Le modèle pour passer les données à la vue
+     * @return Le nom de la vue des lettres d'information
+     */
+    @GetMapping("/newsletters")
+    public String newsletters(Model model) {
+        model.addAttribute("newsletters", newsletterService.getAllNewsletters());
+        model.addAttribute("activeCount", memberService.countMembersByStatus(Member.MemberStatus.ACTIF));
+        return "admin/newsletters";
+    }
+
+    /**
+     * Lance la diffusion d'une lettre d'information à tous les membres actifs
+     *
+     * @param subject L'objet du message
+     * @param body Le contenu du message
+     * @param principal L'administrateur connecté
+     * @param redirectAttributes Attributs pour le message flash
+     * @return Redirection vers la page des lettres d'information
+     */
+    @PostMapping("/newsletters")
+    public String startNewsletter(@RequestParam String subject, @RequestParam String body,
+                                  Principal principal, RedirectAttributes redirectAttributes) {
+        try {
+            newsletterService.start(subject, body, principal.getName());
+            redirectAttributes.addFlashAttribute("successMessage",
+                    "La diffusion a commencé. Vous pouvez suivre son avancement ci-dessous.");
+        } catch (IllegalArgumentException e) {
+            redirectAttributes.addFlashAttribute("errorMessage", e.getMessage());
+        }
+        return "redirect:/admin/newsletters";
+    }
+
+    /**
+     * Interrompt une diffusion en cours
+     *
+     * @param id L'identifiant de la diffusion
+     * @param redirectAttributes Attributs pour le message flash
+     * @return Redirection vers la page des lettres d'information
+     */
+    @PostMapping("/newsletters/{id}/cancel")
+    public String cancelNewsletter(@PathVariable Long id, RedirectAttributes redirectAttributes) {
+        if (newsletterService.cancel(id)) {
+            redirectAttributes.addFlashAttribute("successMessage", "La diffusion a été interrompue.");
+        } else {
+            redirectAttributes.addFlashAttribute("errorMessage", "Cette diffusion n'est plus en cours.");
+        }
+        return "redirect:/admin/newsletters";
+    }
+
+    /**
+     * Retourne l'avancement de toutes les diffusions (rafraîchissement de la page)
+     *
+     * @return L'avancement des diffusions, les plus récentes d'abord
+     */
+    @GetMapping("/newsletters/progress")
+    @ResponseBody
+    public List<NewsletterProgress> newsletterProgress() {
+        return newsletterService.getAllNewsletters().stream()
+                .map(NewsletterProgress::of)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Affiche les requêtes lentes capturées sur cette instance, les plus lentes d'abord
+     *
+     * @param model Le modèle pour passer les données à la vue
+     * @return Le nom de la vue des requêtes lentes
+     */
+    @GetMapping("/slow-requests")
+    public String slowRequests(Model model) {
+        model.addAttribute("captureEnabled", slowRequestLog != null);
+        if (slowRequestLog != null) {
+            model.addAttribute("slowRequests", slowRequestLog.getSlowestFirst());
+            model.addAttribute("thresholdMs", slowRequestLog.getThreshold().toMillis());
+        } else {
+            model.addAttribute("slowRequests", List.of());
+        }
+        return "admin/slow-requests";
+    }
+
+    /**
+     * Vide le journal des requêtes lentes
+     *
+     * @param redirectAttributes Attributs pour le message flash
+     * @return Redirection vers la page des requêtes lentes
+     */
+    @PostMapping("/slow-requests/clear")
+    public String clearSlowRequests(RedirectAttributes redirectAttributes) {
+        if (slowRequestLog != null) {
+            slowRequestLog.clear();
+            redirectAttributes.addFlashAttribute("successMessage", "Le journal des requêtes lentes a été vidé.");
+        }
+        return "redirect:/admin/slow-requests";
+    }
+
+    private Member findMember(Long id) {
+        return memberService.getMemberById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Membre non trouvé avec l'ID: " + id));
+    }
+
+    private Contact findContact(Long id) {
+        return contactService.getContactById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Message non trouvé avec l'ID: " + id));
+    }
+
+    /**
+     * Copie les messages chargés en vues pour le rendu (aucun accès à la base après le contrôleur).
+     */
+    private static List<ContactView> toViews(List<Contact> contacts) {
+        return contacts.stream().map(ContactView::from).collect(Collectors.toList());
+    }
+
+    /**
+     * Indique si la requête attend une réponse partielle (fragment) plutôt qu'une redirection.
+     */
+    private static boolean isPartialRequest(HttpServletRequest request) {
+        return "XMLHttpRequest".equals(request.getHeader(PARTIAL_REQUEST_HEADER));
+    }
+
+    /**
+     * Transmet un message à l'utilisateur : directement dans le modèle pour une
+     * réponse partielle, en attribut flash pour une redirection.
+     */
+    private static void notify(boolean partial, Model model, RedirectAttributes redirectAttributes,
+                               String key, String message) {
+        if (partial) {
+            model.addAttribute(key, message);
+        } else {
+            redirectAttributes.addFlashAttribute(key, message);
+        }
+    }
+
+    private String memberResponse(boolean partial, Model model) {
+        if (!partial) {
+            return "redirect:/admin/members";
+        }
+        addMemberCounters(model);
+        return "admin/fragments/members :: update";
+    }
+
+    private String contactResponse(boolean partial, Model model) {
+        if (!partial) {
+            return "redirect:/admin/contacts";
+        }
+        addContactCounters(model);
+        return "admin/fragments/contacts :: update";
+    }
+
+    private String mediaResponse(boolean partial, Model model) {
+        if (!partial) {
+            return "redirect:/admin/media";
+        }
+        addMediaCounters(model);
+        return "admin/fragments/media :: update";
+    }
+
+    /**
+     * Compteurs de la page des membres, calculés par des requêtes COUNT
+     * (indépendants de la liste affichée et de son filtre).
+     */
+    private void addMemberCounters(Model model) {
+        model.addAttribute("totalMembers", memberService.countAllMembers());
+        model.addAttribute("pendingCount", memberService.countMembersByStatus(Member.MemberStatus.EN_ATTENTE));
+        model.addAttribute("activeCount", memberService.countMembersByStatus(Member.MemberStatus.ACTIF));
+        model.addAttribute("inactiveCount", memberService.countMembersByStatus(Member.MemberStatus.INACTIF));
+    }
+
+    private void addContactCounters(Model model) {
+        model.addAttribute("totalContacts", contactService.countInboxMessages());
+        model.addAttribute("unreadContacts", contactService.countUnreadMessages());
+        model.addAttribute("spamContacts", contactService.countSpamMessages());
+    }
+
+    private void addMediaCounters(Model model) {
+        model.addAttribute("totalMedia", mediaService.countAllMedia());
+        model.addAttribute("publishedMedia", mediaService.countPublishedMedia());
+    }
 }
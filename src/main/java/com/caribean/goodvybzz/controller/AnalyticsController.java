@@ -0,0 +1,112 @@
+package com.caribean.goodvybzz.controller;
+
+import com.caribean.goodvybzz.dto.RollupSeries;
+import com.caribean.goodvybzz.model.StatsRollup.Granularity;
+import com.caribean.goodvybzz.model.StatsRollup.Metric;
+import com.caribean.goodvybzz.service.StatsRollupService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * API d'analyse (JSON) pour les graphiques de l'espace d'administration.
+ *
+ * <p>Les séries sont lues exclusivement dans les compteurs pré-agrégés:
+ * le coût d'une requête dépend du nombre de périodes demandées, jamais
+ * du nombre de membres ou de messages stockés.</p>
+ *
+ * <p><strong>Endpoints gérés:</strong></p>
+ * <ul>
+ *   <li>GET /admin/analytics/registrations - Inscriptions par période et par statut</li>
+ *   <li>GET /admin/analytics/contacts - Messages reçus par période</li>
+ *   <li>POST /admin/analytics/rebuild - Reconstruction complète des compteurs</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see StatsRollupService
+ */
+@RestController
+@RequestMapping("/admin/analytics")
+public class AnalyticsController {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(AnalyticsController.class);
+
+    /**
+     * Nombre maximal de périodes retournées par requête.
+     */
+    private static final long MAX_POINTS = 1200;
+
+    private final StatsRollupService statsRollupService;
+
+    public AnalyticsController(StatsRollupService statsRollupService) {
+        this.statsRollupService = statsRollupService;
+    }
+
+    /**
+     * Retourne la série des inscriptions, ventilée par statut.
+     *
+     * @param granularity la granularité (DAY, WEEK ou MONTH)
+     * @param from la date de début (par défaut: il y a un an)
+     * @param to la date de fin (par défaut: aujourd'hui)
+     * @return la série demandée, ou 400 si la plage est invalide
+     */
+    @GetMapping("/registrations")
+    public ResponseEntity<RollupSeries> registrations(
+            @RequestParam(defaultValue = "MONTH") Granularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return series(Metric.MEMBER_REGISTRATIONS, granularity, from, to);
+    }
+
+    /**
+     * Retourne la série des messages de contact reçus.
+     *
+     * @param granularity la granularité (DAY, WEEK ou MONTH)
+     * @param from la date de début (par défaut: il y a un an)
+     * @param to la date de fin (par défaut: aujourd'hui)
+     * @return la série demandée, ou 400 si la plage est invalide
+     */
+    @GetMapping("/contacts")
+    public ResponseEntity<RollupSeries> contacts(
+            @RequestParam(defaultValue = "MONTH") Granularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return series(Metric.CONTACTS, granularity, from, to);
+    }
+
+    /**
+     * Reconstruit tous les compteurs à partir des données brutes.
+     *
+     * @return 204 une fois la reconstruction terminée
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Void> rebuild() {
+        log.info("Reconstruction des statistiques demandée depuis l'administration");
+        statsRollupService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
+    private ResponseEntity<RollupSeries> series(Metric metric, Granularity granularity, LocalDate from, LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusYears(1);
+        if (start.isAfter(end) || countPeriods(granularity, start, end) > MAX_POINTS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(statsRollupService.getSeries(metric, granularity, start, end));
+    }
+
+    private static long countPeriods(Granularity granularity, LocalDate start, LocalDate end) {
+        return switch (granularity) {
+            case DAY -> ChronoUnit.DAYS.between(start, end);
+            case WEEK -> ChronoUnit.WEEKS.between(start, end);
+            case MONTH -> ChronoUnit.MONTHS.between(start, end);
+        };
+    }
+}
@@ -2,6 +2,8 @@ package com.caribean.goodvybzz.controller;
 
 import com.caribean.goodvybzz.model.Contact;
 import com.caribean.goodvybzz.service.ContactService;
+import com.caribean.goodvybzz.service.ContactWriteBehindService;
+import com.caribean.goodvybzz.service.IdempotencyService;
 import jakarta.validation.Valid;
 //import lombok.RequiredArgsConstructor;
 //import lombok.extern.slf4j.Slf4j;
@@ -9,11 +11,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * Contrôleur pour la gestion des messages de contact.
@@ -33,6 +37,8 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
  * @version 1.0.0
  * @see Contact
  * @see ContactService
+ * @see ContactWriteBehindService
+ * @see IdempotencyService
  */
 
 @Controller
@@ -42,10 +48,38 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class ContactController {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(ContactController.class);
 
-    private final ContactService contactService;
+    private final ContactWriteBehindService contactWriteBehindService;
+    private final IdempotencyService idempotencyService;
 
-    public ContactController(ContactService contactService) {
-        this.contactService = contactService;
+    public ContactController(ContactWriteBehindService contactWriteBehindService,
+                             IdempotencyService idempotencyService) {
+        this.contactWriteBehindService = contactWriteBehindService;
+        this.idempotencyService = idempotencyService;
+    }
+
+    /**
+     * Fournit au formulaire sa clé d'idempotence (conservée lorsqu'il est réaffiché).
+     *
+     * @param key la clé reçue avec la soumission, le cas échéant
+     * @return la clé à placer dans le champ caché du formulaire
+     */
+    @ModelAttribute("idempotencyKey")
+    public String idempotencyKey(@RequestParam(name = IdempotencyService.PARAMETER, required = false) String key) {
+        return idempotencyService.keyOrNew(key);
+    }
+
+    /**
+     * Limite la liaison du formulaire public aux champs saisis par le visiteur.
+     *
+     * <p>Sans cette liste, un POST forgé pourrait renseigner l'état de lecture ou le
+     * marquage anti-spam du message, et ainsi contourner le filtre et fausser son
+     * apprentissage.</p>
+     *
+     * @param binder le binder du formulaire
+     */
+    @InitBinder("contact")
+    public void restrictFormFields(WebDataBinder binder) {
+        binder.setAllowedFields("name", "email", "subject", "message");
     }
 
     /**
@@ -68,11 +102,13 @@ public class ContactController {
      * Traite la soumission du formulaire de contact.
      * 
      * <p>Valide les données du formulaire et enregistre le message
-     * si toutes les validations passent.</p>
+     * si toutes les validations passent (immédiatement, ou par lots si
+     * l'écriture différée est activée). Une soumission répétée avec la même
+     * clé d'idempotence rejoue la redirection de succès sans nouvel enregistrement.</p>
      * 
      * @param contact l'objet Contact rempli par le formulaire
      * @param bindingResult le résultat de la validation
-     * @param redirectAttributes les attributs pour le message flash
+     * @param idempotencyKey la clé d'idempotence du formulaire affiché
      * @param model le modèle Spring MVC
      * @return la vue de redirection ou le formulaire en cas d'erreur
      */
@@ -80,7 +116,7 @@ public class ContactController {
     public String processContactForm(
             @Valid @ModelAttribute("contact") Contact contact,
             BindingResult bindingResult,
-            RedirectAttributes redirectAttributes,
+            @RequestParam(name = IdempotencyService.PARAMETER, required = false) String idempotencyKey,
             Model model) {
 
         if (log.isDebugEnabled()) {
@@ -95,15 +131,20 @@ public class ContactController {
         }
         
         try {
-            // Enregistrer le message
-            contactService.saveContact(contact);
-            
-            log.info("Nouveau message de contact enregistré: {}", contact.getEmail());
-            redirectAttributes.addFlashAttribute("successMessage", 
-                "Merci pour votre message ! Nous vous répondrons dans les plus brefs délais.");
-            
-            return "redirect:/contact?success";
+            return idempotencyService.execute("contact", idempotencyKey, "redirect:/contact?pending", () -> {
+                // Enregistrer le message
+                contactWriteBehindService.submit(contact);
+
+                log.info("Nouveau message de contact accepté: {}", contact.getEmail());
+
+                return "redirect:/contact?success";
+            });
             
+        } catch (IllegalStateException e) {
+            // File d'écriture saturée: l'utilisateur est invité à réessayer
+            model.addAttribute("errorMessage", e.getMessage());
+            model.addAttribute("pageTitle", "Contact - caribean Good Vybzz");
+            return "contact";
         } catch (Exception e) {
             log.error("Erreur lors de l'enregistrement du message: {}", e.getMessage());
             model.addAttribute("errorMessage", 
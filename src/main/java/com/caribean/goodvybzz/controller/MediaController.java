@@ -1,5 +1,6 @@
 package com.caribean.goodvybzz.controller;
 
+import com.caribean.goodvybzz.dto.MediaView;
 import com.caribean.goodvybzz.model.Media;
 import com.caribean.goodvybzz.model.Media.MediaType;
 import com.caribean.goodvybzz.service.MediaService;
@@ -70,8 +71,9 @@ public class MediaController {
             log.debug("Nombre de vidéos publiées: {}", videos.size());
         }
 
-        model.addAttribute("photos", photos);
-        model.addAttribute("videos", videos);
+        // Vues copiées: le rendu de la page ne retient pas de connexion (open-in-view désactivé)
+        model.addAttribute("photos", photos.stream().map(MediaView::from).toList());
+        model.addAttribute("videos", videos.stream().map(MediaView::from).toList());
         model.addAttribute("pageTitle", "Galerie - caribean Good Vybzz");
         
         return "media";
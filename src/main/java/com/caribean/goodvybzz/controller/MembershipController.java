@@ -2,6 +2,7 @@ package com.caribean.goodvybzz.controller;
 
 import com.caribean.goodvybzz.config.DataInitializer;
 import com.caribean.goodvybzz.model.Member;
+import com.caribean.goodvybzz.service.IdempotencyService;
 import com.caribean.goodvybzz.service.MemberService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -9,11 +10,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
+import org.springframework.web.bind.WebDataBinder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * Contrôleur pour la gestion des inscriptions de membres.
@@ -33,6 +36,7 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
  * @version 1.0.0
  * @see Member
  * @see MemberService
+ * @see IdempotencyService
  */
 @Controller
 @RequestMapping("/inscription")
@@ -41,9 +45,35 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class MembershipController {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(MembershipController.class);
     private final MemberService memberService;
+    private final IdempotencyService idempotencyService;
 
-    public MembershipController(MemberService memberService) {
+    public MembershipController(MemberService memberService, IdempotencyService idempotencyService) {
         this.memberService = memberService;
+        this.idempotencyService = idempotencyService;
+    }
+
+    /**
+     * Fournit au formulaire sa clé d'idempotence (conservée lorsqu'il est réaffiché).
+     *
+     * @param key la clé reçue avec la soumission, le cas échéant
+     * @return la clé à placer dans le champ caché du formulaire
+     */
+    @ModelAttribute("idempotencyKey")
+    public String idempotencyKey(@RequestParam(name = IdempotencyService.PARAMETER, required = false) String key) {
+        return idempotencyService.keyOrNew(key);
+    }
+
+    /**
+     * Limite la liaison du formulaire public aux champs saisis par le visiteur.
+     *
+     * <p>Sans cette liste, un POST forgé pourrait renseigner le statut du membre
+     * (inscription directement active), sa date d'inscription ou son identifiant.</p>
+     *
+     * @param binder le binder du formulaire
+     */
+    @InitBinder("member")
+    public void restrictFormFields(WebDataBinder binder) {
+        binder.setAllowedFields("fullName", "firstName", "lastName", "email", "phone", "message");
     }
 
     /**
@@ -64,11 +94,12 @@ public class MembershipController {
      * Traite la soumission du formulaire d'inscription.
      * 
      * <p>Valide les données du formulaire et enregistre le nouveau membre
-     * si toutes les validations passent.</p>
+     * si toutes les validations passent. Une soumission répétée avec la même
+     * clé d'idempotence rejoue la redirection de succès sans nouvel enregistrement.</p>
      * 
      * @param member l'objet Member rempli par le formulaire
      * @param bindingResult le résultat de la validation
-     * @param redirectAttributes les attributs pour le message flash
+     * @param idempotencyKey la clé d'idempotence du formulaire affiché
      * @param model le modèle Spring MVC
      * @return la vue de redirection ou le formulaire en cas d'erreur
      */
@@ -76,7 +107,7 @@ public class MembershipController {
     public String processRegistration(
             @Valid @ModelAttribute("member") Member member,
             BindingResult bindingResult,
-            RedirectAttributes redirectAttributes,
+            @RequestParam(name = IdempotencyService.PARAMETER, required = false) String idempotencyKey,
             Model model) {
         
         log.debug("Traitement de l'inscription pour: {}", member.getEmail());
@@ -89,16 +120,16 @@ public class MembershipController {
         }
         
         try {
-            // Enregistrer le membre
-            memberService.saveMember(member);
-            
-            log.info("Nouvelle inscription réussie: {}", member.getEmail());
-            redirectAttributes.addFlashAttribute("successMessage", 
-                "Merci pour votre inscription ! Nous vous contacterons bientôt.");
-            
-            return "redirect:/inscription?success";
+            return idempotencyService.execute("inscription", idempotencyKey, "redirect:/inscription?pending", () -> {
+                // Enregistrer le membre
+                memberService.saveMember(member);
+
+                log.info("Nouvelle inscription réussie: {}", member.getEmail());
+
+                return "redirect:/inscription?success";
+            });
             
-        } catch (IllegalArgumentException e) {
+        } catch (IllegalArgumentException | IllegalStateException e) {
             log.error("Erreur lors de l'inscription: {}", e.getMessage());
             model.addAttribute("errorMessage", e.getMessage());
             model.addAttribute("pageTitle", "Inscription - caribean Good Vybzz");
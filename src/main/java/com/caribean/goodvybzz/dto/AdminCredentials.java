@@ -0,0 +1,25 @@
+package com.caribean.goodvybzz.dto;
+
+import com.caribean.goodvybzz.model.AdminUser;
+import com.caribean.goodvybzz.model.AdminUser.AdminRole;
+
+/**
+ * Données d'authentification d'un administrateur, lues directement en base.
+ *
+ * <p>Projection JPQL: jamais servie par le cache de second niveau, elle reflète
+ * aussi les modifications faites depuis un autre nœud.</p>
+ *
+ * @param username le nom d'utilisateur
+ * @param password le mot de passe crypté
+ * @param active true si le compte est actif
+ * @param role le rôle de l'administrateur
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see AdminUser
+ */
+public record AdminCredentials(String username,
+                               String password,
+                               Boolean active,
+                               AdminRole role) {
+}
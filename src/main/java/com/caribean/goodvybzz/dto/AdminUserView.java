@@ -0,0 +1,35 @@
+package com.caribean.goodvybzz.dto;
+
+import com.caribean.goodvybzz.model.AdminUser;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vue d'un administrateur transmise au tableau de bord.
+ *
+ * <p>Copie immuable sans le mot de passe, construite dans le contrôleur
+ * ({@code spring.jpa.open-in-view=false}).</p>
+ *
+ * @param username le nom d'utilisateur
+ * @param fullName le nom complet (optionnel)
+ * @param active true si le compte est actif
+ * @param lastLoginDate la date de dernière connexion (null si jamais connecté)
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see AdminUser
+ */
+public record AdminUserView(String username,
+                            String fullName,
+                            boolean active,
+                            LocalDateTime lastLoginDate) {
+
+    /**
+     * @param admin l'administrateur chargé
+     * @return la vue de l'administrateur
+     */
+    public static AdminUserView from(AdminUser admin) {
+        return new AdminUserView(admin.getUsername(), admin.getFullName(),
+                Boolean.TRUE.equals(admin.getActive()), admin.getLastLoginDate());
+    }
+}
@@ -0,0 +1,23 @@
+package com.caribean.goodvybzz.dto;
+
+import java.util.List;
+
+/**
+ * Résultat d'une recherche dans les messages de contact.
+ *
+ * <p>La recherche porte à la fois sur les messages courants et sur les messages
+ * archivés; ces derniers ne sont plus modifiables et sont donc présentés à part.
+ * Les messages sont déjà copiés en vues: le résultat se rend sans accès à la base.</p>
+ *
+ * @param query le texte recherché
+ * @param messages les messages courants correspondants, du plus récent au plus ancien
+ * @param archivedMessages les messages archivés correspondants, du plus récent au plus ancien
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.service.ContactService#searchMessages(String)
+ */
+public record ContactSearchResult(String query,
+                                  List<ContactView> messages,
+                                  List<ContactView> archivedMessages) {
+}
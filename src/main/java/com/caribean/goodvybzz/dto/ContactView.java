@@ -0,0 +1,59 @@
+package com.caribean.goodvybzz.dto;
+
+import com.caribean.goodvybzz.model.ArchivedContact;
+import com.caribean.goodvybzz.model.Contact;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vue d'un message de contact transmise aux templates d'administration.
+ *
+ * <p>Copie immuable, construite dans le contrôleur à partir de l'entité chargée
+ * par le service: le rendu de la page n'accède plus à la base et ne retient
+ * aucune connexion ({@code spring.jpa.open-in-view=false}).</p>
+ *
+ * @param id l'identifiant du message
+ * @param name le nom de l'expéditeur
+ * @param email l'adresse email de l'expéditeur
+ * @param subject le sujet
+ * @param message le contenu
+ * @param receivedDate la date de réception
+ * @param read true si le message a été lu
+ * @param spam true si le message est classé indésirable
+ * @param spamScore la probabilité d'indésirable (null si non analysé)
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see Contact
+ * @see ArchivedContact
+ */
+public record ContactView(Long id,
+                          String name,
+                          String email,
+                          String subject,
+                          String message,
+                          LocalDateTime receivedDate,
+                          boolean read,
+                          boolean spam,
+                          Double spamScore) {
+
+    /**
+     * @param contact le message chargé
+     * @return la vue du message
+     */
+    public static ContactView from(Contact contact) {
+        return new ContactView(contact.getId(), contact.getName(), contact.getEmail(), contact.getSubject(),
+                contact.getMessage(), contact.getReceivedDate(), Boolean.TRUE.equals(contact.getRead()),
+                Boolean.TRUE.equals(contact.getSpam()), contact.getSpamScore());
+    }
+
+    /**
+     * @param contact le message archivé
+     * @return la vue du message
+     */
+    public static ContactView from(ArchivedContact contact) {
+        return new ContactView(contact.getId(), contact.getName(), contact.getEmail(), contact.getSubject(),
+                contact.getMessage(), contact.getReceivedDate(), Boolean.TRUE.equals(contact.getRead()),
+                Boolean.TRUE.equals(contact.getSpam()), contact.getSpamScore());
+    }
+}
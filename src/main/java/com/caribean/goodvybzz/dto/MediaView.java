@@ -0,0 +1,43 @@
+package com.caribean.goodvybzz.dto;
+
+import com.caribean.goodvybzz.model.Media;
+import com.caribean.goodvybzz.model.Media.MediaType;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vue d'un média transmise aux templates (galerie publique et administration).
+ *
+ * <p>Copie immuable, construite dans le contrôleur à partir de l'entité chargée
+ * par le service: le rendu de la page n'accède plus à la base et ne retient
+ * aucune connexion ({@code spring.jpa.open-in-view=false}).</p>
+ *
+ * @param id l'identifiant du média
+ * @param title le titre
+ * @param description la description (optionnelle)
+ * @param type le type (PHOTO ou VIDEO)
+ * @param filePath le chemin de la photo ou l'URL de la vidéo
+ * @param uploadDate la date d'ajout
+ * @param published true si le média est visible dans la galerie
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see Media
+ */
+public record MediaView(Long id,
+                        String title,
+                        String description,
+                        MediaType type,
+                        String filePath,
+                        LocalDateTime uploadDate,
+                        boolean published) {
+
+    /**
+     * @param media le média chargé
+     * @return la vue du média
+     */
+    public static MediaView from(Media media) {
+        return new MediaView(media.getId(), media.getTitle(), media.getDescription(), media.getType(),
+                media.getFilePath(), media.getUploadDate(), Boolean.TRUE.equals(media.getPublished()));
+    }
+}
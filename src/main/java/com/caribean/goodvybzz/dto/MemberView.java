@@ -0,0 +1,43 @@
+package com.caribean.goodvybzz.dto;
+
+import com.caribean.goodvybzz.model.Member;
+import com.caribean.goodvybzz.model.Member.MemberStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vue d'un membre transmise aux templates d'administration.
+ *
+ * <p>Copie immuable, construite dans le contrôleur à partir de l'entité chargée
+ * par le service: le rendu de la page n'accède plus à la base et ne retient
+ * aucune connexion ({@code spring.jpa.open-in-view=false}).</p>
+ *
+ * @param id l'identifiant du membre
+ * @param firstName le prénom
+ * @param lastName le nom
+ * @param email l'adresse email
+ * @param phone le numéro de téléphone (optionnel)
+ * @param registrationDate la date d'inscription
+ * @param status le statut d'adhésion
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see Member
+ */
+public record MemberView(Long id,
+                         String firstName,
+                         String lastName,
+                         String email,
+                         String phone,
+                         LocalDateTime registrationDate,
+                         MemberStatus status) {
+
+    /**
+     * @param member le membre chargé
+     * @return la vue du membre
+     */
+    public static MemberView from(Member member) {
+        return new MemberView(member.getId(), member.getFirstName(), member.getLastName(), member.getEmail(),
+                member.getPhone(), member.getRegistrationDate(), member.getStatus());
+    }
+}
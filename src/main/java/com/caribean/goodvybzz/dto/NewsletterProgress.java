@@ -0,0 +1,36 @@
+package com.caribean.goodvybzz.dto;
+
+import com.caribean.goodvybzz.model.Newsletter;
+
+/**
+ * Avancement d'une diffusion de lettre d'information, rafraîchi par la page d'administration.
+ *
+ * @param id l'ID de la diffusion
+ * @param status le statut de la diffusion
+ * @param total le nombre de destinataires connus
+ * @param sent le nombre de messages envoyés
+ * @param failed le nombre de destinataires abandonnés
+ * @param throughput le débit moyen (messages par seconde)
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.service.NewsletterService
+ */
+public record NewsletterProgress(Long id,
+                                 Newsletter.Status status,
+                                 int total,
+                                 int sent,
+                                 int failed,
+                                 double throughput) {
+
+    /**
+     * Construit l'avancement à partir d'une diffusion.
+     *
+     * @param newsletter la diffusion
+     * @return l'avancement correspondant
+     */
+    public static NewsletterProgress of(Newsletter newsletter) {
+        return new NewsletterProgress(newsletter.getId(), newsletter.getStatus(), newsletter.getTotalRecipients(),
+                newsletter.getSentCount(), newsletter.getFailedCount(), newsletter.getThroughput());
+    }
+}
@@ -0,0 +1,28 @@
+package com.caribean.goodvybzz.dto;
+
+import java.util.List;
+
+/**
+ * Résumé de notifications d'administration envoyé en un seul message.
+ *
+ * <p>Les événements accumulés depuis le dernier envoi (inscriptions, messages
+ * de contact) sont regroupés pour éviter un email par événement.</p>
+ *
+ * @param subject l'objet du message
+ * @param lines une ligne par événement, dans l'ordre d'arrivée
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.service.NotificationSender
+ */
+public record NotificationDigest(String subject, List<String> lines) {
+
+    /**
+     * Construit le corps texte du message.
+     *
+     * @return les lignes du résumé, séparées par des retours à la ligne
+     */
+    public String body() {
+        return String.join("\n", lines);
+    }
+}
@@ -0,0 +1,41 @@
+package com.caribean.goodvybzz.dto;
+
+import com.caribean.goodvybzz.model.StatsRollup.Granularity;
+import com.caribean.goodvybzz.model.StatsRollup.Metric;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Série temporelle pré-agrégée retournée par l'API d'analyse.
+ *
+ * <p>Les périodes sans activité sont présentes avec des valeurs nulles afin
+ * que la série soit directement exploitable par une bibliothèque de graphiques.</p>
+ *
+ * @param metric la métrique représentée
+ * @param granularity la granularité des périodes
+ * @param from le début de la première période
+ * @param to le début de la dernière période
+ * @param points les points de la série, triés chronologiquement
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.service.StatsRollupService
+ */
+public record RollupSeries(Metric metric,
+                           Granularity granularity,
+                           LocalDate from,
+                           LocalDate to,
+                           List<Point> points) {
+
+    /**
+     * Valeurs d'une période.
+     *
+     * @param bucketStart le premier jour de la période
+     * @param values les valeurs par dimension (statut du membre, ou {@code ALL})
+     * @param total la somme des valeurs de la période
+     */
+    public record Point(LocalDate bucketStart, Map<String, Long> values, long total) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.caribean.goodvybzz.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Requête HTTP lente capturée, avec le détail de son coût.
+ *
+ * @param method la méthode HTTP
+ * @param uri le chemin demandé (sans paramètres)
+ * @param status le statut de la réponse
+ * @param exception la classe de l'exception levée, ou {@code null}
+ * @param startedAt la date de début
+ * @param durationMs la durée totale, en millisecondes
+ * @param sqlCount le nombre de requêtes SQL exécutées (lots compris, une par lot)
+ * @param sqlTimeMs le temps passé dans les requêtes SQL, en millisecondes
+ * @param bytesWritten les octets écrits dans la réponse, avant compression
+ * @param allocatedBytes les octets alloués par le thread de la requête, ou -1 si la JVM ne les mesure pas
+ * @param statements les requêtes SQL les plus coûteuses, regroupées par texte
+ * @param stackSamples le nombre d'échantillons de pile prélevés
+ * @param hotStacks les piles les plus fréquentes parmi les échantillons
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.config.SlowRequestFilter
+ */
+public record SlowRequest(String method, String uri, int status, String exception, LocalDateTime startedAt,
+                          long durationMs, int sqlCount, double sqlTimeMs, long bytesWritten, long allocatedBytes,
+                          List<Statement> statements, int stackSamples, List<StackSample> hotStacks) {
+
+    /**
+     * Requête SQL exécutée pendant la requête HTTP.
+     *
+     * @param sql le texte de la requête (paramètres non inclus)
+     * @param executions le nombre d'exécutions
+     * @param totalMs le temps cumulé, en millisecondes
+     */
+    public record Statement(String sql, int executions, double totalMs) {
+    }
+
+    /**
+     * Pile d'appels observée lors de l'échantillonnage.
+     *
+     * @param frames les appels, du plus récent au plus ancien
+     * @param count le nombre d'échantillons sur cette pile
+     */
+    public record StackSample(List<String> frames, int count) {
+    }
+}
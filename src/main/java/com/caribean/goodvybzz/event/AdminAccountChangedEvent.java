@@ -0,0 +1,18 @@
+package com.caribean.goodvybzz.event;
+
+/**
+ * Événement publié lorsqu'un compte administrateur est créé ou que ses informations
+ * d'authentification (mot de passe, activation) changent.
+ *
+ * <p>Les écouteurs le reçoivent après la validation de la transaction
+ * ({@code @TransactionalEventListener}): c'est le point d'accroche pour propager
+ * l'invalidation des caches d'authentification aux autres nœuds.</p>
+ *
+ * @param username le nom d'utilisateur concerné
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.service.AdminUserService
+ */
+public record AdminAccountChangedEvent(String username) {
+}
@@ -0,0 +1,53 @@
+package com.caribean.goodvybzz.event;
+
+import com.caribean.goodvybzz.model.Contact;
+
+import java.time.LocalDateTime;
+
+/**
+ * Événement publié lorsqu'un message de contact reçu a été classé par le filtre anti-spam.
+ *
+ * <p>Publié après le commit du classement, ou dès la réception si le message n'est pas
+ * analysé (filtre désactivé, file d'analyse saturée): il reste alors dans la boîte de réception.</p>
+ *
+ * @param id l'identifiant du message
+ * @param name le nom de l'expéditeur
+ * @param email l'adresse email de l'expéditeur
+ * @param subject le sujet du message
+ * @param receivedDate la date de réception
+ * @param spam vrai si le message a été classé indésirable
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.service.SpamFilterService
+ */
+public record ContactClassifiedEvent(Long id,
+                                     String name,
+                                     String email,
+                                     String subject,
+                                     LocalDateTime receivedDate,
+                                     boolean spam) {
+
+    /**
+     * Construit l'événement à partir d'un message analysé.
+     *
+     * @param contact le message analysé
+     * @param spam le classement retenu
+     * @return l'événement correspondant
+     */
+    public static ContactClassifiedEvent of(Contact contact, boolean spam) {
+        return new ContactClassifiedEvent(contact.getId(), contact.getName(), contact.getEmail(),
+                contact.getSubject(), contact.getReceivedDate(), spam);
+    }
+
+    /**
+     * Construit l'événement d'un message reçu qui n'est pas analysé.
+     *
+     * @param event l'événement de réception
+     * @return l'événement correspondant, message conservé dans la boîte de réception
+     */
+    public static ContactClassifiedEvent unanalyzed(ContactReceivedEvent event) {
+        return new ContactClassifiedEvent(event.id(), event.name(), event.email(),
+                event.subject(), event.receivedDate(), false);
+    }
+}
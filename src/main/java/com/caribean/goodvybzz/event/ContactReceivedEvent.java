@@ -0,0 +1,36 @@
+package com.caribean.goodvybzz.event;
+
+import com.caribean.goodvybzz.model.Contact;
+
+import java.time.LocalDateTime;
+
+/**
+ * Événement publié lorsqu'un nouveau message de contact a été reçu.
+ *
+ * @param id l'identifiant du message
+ * @param name le nom de l'expéditeur
+ * @param email l'adresse email de l'expéditeur
+ * @param subject le sujet du message
+ * @param receivedDate la date de réception
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.service.ContactService
+ */
+public record ContactReceivedEvent(Long id,
+                                   String name,
+                                   String email,
+                                   String subject,
+                                   LocalDateTime receivedDate) {
+
+    /**
+     * Construit l'événement à partir d'un message enregistré.
+     *
+     * @param contact le message enregistré
+     * @return l'événement correspondant
+     */
+    public static ContactReceivedEvent of(Contact contact) {
+        return new ContactReceivedEvent(contact.getId(), contact.getName(), contact.getEmail(),
+                contact.getSubject(), contact.getReceivedDate());
+    }
+}
@@ -0,0 +1,34 @@
+package com.caribean.goodvybzz.event;
+
+import com.caribean.goodvybzz.model.Media;
+import com.caribean.goodvybzz.model.Media.MediaType;
+
+/**
+ * Événement publié lorsqu'un média devient visible ou cesse de l'être
+ * dans la galerie publique.
+ *
+ * @param id l'identifiant du média
+ * @param title le titre du média
+ * @param type le type du média
+ * @param published true si le média vient d'être publié, false s'il vient d'être dépublié
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.service.MediaService
+ */
+public record MediaPublicationChangedEvent(Long id,
+                                           String title,
+                                           MediaType type,
+                                           boolean published) {
+
+    /**
+     * Construit l'événement à partir d'un média enregistré.
+     *
+     * @param media le média enregistré
+     * @return l'événement correspondant à son statut de publication actuel
+     */
+    public static MediaPublicationChangedEvent of(Media media) {
+        return new MediaPublicationChangedEvent(media.getId(), media.getTitle(), media.getType(),
+                Boolean.TRUE.equals(media.getPublished()));
+    }
+}
@@ -0,0 +1,45 @@
+package com.caribean.goodvybzz.event;
+
+import com.caribean.goodvybzz.model.Member;
+import com.caribean.goodvybzz.model.Member.MemberStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Événement publié lorsqu'un nouveau membre s'est inscrit.
+ *
+ * <p>Contient uniquement les champs nécessaires à l'affichage dans le
+ * tableau de bord, afin de ne pas retenir l'entité JPA au-delà de
+ * la transaction.</p>
+ *
+ * @param id l'identifiant du membre
+ * @param firstName le prénom du membre
+ * @param lastName le nom du membre
+ * @param email l'adresse email du membre
+ * @param phone le téléphone du membre
+ * @param status le statut du membre à l'inscription
+ * @param registrationDate la date d'inscription
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.service.MemberService
+ */
+public record MemberRegisteredEvent(Long id,
+                                    String firstName,
+                                    String lastName,
+                                    String email,
+                                    String phone,
+                                    MemberStatus status,
+                                    LocalDateTime registrationDate) {
+
+    /**
+     * Construit l'événement à partir d'un membre enregistré.
+     *
+     * @param member le membre enregistré
+     * @return l'événement correspondant
+     */
+    public static MemberRegisteredEvent of(Member member) {
+        return new MemberRegisteredEvent(member.getId(), member.getFirstName(), member.getLastName(),
+                member.getEmail(), member.getPhone(), member.getStatus(), member.getRegistrationDate());
+    }
+}
@@ -6,6 +6,8 @@ import jakarta.validation.constraints.Size;
 //import lombok.AllArgsConstructor;
 //import lombok.Data;
 //import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -28,6 +30,10 @@ import java.time.LocalDateTime;
  * Le mot de passe est stocké crypté avec BCrypt.
  * Utilisez {@code PasswordEncoder} pour encoder les mots de passe.
  * 
+ * <p><strong>Cache:</strong> conservé dans le cache de second niveau (région
+ * {@code admin-users}). La date de dernière connexion est écrite hors d'Hibernate par
+ * {@code LastLoginRecorder}, qui retire alors les administrateurs du cache.</p>
+ * 
  * @author caribean Good Vybzz Development Team
  * @version 1.0.0
  * @see com.caribean.goodvybzz.repository.AdminUserRepository
@@ -36,6 +42,8 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "admin_users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "admin-users")
 //@Data
 //@NoArgsConstructor
 //@AllArgsConstructor
@@ -0,0 +1,123 @@
+package com.caribean.goodvybzz.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entité représentant un message de contact archivé.
+ *
+ * <p>Les messages lus anciens sont déplacés de la table {@code contacts} vers
+ * {@code contacts_archive} par {@link com.caribean.goodvybzz.service.ContactArchiveService}.
+ * Ils conservent leur identifiant et ne sont plus modifiés: l'entité est en lecture seule
+ * et ne sert qu'à la recherche et aux statistiques.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see Contact
+ * @see com.caribean.goodvybzz.repository.ArchivedContactRepository
+ */
+@Entity
+@Immutable
+@Table(name = "contacts_archive",
+       indexes = {
+           @Index(name = "idx_contacts_archive_month_received", columnList = "archive_month, received_date"),
+           @Index(name = "idx_contacts_archive_email", columnList = "email")
+       })
+public class ArchivedContact {
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public LocalDateTime getReceivedDate() {
+        return receivedDate;
+    }
+
+    public Boolean getRead() {
+        return isRead;
+    }
+
+    public Boolean getSpam() {
+        return isSpam;
+    }
+
+    public Boolean getSpamReviewed() {
+        return spamReviewed;
+    }
+
+    public Double getSpamScore() {
+        return spamScore;
+    }
+
+    public LocalDate getArchiveMonth() {
+        return archiveMonth;
+    }
+
+    public LocalDateTime getArchivedDate() {
+        return archivedDate;
+    }
+
+    /**
+     * Identifiant du message, repris de la table {@code contacts}.
+     */
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 150)
+    private String email;
+
+    @Column(nullable = false, length = 150)
+    private String subject;
+
+    @Column(nullable = false, length = 1000)
+    private String message;
+
+    @Column(nullable = false)
+    private LocalDateTime receivedDate;
+
+    @Column(nullable = false)
+    private Boolean isRead;
+
+    @Column(name = "is_spam", nullable = false)
+    private Boolean isSpam;
+
+    @Column(name = "spam_reviewed", nullable = false)
+    private Boolean spamReviewed;
+
+    @Column(name = "spam_score")
+    private Double spamScore;
+
+    /**
+     * Premier jour du mois de réception (clé de découpage de l'archive).
+     */
+    @Column(name = "archive_month", nullable = false)
+    private LocalDate archiveMonth;
+
+    /**
+     * Date du déplacement vers l'archive.
+     */
+    @Column(name = "archived_date", nullable = false)
+    private LocalDateTime archivedDate;
+}
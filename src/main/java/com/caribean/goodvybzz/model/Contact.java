@@ -24,6 +24,7 @@ import java.time.LocalDateTime;
  *   <li>Contenu du message</li>
  *   <li>Date de réception</li>
  *   <li>Statut de traitement (lu/non lu)</li>
+ *   <li>Classification indésirable (score, statut, revue par un administrateur)</li>
  * </ul>
  * 
  * @author caribean Good Vybzz Development Team
@@ -32,7 +33,12 @@ import java.time.LocalDateTime;
  * @see com.caribean.goodvybzz.service.ContactService
  */
 @Entity
-@Table(name = "contacts")
+@Table(name = "contacts",
+       indexes = {
+           @Index(name = "idx_contacts_spam_read_received", columnList = "is_spam, is_read, received_date"),
+           @Index(name = "idx_contacts_spam_received", columnList = "is_spam, received_date"),
+           @Index(name = "idx_contacts_email", columnList = "email")
+       })
 //@Data
 //@NoArgsConstructor
 //@AllArgsConstructor
@@ -93,6 +99,34 @@ public class Contact {
         isRead = read;
     }
 
+    public Double getSpamScore() {
+        return spamScore;
+    }
+
+    public void setSpamScore(Double spamScore) {
+        this.spamScore = spamScore;
+    }
+
+    public Boolean getSpam() {
+        return isSpam;
+    }
+
+    public void setSpam(Boolean spam) {
+        isSpam = spam;
+    }
+
+    public Boolean getSpamReviewed() {
+        return spamReviewed;
+    }
+
+    public void setSpamReviewed(Boolean spamReviewed) {
+        this.spamReviewed = spamReviewed;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
     /**
      * Identifiant unique du message (généré automatiquement).
      */
@@ -150,6 +184,33 @@ public class Contact {
     @Column(nullable = false)
     private Boolean isRead = false;
 
+    /**
+     * Probabilité que le message soit indésirable, calculée en arrière-plan
+     * après l'enregistrement. Null tant que le message n'a pas été analysé.
+     */
+    @Column(name = "spam_score")
+    private Double spamScore;
+
+    /**
+     * Indique si le message est classé comme indésirable (exclu de la boîte de réception).
+     */
+    @Column(name = "is_spam", nullable = false, columnDefinition = "boolean default false")
+    private Boolean isSpam = false;
+
+    /**
+     * Indique si la classification a été fixée par un administrateur;
+     * l'analyse automatique ne la modifie alors plus.
+     */
+    @Column(name = "spam_reviewed", nullable = false, columnDefinition = "boolean default false")
+    private Boolean spamReviewed = false;
+
+    /**
+     * Version de la ligne (verrouillage optimiste): l'enregistrement d'un état
+     * périmé échoue au lieu d'écraser une modification concurrente.
+     */
+    @Version
+    private Long version;
+
     /**
      * Hook appelé automatiquement avant la création de l'entité.
      * Initialise la date de réception.
@@ -0,0 +1,60 @@
+package com.caribean.goodvybzz.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entité représentant une clé d'idempotence d'un formulaire public.
+ *
+ * <p>Utilisée uniquement par le registre partagé
+ * ({@code app.idempotency.store=jdbc}), qui y accède directement en JDBC:
+ * l'entité sert à déclarer la table.</p>
+ *
+ * <p><strong>Attributs principaux:</strong></p>
+ * <ul>
+ *   <li>Clé, préfixée par le formulaire concerné</li>
+ *   <li>Résultat à rejouer (nul tant que la soumission est en cours)</li>
+ *   <li>Date de réservation (expiration et reprise des réservations abandonnées)</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.service.JdbcIdempotencyStore
+ */
+@Entity
+@Table(name = "idempotency_keys",
+       indexes = @Index(name = "idx_idempotency_keys_created", columnList = "created_at"))
+public class IdempotencyKey {
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Clé d'idempotence, préfixée par le formulaire (ex: "contact:...").
+     */
+    @Id
+    @Column(name = "idem_key", length = 100)
+    private String key;
+
+    /**
+     * Résultat de la soumission (vue de redirection), nul tant qu'elle est en cours.
+     */
+    @Column(length = 255)
+    private String outcome;
+
+    /**
+     * Date et heure de réservation de la clé.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -6,6 +6,8 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -25,13 +27,22 @@ import java.time.LocalDateTime;
  *   <li>Statut de publication</li>
  * </ul>
  * 
+ * <p><strong>Cache:</strong> conservé dans le cache de second niveau (région {@code media},
+ * voir {@code hibernate-cache.conf}); une modification validée remplace l'entrée en cache.</p>
+ * 
  * @author caribean Good Vybzz Development Team
  * @version 1.0.0
  * @see com.caribean.goodvybzz.repository.MediaRepository
  * @see com.caribean.goodvybzz.service.MediaService
  */
 @Entity
-@Table(name = "media")
+@Table(name = "media",
+       indexes = {
+           @Index(name = "idx_media_published_order", columnList = "is_published, display_order"),
+           @Index(name = "idx_media_type_published_order", columnList = "type, is_published, display_order")
+       })
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "media")
 //@Data
 //@NoArgsConstructor
 //@AllArgsConstructor
@@ -109,6 +120,10 @@ public class Media {
         this.displayOrder = displayOrder;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     /**
      * Identifiant unique du média (généré automatiquement).
      */
@@ -176,6 +191,13 @@ public class Media {
     @Column(nullable = false)
     private Integer displayOrder = 0;
 
+    /**
+     * Version de la ligne (verrouillage optimiste): l'enregistrement d'un état
+     * périmé échoue au lieu d'écraser une modification concurrente.
+     */
+    @Version
+    private Long version;
+
     /**
      * Hook appelé automatiquement avant la création de l'entité.
      * Initialise la date d'upload.
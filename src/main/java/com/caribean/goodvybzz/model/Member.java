@@ -9,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.Locale;
 
 /**
  * Entité représentant un membre de l'association caribean Good Vybzz.
@@ -31,7 +32,8 @@ import java.time.LocalDateTime;
  * @see com.caribean.goodvybzz.service.MemberService
  */
 @Entity
-@Table(name = "members")
+@Table(name = "members",
+       indexes = @Index(name = "idx_members_status_id", columnList = "status, id"))
 //@Data
 //@NoArgsConstructor
 //@AllArgsConstructor
@@ -93,6 +95,10 @@ public class Member {
         this.status = status;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     /**
      * Identifiant unique du membre (généré automatiquement).
      */
@@ -128,6 +134,8 @@ public class Member {
     /**
      * Adresse email du membre.
      * Obligatoire, unique et doit être valide.
+     * Toujours stockée normalisée (voir {@link #normalizeEmail(String)}) : la contrainte
+     * d'unicité est donc insensible à la casse.
      */
     @NotBlank(message = "L'email est obligatoire")
     @Email(message = "L'email doit être valide")
@@ -181,6 +189,13 @@ public class Member {
     @Column(nullable = false)
     private MemberStatus status = MemberStatus.EN_ATTENTE;
 
+    /**
+     * Version de la ligne (verrouillage optimiste): l'enregistrement d'un état
+     * périmé échoue au lieu d'écraser une modification concurrente.
+     */
+    @Version
+    private Long version;
+
     /**
      * Hook appelé automatiquement avant la création de l'entité.
      * Initialise la date d'inscription.
@@ -188,6 +203,27 @@ public class Member {
     @PrePersist
     protected void onCreate() {
         this.registrationDate = LocalDateTime.now();
+        this.email = normalizeEmail(this.email);
+    }
+
+    /**
+     * Hook appelé automatiquement avant chaque mise à jour.
+     * Garantit que l'email reste normalisé.
+     */
+    @PreUpdate
+    protected void onUpdate() {
+        this.email = normalizeEmail(this.email);
+    }
+
+    /**
+     * Normalise une adresse email (espaces retirés, minuscules) pour les comparaisons
+     * et la contrainte d'unicité.
+     *
+     * @param email l'adresse à normaliser (peut être null)
+     * @return l'adresse normalisée, ou null
+     */
+    public static String normalizeEmail(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
     }
 
     /**
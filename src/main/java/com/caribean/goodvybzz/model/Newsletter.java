@@ -0,0 +1,201 @@
+package com.caribean.goodvybzz.model;
+
+import jakarta.persistence.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Entité représentant une lettre d'information envoyée aux membres actifs.
+ *
+ * <p>L'envoi se déroule en deux étapes reprenables: la liste des destinataires
+ * est d'abord figée (une ligne {@link NewsletterDelivery} par membre actif,
+ * curseur {@link #lastMemberId}), puis les messages sont envoyés en arrière-plan
+ * et l'état de chaque destinataire est enregistré.</p>
+ *
+ * <p><strong>Attributs principaux:</strong></p>
+ * <ul>
+ *   <li>Objet et corps du message (modèles avec variables {@code {{prenom}}}, {@code {{nom}}}, {@code {{email}}})</li>
+ *   <li>Statut de l'envoi et dates de début et de fin</li>
+ *   <li>Compteurs de progression (destinataires, envoyés, échecs)</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see NewsletterDelivery
+ * @see com.caribean.goodvybzz.service.NewsletterService
+ */
+@Entity
+@Table(name = "newsletters")
+public class Newsletter {
+
+    public Newsletter() {
+    }
+
+    public Newsletter(String subject, String body, String createdBy) {
+        this.subject = subject;
+        this.body = body;
+        this.createdBy = createdBy;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(LocalDateTime completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public boolean isRecipientsReady() {
+        return recipientsReady;
+    }
+
+    public Long getLastMemberId() {
+        return lastMemberId;
+    }
+
+    public int getTotalRecipients() {
+        return totalRecipients;
+    }
+
+    public int getSentCount() {
+        return sentCount;
+    }
+
+    public int getFailedCount() {
+        return failedCount;
+    }
+
+    /**
+     * Calcule le débit moyen d'envoi depuis le début de la diffusion.
+     *
+     * @return le nombre de messages envoyés par seconde
+     */
+    public double getThroughput() {
+        LocalDateTime end = completedAt != null ? completedAt : LocalDateTime.now();
+        long millis = Math.max(1000, Duration.between(startedAt, end).toMillis());
+        return sentCount * 1000.0 / millis;
+    }
+
+    /**
+     * Initialise la date de début de diffusion.
+     */
+    @PrePersist
+    protected void onCreate() {
+        startedAt = LocalDateTime.now();
+    }
+
+    /**
+     * Identifiant unique de la lettre (généré automatiquement).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Objet du message (modèle).
+     */
+    @Column(nullable = false, length = 200)
+    private String subject;
+
+    /**
+     * Corps du message en texte brut (modèle).
+     */
+    @Column(nullable = false, length = 10000)
+    private String body;
+
+    /**
+     * Nom de l'administrateur ayant lancé l'envoi.
+     */
+    @Column(name = "created_by", length = 100)
+    private String createdBy;
+
+    /**
+     * Statut de la diffusion.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.RUNNING;
+
+    /**
+     * Date et heure de début de la diffusion.
+     */
+    @Column(name = "started_at", nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+
+    /**
+     * Date et heure de fin de la diffusion.
+     */
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * Indique si la liste des destinataires est complète.
+     */
+    @Column(name = "recipients_ready", nullable = false)
+    private boolean recipientsReady;
+
+    /**
+     * Dernier membre ajouté aux destinataires (curseur de reprise).
+     */
+    @Column(name = "last_member_id")
+    private Long lastMemberId;
+
+    /**
+     * Nombre de destinataires.
+     */
+    @Column(name = "total_recipients", nullable = false)
+    private int totalRecipients;
+
+    /**
+     * Nombre de messages envoyés.
+     */
+    @Column(name = "sent_count", nullable = false)
+    private int sentCount;
+
+    /**
+     * Nombre de destinataires abandonnés après échecs répétés.
+     */
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    /**
+     * Énumération des statuts de diffusion.
+     */
+    public enum Status {
+        /** Diffusion en cours (reprise automatiquement au redémarrage) */
+        RUNNING,
+        /** Tous les destinataires ont été traités */
+        COMPLETED,
+        /** Diffusion interrompue par un administrateur */
+        CANCELLED
+    }
+}
@@ -0,0 +1,146 @@
+package com.caribean.goodvybzz.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entité représentant l'envoi d'une lettre d'information à un destinataire.
+ *
+ * <p>Les coordonnées du membre sont figées au lancement de la diffusion: l'envoi
+ * n'a plus besoin de relire la table des membres. Ces lignes sont écrites et
+ * mises à jour par lots (JDBC) par {@link com.caribean.goodvybzz.service.NewsletterService}.</p>
+ *
+ * <p><strong>Attributs principaux:</strong></p>
+ * <ul>
+ *   <li>Lettre et membre concernés (un seul envoi par membre et par lettre)</li>
+ *   <li>Email, prénom et nom du destinataire</li>
+ *   <li>Statut, nombre de tentatives, date d'envoi et dernière erreur</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see Newsletter
+ * @see com.caribean.goodvybzz.repository.NewsletterDeliveryRepository
+ */
+@Entity
+@Table(name = "newsletter_deliveries",
+       uniqueConstraints = @UniqueConstraint(name = "uk_newsletter_deliveries_member",
+               columnNames = {"newsletter_id", "member_id"}),
+       indexes = @Index(name = "idx_newsletter_deliveries_pending", columnList = "newsletter_id, status, id"))
+public class NewsletterDelivery {
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getNewsletterId() {
+        return newsletterId;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getSentAt() {
+        return sentAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    /**
+     * Identifiant unique de l'envoi (généré automatiquement).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Lettre d'information concernée.
+     */
+    @Column(name = "newsletter_id", nullable = false)
+    private Long newsletterId;
+
+    /**
+     * Membre destinataire.
+     */
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    /**
+     * Adresse email du destinataire.
+     */
+    @Column(nullable = false, length = 150)
+    private String email;
+
+    /**
+     * Prénom du destinataire.
+     */
+    @Column(name = "first_name", length = 100)
+    private String firstName;
+
+    /**
+     * Nom du destinataire.
+     */
+    @Column(name = "last_name", length = 100)
+    private String lastName;
+
+    /**
+     * Statut de l'envoi.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    /**
+     * Nombre de tentatives effectuées.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * Date et heure d'envoi effectif.
+     */
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /**
+     * Message de la dernière erreur d'envoi.
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * Énumération des statuts d'envoi.
+     */
+    public enum Status {
+        /** À envoyer (ou à retenter) */
+        PENDING,
+        /** Message accepté par le serveur SMTP */
+        SENT,
+        /** Abandonné après le nombre maximal de tentatives */
+        FAILED
+    }
+}
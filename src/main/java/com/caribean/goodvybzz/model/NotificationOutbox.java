@@ -0,0 +1,187 @@
+package com.caribean.goodvybzz.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entité représentant une notification d'administration en attente d'envoi (outbox).
+ *
+ * <p>Une ligne est écrite dans la même transaction que l'inscription ou le message
+ * qu'elle signale: la notification existe si et seulement si la donnée a été
+ * enregistrée. L'envoi est ensuite fait en arrière-plan, regroupé en résumés,
+ * sans jamais retarder la requête du visiteur.</p>
+ *
+ * <p><strong>Attributs principaux:</strong></p>
+ * <ul>
+ *   <li>Type d'événement et identifiant de la donnée concernée</li>
+ *   <li>Résumé d'une ligne repris dans le message envoyé</li>
+ *   <li>Prochaine tentative et bail de traitement (réservation par un nœud)</li>
+ *   <li>Nombre de tentatives, dernière erreur et statut</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.repository.NotificationOutboxRepository
+ * @see com.caribean.goodvybzz.service.NotificationDispatcher
+ */
+@Entity
+@Table(name = "notification_outbox",
+       indexes = @Index(name = "idx_notification_outbox_due", columnList = "status, next_attempt_at"))
+public class NotificationOutbox {
+
+    public NotificationOutbox() {
+    }
+
+    public NotificationOutbox(Type type, Long referenceId, String summary, LocalDateTime createdAt,
+                              LocalDateTime nextAttemptAt) {
+        this.type = type;
+        this.referenceId = referenceId;
+        this.summary = summary;
+        this.createdAt = createdAt;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public Long getReferenceId() {
+        return referenceId;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public LocalDateTime getLockedUntil() {
+        return lockedUntil;
+    }
+
+    public void setLockedUntil(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    /**
+     * Identifiant unique de la notification (généré automatiquement).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Type d'événement signalé.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Type type;
+
+    /**
+     * Identifiant du membre ou du message concerné.
+     */
+    @Column(name = "reference_id")
+    private Long referenceId;
+
+    /**
+     * Résumé d'une ligne repris dans le message envoyé.
+     */
+    @Column(nullable = false, length = 500)
+    private String summary;
+
+    /**
+     * Date et heure de l'événement.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Date à partir de laquelle la notification peut être envoyée.
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Fin du bail du nœud qui traite la notification (nul si elle est libre).
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /**
+     * Nombre de tentatives d'envoi échouées.
+     */
+    @Column(nullable = false)
+    private int attempts;
+
+    /**
+     * Statut de la notification.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    /**
+     * Message de la dernière erreur d'envoi.
+     */
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * Énumération des types de notification.
+     */
+    public enum Type {
+        /** Nouvelle inscription d'un membre */
+        MEMBER_REGISTERED,
+        /** Nouveau message de contact */
+        CONTACT_RECEIVED
+    }
+
+    /**
+     * Énumération des statuts de notification.
+     */
+    public enum Status {
+        /** En attente d'envoi (ou d'une nouvelle tentative) */
+        PENDING,
+        /** Abandonnée après le nombre maximal de tentatives */
+        FAILED
+    }
+}
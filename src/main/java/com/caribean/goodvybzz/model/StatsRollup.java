@@ -0,0 +1,150 @@
+package com.caribean.goodvybzz.model;
+
+import jakarta.persistence.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * Entité représentant un compteur pré-agrégé (rollup) pour les statistiques.
+ *
+ * <p>Chaque ligne contient le nombre d'inscriptions ou de messages de contact
+ * pour une période (jour, semaine ou mois) et une dimension (statut du membre,
+ * ou {@link #ALL} pour les messages). Les graphiques lisent uniquement ces lignes:
+ * trois ans par mois ne représentent que quelques dizaines de lignes, quel que
+ * soit le volume de données brutes.</p>
+ *
+ * <p><strong>Maintenance:</strong></p>
+ * <ul>
+ *   <li>Incrémentale, dans la même transaction que l'inscription, le changement
+ *       de statut ou la suppression</li>
+ *   <li>Reconstruction complète possible à partir des données brutes (backfill)</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.repository.StatsRollupRepository
+ * @see com.caribean.goodvybzz.service.StatsRollupService
+ */
+@Entity
+@Table(name = "stats_rollups",
+       uniqueConstraints = @UniqueConstraint(name = "uk_stats_rollups_bucket",
+               columnNames = {"metric", "granularity", "bucket_start", "dimension"}))
+public class StatsRollup {
+
+    /**
+     * Dimension utilisée lorsque la métrique n'est pas ventilée.
+     */
+    public static final String ALL = "ALL";
+
+    public StatsRollup() {
+    }
+
+    public StatsRollup(Metric metric, Granularity granularity, LocalDate bucketStart, String dimension, long total) {
+        this.metric = metric;
+        this.granularity = granularity;
+        this.bucketStart = bucketStart;
+        this.dimension = dimension;
+        this.total = total;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Metric getMetric() {
+        return metric;
+    }
+
+    public Granularity getGranularity() {
+        return granularity;
+    }
+
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    public String getDimension() {
+        return dimension;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * Identifiant unique du compteur (généré automatiquement).
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Métrique comptée (inscriptions ou messages).
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private Metric metric;
+
+    /**
+     * Granularité de la période (jour, semaine, mois).
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Granularity granularity;
+
+    /**
+     * Premier jour de la période (lundi pour une semaine, 1er pour un mois).
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    /**
+     * Dimension de ventilation: nom du statut du membre, ou {@link #ALL}.
+     */
+    @Column(nullable = false, length = 30)
+    private String dimension;
+
+    /**
+     * Valeur du compteur pour la période et la dimension.
+     */
+    @Column(nullable = false)
+    private long total;
+
+    /**
+     * Énumération des métriques pré-agrégées.
+     */
+    public enum Metric {
+        /** Inscriptions de membres, ventilées par statut */
+        MEMBER_REGISTRATIONS,
+        /** Messages de contact reçus */
+        CONTACTS
+    }
+
+    /**
+     * Énumération des granularités de période.
+     */
+    public enum Granularity {
+        /** Un jour calendaire */
+        DAY,
+        /** Une semaine ISO (du lundi au dimanche) */
+        WEEK,
+        /** Un mois calendaire */
+        MONTH;
+
+        /**
+         * Calcule le début de la période contenant la date donnée.
+         *
+         * @param date la date à ranger
+         * @return le premier jour de la période
+         */
+        public LocalDate bucketOf(LocalDate date) {
+            return switch (this) {
+                case DAY -> date;
+                case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTH -> date.withDayOfMonth(1);
+            };
+        }
+    }
+}
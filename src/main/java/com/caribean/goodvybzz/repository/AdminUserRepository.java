@@ -1,9 +1,17 @@
 package com.caribean.goodvybzz.repository;
 
+import com.caribean.goodvybzz.dto.AdminCredentials;
 import com.caribean.goodvybzz.model.AdminUser;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,6 +24,7 @@ import java.util.Optional;
  * <ul>
  *   <li>Recherche par nom d'utilisateur</li>
  *   <li>Vérification d'existence par nom d'utilisateur</li>
+ *   <li>Lecture des données d'authentification, hors cache</li>
  * </ul>
  * 
  * <p><strong>Exemple d'utilisation:</strong></p>
@@ -38,12 +47,21 @@ import java.util.Optional;
 @Repository
 public interface AdminUserRepository extends JpaRepository<AdminUser, Long> {
 
+    /** Région du cache de requêtes de {@link #findByUsername(String)}. */
+    String BY_USERNAME_REGION = "admin-users-by-username";
+
     /**
      * Recherche un administrateur par son nom d'utilisateur.
      * 
+     * <p>Résultat conservé dans le cache de requêtes (région {@code admin-users-by-username}).</p>
+     * 
      * @param username le nom d'utilisateur à rechercher
      * @return un Optional contenant l'administrateur s'il existe
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = BY_USERNAME_REGION)
+    })
     Optional<AdminUser> findByUsername(String username);
 
     /**
@@ -53,4 +71,22 @@ public interface AdminUserRepository extends JpaRepository<AdminUser, Long> {
      * @return true si un administrateur existe avec ce nom, false sinon
      */
     boolean existsByUsername(String username);
+
+    /**
+     * Lit les données d'authentification de plusieurs administrateurs, sans passer
+     * par le cache de second niveau.
+     *
+     * @param usernames les noms d'utilisateur
+     * @return les données des administrateurs existants
+     */
+    @Query("select new com.caribean.goodvybzz.dto.AdminCredentials(a.username, a.password, a.isActive, a.role) " +
+           "from AdminUser a where a.username in :usernames")
+    List<AdminCredentials> findCredentials(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * Liste les administrateurs par nom d'utilisateur.
+     *
+     * @return les administrateurs triés par nom d'utilisateur
+     */
+    List<AdminUser> findAllByOrderByUsernameAsc();
 }
@@ -0,0 +1,49 @@
+package com.caribean.goodvybzz.repository;
+
+import com.caribean.goodvybzz.model.ArchivedContact;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository pour l'accès aux messages de contact archivés.
+ *
+ * <p>Les lignes sont écrites par {@link com.caribean.goodvybzz.service.ContactArchiveService}
+ * en JDBC; ce repository ne sert qu'à les lire.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see ArchivedContact
+ * @see ContactRepository
+ */
+@Repository
+public interface ArchivedContactRepository extends JpaRepository<ArchivedContact, Long> {
+
+    /**
+     * Recherche les messages archivés dont le nom, l'email, le sujet ou le contenu
+     * contient le motif donné, du plus récent au plus ancien.
+     *
+     * @param pattern le motif {@code LIKE}, en minuscules (ex. {@code %concert%})
+     * @param pageable la limite du nombre de résultats
+     * @return les messages archivés correspondants
+     */
+    @Query("select a from ArchivedContact a " +
+           "where lower(a.name) like :pattern escape '\\' or lower(a.email) like :pattern escape '\\' " +
+           "or lower(a.subject) like :pattern escape '\\' or lower(a.message) like :pattern escape '\\' " +
+           "order by a.receivedDate desc")
+    List<ArchivedContact> search(@Param("pattern") String pattern, Pageable pageable);
+
+    /**
+     * Compte les messages archivés par jour de réception.
+     * Utilisé uniquement pour reconstruire les statistiques pré-agrégées.
+     *
+     * @return des lignes [LocalDate jour, Long nombre]
+     */
+    @Query("select cast(a.receivedDate as LocalDate), count(a) from ArchivedContact a " +
+           "group by cast(a.receivedDate as LocalDate)")
+    List<Object[]> countByReceivedDay();
+}
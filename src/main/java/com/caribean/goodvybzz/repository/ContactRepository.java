@@ -1,9 +1,14 @@
 package com.caribean.goodvybzz.repository;
 
 import com.caribean.goodvybzz.model.Contact;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,6 +22,7 @@ import java.util.List;
  *   <li>Recherche par statut de lecture</li>
  *   <li>Recherche par email</li>
  *   <li>Comptage des messages non lus</li>
+ *   <li>Séparation boîte de réception / messages indésirables</li>
  *   <li>Tri par date de réception</li>
  * </ul>
  * 
@@ -26,10 +32,10 @@ import java.util.List;
  * private ContactRepository contactRepository;
  * 
  * // Obtenir tous les messages non lus
- * List<Contact> unreadMessages = contactRepository.findByIsReadFalseOrderByReceivedDateDesc();
+ * List<Contact> unreadMessages = contactRepository.findByIsReadFalseAndIsSpamFalseOrderByReceivedDateDesc();
  * 
  * // Compter les messages non lus
- * long unreadCount = contactRepository.countByIsReadFalse();
+ * long unreadCount = contactRepository.countByIsReadFalseAndIsSpamFalse();
  * 
  * // Rechercher les messages d'un email
  * List<Contact> userMessages = contactRepository.findByEmail("example@email.com");
@@ -44,32 +50,134 @@ import java.util.List;
 public interface ContactRepository extends JpaRepository<Contact, Long> {
 
     /**
-     * Recherche tous les messages non lus, triés par date décroissante.
+     * Recherche tous les messages non lus (hors indésirables), triés par date décroissante.
      * 
      * @return la liste des messages non lus, du plus récent au plus ancien
      */
-    List<Contact> findByIsReadFalseOrderByReceivedDateDesc();
+    List<Contact> findByIsReadFalseAndIsSpamFalseOrderByReceivedDateDesc();
 
     /**
-     * Recherche tous les messages lus, triés par date décroissante.
+     * Recherche tous les messages lus (hors indésirables), triés par date décroissante.
      * 
      * @return la liste des messages lus, du plus récent au plus ancien
      */
-    List<Contact> findByIsReadTrueOrderByReceivedDateDesc();
+    List<Contact> findByIsReadTrueAndIsSpamFalseOrderByReceivedDateDesc();
 
     /**
-     * Recherche tous les messages triés par date décroissante.
+     * Recherche tous les messages (hors indésirables) triés par date décroissante.
      * 
-     * @return la liste de tous les messages, du plus récent au plus ancien
+     * @return la liste des messages de la boîte de réception, du plus récent au plus ancien
      */
-    List<Contact> findAllByOrderByReceivedDateDesc();
+    List<Contact> findByIsSpamFalseOrderByReceivedDateDesc();
 
     /**
-     * Compte le nombre de messages non lus.
+     * Recherche les messages indésirables triés par date décroissante.
+     * 
+     * @return la liste des messages indésirables, du plus récent au plus ancien
+     */
+    List<Contact> findByIsSpamTrueOrderByReceivedDateDesc();
+
+    /**
+     * Compte le nombre de messages non lus (hors indésirables).
      * 
      * @return le nombre de messages non lus
      */
-    long countByIsReadFalse();
+    long countByIsReadFalseAndIsSpamFalse();
+
+    /**
+     * Compte les messages de la boîte de réception ou les messages indésirables.
+     * 
+     * @param spam true pour compter les messages indésirables
+     * @return le nombre de messages
+     */
+    long countByIsSpam(boolean spam);
+
+    /**
+     * Recherche les messages pouvant servir à l'apprentissage du filtre anti-spam:
+     * classés par un administrateur, ou lus sans avoir été signalés.
+     * 
+     * @param pageable la limite du nombre de messages (les plus récents d'abord)
+     * @return les messages d'apprentissage
+     */
+    @Query("select c from Contact c where c.spamReviewed = true or (c.isRead = true and c.isSpam = false) " +
+           "order by c.receivedDate desc")
+    List<Contact> findTrainingMessages(Pageable pageable);
+
+    /**
+     * Enregistre le résultat de l'analyse automatique, sauf si un administrateur
+     * a déjà classé le message.
+     * 
+     * @param id l'ID du message
+     * @param score la probabilité que le message soit indésirable (null si non calculable)
+     * @param spam le classement retenu
+     * @return le nombre de lignes modifiées
+     */
+    @Modifying
+    @Query("update Contact c set c.spamScore = :score, c.isSpam = :spam, c.version = c.version + 1 " +
+           "where c.id = :id and c.spamReviewed = false")
+    int updateSpamScore(@Param("id") Long id, @Param("score") Double score, @Param("spam") boolean spam);
+
+    /**
+     * Inverse le statut lu/non lu d'un message en une seule requête: deux bascules
+     * simultanées s'appliquent l'une après l'autre, aucune n'est perdue.
+     *
+     * @param id l'ID du message
+     * @return 1 si le message a été modifié, 0 s'il n'existe pas
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Contact c set c.isRead = case when c.isRead = true then false else true end, " +
+           "c.version = c.version + 1 where c.id = :id")
+    int toggleRead(@Param("id") Long id);
+
+    /**
+     * Marque un message comme lu ou non lu s'il ne l'est pas déjà.
+     *
+     * @param id l'ID du message
+     * @param read le nouveau statut de lecture
+     * @return 1 si le statut a changé, 0 sinon
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Contact c set c.isRead = :read, c.version = c.version + 1 " +
+           "where c.id = :id and c.isRead <> :read")
+    int updateRead(@Param("id") Long id, @Param("read") boolean read);
+
+    /**
+     * Enregistre le classement d'un administrateur si le message n'a pas été
+     * modifié depuis sa lecture (version inchangée).
+     *
+     * @param id l'ID du message
+     * @param spam le classement retenu
+     * @param version la version lue
+     * @return 1 si le classement a été enregistré, 0 si le message a changé entre-temps
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Contact c set c.isSpam = :spam, c.spamReviewed = true, c.version = c.version + 1 " +
+           "where c.id = :id and c.version = :version")
+    int review(@Param("id") Long id, @Param("spam") boolean spam, @Param("version") Long version);
+
+    /**
+     * Filtre, parmi les IDs donnés, ceux des messages classés indésirables.
+     * 
+     * @param ids les IDs à vérifier
+     * @return les IDs des messages indésirables
+     */
+    @Query("select c.id from Contact c where c.id in :ids and c.isSpam = true")
+    List<Long> findSpamIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Recherche les messages dont le nom, l'email, le sujet ou le contenu contient
+     * le motif donné, du plus récent au plus ancien.
+     * 
+     * @param pattern le motif {@code LIKE}, en minuscules (ex. {@code %concert%})
+     * @param pageable la limite du nombre de résultats
+     * @return les messages correspondants
+     * @see ArchivedContactRepository#search(String, Pageable)
+     */
+    @Query("select c from Contact c " +
+           "where lower(c.name) like :pattern escape '\\' or lower(c.email) like :pattern escape '\\' " +
+           "or lower(c.subject) like :pattern escape '\\' or lower(c.message) like :pattern escape '\\' " +
+           "order by c.receivedDate desc")
+    List<Contact> search(@Param("pattern") String pattern, Pageable pageable);
 
     /**
      * Recherche tous les messages d'une adresse email donnée.
@@ -78,4 +186,14 @@ public interface ContactRepository extends JpaRepository<Contact, Long> {
      * @return la liste des messages de cet email
      */
     List<Contact> findByEmail(String email);
+
+    /**
+     * Compte les messages reçus par jour directement en base.
+     * Utilisé uniquement pour reconstruire les statistiques pré-agrégées.
+     * 
+     * @return des lignes [LocalDate jour, Long nombre]
+     */
+    @Query("select cast(c.receivedDate as LocalDate), count(c) from Contact c " +
+           "group by cast(c.receivedDate as LocalDate)")
+    List<Object[]> countByReceivedDay();
 }
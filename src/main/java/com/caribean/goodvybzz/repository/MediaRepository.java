@@ -2,7 +2,13 @@ package com.caribean.goodvybzz.repository;
 
 import com.caribean.goodvybzz.model.Media;
 import com.caribean.goodvybzz.model.Media.MediaType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -21,6 +27,9 @@ import java.util.List;
  *   <li>Comptage par type</li>
  * </ul>
  * 
+ * <p>Les listes de médias publiés sont conservées dans le cache de requêtes d'Hibernate
+ * (région {@code published-media}); toute écriture sur la table {@code media} les invalide.</p>
+ * 
  * <p><strong>Exemple d'utilisation:</strong></p>
  * <pre>{@code
  * @Autowired
@@ -49,6 +58,10 @@ public interface MediaRepository extends JpaRepository<Media, Long> {
      * 
      * @return la liste des médias publiés, triés par displayOrder
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "published-media")
+    })
     List<Media> findByIsPublishedTrueOrderByDisplayOrder();
 
     /**
@@ -57,6 +70,10 @@ public interface MediaRepository extends JpaRepository<Media, Long> {
      * @param type le type de média (PHOTO ou VIDEO)
      * @return la liste des médias du type demandé, triés par displayOrder
      */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "published-media")
+    })
     List<Media> findByTypeAndIsPublishedTrueOrderByDisplayOrder(MediaType type);
 
     /**
@@ -81,4 +98,18 @@ public interface MediaRepository extends JpaRepository<Media, Long> {
      * @return le nombre de médias publiés
      */
     long countByIsPublishedTrue();
+
+    /**
+     * Publie ou dépublie un média s'il n'a pas déjà ce statut, en une seule requête.
+     * La région {@code media} du cache de second niveau et les listes de médias
+     * publiés en cache sont invalidées par Hibernate.
+     *
+     * @param id l'ID du média
+     * @param published le nouveau statut de publication
+     * @return 1 si le statut a changé, 0 sinon
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Media m set m.isPublished = :published, m.version = m.version + 1 " +
+           "where m.id = :id and m.isPublished <> :published")
+    int updatePublished(@Param("id") Long id, @Param("published") boolean published);
 }
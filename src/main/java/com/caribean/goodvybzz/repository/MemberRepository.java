@@ -2,7 +2,11 @@ package com.caribean.goodvybzz.repository;
 
 import com.caribean.goodvybzz.model.Member;
 import com.caribean.goodvybzz.model.Member.MemberStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -61,6 +65,17 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     List<Member> findByStatus(MemberStatus status);
 
+    /**
+     * Recherche la page de membres d'un statut donné suivant un curseur (ID croissant).
+     * Permet de parcourir tous les membres sans les charger en mémoire ni utiliser d'OFFSET.
+     * 
+     * @param status le statut à rechercher
+     * @param afterId l'ID du dernier membre de la page précédente (0 pour la première)
+     * @param pageable la taille de la page
+     * @return les membres suivants, par ID croissant
+     */
+    List<Member> findByStatusAndIdGreaterThanOrderByIdAsc(MemberStatus status, Long afterId, Pageable pageable);
+
     /**
      * Compte le nombre de membres ayant un statut donné.
      * 
@@ -76,4 +91,39 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      * @return true si un membre existe avec cet email, false sinon
      */
     boolean existsByEmail(String email);
+
+    /**
+     * Change le statut d'un membre seulement s'il a toujours le statut attendu,
+     * en une seule requête: de deux administrateurs agissant en même temps, un seul
+     * voit sa transition appliquée.
+     *
+     * @param id l'ID du membre
+     * @param expected le statut attendu
+     * @param status le nouveau statut
+     * @return 1 si le statut a changé, 0 sinon
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("update Member m set m.status = :status, m.version = m.version + 1 " +
+           "where m.id = :id and m.status = :expected")
+    int transition(@Param("id") Long id, @Param("expected") MemberStatus expected,
+                   @Param("status") MemberStatus status);
+
+    /**
+     * Compte les inscriptions par jour et par statut directement en base.
+     * Utilisé uniquement pour reconstruire les statistiques pré-agrégées.
+     * 
+     * @return des lignes [LocalDate jour, MemberStatus statut, Long nombre]
+     */
+    @Query("select cast(m.registrationDate as LocalDate), m.status, count(m) from Member m " +
+           "group by cast(m.registrationDate as LocalDate), m.status")
+    List<Object[]> countRegistrationsByDayAndStatus();
+
+    /**
+     * Retourne les emails de tous les membres.
+     * Utilisé uniquement pour reconstruire le filtre des emails au démarrage.
+     * 
+     * @return la liste des emails
+     */
+    @Query("select m.email from Member m")
+    List<String> findAllEmails();
 }
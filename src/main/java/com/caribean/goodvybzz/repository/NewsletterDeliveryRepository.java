@@ -0,0 +1,49 @@
+package com.caribean.goodvybzz.repository;
+
+import com.caribean.goodvybzz.model.NewsletterDelivery;
+import com.caribean.goodvybzz.model.NewsletterDelivery.Status;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository pour l'accès aux envois de lettres d'information.
+ *
+ * <p><strong>Méthodes disponibles:</strong></p>
+ * <ul>
+ *   <li>Parcours par curseur (ID croissant) des envois d'un statut donné</li>
+ *   <li>Vérification des envois restants</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see NewsletterDelivery
+ * @see com.caribean.goodvybzz.service.NewsletterService
+ */
+@Repository
+public interface NewsletterDeliveryRepository extends JpaRepository<NewsletterDelivery, Long> {
+
+    /**
+     * Recherche la page d'envois suivant un curseur, sans OFFSET: le coût d'une page
+     * ne dépend pas de sa position dans la diffusion.
+     *
+     * @param newsletterId l'ID de la diffusion
+     * @param status le statut recherché
+     * @param afterId l'ID du dernier envoi de la page précédente (0 pour la première)
+     * @param pageable la taille de la page
+     * @return les envois suivants, par ID croissant
+     */
+    List<NewsletterDelivery> findByNewsletterIdAndStatusAndIdGreaterThanOrderByIdAsc(
+            Long newsletterId, Status status, Long afterId, Pageable pageable);
+
+    /**
+     * Vérifie s'il reste des envois d'un statut donné.
+     *
+     * @param newsletterId l'ID de la diffusion
+     * @param status le statut recherché
+     * @return true s'il en reste au moins un
+     */
+    boolean existsByNewsletterIdAndStatus(Long newsletterId, Status status);
+}
@@ -0,0 +1,94 @@
+package com.caribean.goodvybzz.repository;
+
+import com.caribean.goodvybzz.model.Newsletter;
+import com.caribean.goodvybzz.model.Newsletter.Status;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository pour l'accès aux lettres d'information.
+ *
+ * <p><strong>Méthodes disponibles:</strong></p>
+ * <ul>
+ *   <li>Liste des diffusions, les plus récentes d'abord</li>
+ *   <li>Recherche par statut (reprise des diffusions en cours)</li>
+ *   <li>Mise à jour atomique du curseur et des compteurs de progression</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see Newsletter
+ * @see com.caribean.goodvybzz.service.NewsletterService
+ */
+@Repository
+public interface NewsletterRepository extends JpaRepository<Newsletter, Long> {
+
+    /**
+     * Recherche toutes les diffusions, les plus récentes d'abord.
+     *
+     * @return la liste des diffusions
+     */
+    List<Newsletter> findAllByOrderByStartedAtDesc();
+
+    /**
+     * Recherche les diffusions d'un statut donné.
+     *
+     * @param status le statut recherché
+     * @return la liste des diffusions
+     */
+    List<Newsletter> findByStatus(Status status);
+
+    /**
+     * Ajoute une page de destinataires et avance le curseur de reprise.
+     *
+     * @param id l'ID de la diffusion
+     * @param count le nombre de destinataires ajoutés
+     * @param lastMemberId l'ID du dernier membre ajouté
+     */
+    @Modifying
+    @Query("update Newsletter n set n.totalRecipients = n.totalRecipients + :count, " +
+           "n.lastMemberId = :lastMemberId where n.id = :id")
+    void addRecipients(@Param("id") Long id, @Param("count") int count, @Param("lastMemberId") Long lastMemberId);
+
+    /**
+     * Marque la liste des destinataires comme complète.
+     *
+     * @param id l'ID de la diffusion
+     */
+    @Modifying
+    @Query("update Newsletter n set n.recipientsReady = true where n.id = :id")
+    void markRecipientsReady(@Param("id") Long id);
+
+    /**
+     * Ajoute le résultat d'une page d'envois aux compteurs.
+     *
+     * @param id l'ID de la diffusion
+     * @param sent le nombre de messages envoyés
+     * @param failed le nombre de destinataires abandonnés
+     */
+    @Modifying
+    @Query("update Newsletter n set n.sentCount = n.sentCount + :sent, n.failedCount = n.failedCount + :failed " +
+           "where n.id = :id")
+    void addProgress(@Param("id") Long id, @Param("sent") int sent, @Param("failed") int failed);
+
+    /**
+     * Change le statut d'une diffusion seulement si elle a toujours le statut attendu.
+     *
+     * @param id l'ID de la diffusion
+     * @param expected le statut attendu
+     * @param status le nouveau statut
+     * @param completedAt la date de fin
+     * @return 1 si le statut a changé, 0 sinon
+     */
+    @Modifying
+    @Query("update Newsletter n set n.status = :status, n.completedAt = :completedAt " +
+           "where n.id = :id and n.status = :expected")
+    int transition(@Param("id") Long id, @Param("expected") Status expected,
+                   @Param("status") Status status, @Param("completedAt") LocalDateTime completedAt);
+}
@@ -0,0 +1,52 @@
+package com.caribean.goodvybzz.repository;
+
+import com.caribean.goodvybzz.model.NotificationOutbox;
+import com.caribean.goodvybzz.model.NotificationOutbox.Status;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository pour l'accès aux notifications en attente d'envoi.
+ *
+ * <p><strong>Méthodes disponibles:</strong></p>
+ * <ul>
+ *   <li>Réservation des notifications dues, sans attendre les lignes déjà verrouillées</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see NotificationOutbox
+ * @see com.caribean.goodvybzz.service.NotificationOutboxService
+ */
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * Verrouille les notifications dues et libres, par ordre d'arrivée.
+     *
+     * <p>Les lignes déjà verrouillées par un autre nœud sont ignorées
+     * ({@code SKIP LOCKED}, délai de verrouillage -2) au lieu d'être attendues.</p>
+     *
+     * @param status le statut recherché (en attente)
+     * @param now la date courante
+     * @param pageable le nombre maximal de lignes
+     * @return les notifications verrouillées pour la transaction courante
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select n from NotificationOutbox n where n.status = :status and n.nextAttemptAt <= :now " +
+           "and (n.lockedUntil is null or n.lockedUntil < :now) order by n.id")
+    List<NotificationOutbox> findClaimable(@Param("status") Status status,
+                                           @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+}
@@ -0,0 +1,72 @@
+package com.caribean.goodvybzz.repository;
+
+import com.caribean.goodvybzz.model.StatsRollup;
+import com.caribean.goodvybzz.model.StatsRollup.Granularity;
+import com.caribean.goodvybzz.model.StatsRollup.Metric;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository pour l'accès aux compteurs statistiques pré-agrégés.
+ *
+ * <p><strong>Méthodes disponibles:</strong></p>
+ * <ul>
+ *   <li>Incrément atomique d'un compteur existant</li>
+ *   <li>Lecture d'une série sur une plage de périodes</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see StatsRollup
+ * @see com.caribean.goodvybzz.service.StatsRollupService
+ */
+@Repository
+public interface StatsRollupRepository extends JpaRepository<StatsRollup, Long> {
+
+    /**
+     * Ajoute une valeur à un compteur en une seule instruction SQL.
+     *
+     * @param metric la métrique
+     * @param granularity la granularité
+     * @param bucketStart le début de la période
+     * @param dimension la dimension
+     * @param delta la valeur à ajouter (peut être négative)
+     * @return le nombre de lignes modifiées (0 si le compteur n'existe pas encore)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update StatsRollup r set r.total = r.total + :delta " +
+           "where r.metric = :metric and r.granularity = :granularity " +
+           "and r.bucketStart = :bucketStart and r.dimension = :dimension")
+    int increment(@Param("metric") Metric metric,
+                  @Param("granularity") Granularity granularity,
+                  @Param("bucketStart") LocalDate bucketStart,
+                  @Param("dimension") String dimension,
+                  @Param("delta") long delta);
+
+    /**
+     * Recherche les compteurs d'une métrique sur une plage de périodes, triés chronologiquement.
+     *
+     * @param metric la métrique
+     * @param granularity la granularité
+     * @param from le début de la plage (inclus)
+     * @param to la fin de la plage (incluse)
+     * @return les compteurs de la plage
+     */
+    List<StatsRollup> findByMetricAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(
+            Metric metric, Granularity granularity, LocalDate from, LocalDate to);
+
+    /**
+     * Supprime tous les compteurs d'une métrique (avant reconstruction).
+     *
+     * @param metric la métrique à vider
+     */
+    @Modifying
+    @Query("delete from StatsRollup r where r.metric = :metric")
+    void deleteByMetric(@Param("metric") Metric metric);
+}
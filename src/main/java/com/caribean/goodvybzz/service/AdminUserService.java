@@ -1,21 +1,39 @@
 package com.caribean.goodvybzz.service;
 
+import com.caribean.goodvybzz.dto.AdminCredentials;
+import com.caribean.goodvybzz.event.AdminAccountChangedEvent;
 import com.caribean.goodvybzz.model.AdminUser;
 import com.caribean.goodvybzz.repository.AdminUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service de gestion des utilisateurs administrateurs.
@@ -30,6 +48,20 @@ import java.util.Optional;
  *   <li>Gestion des mots de passe (cryptage BCrypt)</li>
  *   <li>Suivi des connexions</li>
  * </ul>
+ *
+ * <p><strong>Cache des principaux:</strong> les {@link UserDetails} résolus sont conservés
+ * dans un cache borné et limité dans le temps ({@code app.security.user-cache.*}).
+ * {@link #createAdmin}, {@link #changePassword} et {@link #toggleActiveStatus} publient un
+ * {@link AdminAccountChangedEvent}; l'entrée est invalidée après la validation de leur
+ * transaction. Une invalidation attend la fin d'un chargement en cours pour la même clé:
+ * un compte désactivé n'est donc plus jamais servi par ce nœud une fois la désactivation
+ * validée.</p>
+ *
+ * <p><strong>Plusieurs nœuds:</strong> l'événement reste local. Chaque nœud relit donc
+ * en base, toutes les {@code app.security.user-cache.sync-interval-ms}, les comptes qu'il
+ * garde en cache et retire ceux qui ont changé ou disparu. Les principaux sont chargés par
+ * une projection qui ne passe pas par le cache de second niveau: un compte désactivé
+ * depuis un autre nœud est refusé partout au plus tard après cet intervalle.</p>
  * 
  * <p><strong>Exemple d'utilisation:</strong></p>
  * <pre>{@code
@@ -45,6 +77,9 @@ import java.util.Optional;
  * boolean valid = adminUserService.validateCredentials("admin", "password");
  * }</pre>
  * 
+ * <p><strong>Métriques:</strong> {@code app.service} (durée et nombre d'appels de chaque
+ * méthode publique, par classe, méthode et exception levée).</p>
+ * 
  * @author caribean Good Vybzz Development Team
  * @version 1.0.0
  * @see AdminUser
@@ -53,49 +88,130 @@ import java.util.Optional;
 @Service
 //@RequiredArgsConstructor
 //@Slf4j
+@Timed(value = "app.service", description = "Appels des méthodes publiques des services")
 @Transactional
 public class AdminUserService implements UserDetailsService {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(AdminUserService.class);
 
     private final AdminUserRepository adminUserRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<String, UserDetails> principals;
 
-    public AdminUserService(AdminUserRepository adminUserRepository,@Lazy PasswordEncoder passwordEncoder) {
+    public AdminUserService(AdminUserRepository adminUserRepository,
+                            @Lazy PasswordEncoder passwordEncoder,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.security.user-cache.max-size:100}") long maxSize,
+                            @Value("${app.security.user-cache.ttl:5m}") Duration ttl) {
         this.adminUserRepository = adminUserRepository;
         this.passwordEncoder = passwordEncoder;
+        this.eventPublisher = eventPublisher;
+        this.principals = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "adminPrincipals");
     }
 
     /**
      * Charge un utilisateur par son nom d'utilisateur pour l'authentification Spring Security.
+     *
+     * <p>Servi depuis le cache lorsque c'est possible, sans ouvrir de transaction. Une copie
+     * est retournée: Spring Security efface le mot de passe du principal après authentification,
+     * ce qui ne doit pas toucher l'entrée en cache.</p>
      * 
      * @param username le nom d'utilisateur
      * @return les détails de l'utilisateur pour Spring Security
      * @throws UsernameNotFoundException si l'utilisateur n'existe pas
      */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserDetails cached = principals.get(username, this::loadPrincipal);
+        return User.withUserDetails(cached).build();
+    }
+
+    /**
+     * Retire un principal du cache local.
+     *
+     * @param username le nom d'utilisateur
+     */
+    public void evictCachedPrincipal(String username) {
+        principals.invalidate(username);
+        if (log.isDebugEnabled()) {
+            log.debug("Principal retiré du cache: {}", username);
+        }
+    }
+
+    /**
+     * Invalide le principal mis en cache une fois la modification du compte validée.
+     *
+     * @param event l'événement de modification du compte
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAdminAccountChanged(AdminAccountChangedEvent event) {
+        evictCachedPrincipal(event.username());
+    }
+
+    /**
+     * Retire du cache local les principaux dont le compte a changé en base depuis leur
+     * chargement (modification faite sur un autre nœud), ou n'existe plus.
+     */
+    @Scheduled(fixedDelayString = "${app.security.user-cache.sync-interval-ms:10000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void syncCachedPrincipals() {
+        Set<String> usernames = Set.copyOf(principals.asMap().keySet());
+        if (usernames.isEmpty()) {
+            return;
+        }
+
+        Map<String, AdminCredentials> current = adminUserRepository.findCredentials(usernames).stream()
+            .collect(Collectors.toMap(AdminCredentials::username, Function.identity()));
+        for (String username : usernames) {
+            UserDetails cached = principals.getIfPresent(username);
+            if (cached != null && !matches(cached, current.get(username))) {
+                log.info("Compte administrateur {} modifié en base: principal retiré du cache", username);
+                evictCachedPrincipal(username);
+            }
+        }
+    }
+
+    private static boolean matches(UserDetails cached, AdminCredentials credentials) {
+        return credentials != null
+            && Boolean.TRUE.equals(credentials.active())
+            && credentials.password().equals(cached.getPassword())
+            && toPrincipal(credentials).getAuthorities().equals(cached.getAuthorities());
+    }
+
+    private UserDetails loadPrincipal(String username) {
         if (log.isDebugEnabled()) {
             log.debug("Tentative de chargement de l'utilisateur: {}", username);
         }
 
-        AdminUser admin = adminUserRepository.findByUsername(username)
+        AdminCredentials admin = adminUserRepository.findCredentials(List.of(username)).stream()
+            .findFirst()
             .orElseThrow(() -> {
                 log.warn("Utilisateur non trouvé: {}", username);
                 return new UsernameNotFoundException("Utilisateur non trouvé: " + username);
             });
         
-        if (!admin.getActive()) {
+        if (!Boolean.TRUE.equals(admin.active())) {
             log.warn("Tentative de connexion avec un compte inactif: {}", username);
             throw new UsernameNotFoundException("Compte désactivé: " + username);
         }
         
         log.debug("Utilisateur chargé avec succès: {}", username);
         
+        return toPrincipal(admin);
+    }
+
+    private static UserDetails toPrincipal(AdminCredentials admin) {
         return User.builder()
-            .username(admin.getUsername())
-            .password(admin.getPassword())
-            .roles(admin.getRole().name())
+            .username(admin.username())
+            .password(admin.password())
+            .roles(admin.role().name())
             .build();
     }
 
@@ -121,12 +237,16 @@ public class AdminUserService implements UserDetailsService {
         adminUser.setPassword(passwordEncoder.encode(rawPassword));
         
         AdminUser savedAdmin = adminUserRepository.save(adminUser);
+        eventPublisher.publishEvent(new AdminAccountChangedEvent(savedAdmin.getUsername()));
         log.info("Nouvel administrateur créé: {} (ID: {})", savedAdmin.getUsername(), savedAdmin.getId());
         return savedAdmin;
     }
 
     /**
      * Met à jour la date de dernière connexion d'un administrateur.
+     *
+     * <p>Les connexions par le formulaire sont suivies par {@link LastLoginRecorder},
+     * qui regroupe les écritures; cette méthode reste disponible pour une mise à jour immédiate.</p>
      * 
      * @param username le nom d'utilisateur
      */
@@ -160,6 +280,7 @@ public class AdminUserService implements UserDetailsService {
         
         admin.setPassword(passwordEncoder.encode(newRawPassword));
         adminUserRepository.save(admin);
+        eventPublisher.publishEvent(new AdminAccountChangedEvent(admin.getUsername()));
         
         log.info("Mot de passe changé avec succès pour: {}", username);
     }
@@ -180,6 +301,7 @@ public class AdminUserService implements UserDetailsService {
         
         admin.setActive(isActive);
         adminUserRepository.save(admin);
+        eventPublisher.publishEvent(new AdminAccountChangedEvent(admin.getUsername()));
         
         log.info("Statut actif de l'admin {} changé vers {}", id, isActive);
     }
@@ -198,6 +320,16 @@ public class AdminUserService implements UserDetailsService {
         return adminUserRepository.findByUsername(username);
     }
 
+    /**
+     * Récupère tous les administrateurs, triés par nom d'utilisateur.
+     *
+     * @return la liste des administrateurs
+     */
+    @Transactional(readOnly = true)
+    public List<AdminUser> getAllAdmins() {
+        return adminUserRepository.findAllByOrderByUsernameAsc();
+    }
+
     /**
      * Vérifie si au moins un administrateur existe dans le système.
      * Utile pour l'initialisation de l'application.
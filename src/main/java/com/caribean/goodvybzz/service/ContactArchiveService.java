@@ -0,0 +1,225 @@
+package com.caribean.goodvybzz.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Archivage des anciens messages de contact.
+ *
+ * <p>Les messages lus reçus depuis plus de {@code app.contact.archive.min-age} sont
+ * déplacés de la table {@code contacts} vers {@code contacts_archive}: la table des
+ * messages courants, lue par la boîte de réception et ses compteurs, garde une taille
+ * stable d'une année sur l'autre. Les messages archivés restent consultables par la
+ * recherche ({@link ContactService#searchMessages(String)}) et comptent toujours dans
+ * les statistiques.</p>
+ *
+ * <p><strong>Déplacement:</strong></p>
+ * <ul>
+ *   <li>Par lots de {@code batch-size} messages, chacun dans sa propre transaction</li>
+ *   <li>Pause de {@code pause-ms} entre deux lots, pour ne pas monopoliser la base</li>
+ *   <li>Au plus {@code max-batches-per-run} lots par passage; le reste attend le suivant</li>
+ *   <li>Un message modifié entre la sélection et le déplacement (repassé en « non lu »,
+ *       reclassé comme spam...) reste en place: sa version a changé. S'il remplit encore
+ *       les conditions, un lot suivant l'archive avec ses nouvelles valeurs</li>
+ * </ul>
+ *
+ * <p><strong>Métriques:</strong> {@code app.contacts.rows} (lignes par table, {@code hot}
+ * ou {@code archive}) et {@code app.contacts.archived} (messages déplacés).</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.model.ArchivedContact
+ */
+@Service
+public class ContactArchiveService {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(ContactArchiveService.class);
+
+    private static final String SELECT_SQL =
+            "select id, name, email, subject, message, received_date, is_spam, spam_reviewed, spam_score, version " +
+            "from contacts where is_spam = ? and is_read = true and received_date < ? " +
+            "order by received_date limit ?";
+
+    private static final String DELETE_SQL = "delete from contacts where id = ? and version = ? and is_read = true";
+
+    private static final String INSERT_SQL =
+            "insert into contacts_archive (id, name, email, subject, message, received_date, is_read, is_spam, " +
+            "spam_reviewed, spam_score, archive_month, archived_date) " +
+            "values (?, ?, ?, ?, ?, ?, true, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archived;
+    private final AtomicLong hotRows = new AtomicLong();
+    private final AtomicLong archiveRows = new AtomicLong();
+
+    /**
+     * Active l'archivage périodique.
+     */
+    @Value("${app.contact.archive.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Ancienneté minimale (depuis la réception) d'un message lu avant son archivage.
+     */
+    @Value("${app.contact.archive.min-age:180d}")
+    private Duration minAge;
+
+    /**
+     * Nombre de messages déplacés par transaction.
+     */
+    @Value("${app.contact.archive.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Pause entre deux lots.
+     */
+    @Value("${app.contact.archive.pause-ms:200}")
+    private long pauseMs;
+
+    /**
+     * Nombre maximal de lots par passage.
+     */
+    @Value("${app.contact.archive.max-batches-per-run:200}")
+    private int maxBatchesPerRun;
+
+    public ContactArchiveService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archived = Counter.builder("app.contacts.archived")
+                .description("Messages de contact déplacés vers l'archive")
+                .register(meterRegistry);
+        Gauge.builder("app.contacts.rows", hotRows, AtomicLong::get)
+                .description("Nombre de messages de contact, par table")
+                .tag("table", "hot")
+                .register(meterRegistry);
+        Gauge.builder("app.contacts.rows", archiveRows, AtomicLong::get)
+                .description("Nombre de messages de contact, par table")
+                .tag("table", "archive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archive les messages lus dont l'ancienneté dépasse le seuil configuré.
+     */
+    @Scheduled(cron = "${app.contact.archive.cron:0 30 3 * * *}")
+    public void archiveOldMessages() {
+        if (!enabled) {
+            return;
+        }
+        archiveReadMessagesReceivedBefore(LocalDateTime.now().minus(minAge));
+    }
+
+    /**
+     * Déplace vers l'archive les messages lus reçus avant la date donnée.
+     *
+     * @param cutoff la date de réception limite (exclue)
+     * @return le nombre de messages archivés
+     */
+    public int archiveReadMessagesReceivedBefore(LocalDateTime cutoff) {
+        int total = 0;
+        int batches = 0;
+        try {
+            // Une passe par valeur de is_spam: chaque sélection suit l'index (is_spam, is_read, received_date)
+            for (boolean spam : new boolean[] {false, true}) {
+                while (batches < maxBatchesPerRun) {
+                    if (batches > 0) {
+                        Thread.sleep(pauseMs);
+                    }
+                    Batch batch = transactionTemplate.execute(status -> moveBatch(spam, cutoff));
+                    batches++;
+                    total += batch.archived();
+                    if (batch.selected() < batchSize) {
+                        break;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (DataAccessException e) {
+            // Par exemple, un autre nœud archive les mêmes messages au même moment
+            log.warn("Archivage des messages interrompu après {} message(s): {}", total, e.getMessage());
+        }
+        refreshTableSizes();
+        if (total > 0) {
+            log.info("{} message(s) de contact archivé(s) en {} lot(s), reçus avant le {}", total, batches, cutoff);
+        }
+        return total;
+    }
+
+    /**
+     * Met à jour le nombre de lignes de chaque table publié en métrique.
+     */
+    @Scheduled(fixedDelayString = "${app.contact.archive.size-refresh-interval-ms:600000}",
+               initialDelayString = "${app.contact.archive.size-refresh-interval-ms:600000}")
+    public void refreshTableSizes() {
+        try {
+            hotRows.set(count("contacts"));
+            archiveRows.set(count("contacts_archive"));
+        } catch (DataAccessException e) {
+            log.warn("Comptage des messages de contact impossible: {}", e.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onApplicationReady() {
+        refreshTableSizes();
+    }
+
+    private Batch moveBatch(boolean spam, LocalDateTime cutoff) {
+        List<Object[]> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new Object[] {
+                rs.getLong("id"), rs.getString("name"), rs.getString("email"), rs.getString("subject"),
+                rs.getString("message"), rs.getTimestamp("received_date"), rs.getBoolean("is_spam"),
+                rs.getBoolean("spam_reviewed"), rs.getObject("spam_score", Double.class), rs.getLong("version")
+        }, spam, Timestamp.valueOf(cutoff), batchSize);
+        if (rows.isEmpty()) {
+            return new Batch(0, 0);
+        }
+
+        // Suppression d'abord: seuls les messages inchangés depuis la sélection sont recopiés dans l'archive
+        int[] deleted = jdbcTemplate.batchUpdate(DELETE_SQL,
+                rows.stream().map(row -> new Object[] {row[0], row[9]}).toList());
+        Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            if (deleted[i] == 0) {
+                continue;
+            }
+            Object[] row = rows.get(i);
+            LocalDateTime receivedDate = ((Timestamp) row[5]).toLocalDateTime();
+            inserts.add(new Object[] {row[0], row[1], row[2], row[3], row[4], row[5], row[6], row[7], row[8],
+                    java.sql.Date.valueOf(receivedDate.toLocalDate().withDayOfMonth(1)), archivedAt});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        archived.increment(inserts.size());
+        return new Batch(rows.size(), inserts.size());
+    }
+
+    private long count(String table) {
+        Long count = jdbcTemplate.queryForObject("select count(*) from " + table, Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Messages sélectionnés par un lot, et parmi eux ceux effectivement archivés.
+     */
+    private record Batch(int selected, int archived) {
+    }
+}
@@ -1,14 +1,22 @@
 package com.caribean.goodvybzz.service;
 
 import com.caribean.goodvybzz.controller.ContactController;
+import com.caribean.goodvybzz.dto.ContactSearchResult;
+import com.caribean.goodvybzz.dto.ContactView;
+import com.caribean.goodvybzz.event.ContactReceivedEvent;
 import com.caribean.goodvybzz.model.Contact;
+import com.caribean.goodvybzz.repository.ArchivedContactRepository;
 import com.caribean.goodvybzz.repository.ContactRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 /**
@@ -23,6 +31,8 @@ import java.util.Optional;
  *   <li>Marquage des messages comme lus/non lus</li>
  *   <li>Récupération et tri des messages</li>
  *   <li>Comptage des messages non lus</li>
+ *   <li>Classement manuel des messages indésirables (apprentissage du filtre)</li>
+ *   <li>Recherche dans les messages courants et archivés</li>
  * </ul>
  * 
  * <p><strong>Exemple d'utilisation:</strong></p>
@@ -40,6 +50,9 @@ import java.util.Optional;
  * List<Contact> unreadMessages = contactService.getUnreadMessages();
  * }</pre>
  * 
+ * <p><strong>Métriques:</strong> {@code app.service} (durée et nombre d'appels de chaque
+ * méthode publique, par classe, méthode et exception levée).</p>
+ * 
  * @author caribean Good Vybzz Development Team
  * @version 1.0.0
  * @see Contact
@@ -48,19 +61,46 @@ import java.util.Optional;
 @Service
 //@RequiredArgsConstructor
 //@Slf4j
+@Timed(value = "app.service", description = "Appels des méthodes publiques des services")
 @Transactional
 public class ContactService {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(ContactService.class);
 
+    /**
+     * Nombre maximal de résultats d'une recherche, par table.
+     */
+    private static final int SEARCH_LIMIT = 100;
+
+    /**
+     * Nombre de tentatives d'un classement manuel lorsque le message change entre-temps.
+     */
+    private static final int REVIEW_ATTEMPTS = 3;
+
     private final ContactRepository contactRepository;
+    private final ArchivedContactRepository archivedContactRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatsRollupService statsRollupService;
+    private final SpamFilterService spamFilterService;
 
-    public ContactService(ContactRepository contactRepository) {
+    public ContactService(ContactRepository contactRepository,
+                          ArchivedContactRepository archivedContactRepository,
+                          ApplicationEventPublisher eventPublisher,
+                          StatsRollupService statsRollupService,
+                          SpamFilterService spamFilterService) {
         this.contactRepository = contactRepository;
+        this.archivedContactRepository = archivedContactRepository;
+        this.eventPublisher = eventPublisher;
+        this.statsRollupService = statsRollupService;
+        this.spamFilterService = spamFilterService;
     }
 
     /**
      * Enregistre un nouveau message de contact.
      * 
+     * <p>Pour un nouveau message, un {@link ContactReceivedEvent} est publié; après le
+     * commit, le filtre anti-spam l'analyse et seul un message retenu dans la boîte de
+     * réception est relayé au tableau de bord ({@link SpamFilterService}).</p>
+     * 
      * @param contact le message à enregistrer
      * @return le message enregistré avec son ID
      */
@@ -69,22 +109,28 @@ public class ContactService {
             log.debug("Enregistrement d'un nouveau message de contact de: {}", contact.getEmail());
         }
 
+        boolean isNew = contact.getId() == null;
         Contact savedContact = contactRepository.save(contact);
+        if (isNew) {
+            statsRollupService.recordContactReceived(savedContact.getReceivedDate());
+            eventPublisher.publishEvent(ContactReceivedEvent.of(savedContact));
+        }
         log.info("Nouveau message de contact enregistré: {} (ID: {})", savedContact.getEmail(), savedContact.getId());
         return savedContact;
     }
 
     /**
-     * Récupère tous les messages de contact triés par date décroissante.
+     * Récupère tous les messages de la boîte de réception (hors indésirables)
+     * triés par date décroissante.
      * 
-     * @return la liste de tous les messages
+     * @return la liste des messages
      */
     @Transactional(readOnly = true)
     public List<Contact> getAllContacts() {
         if (log.isDebugEnabled()) {
             log.debug("Récupération de tous les messages de contact");
         }
-        return contactRepository.findAllByOrderByReceivedDateDesc();
+        return contactRepository.findByIsSpamFalseOrderByReceivedDateDesc();
     }
 
     /**
@@ -102,7 +148,28 @@ public class ContactService {
     }
 
     /**
-     * Récupère tous les messages non lus triés par date décroissante.
+     * Recherche un texte dans le nom, l'email, le sujet et le contenu des messages,
+     * courants comme archivés.
+     * 
+     * @param query le texte recherché (sans distinction de casse)
+     * @return les messages correspondants, au plus {@value #SEARCH_LIMIT} par table
+     */
+    @Transactional(readOnly = true)
+    public ContactSearchResult searchMessages(String query) {
+        String term = query.trim();
+        if (log.isDebugEnabled()) {
+            log.debug("Recherche dans les messages: {}", term);
+        }
+        String pattern = "%" + term.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+        PageRequest limit = PageRequest.of(0, SEARCH_LIMIT);
+        return new ContactSearchResult(term,
+                contactRepository.search(pattern, limit).stream().map(ContactView::from).toList(),
+                archivedContactRepository.search(pattern, limit).stream().map(ContactView::from).toList());
+    }
+
+    /**
+     * Récupère tous les messages non lus (hors indésirables) triés par date décroissante.
      * 
      * @return la liste des messages non lus
      */
@@ -111,54 +178,132 @@ public class ContactService {
         if (log.isDebugEnabled()) {
             log.debug("Récupération des messages non lus");
         }
-        return contactRepository.findByIsReadFalseOrderByReceivedDateDesc();
+        return contactRepository.findByIsReadFalseAndIsSpamFalseOrderByReceivedDateDesc();
     }
 
     /**
-     * Récupère tous les messages lus triés par date décroissante.
+     * Récupère tous les messages lus (hors indésirables) triés par date décroissante.
      * 
      * @return la liste des messages lus
      */
     @Transactional(readOnly = true)
     public List<Contact> getReadMessages() {
         log.debug("Récupération des messages lus");
-        return contactRepository.findByIsReadTrueOrderByReceivedDateDesc();
+        return contactRepository.findByIsReadTrueAndIsSpamFalseOrderByReceivedDateDesc();
+    }
+
+    /**
+     * Récupère les messages classés indésirables triés par date décroissante.
+     * 
+     * @return la liste des messages indésirables
+     */
+    @Transactional(readOnly = true)
+    public List<Contact> getSpamMessages() {
+        log.debug("Récupération des messages indésirables");
+        return contactRepository.findByIsSpamTrueOrderByReceivedDateDesc();
     }
 
     /**
      * Marque un message comme lu.
      * 
      * @param id l'ID du message
+     * @return true si le message était non lu, false s'il était déjà lu
      * @throws IllegalArgumentException si le message n'existe pas
      */
-    public void markAsRead(Long id) {
-        log.debug("Marquage du message {} comme lu", id);
-        
-        Contact contact = contactRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("Message non trouvé avec l'ID: " + id));
-        
-        contact.setRead(true);
-        contactRepository.save(contact);
-        
-        log.info("Message {} marqué comme lu", id);
+    public boolean markAsRead(Long id) {
+        return updateReadStatus(id, true);
     }
 
     /**
      * Marque un message comme non lu.
      * 
      * @param id l'ID du message
+     * @return true si le message était lu, false s'il était déjà non lu
      * @throws IllegalArgumentException si le message n'existe pas
      */
-    public void markAsUnread(Long id) {
-        log.debug("Marquage du message {} comme non lu", id);
-        
+    public boolean markAsUnread(Long id) {
+        return updateReadStatus(id, false);
+    }
+
+    /**
+     * Marque un message comme lu ou non lu, en une seule requête conditionnelle:
+     * deux administrateurs demandant le même statut en même temps ne produisent
+     * qu'une modification.
+     * 
+     * @param id l'ID du message
+     * @param read le statut de lecture voulu
+     * @return true si le statut a changé, false si le message l'avait déjà
+     * @throws IllegalArgumentException si le message n'existe pas
+     */
+    public boolean updateReadStatus(Long id, boolean read) {
+        if (contactRepository.updateRead(id, read) == 0) {
+            if (!contactRepository.existsById(id)) {
+                throw new IllegalArgumentException("Message non trouvé avec l'ID: " + id);
+            }
+            log.debug("Message {} déjà marqué comme {}", id, read ? "lu" : "non lu");
+            return false;
+        }
+        log.info("Message {} marqué comme {}", id, read ? "lu" : "non lu");
+        return true;
+    }
+
+    /**
+     * Bascule le statut lu/non lu d'un message.
+     * 
+     * <p>L'inversion est faite par la base en une seule requête: deux bascules
+     * simultanées s'appliquent toutes les deux, l'une après l'autre.</p>
+     * 
+     * @param id l'ID du message
+     * @return le message mis à jour
+     * @throws IllegalArgumentException si le message n'existe pas
+     */
+    public Contact toggleReadStatus(Long id) {
+        if (contactRepository.toggleRead(id) == 0) {
+            throw new IllegalArgumentException("Message non trouvé avec l'ID: " + id);
+        }
         Contact contact = contactRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Message non trouvé avec l'ID: " + id));
-        
-        contact.setRead(false);
-        contactRepository.save(contact);
-        
-        log.info("Message {} marqué comme non lu", id);
+        if (log.isDebugEnabled()) {
+            log.debug("Message {} marqué comme {}", id, contact.getRead() ? "lu" : "non lu");
+        }
+        return contact;
+    }
+
+    /**
+     * Classe manuellement un message comme indésirable ou légitime.
+     * 
+     * <p>Le classement d'un administrateur est définitif pour l'analyse automatique
+     * et sert à l'apprentissage du filtre une fois la transaction validée.</p>
+     * 
+     * <p>Le classement n'est enregistré que si le message n'a pas changé depuis sa
+     * lecture (version): sinon, il est relu et le classement réévalué. Le filtre
+     * n'apprend ainsi qu'une fois le classement effectivement retenu, même si deux
+     * administrateurs classent le message en même temps.</p>
+     * 
+     * @param id l'ID du message
+     * @param spam true pour indésirable, false pour légitime
+     * @return true si le classement a changé, false si le message était déjà ainsi classé
+     * @throws IllegalArgumentException si le message n'existe pas
+     * @throws IllegalStateException si le message est modifié en continu pendant le classement
+     */
+    public boolean markAsSpam(Long id, boolean spam) {
+        for (int attempt = 1; attempt <= REVIEW_ATTEMPTS; attempt++) {
+            Contact contact = contactRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Message non trouvé avec l'ID: " + id));
+
+            Boolean previousReview = Boolean.TRUE.equals(contact.getSpamReviewed()) ? contact.getSpam() : null;
+            if (Boolean.valueOf(spam).equals(previousReview)) {
+                log.debug("Message {} déjà classé {}", id, spam ? "indésirable" : "légitime");
+                return false;
+            }
+            if (contactRepository.review(id, spam, contact.getVersion()) == 1) {
+                spamFilterService.learnAfterCommit(contact, spam, previousReview);
+                log.info("Message {} classé {} par un administrateur", id, spam ? "indésirable" : "légitime");
+                return true;
+            }
+            log.debug("Message {} modifié pendant son classement, nouvelle tentative", id);
+        }
+        throw new IllegalStateException("Message " + id + " modifié simultanément, classement non enregistré");
     }
 
     /**
@@ -169,23 +314,44 @@ public class ContactService {
     public void deleteContact(Long id) {
         log.debug("Suppression du message avec l'ID: {}", id);
         
-        if (!contactRepository.existsById(id)) {
+        Contact contact = contactRepository.findById(id).orElseThrow(() -> {
             log.warn("Tentative de suppression d'un message inexistant: {}", id);
-            throw new IllegalArgumentException("Message non trouvé avec l'ID: " + id);
-        }
+            return new IllegalArgumentException("Message non trouvé avec l'ID: " + id);
+        });
         
-        contactRepository.deleteById(id);
+        contactRepository.delete(contact);
+        statsRollupService.recordContactDeleted(contact.getReceivedDate());
         log.info("Message {} supprimé avec succès", id);
     }
 
     /**
-     * Compte le nombre de messages non lus.
+     * Compte le nombre de messages non lus (hors indésirables).
      * 
      * @return le nombre de messages non lus
      */
     @Transactional(readOnly = true)
     public long countUnreadMessages() {
         log.debug("Comptage des messages non lus");
-        return contactRepository.countByIsReadFalse();
+        return contactRepository.countByIsReadFalseAndIsSpamFalse();
+    }
+
+    /**
+     * Compte le nombre de messages de la boîte de réception (hors indésirables).
+     * 
+     * @return le nombre de messages
+     */
+    @Transactional(readOnly = true)
+    public long countInboxMessages() {
+        return contactRepository.countByIsSpam(false);
+    }
+
+    /**
+     * Compte le nombre de messages classés indésirables.
+     * 
+     * @return le nombre de messages indésirables
+     */
+    @Transactional(readOnly = true)
+    public long countSpamMessages() {
+        return contactRepository.countByIsSpam(true);
     }
 }
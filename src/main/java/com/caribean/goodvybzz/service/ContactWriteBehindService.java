@@ -0,0 +1,326 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.event.ContactReceivedEvent;
+import com.caribean.goodvybzz.model.Contact;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Enregistrement différé (write-behind) des messages du formulaire de contact.
+ *
+ * <p>Lorsque le mode est activé ({@code app.contact.write-behind.enabled=true}), les
+ * messages validés sont déposés dans une file bornée en mémoire et la requête HTTP
+ * se termine sans toucher à la base. Un thread d'écriture unique les insère par lots
+ * JDBC, dès qu'un lot est plein ou que le délai maximal est écoulé: une rafale de
+ * soumissions n'occupe ainsi qu'une seule connexion du pool.</p>
+ *
+ * <p><strong>Garanties:</strong></p>
+ * <ul>
+ *   <li>File pleine: l'appelant attend au plus {@code offer-timeout-ms}, puis la
+ *       soumission est refusée (contre-pression plutôt que saturation mémoire)</li>
+ *   <li>Statistiques et événements du tableau de bord produits après l'insertion du lot,
+ *       dans la même transaction</li>
+ *   <li>Un lot en échec est rejoué message par message pour isoler le message fautif</li>
+ *   <li>À l'arrêt de l'application, la file est vidée avant la fermeture du pool; un
+ *       message accepté pendant l'arrêt est toujours écrit (dépôt et arrêt sous le même verrou)</li>
+ * </ul>
+ *
+ * <p>Désactivé, le service enregistre simplement le message de façon synchrone via
+ * {@link ContactService#saveContact(Contact)}. Les messages encore en file sont perdus
+ * en cas d'arrêt brutal du processus.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see ContactService
+ */
+@Service
+public class ContactWriteBehindService implements SmartLifecycle {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(ContactWriteBehindService.class);
+
+    private static final String INSERT_SQL =
+            "insert into contacts (name, email, subject, message, received_date, is_read) values (?, ?, ?, ?, ?, ?)";
+
+    private final ContactService contactService;
+    private final StatsRollupService statsRollupService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<Contact> queue;
+
+    /**
+     * Partagé par les soumissions (vérification de {@code running} puis dépôt en file),
+     * exclusif pour l'arrêt: aucun message ne peut être déposé une fois la file vidée.
+     */
+    private final ReadWriteLock submissionLock = new ReentrantReadWriteLock();
+
+    /**
+     * Active l'écriture différée; sinon chaque message est enregistré immédiatement.
+     */
+    @Value("${app.contact.write-behind.enabled:false}")
+    private boolean enabled;
+
+    /**
+     * Nombre maximal de messages insérés par lot.
+     */
+    @Value("${app.contact.write-behind.batch-size:100}")
+    private int batchSize;
+
+    /**
+     * Délai maximal entre la réception d'un message et son insertion.
+     */
+    @Value("${app.contact.write-behind.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    /**
+     * Attente maximale d'une place dans la file avant de refuser la soumission.
+     */
+    @Value("${app.contact.write-behind.offer-timeout-ms:200}")
+    private long offerTimeoutMs;
+
+    /**
+     * Attente maximale du vidage de la file à l'arrêt de l'application.
+     */
+    @Value("${app.contact.write-behind.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMs;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public ContactWriteBehindService(ContactService contactService,
+                                     StatsRollupService statsRollupService,
+                                     ApplicationEventPublisher eventPublisher,
+                                     JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${app.contact.write-behind.capacity:10000}") int capacity) {
+        this.contactService = contactService;
+        this.statsRollupService = statsRollupService;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    /**
+     * Soumet un message de contact validé.
+     *
+     * @param contact le message à enregistrer
+     * @throws IllegalStateException si la file reste pleine au-delà du délai d'attente
+     */
+    public void submit(Contact contact) {
+        if (enabled) {
+            submissionLock.readLock().lock();
+            try {
+                if (running) {
+                    enqueue(contact);
+                    return;
+                }
+            } finally {
+                submissionLock.readLock().unlock();
+            }
+        }
+        contactService.saveContact(contact);
+    }
+
+    private void enqueue(Contact contact) {
+        // Le hook @PrePersist n'est pas appelé lors d'une insertion JDBC
+        contact.setReceivedDate(LocalDateTime.now());
+        contact.setRead(false);
+        try {
+            if (!queue.offer(contact, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("File d'écriture des messages saturée ({} en attente), message refusé", queue.size());
+                throw new IllegalStateException("Trop de messages en cours de traitement, veuillez réessayer");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Soumission du message interrompue", e);
+        }
+    }
+
+    /**
+     * Retourne le nombre de messages en attente d'écriture.
+     *
+     * @return la profondeur de la file
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Retourne la capacité de la file d'attente d'écriture.
+     *
+     * @return le nombre maximal de messages en attente
+     */
+    public int getQueueCapacity() {
+        return queue.size() + queue.remainingCapacity();
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::writeLoop, "contact-writer");
+        writer.start();
+        log.info("Écriture différée des messages de contact activée (lots de {}, {} ms)", batchSize, flushIntervalMs);
+    }
+
+    @Override
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        // Attend les dépôts en cours; les soumissions suivantes repassent en mode synchrone
+        submissionLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            submissionLock.writeLock().unlock();
+        }
+        try {
+            writer.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            log.error("Arrêt avant l'écriture complète: {} message(s) de contact perdus", queue.size());
+        } else {
+            // Thread d'écriture interrompu avant d'avoir vidé la file: les derniers messages sont écrits ici
+            List<Contact> remaining = new ArrayList<>(batchSize);
+            while (queue.drainTo(remaining, batchSize) > 0) {
+                flush(remaining);
+                remaining.clear();
+            }
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Arrêté après le serveur web (qui cesse d'accepter des requêtes),
+     * mais avant la fermeture du pool de connexions.
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 2048;
+    }
+
+    private void writeLoop() {
+        List<Contact> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Contact first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                        break;
+                    }
+                    Contact next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Thread d'écriture des messages interrompu");
+                return;
+            } catch (RuntimeException e) {
+                log.error("Erreur inattendue lors de l'écriture des messages: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Contact> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(batch));
+            if (log.isDebugEnabled()) {
+                log.debug("Lot de {} message(s) de contact enregistré", batch.size());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Échec du lot de {} message(s), enregistrement un par un: {}", batch.size(), e.getMessage());
+            for (Contact contact : batch) {
+                try {
+                    contact.setId(null);
+                    contactService.saveContact(contact);
+                } catch (RuntimeException single) {
+                    log.error("Message de contact de {} perdu: {}", contact.getEmail(), single.getMessage());
+                }
+            }
+        }
+    }
+
+    private void insertBatch(List<Contact> batch) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Contact contact = batch.get(i);
+                        ps.setString(1, contact.getName());
+                        ps.setString(2, contact.getEmail());
+                        ps.setString(3, contact.getSubject());
+                        ps.setString(4, contact.getMessage());
+                        ps.setTimestamp(5, Timestamp.valueOf(contact.getReceivedDate()));
+                        ps.setBoolean(6, contact.getRead());
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return batch.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        Map<LocalDate, Long> perDay = new TreeMap<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Contact contact = batch.get(i);
+            if (i < keys.size()) {
+                Object id = keys.get(i).values().iterator().next();
+                contact.setId(((Number) id).longValue());
+            }
+            perDay.merge(contact.getReceivedDate().toLocalDate(), 1L, Long::sum);
+            // Relayé au tableau de bord après le commit du lot
+            eventPublisher.publishEvent(ContactReceivedEvent.of(contact));
+        }
+        perDay.forEach(statsRollupService::recordContactsReceived);
+    }
+}
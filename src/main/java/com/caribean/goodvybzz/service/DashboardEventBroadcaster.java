@@ -0,0 +1,334 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.event.ContactClassifiedEvent;
+import com.caribean.goodvybzz.event.MediaPublicationChangedEvent;
+import com.caribean.goodvybzz.event.MemberRegisteredEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Diffuseur d'événements temps réel (Server-Sent Events) pour le tableau de bord.
+ *
+ * <p>Les services publient des événements métier ({@link MemberRegisteredEvent},
+ * {@link ContactClassifiedEvent}, {@link MediaPublicationChangedEvent}) qui sont
+ * relayés ici uniquement après le commit de la transaction, puis envoyés aux
+ * administrateurs connectés sous forme de petits deltas JSON. Un message de contact
+ * n'est relayé qu'une fois classé par le filtre anti-spam, et seulement s'il n'est
+ * pas indésirable: les compteurs en direct suivent la boîte de réception.</p>
+ *
+ * <p><strong>Fonctionnement non bloquant:</strong></p>
+ * <ul>
+ *   <li>Chaque client possède un tampon borné; s'il est plein, l'événement
+ *       le plus ancien est abandonné (le client rechargera la page au besoin)</li>
+ *   <li>Le thread qui publie se contente de déposer l'événement dans les tampons;
+ *       l'écriture réseau est faite par un pool de threads dédié</li>
+ *   <li>Chaque client a son propre thread d'envoi tant qu'il a des événements en attente:
+ *       l'écriture vers un navigateur qui ne lit plus ne bloque que ce client</li>
+ *   <li>Un client dont un envoi dépasse {@code app.dashboard.sse.send-timeout-ms} est
+ *       abandonné; sa connexion est fermée dès que l'écriture bloquée se termine
+ *       (au plus tard à l'expiration de {@code server.tomcat.connection-timeout})</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see com.caribean.goodvybzz.controller.AdminController
+ */
+@Service
+public class DashboardEventBroadcaster {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(DashboardEventBroadcaster.class);
+
+    private final ObjectMapper objectMapper;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders;
+
+    /**
+     * Nombre maximal d'événements en attente par client.
+     */
+    @Value("${app.dashboard.sse.buffer-size:32}")
+    private int bufferSize;
+
+    /**
+     * Durée de vie d'une connexion SSE (le navigateur se reconnecte automatiquement).
+     */
+    @Value("${app.dashboard.sse.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    /**
+     * Durée maximale d'un envoi à un client avant de l'abandonner.
+     */
+    @Value("${app.dashboard.sse.send-timeout-ms:10000}")
+    private long sendTimeoutMs;
+
+    /**
+     * Délai de reconnexion suggéré (en-tête Retry-After) quand le flux est complet.
+     */
+    @Value("${app.dashboard.sse.retry-after-seconds:30}")
+    private long retryAfterSeconds;
+
+    /**
+     * Nombre maximal de connexions SSE simultanées.
+     */
+    private final int maxClients;
+
+    public DashboardEventBroadcaster(ObjectMapper objectMapper,
+                                     @Value("${app.dashboard.sse.sender-threads:2}") int senderThreads,
+                                     @Value("${app.dashboard.sse.max-clients:50}") int maxClients) {
+        this.objectMapper = objectMapper;
+        this.maxClients = maxClients;
+        AtomicInteger counter = new AtomicInteger();
+        // sender-threads restent prêts, les autres sont créés à la demande et rendus après
+        // une minute d'inactivité. Le double de max-clients laisse la place aux envois de
+        // clients déjà abandonnés mais encore bloqués dans l'écriture.
+        this.senders = new ThreadPoolExecutor(senderThreads, Math.max(senderThreads, 2 * maxClients),
+                1, TimeUnit.MINUTES, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-sse-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Enregistre un nouvel administrateur à l'écoute du flux.
+     *
+     * @return l'émetteur SSE à retourner au client, ou vide si le nombre maximal
+     *         de connexions est atteint
+     */
+    public Optional<SseEmitter> subscribe() {
+        if (clients.size() >= maxClients) {
+            log.warn("Nombre maximal de connexions SSE atteint ({})", maxClients);
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        try {
+            // Envoyé dès l'ouverture: la réponse est validée sans attendre le premier événement
+            emitter.send(SseEmitter.event().comment("connected"));
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        Client client = new Client(emitter, bufferSize);
+        clients.add(client);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(e -> clients.remove(client));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Nouvel abonné au flux du tableau de bord ({} connecté(s))", clients.size());
+        }
+        return Optional.of(emitter);
+    }
+
+    /**
+     * Retourne le délai de reconnexion suggéré quand le flux est complet.
+     *
+     * @return le délai en secondes, pour l'en-tête {@code Retry-After}
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    /**
+     * Relaie l'inscription d'un membre après le commit.
+     *
+     * @param event l'événement d'inscription
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberRegistered(MemberRegisteredEvent event) {
+        broadcast("member-registered", event);
+    }
+
+    /**
+     * Relaie un message de contact retenu dans la boîte de réception, une fois classé.
+     *
+     * @param event l'événement de classement
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactClassified(ContactClassifiedEvent event) {
+        if (!event.spam()) {
+            broadcast("contact-received", event);
+        }
+    }
+
+    /**
+     * Relaie la publication ou dépublication d'un média après le commit.
+     *
+     * @param event l'événement de publication
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMediaPublicationChanged(MediaPublicationChangedEvent event) {
+        broadcast(event.published() ? "media-published" : "media-unpublished", event);
+    }
+
+    /**
+     * Envoie un commentaire SSE périodique pour garder les connexions ouvertes
+     * à travers les proxies et détecter les clients déconnectés.
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.sse.heartbeat-ms:25000}")
+    public void heartbeat() {
+        if (!clients.isEmpty()) {
+            dispatch(new Pending(null, "ping"));
+        }
+    }
+
+    /**
+     * Abandonne les clients dont l'envoi en cours dépasse le délai autorisé: ils ne
+     * reçoivent plus d'événements et libèrent leur place pour une reconnexion.
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.sse.send-timeout-ms:10000}")
+    public void dropSlowClients() {
+        long now = System.nanoTime();
+        for (Client client : clients) {
+            if (client.sending && now - client.sendStartedNanos > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs)) {
+                drop(client, now - client.sendStartedNanos);
+            }
+        }
+    }
+
+    /**
+     * Retourne le nombre d'administrateurs actuellement connectés au flux.
+     *
+     * @return le nombre de connexions SSE ouvertes
+     */
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // Un émetteur en cours d'envoi reste verrouillé par son thread: il est fermé avec lui
+        clients.stream().filter(client -> !client.sending).forEach(client -> client.emitter.complete());
+        clients.clear();
+        senders.shutdownNow();
+    }
+
+    private void broadcast(String name, Object payload) {
+        if (clients.isEmpty()) {
+            return;
+        }
+        try {
+            // Sérialisé une seule fois, quel que soit le nombre de clients
+            String json = objectMapper.writeValueAsString(payload);
+            dispatch(new Pending(name, json));
+        } catch (JsonProcessingException e) {
+            log.error("Impossible de sérialiser l'événement {}: {}", name, e.getMessage());
+        }
+    }
+
+    private void dispatch(Pending event) {
+        for (Client client : clients) {
+            client.enqueue(event);
+            schedule(client);
+        }
+    }
+
+    private void schedule(Client client) {
+        if (client.scheduled.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(client));
+            } catch (RejectedExecutionException e) {
+                client.scheduled.set(false);
+            }
+        }
+    }
+
+    private void drain(Client client) {
+        try {
+            Pending event;
+            while (!client.dropped && (event = client.buffer.poll()) != null) {
+                client.sendStartedNanos = System.nanoTime();
+                client.sending = true;
+                client.emitter.send(event.toSseEvent());
+                client.sending = false;
+
+                long elapsed = System.nanoTime() - client.sendStartedNanos;
+                if (elapsed > TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs)) {
+                    drop(client, elapsed);
+                }
+            }
+        } catch (IOException | IllegalStateException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Client SSE déconnecté: {}", e.getMessage());
+            }
+            clients.remove(client);
+            client.emitter.completeWithError(e);
+            return;
+        } finally {
+            client.sending = false;
+            client.scheduled.set(false);
+        }
+
+        if (client.dropped) {
+            // Le navigateur se reconnecte de lui-même et recharge un état à jour
+            client.emitter.complete();
+            return;
+        }
+        // Un événement a pu arriver entre le dernier poll et la libération du drapeau
+        if (!client.buffer.isEmpty()) {
+            schedule(client);
+        }
+    }
+
+    private void drop(Client client, long elapsedNanos) {
+        if (clients.remove(client)) {
+            client.dropped = true;
+            client.buffer.clear();
+            log.warn("Client SSE trop lent abandonné (envoi de {} ms, {} connecté(s))",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), clients.size());
+        }
+    }
+
+    /**
+     * Connexion d'un administrateur avec son tampon d'événements borné.
+     */
+    private static final class Client {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Pending> buffer;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean sending;
+        private volatile long sendStartedNanos;
+        private volatile boolean dropped;
+
+        private Client(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(capacity);
+        }
+
+        private void enqueue(Pending event) {
+            // Tampon plein: on sacrifie l'événement le plus ancien plutôt que de bloquer
+            while (!buffer.offer(event)) {
+                buffer.poll();
+            }
+        }
+    }
+
+    /**
+     * Événement en attente d'envoi; un nom nul désigne un simple commentaire SSE.
+     * Le constructeur d'événement SSE n'étant pas réutilisable, il est recréé à chaque envoi.
+     */
+    private record Pending(String name, String data) {
+
+        private SseEmitter.SseEventBuilder toSseEvent() {
+            return name == null ? SseEmitter.event().comment(data) : SseEmitter.event().name(name).data(data);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.caribean.goodvybzz.service;
+
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Service d'idempotence des soumissions de formulaires publics.
+ *
+ * <p>Chaque formulaire affiché reçoit une clé à usage unique (champ caché
+ * {@value #PARAMETER}). La soumission est exécutée une seule fois par clé:
+ * un double clic ou un renvoi du navigateur rejoue la redirection de succès
+ * d'origine, sans nouvel enregistrement ni faux message « email déjà utilisé ».</p>
+ *
+ * <p><strong>Règles:</strong></p>
+ * <ul>
+ *   <li>Seules les redirections (succès) sont mémorisées; un formulaire réaffiché
+ *       avec une erreur libère la clé pour que l'utilisateur puisse corriger et renvoyer</li>
+ *   <li>Une soumission identique reçue pendant le traitement n'est ni exécutée ni
+ *       mise en attente: elle reçoit aussitôt la vue « en cours de traitement » du
+ *       formulaire, sans occuper un thread de requête</li>
+ *   <li>Une requête sans clé valide (page en cache, client externe) est traitée normalement</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see IdempotencyStore
+ */
+@Service
+public class IdempotencyService {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(IdempotencyService.class);
+
+    /**
+     * Nom du champ caché portant la clé dans les formulaires.
+     */
+    public static final String PARAMETER = "_idem";
+
+    private static final Pattern KEY_FORMAT = Pattern.compile("[A-Za-z0-9-]{16,64}");
+
+    private final IdempotencyStore store;
+
+    public IdempotencyService(IdempotencyStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Retourne la clé reçue si elle est valide, sinon une nouvelle clé.
+     *
+     * @param key la clé reçue du formulaire (peut être nulle)
+     * @return la clé à placer dans le formulaire affiché
+     */
+    public String keyOrNew(String key) {
+        return isValid(key) ? key : UUID.randomUUID().toString();
+    }
+
+    /**
+     * Exécute une soumission au plus une fois pour une clé donnée.
+     *
+     * @param form le nom du formulaire (espace de noms de la clé)
+     * @param key la clé reçue du formulaire (peut être nulle)
+     * @param inProgressView la vue retournée si la même soumission est en cours de traitement
+     * @param submission le traitement, qui retourne le nom de la vue
+     * @return la vue retournée par le traitement, la redirection rejouée ou {@code inProgressView}
+     */
+    public String execute(String form, String key, String inProgressView, Supplier<String> submission) {
+        if (!isValid(key)) {
+            return submission.get();
+        }
+
+        String scopedKey = form + ":" + key;
+        IdempotencyStore.Claim claim = store.claim(scopedKey);
+        if (claim.status() == IdempotencyStore.Status.IN_PROGRESS) {
+            log.info("Soumission du formulaire {} déjà en cours de traitement", form);
+            return inProgressView;
+        }
+        if (claim.status() == IdempotencyStore.Status.COMPLETED) {
+            log.info("Soumission déjà traitée du formulaire {}: résultat rejoué", form);
+            return claim.outcome();
+        }
+
+        String view;
+        try {
+            view = submission.get();
+        } catch (RuntimeException e) {
+            store.release(scopedKey);
+            throw e;
+        }
+
+        if (view.startsWith("redirect:")) {
+            store.complete(scopedKey, view);
+        } else {
+            store.release(scopedKey);
+        }
+        return view;
+    }
+
+    private static boolean isValid(String key) {
+        return key != null && KEY_FORMAT.matcher(key).matches();
+    }
+}
@@ -0,0 +1,79 @@
+package com.caribean.goodvybzz.service;
+
+/**
+ * Registre des clés d'idempotence des formulaires publics.
+ *
+ * <p>Chaque formulaire affiché porte une clé à usage unique. La première soumission
+ * réserve la clé, puis enregistre son résultat (la redirection de succès); les
+ * soumissions suivantes avec la même clé (double clic, renvoi du navigateur)
+ * rejouent ce résultat sans repasser par la base métier.</p>
+ *
+ * <p><strong>Implémentations:</strong></p>
+ * <ul>
+ *   <li>{@link InMemoryIdempotencyStore} - mémoire bornée et expirante, pour un seul nœud</li>
+ *   <li>{@link JdbcIdempotencyStore} - table partagée, pour plusieurs nœuds</li>
+ * </ul>
+ *
+ * <p>Le choix se fait avec la propriété {@code app.idempotency.store}
+ * ({@code memory} par défaut, ou {@code jdbc}).</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see IdempotencyService
+ */
+public interface IdempotencyStore {
+
+    /**
+     * Tente de réserver une clé pour traiter une soumission.
+     *
+     * <p>Une réservation en cours plus ancienne que le délai de verrouillage est
+     * considérée comme abandonnée et peut être reprise.</p>
+     *
+     * @param key la clé (déjà préfixée par le formulaire concerné)
+     * @return le résultat de la réservation
+     */
+    Claim claim(String key);
+
+    /**
+     * Enregistre le résultat d'une soumission traitée avec succès.
+     *
+     * @param key la clé réservée
+     * @param outcome le résultat à rejouer (nom de vue de redirection)
+     */
+    void complete(String key, String outcome);
+
+    /**
+     * Libère une clé réservée dont le traitement a échoué, pour permettre une nouvelle tentative.
+     *
+     * @param key la clé réservée
+     */
+    void release(String key);
+
+    /**
+     * Résultat d'une tentative de réservation.
+     *
+     * @param status l'état de la clé
+     * @param outcome le résultat enregistré (uniquement pour {@link Status#COMPLETED})
+     */
+    record Claim(Status status, String outcome) {
+
+        static final Claim ACQUIRED = new Claim(Status.ACQUIRED, null);
+        static final Claim IN_PROGRESS = new Claim(Status.IN_PROGRESS, null);
+
+        static Claim completed(String outcome) {
+            return new Claim(Status.COMPLETED, outcome);
+        }
+    }
+
+    /**
+     * État d'une clé d'idempotence.
+     */
+    enum Status {
+        /** Clé réservée par l'appelant, qui doit traiter la soumission */
+        ACQUIRED,
+        /** Une autre requête traite déjà cette soumission */
+        IN_PROGRESS,
+        /** Soumission déjà traitée, le résultat est à rejouer */
+        COMPLETED
+    }
+}
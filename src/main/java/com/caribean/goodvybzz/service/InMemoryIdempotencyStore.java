@@ -0,0 +1,111 @@
+package com.caribean.goodvybzz.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Registre d'idempotence en mémoire, adapté à un déploiement sur un seul nœud.
+ *
+ * <p>Les clés sont conservées dans l'ordre de création: comme elles ont toutes la même
+ * durée de vie, les clés expirées sont toujours en tête et sont purgées à chaque
+ * réservation, sans parcours complet.</p>
+ *
+ * <p><strong>Bornes:</strong></p>
+ * <ul>
+ *   <li>Au plus {@code app.idempotency.capacity} clés; au-delà, la plus ancienne est oubliée</li>
+ *   <li>Chaque clé expire après {@code app.idempotency.ttl}</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see IdempotencyStore
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(InMemoryIdempotencyStore.class);
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private final int capacity;
+    private final long ttlNanos;
+    private final long lockTimeoutNanos;
+
+    public InMemoryIdempotencyStore(@Value("${app.idempotency.capacity:10000}") int capacity,
+                                    @Value("${app.idempotency.ttl:30m}") Duration ttl,
+                                    @Value("${app.idempotency.lock-timeout:30s}") Duration lockTimeout) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("La capacité du registre d'idempotence doit être positive");
+        }
+        this.capacity = capacity;
+        this.ttlNanos = ttl.toNanos();
+        this.lockTimeoutNanos = lockTimeout.toNanos();
+    }
+
+    @Override
+    public synchronized Claim claim(String key) {
+        long now = System.nanoTime();
+        purgeExpired(now);
+
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.outcome != null) {
+                return Claim.completed(entry.outcome);
+            }
+            if (now - entry.createdAt < lockTimeoutNanos) {
+                return Claim.IN_PROGRESS;
+            }
+            // Réservation abandonnée: la clé est recréée en fin de file
+            entries.remove(key);
+        }
+
+        if (entries.size() >= capacity) {
+            Iterator<Entry> eldest = entries.values().iterator();
+            eldest.next();
+            eldest.remove();
+            log.warn("Registre d'idempotence plein ({} clés): la plus ancienne est oubliée", capacity);
+        }
+        entries.put(key, new Entry(now));
+        return Claim.ACQUIRED;
+    }
+
+    @Override
+    public synchronized void complete(String key, String outcome) {
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            entry.outcome = outcome;
+        }
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && entry.outcome == null) {
+            entries.remove(key);
+        }
+    }
+
+    private void purgeExpired(long now) {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext() && now - iterator.next().createdAt >= ttlNanos) {
+            iterator.remove();
+        }
+    }
+
+    /**
+     * Clé conservée: date de réservation et résultat éventuel.
+     */
+    private static final class Entry {
+        private final long createdAt;
+        private String outcome;
+
+        private Entry(long now) {
+            this.createdAt = now;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.caribean.goodvybzz.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Registre d'idempotence partagé, stocké dans la table {@code idempotency_keys}.
+ *
+ * <p>Destiné aux déploiements sur plusieurs nœuds: la réservation d'une clé repose
+ * sur la clé primaire de la table, une seule requête peut donc l'obtenir quel que
+ * soit le nœud qui la reçoit. Chaque opération est une instruction SQL autonome
+ * (validée immédiatement), indépendante de la transaction métier.</p>
+ *
+ * <p><strong>Cycle de vie d'une clé:</strong></p>
+ * <ul>
+ *   <li>Insertion à la réservation; un doublon signale une soumission déjà connue</li>
+ *   <li>Enregistrement du résultat après succès, suppression après échec</li>
+ *   <li>Reprise conditionnelle des réservations abandonnées ou expirées</li>
+ *   <li>Purge périodique des clés expirées</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see IdempotencyStore
+ * @see com.caribean.goodvybzz.model.IdempotencyKey
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.idempotency", name = "store", havingValue = "jdbc")
+public class JdbcIdempotencyStore implements IdempotencyStore {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(JdbcIdempotencyStore.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+
+    public JdbcIdempotencyStore(JdbcTemplate jdbcTemplate,
+                                @Value("${app.idempotency.ttl:30m}") Duration ttl,
+                                @Value("${app.idempotency.lock-timeout:30s}") Duration lockTimeout) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+    }
+
+    @Override
+    public Claim claim(String key) {
+        LocalDateTime now = LocalDateTime.now();
+        if (tryInsert(key, now)) {
+            return Claim.ACQUIRED;
+        }
+
+        // Clé déjà connue: résultat à rejouer, réservation en cours ou abandonnée
+        List<Row> rows = jdbcTemplate.query(
+                "select outcome, created_at from idempotency_keys where idem_key = ?",
+                (rs, rowNum) -> new Row(rs.getString("outcome"), rs.getTimestamp("created_at")),
+                key);
+        if (rows.isEmpty()) {
+            // Ligne supprimée entre-temps (échec de la première soumission): on réessaie une fois
+            return tryInsert(key, now) ? Claim.ACQUIRED : Claim.IN_PROGRESS;
+        }
+
+        Row row = rows.get(0);
+        LocalDateTime createdAt = row.createdAt().toLocalDateTime();
+        if (createdAt.isBefore(now.minus(ttl))
+                || (row.outcome() == null && createdAt.isBefore(now.minus(lockTimeout)))) {
+            return takeOver(key, row.createdAt(), now);
+        }
+        return row.outcome() != null ? Claim.completed(row.outcome()) : Claim.IN_PROGRESS;
+    }
+
+    @Override
+    public void complete(String key, String outcome) {
+        jdbcTemplate.update("update idempotency_keys set outcome = ? where idem_key = ?", outcome, key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update("delete from idempotency_keys where idem_key = ? and outcome is null", key);
+    }
+
+    /**
+     * Supprime périodiquement les clés expirées.
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update("delete from idempotency_keys where created_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minus(ttl)));
+        if (purged > 0 && log.isDebugEnabled()) {
+            log.debug("{} clé(s) d'idempotence expirée(s) supprimée(s)", purged);
+        }
+    }
+
+    /**
+     * Reprend une clé expirée ou abandonnée, à condition qu'aucune autre requête
+     * ne l'ait reprise entre-temps (la date de réservation sert de témoin).
+     */
+    private Claim takeOver(String key, Timestamp previous, LocalDateTime now) {
+        int updated = jdbcTemplate.update(
+                "update idempotency_keys set outcome = null, created_at = ? where idem_key = ? and created_at = ?",
+                Timestamp.valueOf(now), key, previous);
+        return updated == 1 ? Claim.ACQUIRED : Claim.IN_PROGRESS;
+    }
+
+    private boolean tryInsert(String key, LocalDateTime now) {
+        try {
+            jdbcTemplate.update("insert into idempotency_keys (idem_key, outcome, created_at) values (?, null, ?)",
+                    key, Timestamp.valueOf(now));
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Ligne lue dans la table des clés.
+     */
+    private record Row(String outcome, Timestamp createdAt) {
+    }
+}
@@ -0,0 +1,143 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.model.AdminUser;
+import com.caribean.goodvybzz.repository.AdminUserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.authentication.event.InteractiveAuthenticationSuccessEvent;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Enregistrement différé de la date de dernière connexion des administrateurs.
+ *
+ * <p>Seules les connexions interactives (formulaire de l'administration) sont notées:
+ * l'authentification HTTP Basic du collecteur de métriques, répétée à chaque collecte,
+ * n'est pas une connexion d'un administrateur.</p>
+ *
+ * <p>Une connexion réussie ne fait que noter l'instant dans une table en mémoire,
+ * sans aucun accès à la base. Une tâche périodique écrit ensuite, en un seul lot,
+ * la date la plus récente de chaque administrateur; plusieurs connexions d'un même
+ * compte entre deux passages ne produisent donc qu'une écriture.</p>
+ *
+ * <p><strong>Garanties:</strong></p>
+ * <ul>
+ *   <li>Les dates en attente sont écrites à l'arrêt de l'application</li>
+ *   <li>Une date n'écrase jamais une date plus récente (plusieurs nœuds)</li>
+ *   <li>En cas d'arrêt brutal, seules les connexions des dernières secondes sont perdues</li>
+ *   <li>L'écriture passant hors d'Hibernate, les seuls administrateurs mis à jour sont
+ *       ensuite retirés du cache de second niveau, ainsi que la recherche par nom</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see AdminUserService
+ */
+@Service
+public class LastLoginRecorder {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(LastLoginRecorder.class);
+
+    private static final String IDS_SQL = "select id from admin_users where username in (:usernames)";
+
+    private static final String UPDATE_SQL =
+            "update admin_users set last_login_date = ? " +
+            "where username = ? and (last_login_date is null or last_login_date < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ConcurrentMap<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public LastLoginRecorder(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Note la connexion réussie d'un administrateur par le formulaire de connexion.
+     *
+     * @param event l'événement de connexion interactive
+     */
+    @EventListener
+    public void onInteractiveLogin(InteractiveAuthenticationSuccessEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        pending.merge(event.getAuthentication().getName(), now, (previous, current) ->
+                current.isAfter(previous) ? current : previous);
+    }
+
+    /**
+     * Écrit les dates de connexion en attente en un seul lot.
+     */
+    @Scheduled(fixedDelayString = "${app.last-login.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, LocalDateTime>> batch = new ArrayList<>(pending.size());
+        for (Map.Entry<String, LocalDateTime> entry : pending.entrySet()) {
+            // Retrait conditionnel: une connexion plus récente reste en attente pour le prochain lot.
+            if (pending.remove(entry.getKey(), entry.getValue())) {
+                batch.add(Map.entry(entry.getKey(), entry.getValue()));
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch, batch.size(), (ps, entry) -> {
+                Timestamp loggedAt = Timestamp.valueOf(entry.getValue());
+                ps.setTimestamp(1, loggedAt);
+                ps.setString(2, entry.getKey());
+                ps.setTimestamp(3, loggedAt);
+            });
+        } catch (RuntimeException e) {
+            log.warn("Échec de l'enregistrement de {} date(s) de connexion, nouvelle tentative au prochain passage: {}",
+                    batch.size(), e.getMessage());
+            for (Map.Entry<String, LocalDateTime> entry : batch) {
+                pending.merge(entry.getKey(), entry.getValue(), (current, failed) ->
+                        current.isAfter(failed) ? current : failed);
+            }
+            return;
+        }
+        evict(batch.stream().map(Map.Entry::getKey).toList());
+        if (log.isDebugEnabled()) {
+            log.debug("{} date(s) de dernière connexion enregistrée(s)", batch.size());
+        }
+    }
+
+    /**
+     * Retire du cache de second niveau les administrateurs dont la date vient d'être écrite.
+     * Le cache de requêtes garde les lignes complètes: la recherche par nom est retirée
+     * aussi (quelques entrées, et seulement après une vraie connexion).
+     */
+    private void evict(List<String> usernames) {
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        for (Long id : namedParameterJdbcTemplate.queryForList(IDS_SQL, Map.of("usernames", usernames), Long.class)) {
+            cache.evictEntityData(AdminUser.class, id);
+        }
+        cache.evictQueryRegion(AdminUserRepository.BY_USERNAME_REGION);
+    }
+
+    /**
+     * Écrit les dernières connexions avant l'arrêt.
+     */
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,25 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.dto.NotificationDigest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+/**
+ * Canal de notification par défaut: écrit les résumés dans les journaux.
+ *
+ * <p>Utilisé tant qu'aucun serveur SMTP n'est configuré (développement, tests).</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see NotificationSender
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.notifications", name = "sender", havingValue = "log", matchIfMissing = true)
+public class LogNotificationSender implements NotificationSender {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(LogNotificationSender.class);
+
+    @Override
+    public void send(NotificationDigest digest) {
+        log.info("{}\n{}", digest.subject(), digest.body());
+    }
+}
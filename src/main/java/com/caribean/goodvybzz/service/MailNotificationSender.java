@@ -0,0 +1,49 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.dto.NotificationDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+/**
+ * Canal de notification par email (SMTP configuré via {@code spring.mail.*}).
+ *
+ * <p>Pour tester en local sans serveur réel, un serveur SMTP de test
+ * (Mailpit, voir docker-compose) suffit: {@code spring.mail.host=localhost},
+ * {@code spring.mail.port=1025}.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see NotificationSender
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.notifications", name = "sender", havingValue = "mail")
+public class MailNotificationSender implements NotificationSender {
+
+    private final JavaMailSender mailSender;
+    private final String from;
+    private final String[] recipients;
+
+    public MailNotificationSender(JavaMailSender mailSender,
+                                  @Value("${app.notifications.from}") String from,
+                                  @Value("${app.notifications.recipients}") String[] recipients) {
+        if (recipients.length == 0) {
+            throw new IllegalArgumentException("Aucun destinataire configuré (app.notifications.recipients)");
+        }
+        this.mailSender = mailSender;
+        this.from = from;
+        this.recipients = recipients;
+    }
+
+    @Override
+    public void send(NotificationDigest digest) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom(from);
+        message.setTo(recipients);
+        message.setSubject(digest.subject());
+        message.setText(digest.body());
+        mailSender.send(message);
+    }
+}
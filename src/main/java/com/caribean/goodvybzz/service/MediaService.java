@@ -1,12 +1,18 @@
 package com.caribean.goodvybzz.service;
 
 import com.caribean.goodvybzz.controller.MediaController;
+import com.caribean.goodvybzz.event.MediaPublicationChangedEvent;
 import com.caribean.goodvybzz.model.Media;
 import com.caribean.goodvybzz.model.Media.MediaType;
 import com.caribean.goodvybzz.repository.MediaRepository;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -19,6 +25,7 @@ import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Service de gestion des médias (photos et vidéos).
@@ -52,6 +59,14 @@ import java.util.UUID;
  * List<Media> photos = mediaService.getPublishedMediaByType(MediaType.PHOTO);
  * }</pre>
  * 
+ * <p><strong>Métriques:</strong></p>
+ * <ul>
+ *   <li>{@code app.service}: durée et nombre d'appels de chaque méthode publique</li>
+ *   <li>{@code app.media.upload.size}: taille des fichiers uploadés, en octets</li>
+ *   <li>{@code app.media.upload.write}: durée d'écriture des fichiers sur le disque; le débit
+ *       se déduit du rapport entre les sommes des deux métriques</li>
+ * </ul>
+ * 
  * @author caribean Good Vybzz Development Team
  * @version 1.0.0
  * @see Media
@@ -60,10 +75,14 @@ import java.util.UUID;
 @Service
 //@RequiredArgsConstructor
 //@Slf4j
+@Timed(value = "app.service", description = "Appels des méthodes publiques des services")
 @Transactional
 public class MediaService {
 
     private final MediaRepository mediaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DistributionSummary uploadSize;
+    private final Timer uploadWrite;
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(MediaService.class);
 
     /**
@@ -73,8 +92,17 @@ public class MediaService {
     @Value("${media.upload.directory:src/main/resources/static/media}")
     private String uploadDirectory;
 
-    public MediaService(MediaRepository mediaRepository) {
+    public MediaService(MediaRepository mediaRepository, ApplicationEventPublisher eventPublisher,
+                        MeterRegistry meterRegistry) {
         this.mediaRepository = mediaRepository;
+        this.eventPublisher = eventPublisher;
+        this.uploadSize = DistributionSummary.builder("app.media.upload.size")
+                .description("Taille des fichiers uploadés")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.uploadWrite = Timer.builder("app.media.upload.write")
+                .description("Durée d'écriture des fichiers uploadés sur le disque")
+                .register(meterRegistry);
     }
 
     /**
@@ -89,7 +117,11 @@ public class MediaService {
             log.debug("Enregistrement d'un nouveau média: {}", media.getTitle());
         }
 
+        boolean isNew = media.getId() == null;
         Media savedMedia = mediaRepository.save(media);
+        if (isNew && Boolean.TRUE.equals(savedMedia.getPublished())) {
+            eventPublisher.publishEvent(MediaPublicationChangedEvent.of(savedMedia));
+        }
         log.info("Nouveau média enregistré: {} (ID: {}, Type: {})", 
                  savedMedia.getTitle(), savedMedia.getId(), savedMedia.getType());
         return savedMedia;
@@ -123,7 +155,10 @@ public class MediaService {
         
         // Sauvegarder le fichier
         Path filePath = uploadPath.resolve(fileName);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        long start = System.nanoTime();
+        long written = Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        uploadWrite.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        uploadSize.record(written);
         
         // Créer l'entité Media
         Media media = new Media();
@@ -135,6 +170,9 @@ public class MediaService {
         //media.setIsPublished(true);
         
         Media savedMedia = mediaRepository.save(media);
+        if (Boolean.TRUE.equals(savedMedia.getPublished())) {
+            eventPublisher.publishEvent(MediaPublicationChangedEvent.of(savedMedia));
+        }
         log.info("Photo uploadée et enregistrée: {} (ID: {})", savedMedia.getTitle(), savedMedia.getId());
         return savedMedia;
     }
@@ -208,12 +246,16 @@ public class MediaService {
         Media media = mediaRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Média non trouvé avec l'ID: " + id));
         
+        boolean wasPublished = Boolean.TRUE.equals(media.getPublished());
         media.setTitle(updatedMedia.getTitle());
         media.setDescription(updatedMedia.getDescription());
         media.setDisplayOrder(updatedMedia.getDisplayOrder());
         media.setPublished(updatedMedia.getPublished());
         
         mediaRepository.save(media);
+        if (wasPublished != Boolean.TRUE.equals(media.getPublished())) {
+            eventPublisher.publishEvent(MediaPublicationChangedEvent.of(media));
+        }
         log.info("Média {} mis à jour avec succès", id);
     }
 
@@ -250,20 +292,50 @@ public class MediaService {
     /**
      * Publie ou dépublie un média.
      * 
+     * <p>Le changement est une seule requête conditionnelle: de deux administrateurs
+     * publiant le même média en même temps, un seul le modifie et l'événement
+     * {@link MediaPublicationChangedEvent} n'est publié qu'une fois.</p>
+     * 
      * @param id l'ID du média
      * @param isPublished true pour publier, false pour dépublier
+     * @return true si le statut a changé, false si le média l'avait déjà
+     * @throws IllegalArgumentException si le média n'existe pas
      */
-    public void togglePublishStatus(Long id, boolean isPublished) {
+    public boolean togglePublishStatus(Long id, boolean isPublished) {
         if (log.isDebugEnabled()) {
             log.debug("Changement du statut de publication du média {} vers {}", id, isPublished);
         }
 
+        boolean changed = mediaRepository.updatePublished(id, isPublished) == 1;
         Media media = mediaRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Média non trouvé avec l'ID: " + id));
-        
-        media.setPublished(isPublished);
-        mediaRepository.save(media);
+        if (!changed) {
+            log.debug("Média {} déjà {}", id, isPublished ? "publié" : "dépublié");
+            return false;
+        }
+        eventPublisher.publishEvent(MediaPublicationChangedEvent.of(media));
         
         log.info("Statut de publication du média {} changé vers {}", id, isPublished);
+        return true;
+    }
+
+    /**
+     * Compte le nombre total de médias.
+     * 
+     * @return le nombre de médias
+     */
+    @Transactional(readOnly = true)
+    public long countAllMedia() {
+        return mediaRepository.count();
+    }
+
+    /**
+     * Compte le nombre de médias publiés.
+     * 
+     * @return le nombre de médias publiés
+     */
+    @Transactional(readOnly = true)
+    public long countPublishedMedia() {
+        return mediaRepository.countByIsPublishedTrue();
     }
 }
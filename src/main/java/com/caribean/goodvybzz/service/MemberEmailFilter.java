@@ -0,0 +1,148 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.model.Member;
+import com.caribean.goodvybzz.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtre de Bloom en mémoire des emails de membres (normalisés).
+ *
+ * <p>Permet de savoir sans requête SQL qu'un email n'a <em>certainement</em> jamais
+ * été enregistré: l'inscription peut alors directement tenter l'insertion. Une réponse
+ * positive n'est qu'un « peut-être » et doit être confirmée en base. La contrainte
+ * d'unicité reste la seule source de vérité: un faux négatif (filtre pas encore
+ * construit, autre instance de l'application) se traduit simplement par une violation
+ * de contrainte à l'insertion.</p>
+ *
+ * <p><strong>Caractéristiques:</strong></p>
+ * <ul>
+ *   <li>Sans verrou: les bits sont positionnés par {@link AtomicLongArray}</li>
+ *   <li>Reconstruit au démarrage à partir des emails en base, mis à jour à chaque inscription</li>
+ *   <li>Pas de suppression: un membre supprimé ne coûte qu'un faux positif</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see MemberService
+ */
+@Component
+public class MemberEmailFilter {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(MemberEmailFilter.class);
+
+    private final MemberRepository memberRepository;
+    private final AtomicLongArray bits;
+    private final int bitCount;
+    private final int hashCount;
+    private final long expectedInsertions;
+    private final AtomicLong insertions = new AtomicLong();
+
+    /**
+     * Tant que le filtre n'est pas construit, toutes les réponses sont « peut-être ».
+     */
+    private volatile boolean ready;
+
+    public MemberEmailFilter(MemberRepository memberRepository,
+                             @Value("${app.members.email-filter.expected-insertions:100000}") long expectedInsertions,
+                             @Value("${app.members.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.memberRepository = memberRepository;
+        this.expectedInsertions = Math.max(1, expectedInsertions);
+        long optimalBits = (long) Math.ceil(-this.expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63L, Math.max(64, optimalBits));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / this.expectedInsertions * Math.log(2)));
+        this.bits = new AtomicLongArray((bitCount + 63) / 64);
+    }
+
+    /**
+     * Reconstruit le filtre à partir des emails présents en base.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        int count = 0;
+        for (String email : memberRepository.findAllEmails()) {
+            put(email);
+            count++;
+        }
+        ready = true;
+        log.info("Filtre des emails de membres construit: {} email(s), {} bits, {} hachages en {} ms",
+                count, bitCount, hashCount, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Indique si l'email a peut-être déjà été enregistré.
+     *
+     * @param email l'email à tester
+     * @return false si l'email n'a certainement jamais été enregistré, true sinon
+     */
+    public boolean mightContain(String email) {
+        if (!ready || email == null) {
+            return true;
+        }
+        long hash = hash(Member.normalizeEmail(email));
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = bitIndex(h1 + i * h2);
+            if ((bits.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ajoute un email au filtre.
+     *
+     * @param email l'email enregistré
+     */
+    public void put(String email) {
+        if (email == null) {
+            return;
+        }
+        long hash = hash(Member.normalizeEmail(email));
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int index = bitIndex(h1 + i * h2);
+            long mask = 1L << index;
+            int word = index >>> 6;
+            long current;
+            while (((current = bits.get(word)) & mask) == 0
+                    && !bits.compareAndSet(word, current, current | mask)) {
+                // Un autre thread a modifié le mot entre-temps: on recommence
+            }
+        }
+        if (insertions.incrementAndGet() == expectedInsertions + 1) {
+            log.warn("Le filtre des emails dépasse sa capacité prévue ({}): le taux de faux positifs augmente, "
+                    + "augmentez app.members.email-filter.expected-insertions", expectedInsertions);
+        }
+    }
+
+    private int bitIndex(int combinedHash) {
+        return (combinedHash & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * Hachage 64 bits (FNV-1a suivi du mélange final de MurmurHash3); les deux moitiés
+     * servent de graines au double hachage.
+     */
+    private static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -1,13 +1,21 @@
 package com.caribean.goodvybzz.service;
 
+import com.caribean.goodvybzz.event.MemberRegisteredEvent;
 import com.caribean.goodvybzz.model.Member;
 import com.caribean.goodvybzz.model.Member.MemberStatus;
 import com.caribean.goodvybzz.repository.MemberRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +48,9 @@ import java.util.Optional;
  * List<Member> activeMembers = memberService.getMembersByStatus(MemberStatus.ACTIF);
  * }</pre>
  * 
+ * <p><strong>Métriques:</strong> {@code app.service} (durée et nombre d'appels de chaque
+ * méthode publique, par classe, méthode et exception levée).</p>
+ * 
  * @author caribean Good Vybzz Development Team
  * @version 1.0.0
  * @see Member
@@ -48,19 +59,52 @@ import java.util.Optional;
 @Service
 //@RequiredArgsConstructor
 //@Slf4j
+@Timed(value = "app.service", description = "Appels des méthodes publiques des services")
 @Transactional
 public class MemberService {
     private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(AdminUserService.class);
 
+    /**
+     * Nombre de tentatives d'une mise à jour de statut lorsque le membre change entre-temps.
+     */
+    private static final int STATUS_UPDATE_ATTEMPTS = 3;
+
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StatsRollupService statsRollupService;
+    private final MemberEmailFilter emailFilter;
+    private final TransactionTemplate transactionTemplate;
 
-    public MemberService(MemberRepository memberRepository) {
+    public MemberService(MemberRepository memberRepository,
+                         ApplicationEventPublisher eventPublisher,
+                         StatsRollupService statsRollupService,
+                         MemberEmailFilter emailFilter,
+                         PlatformTransactionManager transactionManager) {
         this.memberRepository = memberRepository;
+        this.eventPublisher = eventPublisher;
+        this.statsRollupService = statsRollupService;
+        this.emailFilter = emailFilter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     /**
      * Enregistre un nouveau membre dans le système.
      * 
+     * <p>L'email est normalisé puis protégé par l'index d'unicité de la base, insensible
+     * à la casse. Le {@link MemberEmailFilter} évite seulement la requête d'existence
+     * pour les emails certainement nouveaux; l'inscription reste une transaction de
+     * plusieurs écritures: insertion du membre, mise à jour des statistiques
+     * pré-agrégées et, à la publication de l'événement, ligne de l'outbox de notifications.
+     * Une violation de la contrainte (inscriptions simultanées) est traduite en
+     * la même erreur qu'un email déjà connu.</p>
+     * 
+     * <p>Pour un nouveau membre, un {@link MemberRegisteredEvent} est publié et relayé au tableau de bord
+     * une fois la transaction validée.</p>
+     * 
+     * <p>Un membre existant (modifié depuis un formulaire) porte la version lue: si le
+     * membre a changé depuis, l'enregistrement échoue
+     * ({@link org.springframework.orm.ObjectOptimisticLockingFailureException}).</p>
+     * 
      * @param member le membre à enregistrer
      * @return le membre enregistré avec son ID
      * @throws IllegalArgumentException si l'email existe déjà
@@ -70,12 +114,29 @@ public class MemberService {
             log.debug("Tentative d'enregistrement d'un nouveau membre: {}", member.getEmail());
         }
 
-        if (memberRepository.existsByEmail(member.getEmail())) {
+        member.setEmail(Member.normalizeEmail(member.getEmail()));
+        boolean isNew = member.getId() == null;
+        if (isNew && emailFilter.mightContain(member.getEmail())
+                && memberRepository.existsByEmail(member.getEmail())) {
             log.warn("Tentative d'inscription avec un email existant: {}", member.getEmail());
             throw new IllegalArgumentException("Un membre avec cet email existe déjà");
         }
         
-        Member savedMember = memberRepository.save(member);
+        Member savedMember;
+        try {
+            savedMember = memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            if (!isUniqueViolation(e)) {
+                throw e;
+            }
+            log.warn("Email déjà utilisé (contrainte d'unicité): {}", member.getEmail());
+            throw new IllegalArgumentException("Un membre avec cet email existe déjà");
+        }
+        if (isNew) {
+            emailFilter.put(savedMember.getEmail());
+            statsRollupService.recordMemberRegistered(savedMember.getRegistrationDate(), savedMember.getStatus());
+            eventPublisher.publishEvent(MemberRegisteredEvent.of(savedMember));
+        }
         log.info("Nouveau membre enregistré avec succès: {} (ID: {})", savedMember.getEmail(), savedMember.getId());
         return savedMember;
     }
@@ -122,24 +183,69 @@ public class MemberService {
     }
 
     /**
-     * Met à jour le statut d'un membre.
+     * Change le statut d'un membre s'il a toujours le statut attendu.
+     * 
+     * <p>La transition est une seule requête conditionnelle: si un autre administrateur
+     * a changé le statut entre-temps, elle n'a pas lieu et les statistiques ne sont
+     * pas modifiées. Seules la transition et l'ajustement des statistiques forment
+     * une transaction, sur une seule connexion (un compteur manquant y est créé par upsert).</p>
      * 
      * @param id l'ID du membre
+     * @param expected le statut attendu (celui affiché à l'administrateur)
      * @param newStatus le nouveau statut
+     * @return true si le statut a changé, false si le membre n'avait plus le statut attendu
      * @throws IllegalArgumentException si le membre n'existe pas
      */
-    public void updateMemberStatus(Long id, MemberStatus newStatus) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean transitionStatus(Long id, MemberStatus expected, MemberStatus newStatus) {
         if (log.isDebugEnabled()) {
-            log.debug("Mise à jour du statut du membre {} vers {}", id, newStatus);
+            log.debug("Transition du statut du membre {} de {} vers {}", id, expected, newStatus);
         }
 
         Member member = memberRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Membre non trouvé avec l'ID: " + id));
-        
-        member.setStatus(newStatus);
-        memberRepository.save(member);
-        
-        log.info("Statut du membre {} mis à jour vers {}", id, newStatus);
+        return applyTransition(member, expected, newStatus);
+    }
+
+    /**
+     * Approuve un membre en attente (EN_ATTENTE vers ACTIF).
+     * 
+     * @param id l'ID du membre
+     * @return true si le membre a été approuvé, false s'il n'était plus en attente
+     * @throws IllegalArgumentException si le membre n'existe pas
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public boolean approveMember(Long id) {
+        return transitionStatus(id, MemberStatus.EN_ATTENTE, MemberStatus.ACTIF);
+    }
+
+    /**
+     * Met à jour le statut d'un membre, quel que soit son statut actuel.
+     * 
+     * <p>Le statut lu sert de condition à la transition: en cas de modification
+     * concurrente, le membre est relu et la transition retentée, pour que les
+     * statistiques reflètent le statut effectivement remplacé.</p>
+     * 
+     * @param id l'ID du membre
+     * @param newStatus le nouveau statut
+     * @return le membre mis à jour
+     * @throws IllegalArgumentException si le membre n'existe pas
+     * @throws IllegalStateException si le statut est modifié en continu pendant la mise à jour
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Member updateMemberStatus(Long id, MemberStatus newStatus) {
+        for (int attempt = 1; attempt <= STATUS_UPDATE_ATTEMPTS; attempt++) {
+            Member member = memberRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Membre non trouvé avec l'ID: " + id));
+            if (member.getStatus() == newStatus) {
+                return member;
+            }
+            if (applyTransition(member, member.getStatus(), newStatus)) {
+                return memberRepository.findById(id)
+                    .orElseThrow(() -> new IllegalArgumentException("Membre non trouvé avec l'ID: " + id));
+            }
+        }
+        throw new IllegalStateException("Membre " + id + " modifié simultanément, statut non mis à jour");
     }
 
     /**
@@ -152,12 +258,13 @@ public class MemberService {
             log.debug("Suppression du membre avec l'ID: {}", id);
         }
 
-        if (!memberRepository.existsById(id)) {
+        Member member = memberRepository.findById(id).orElseThrow(() -> {
             log.warn("Tentative de suppression d'un membre inexistant: {}", id);
-            throw new IllegalArgumentException("Membre non trouvé avec l'ID: " + id);
-        }
+            return new IllegalArgumentException("Membre non trouvé avec l'ID: " + id);
+        });
         
-        memberRepository.deleteById(id);
+        memberRepository.delete(member);
+        statsRollupService.recordMemberDeleted(member.getRegistrationDate(), member.getStatus());
         log.info("Membre {} supprimé avec succès", id);
     }
 
@@ -174,4 +281,51 @@ public class MemberService {
         }
         return memberRepository.countByStatus(status);
     }
+
+    /**
+     * Compte le nombre total de membres.
+     * 
+     * @return le nombre de membres
+     */
+    @Transactional(readOnly = true)
+    public long countAllMembers() {
+        return memberRepository.count();
+    }
+
+    /**
+     * Indique si l'erreur provient d'une contrainte d'unicité (SQLSTATE 23505,
+     * commun à PostgreSQL et H2).
+     */
+    private static boolean isUniqueViolation(DataIntegrityViolationException e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && "23505".equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Applique la transition et, seulement si elle a eu lieu, ajuste les statistiques,
+     * dans une seule transaction.
+     */
+    private boolean applyTransition(Member member, MemberStatus expected, MemberStatus newStatus) {
+        if (expected == newStatus) {
+            return false;
+        }
+        boolean applied = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (memberRepository.transition(member.getId(), expected, newStatus) == 0) {
+                return false;
+            }
+            statsRollupService.recordMemberStatusChanged(member.getRegistrationDate(), expected, newStatus);
+            return true;
+        }));
+        if (!applied) {
+            log.debug("Statut du membre {} inchangé (statut lu: {})", member.getId(), member.getStatus());
+            return false;
+        }
+
+        log.info("Statut du membre {} mis à jour de {} vers {}", member.getId(), expected, newStatus);
+        return true;
+    }
 }
@@ -0,0 +1,423 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.config.RateLimiter;
+import com.caribean.goodvybzz.model.Member;
+import com.caribean.goodvybzz.model.Member.MemberStatus;
+import com.caribean.goodvybzz.model.Newsletter;
+import com.caribean.goodvybzz.model.NewsletterDelivery;
+import com.caribean.goodvybzz.repository.MemberRepository;
+import com.caribean.goodvybzz.repository.NewsletterDeliveryRepository;
+import com.caribean.goodvybzz.repository.NewsletterRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Service de diffusion des lettres d'information aux membres actifs.
+ *
+ * <p>Une diffusion est lancée depuis l'administration puis exécutée en arrière-plan,
+ * une à la fois, par un thread coordinateur. La mémoire utilisée est bornée par la
+ * taille d'une page, quel que soit le nombre de membres.</p>
+ *
+ * <p><strong>Déroulement:</strong></p>
+ * <ul>
+ *   <li>Les membres actifs sont parcourus par curseur (ID croissant) et une ligne
+ *       d'envoi est insérée par lot JDBC pour chacun; le curseur est enregistré
+ *       dans la même transaction</li>
+ *   <li>Les envois en attente sont ensuite parcourus par curseur; chaque message est
+ *       rendu à partir des modèles pré-analysés et confié à un pool borné de threads,
+ *       au rythme autorisé par un {@link RateLimiter}</li>
+ *   <li>Le résultat de chaque page est enregistré par lot, avec les compteurs de progression</li>
+ *   <li>Les échecs sont retentés lors des passes suivantes, jusqu'au nombre maximal de tentatives</li>
+ * </ul>
+ *
+ * <p>Une diffusion interrompue (arrêt de l'application) garde le statut RUNNING et
+ * reprend au démarrage suivant, là où elle s'était arrêtée. Les messages de la page
+ * en cours au moment de l'arrêt peuvent être envoyés une seconde fois. La reprise
+ * suppose un seul nœud d'application.</p>
+ *
+ * <p>Sans serveur SMTP configuré ({@code spring.mail.host}), les messages sont
+ * écrits dans les journaux.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see Newsletter
+ * @see NewsletterDelivery
+ * @see NewsletterTemplate
+ */
+@Service
+@Transactional
+public class NewsletterService {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(NewsletterService.class);
+
+    private static final String RATE_KEY = "newsletter";
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NewsletterRepository newsletterRepository;
+    private final NewsletterDeliveryRepository deliveryRepository;
+    private final MemberRepository memberRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<JavaMailSender> mailSender;
+    private final RateLimiter rateLimiter;
+    private final ExecutorService coordinator;
+    private final ThreadPoolExecutor workers;
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopping;
+
+    /**
+     * Nombre de membres ou d'envois traités par page.
+     */
+    private final int pageSize;
+
+    /**
+     * Nombre de tentatives avant d'abandonner un destinataire.
+     */
+    @Value("${app.newsletter.max-attempts:3}")
+    private int maxAttempts;
+
+    /**
+     * Pause entre deux passes sur les envois en échec.
+     */
+    @Value("${app.newsletter.retry-delay:30s}")
+    private Duration retryDelay;
+
+    /**
+     * Adresse d'expédition des lettres.
+     */
+    @Value("${app.newsletter.from:${app.notifications.from:no-reply@caribeangoodvybzz.org}}")
+    private String from;
+
+    public NewsletterService(NewsletterRepository newsletterRepository,
+                             NewsletterDeliveryRepository deliveryRepository,
+                             MemberRepository memberRepository,
+                             JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             ObjectProvider<JavaMailSender> mailSender,
+                             @Value("${app.newsletter.page-size:100}") int pageSize,
+                             @Value("${app.newsletter.workers:4}") int workers,
+                             @Value("${app.newsletter.rate-per-second:10}") int ratePerSecond) {
+        this.newsletterRepository = newsletterRepository;
+        this.deliveryRepository = deliveryRepository;
+        this.memberRepository = memberRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.mailSender = mailSender;
+        this.pageSize = pageSize;
+        this.rateLimiter = new RateLimiter(ratePerSecond, Duration.ofSeconds(1), workers, 1);
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "newsletter-coordinator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        AtomicInteger counter = new AtomicInteger();
+        // Une page au plus est en attente: la file bornée ne peut pas déborder
+        this.workers = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(pageSize), runnable -> {
+                    Thread thread = new Thread(runnable, "newsletter-sender-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Lance la diffusion d'une lettre à tous les membres actifs.
+     *
+     * <p>Les modèles sont vérifiés immédiatement; l'envoi démarre en arrière-plan
+     * après la validation de la transaction.</p>
+     *
+     * @param subject l'objet du message (modèle)
+     * @param body le corps du message (modèle)
+     * @param createdBy le nom de l'administrateur
+     * @return la diffusion créée
+     * @throws IllegalArgumentException si un modèle est vide ou contient une variable inconnue
+     */
+    public Newsletter start(String subject, String body, String createdBy) {
+        if (subject == null || subject.isBlank() || body == null || body.isBlank()) {
+            throw new IllegalArgumentException("L'objet et le contenu de la lettre sont obligatoires");
+        }
+        NewsletterTemplate.parse(subject);
+        NewsletterTemplate.parse(body);
+
+        Newsletter newsletter = newsletterRepository.save(new Newsletter(subject.trim(), body, createdBy));
+        log.info("Diffusion de la lettre {} lancée par {}", newsletter.getId(), createdBy);
+
+        Long id = newsletter.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(id);
+            }
+        });
+        return newsletter;
+    }
+
+    /**
+     * Interrompt une diffusion en cours; la page en cours d'envoi est terminée.
+     *
+     * @param id l'ID de la diffusion
+     * @return true si la diffusion était en cours
+     */
+    public boolean cancel(Long id) {
+        boolean cancelled = newsletterRepository.transition(id, Newsletter.Status.RUNNING,
+                Newsletter.Status.CANCELLED, LocalDateTime.now()) == 1;
+        if (cancelled) {
+            log.info("Diffusion de la lettre {} annulée", id);
+        }
+        return cancelled;
+    }
+
+    /**
+     * Récupère toutes les diffusions, les plus récentes d'abord.
+     *
+     * @return la liste des diffusions
+     */
+    @Transactional(readOnly = true)
+    public List<Newsletter> getAllNewsletters() {
+        return newsletterRepository.findAllByOrderByStartedAtDesc();
+    }
+
+    /**
+     * Reprend au démarrage les diffusions interrompues.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void resumeInterrupted() {
+        for (Newsletter newsletter : newsletterRepository.findByStatus(Newsletter.Status.RUNNING)) {
+            log.info("Reprise de la diffusion interrompue de la lettre {}", newsletter.getId());
+            submit(newsletter.getId());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        stopping = true;
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void submit(Long id) {
+        if (running.add(id)) {
+            coordinator.execute(() -> {
+                try {
+                    run(id);
+                } catch (RuntimeException e) {
+                    log.error("Diffusion de la lettre {} interrompue: {}", id, e.getMessage(), e);
+                } finally {
+                    running.remove(id);
+                }
+            });
+        }
+    }
+
+    private void run(Long id) {
+        Newsletter newsletter = newsletterRepository.findById(id).orElse(null);
+        if (newsletter == null || newsletter.getStatus() != Newsletter.Status.RUNNING) {
+            return;
+        }
+        NewsletterTemplate subject = NewsletterTemplate.parse(newsletter.getSubject());
+        NewsletterTemplate body = NewsletterTemplate.parse(newsletter.getBody());
+
+        if (!newsletter.isRecipientsReady()) {
+            collectRecipients(id, newsletter.getLastMemberId() != null ? newsletter.getLastMemberId() : 0L);
+        }
+        for (int pass = 1; pass <= maxAttempts; pass++) {
+            if (!deliverPass(id, subject, body)) {
+                return;
+            }
+            if (!deliveryRepository.existsByNewsletterIdAndStatus(id, NewsletterDelivery.Status.PENDING)) {
+                break;
+            }
+            // Laisse au serveur SMTP le temps de se rétablir avant la passe suivante
+            LockSupport.parkNanos(retryDelay.toNanos());
+        }
+
+        transactionTemplate.executeWithoutResult(status -> newsletterRepository.transition(id,
+                Newsletter.Status.RUNNING, Newsletter.Status.COMPLETED, LocalDateTime.now()));
+        newsletterRepository.findById(id).ifPresent(done -> log.info(
+                "Diffusion de la lettre {} terminée: {} envoyé(s), {} échec(s), {} msg/s",
+                id, done.getSentCount(), done.getFailedCount(), String.format("%.1f", done.getThroughput())));
+    }
+
+    /**
+     * Fige la liste des destinataires, page par page, à partir du curseur enregistré.
+     */
+    private void collectRecipients(Long id, long afterId) {
+        List<Member> page;
+        do {
+            page = memberRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                    MemberStatus.ACTIF, afterId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                break;
+            }
+            List<Member> members = page;
+            Long lastId = members.get(members.size() - 1).getId();
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(
+                        "insert into newsletter_deliveries (newsletter_id, member_id, email, first_name, last_name, " +
+                        "status, attempts) values (?, ?, ?, ?, ?, 'PENDING', 0)",
+                        members, members.size(), (ps, member) -> {
+                            ps.setLong(1, id);
+                            ps.setLong(2, member.getId());
+                            ps.setString(3, member.getEmail());
+                            ps.setString(4, member.getFirstName());
+                            ps.setString(5, member.getLastName());
+                        });
+                newsletterRepository.addRecipients(id, members.size(), lastId);
+            });
+            afterId = lastId;
+        } while (page.size() == pageSize);
+
+        transactionTemplate.executeWithoutResult(status -> newsletterRepository.markRecipientsReady(id));
+    }
+
+    /**
+     * Parcourt une fois les envois en attente.
+     *
+     * @return false si la diffusion a été annulée ou l'application s'arrête
+     */
+    private boolean deliverPass(Long id, NewsletterTemplate subject, NewsletterTemplate body) {
+        long afterId = 0;
+        while (true) {
+            if (stopping || !isRunning(id)) {
+                return false;
+            }
+            List<NewsletterDelivery> page = deliveryRepository.findByNewsletterIdAndStatusAndIdGreaterThanOrderByIdAsc(
+                    id, NewsletterDelivery.Status.PENDING, afterId, PageRequest.of(0, pageSize));
+            if (page.isEmpty()) {
+                return true;
+            }
+            afterId = page.get(page.size() - 1).getId();
+
+            List<Future<Result>> futures = new ArrayList<>(page.size());
+            for (NewsletterDelivery delivery : page) {
+                pace();
+                futures.add(workers.submit(() -> send(delivery, subject, body)));
+            }
+
+            List<Result> results = new ArrayList<>(futures.size());
+            for (Future<Result> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                } catch (ExecutionException e) {
+                    // send() capture ses propres erreurs: ne devrait pas arriver
+                    log.error("Erreur inattendue lors d'un envoi: {}", e.getMessage());
+                }
+            }
+            record(id, results);
+        }
+    }
+
+    private boolean isRunning(Long id) {
+        return newsletterRepository.findById(id)
+                .map(newsletter -> newsletter.getStatus() == Newsletter.Status.RUNNING)
+                .orElse(false);
+    }
+
+    /**
+     * Attend que le limiteur de débit autorise un nouvel envoi.
+     */
+    private void pace() {
+        long wait;
+        while ((wait = rateLimiter.tryAcquire(RATE_KEY)) > 0) {
+            LockSupport.parkNanos(wait);
+        }
+    }
+
+    private Result send(NewsletterDelivery delivery, NewsletterTemplate subject, NewsletterTemplate body) {
+        try {
+            JavaMailSender sender = mailSender.getIfAvailable();
+            if (sender == null) {
+                log.info("Lettre pour {}: {}", delivery.getEmail(), subject.render(delivery));
+            } else {
+                SimpleMailMessage message = new SimpleMailMessage();
+                message.setFrom(from);
+                message.setTo(delivery.getEmail());
+                message.setSubject(subject.render(delivery));
+                message.setText(body.render(delivery));
+                sender.send(message);
+            }
+            return new Result(delivery.getId(), delivery.getAttempts(), null);
+        } catch (RuntimeException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Échec de l'envoi à {}: {}", delivery.getEmail(), e.getMessage());
+            }
+            String error = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            return new Result(delivery.getId(), delivery.getAttempts(),
+                    error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        }
+    }
+
+    /**
+     * Enregistre le résultat d'une page d'envois et les compteurs, en une transaction.
+     */
+    private void record(Long id, List<Result> results) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int sent = 0;
+        int failed = 0;
+        for (Result result : results) {
+            if (result.error() == null) {
+                sent++;
+            } else if (result.attempts() + 1 >= maxAttempts) {
+                failed++;
+            }
+        }
+        int sentCount = sent;
+        int failedCount = failed;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(
+                    "update newsletter_deliveries set status = ?, attempts = attempts + 1, sent_at = ?, " +
+                    "last_error = ? where id = ?",
+                    results, results.size(), (ps, result) -> {
+                        boolean ok = result.error() == null;
+                        NewsletterDelivery.Status next = ok ? NewsletterDelivery.Status.SENT
+                                : result.attempts() + 1 >= maxAttempts ? NewsletterDelivery.Status.FAILED
+                                : NewsletterDelivery.Status.PENDING;
+                        ps.setString(1, next.name());
+                        ps.setTimestamp(2, ok ? now : null);
+                        ps.setString(3, result.error());
+                        ps.setLong(4, result.deliveryId());
+                    });
+            newsletterRepository.addProgress(id, sentCount, failedCount);
+        });
+    }
+
+    /**
+     * Résultat de l'envoi à un destinataire (erreur nulle en cas de succès).
+     */
+    private record Result(long deliveryId, int attempts, String error) {
+    }
+}
@@ -0,0 +1,121 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.model.NewsletterDelivery;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Modèle de texte pré-analysé pour les lettres d'information.
+ *
+ * <p>Le texte est découpé une seule fois en segments fixes et en variables;
+ * le rendu pour un destinataire se limite ensuite à concaténer ces segments
+ * dans un tampon dimensionné d'avance, sans nouvelle analyse ni expression régulière.</p>
+ *
+ * <p><strong>Variables disponibles:</strong></p>
+ * <ul>
+ *   <li>{@code {{prenom}}} - prénom du destinataire</li>
+ *   <li>{@code {{nom}}} - nom du destinataire</li>
+ *   <li>{@code {{email}}} - adresse email du destinataire</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see NewsletterService
+ */
+public final class NewsletterTemplate {
+
+    /**
+     * Marge ajoutée à la taille du tampon pour chaque variable.
+     */
+    private static final int FIELD_ALLOWANCE = 24;
+
+    /**
+     * Segments fixes: il y en a toujours un de plus que de variables.
+     */
+    private final String[] literals;
+    private final Field[] fields;
+    private final int estimatedLength;
+
+    private NewsletterTemplate(String[] literals, Field[] fields) {
+        this.literals = literals;
+        this.fields = fields;
+        int length = fields.length * FIELD_ALLOWANCE;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.estimatedLength = length;
+    }
+
+    /**
+     * Analyse un modèle de texte.
+     *
+     * @param text le texte contenant des variables {@code {{...}}}
+     * @return le modèle pré-analysé
+     * @throws IllegalArgumentException si une variable est inconnue ou non fermée
+     */
+    public static NewsletterTemplate parse(String text) {
+        List<String> literals = new ArrayList<>();
+        List<Field> fields = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = text.indexOf("{{", position)) >= 0) {
+            int close = text.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("Variable non fermée dans le modèle: " + text.substring(open));
+            }
+            literals.add(text.substring(position, open));
+            fields.add(Field.of(text.substring(open + 2, close).trim()));
+            position = close + 2;
+        }
+        literals.add(text.substring(position));
+        return new NewsletterTemplate(literals.toArray(new String[0]), fields.toArray(new Field[0]));
+    }
+
+    /**
+     * Produit le texte personnalisé pour un destinataire.
+     *
+     * @param recipient le destinataire
+     * @return le texte rendu
+     */
+    public String render(NewsletterDelivery recipient) {
+        if (fields.length == 0) {
+            return literals[0];
+        }
+        StringBuilder out = new StringBuilder(estimatedLength);
+        for (int i = 0; i < fields.length; i++) {
+            out.append(literals[i]);
+            String value = fields[i].valueOf(recipient);
+            if (value != null) {
+                out.append(value);
+            }
+        }
+        return out.append(literals[fields.length]).toString();
+    }
+
+    /**
+     * Variables reconnues dans les modèles.
+     */
+    private enum Field {
+        PRENOM,
+        NOM,
+        EMAIL;
+
+        private static Field of(String name) {
+            return switch (name) {
+                case "prenom" -> PRENOM;
+                case "nom" -> NOM;
+                case "email" -> EMAIL;
+                default -> throw new IllegalArgumentException("Variable inconnue dans le modèle: {{" + name + "}}");
+            };
+        }
+
+        private String valueOf(NewsletterDelivery recipient) {
+            return switch (this) {
+                case PRENOM -> recipient.getFirstName();
+                case NOM -> recipient.getLastName();
+                case EMAIL -> recipient.getEmail();
+            };
+        }
+    }
+}
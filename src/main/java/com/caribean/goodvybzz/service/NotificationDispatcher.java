@@ -0,0 +1,89 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.dto.NotificationDigest;
+import com.caribean.goodvybzz.model.NotificationOutbox;
+import com.caribean.goodvybzz.model.NotificationOutbox.Type;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Expéditeur périodique des notifications d'administration.
+ *
+ * <p>À chaque passage, le lot de notifications dues est réservé puis envoyé en un
+ * seul résumé par le {@link NotificationSender} configuré. L'envoi se fait hors
+ * transaction: une connexion SMTP lente ne retient ni verrou ni connexion à la base.</p>
+ *
+ * <p><strong>Garanties:</strong></p>
+ * <ul>
+ *   <li>Plusieurs nœuds peuvent tourner en parallèle: chaque lot n'est réservé que par un seul</li>
+ *   <li>Un envoi échoué est retenté plus tard, avec une attente croissante</li>
+ *   <li>Une notification peut être envoyée deux fois si le nœud s'arrête entre
+ *       l'envoi et la confirmation (livraison « au moins une fois »)</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see NotificationOutboxService
+ * @see NotificationSender
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.notifications", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationDispatcher {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(NotificationDispatcher.class);
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+
+    private final NotificationOutboxService outboxService;
+    private final NotificationSender sender;
+
+    public NotificationDispatcher(NotificationOutboxService outboxService, NotificationSender sender) {
+        this.outboxService = outboxService;
+        this.sender = sender;
+    }
+
+    /**
+     * Envoie le résumé des notifications dues.
+     */
+    @Scheduled(fixedDelayString = "${app.notifications.poll-interval-ms:60000}",
+               initialDelayString = "${app.notifications.poll-interval-ms:60000}")
+    public void dispatch() {
+        List<NotificationOutbox> batch = outboxService.claimBatch();
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = batch.stream().map(NotificationOutbox::getId).toList();
+        try {
+            sender.send(toDigest(batch));
+        } catch (RuntimeException e) {
+            log.warn("Échec de l'envoi de {} notification(s), nouvelle tentative plus tard: {}",
+                    batch.size(), e.getMessage());
+            outboxService.markFailed(ids, e.getMessage());
+            return;
+        }
+        outboxService.markSent(ids);
+        log.info("Résumé de {} notification(s) envoyé", batch.size());
+    }
+
+    private static NotificationDigest toDigest(List<NotificationOutbox> batch) {
+        long registrations = batch.stream().filter(n -> n.getType() == Type.MEMBER_REGISTERED).count();
+        long messages = batch.size() - registrations;
+
+        StringBuilder subject = new StringBuilder("[caribean Good Vybzz] ");
+        if (registrations > 0) {
+            subject.append(registrations).append(" nouvelle(s) inscription(s)");
+        }
+        if (messages > 0) {
+            subject.append(registrations > 0 ? ", " : "").append(messages).append(" nouveau(x) message(s)");
+        }
+
+        List<String> lines = batch.stream()
+                .map(n -> TIME_FORMAT.format(n.getCreatedAt()) + "  " + n.getSummary())
+                .toList();
+        return new NotificationDigest(subject.toString(), lines);
+    }
+}
@@ -0,0 +1,207 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.event.ContactReceivedEvent;
+import com.caribean.goodvybzz.event.MemberRegisteredEvent;
+import com.caribean.goodvybzz.model.NotificationOutbox;
+import com.caribean.goodvybzz.model.NotificationOutbox.Status;
+import com.caribean.goodvybzz.model.NotificationOutbox.Type;
+import com.caribean.goodvybzz.repository.ContactRepository;
+import com.caribean.goodvybzz.repository.NotificationOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service de gestion de la file des notifications d'administration (outbox).
+ *
+ * <p>Les événements d'inscription et de message sont écoutés de manière synchrone:
+ * la ligne de notification est donc insérée dans la transaction même qui enregistre
+ * le membre ou le message (formulaire public ou écriture par lots). Aucun email
+ * n'est envoyé ici; {@link NotificationDispatcher} s'en charge en arrière-plan.</p>
+ *
+ * <p><strong>Cycle de vie d'une notification:</strong></p>
+ * <ul>
+ *   <li>Insertion, envoyable après un court délai (le filtre anti-spam a ainsi
+ *       le temps de classer le message)</li>
+ *   <li>Réservation par un nœud pour la durée d'un bail</li>
+ *   <li>Suppression après envoi, ou nouvelle tentative avec attente exponentielle</li>
+ *   <li>Abandon (statut FAILED) après le nombre maximal de tentatives</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see NotificationOutbox
+ * @see NotificationDispatcher
+ */
+@Service
+@Transactional
+@ConditionalOnProperty(prefix = "app.notifications", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationOutboxService {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(NotificationOutboxService.class);
+
+    private static final int MAX_TEXT_LENGTH = 500;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final ContactRepository contactRepository;
+
+    /**
+     * Délai avant qu'une notification soit envoyable.
+     */
+    @Value("${app.notifications.settle-delay:10s}")
+    private Duration settleDelay;
+
+    /**
+     * Nombre maximal de notifications regroupées dans un même envoi.
+     */
+    @Value("${app.notifications.batch-size:200}")
+    private int batchSize;
+
+    /**
+     * Durée de réservation d'un lot par un nœud (reprise si le nœud s'arrête).
+     */
+    @Value("${app.notifications.lease:5m}")
+    private Duration lease;
+
+    /**
+     * Nombre de tentatives avant abandon.
+     */
+    @Value("${app.notifications.max-attempts:8}")
+    private int maxAttempts;
+
+    /**
+     * Attente avant la première nouvelle tentative (doublée à chaque échec).
+     */
+    @Value("${app.notifications.retry-backoff:1m}")
+    private Duration retryBackoff;
+
+    /**
+     * Attente maximale entre deux tentatives.
+     */
+    @Value("${app.notifications.max-retry-backoff:1h}")
+    private Duration maxRetryBackoff;
+
+    public NotificationOutboxService(NotificationOutboxRepository outboxRepository,
+                                     ContactRepository contactRepository) {
+        this.outboxRepository = outboxRepository;
+        this.contactRepository = contactRepository;
+    }
+
+    /**
+     * Ajoute une notification d'inscription, dans la transaction de l'inscription.
+     *
+     * @param event l'événement d'inscription
+     */
+    @EventListener
+    public void onMemberRegistered(MemberRegisteredEvent event) {
+        enqueue(Type.MEMBER_REGISTERED, event.id(),
+                "Nouvelle inscription: " + event.firstName() + " " + event.lastName() + " <" + event.email() + ">");
+    }
+
+    /**
+     * Ajoute une notification de message, dans la transaction de l'enregistrement du message.
+     *
+     * @param event l'événement de réception
+     */
+    @EventListener
+    public void onContactReceived(ContactReceivedEvent event) {
+        enqueue(Type.CONTACT_RECEIVED, event.id(),
+                "Nouveau message de " + event.name() + " <" + event.email() + ">: " + event.subject());
+    }
+
+    /**
+     * Réserve le prochain lot de notifications dues.
+     *
+     * <p>Les lignes verrouillées par un autre nœud sont ignorées, et le bail posé
+     * ici les protège encore après le commit, pendant l'envoi. Les messages classés
+     * indésirables entre-temps sont supprimés sans être notifiés.</p>
+     *
+     * @return les notifications réservées, dans l'ordre d'arrivée
+     */
+    public List<NotificationOutbox> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> due = outboxRepository.findClaimable(Status.PENDING, now, PageRequest.of(0, batchSize));
+        if (due.isEmpty()) {
+            return due;
+        }
+
+        List<Long> contactIds = due.stream()
+                .filter(notification -> notification.getType() == Type.CONTACT_RECEIVED)
+                .map(NotificationOutbox::getReferenceId)
+                .toList();
+        Set<Long> spamIds = contactIds.isEmpty() ? Set.of() : new HashSet<>(contactRepository.findSpamIds(contactIds));
+
+        List<NotificationOutbox> claimed = new ArrayList<>(due.size());
+        for (NotificationOutbox notification : due) {
+            if (notification.getType() == Type.CONTACT_RECEIVED && spamIds.contains(notification.getReferenceId())) {
+                outboxRepository.delete(notification);
+            } else {
+                notification.setLockedUntil(now.plus(lease));
+                claimed.add(notification);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("{} notification(s) réservée(s), {} message(s) indésirable(s) ignoré(s)",
+                    claimed.size(), due.size() - claimed.size());
+        }
+        return claimed;
+    }
+
+    /**
+     * Supprime les notifications envoyées.
+     *
+     * @param ids les IDs des notifications envoyées
+     */
+    public void markSent(List<Long> ids) {
+        outboxRepository.deleteAllByIdInBatch(ids);
+    }
+
+    /**
+     * Libère les notifications dont l'envoi a échoué et planifie la prochaine tentative.
+     *
+     * @param ids les IDs des notifications concernées
+     * @param error le message d'erreur
+     */
+    public void markFailed(List<Long> ids, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        for (NotificationOutbox notification : outboxRepository.findAllById(ids)) {
+            int attempts = notification.getAttempts() + 1;
+            notification.setAttempts(attempts);
+            notification.setLockedUntil(null);
+            notification.setLastError(truncate(error));
+            if (attempts >= maxAttempts) {
+                notification.setStatus(Status.FAILED);
+                log.error("Notification {} abandonnée après {} tentatives: {}", notification.getId(), attempts, error);
+            } else {
+                notification.setNextAttemptAt(now.plus(backoff(attempts)));
+            }
+        }
+    }
+
+    private void enqueue(Type type, Long referenceId, String summary) {
+        LocalDateTime now = LocalDateTime.now();
+        outboxRepository.save(new NotificationOutbox(type, referenceId, truncate(summary), now, now.plus(settleDelay)));
+    }
+
+    private Duration backoff(int attempts) {
+        // 1, 2, 4, 8... fois l'attente initiale, plafonnée
+        Duration delay = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : delay;
+    }
+
+    private static String truncate(String text) {
+        if (text == null || text.length() <= MAX_TEXT_LENGTH) {
+            return text;
+        }
+        return text.substring(0, MAX_TEXT_LENGTH);
+    }
+}
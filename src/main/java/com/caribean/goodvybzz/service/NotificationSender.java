@@ -0,0 +1,31 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.dto.NotificationDigest;
+
+/**
+ * Canal d'envoi des résumés de notifications d'administration.
+ *
+ * <p>Appelé uniquement par {@link NotificationDispatcher}, en arrière-plan et hors
+ * transaction: un canal lent ou indisponible ne retarde jamais les visiteurs.
+ * Une exception signale un échec; l'envoi est alors retenté plus tard.</p>
+ *
+ * <p><strong>Implémentations</strong> (propriété {@code app.notifications.sender}):</p>
+ * <ul>
+ *   <li>{@code log} (par défaut) - {@link LogNotificationSender}, écrit le résumé dans les journaux</li>
+ *   <li>{@code mail} - {@link MailNotificationSender}, envoie un email via {@code spring.mail.*}</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see NotificationDispatcher
+ */
+public interface NotificationSender {
+
+    /**
+     * Envoie un résumé de notifications.
+     *
+     * @param digest le résumé à envoyer
+     * @throws RuntimeException si l'envoi a échoué
+     */
+    void send(NotificationDigest digest);
+}
@@ -0,0 +1,191 @@
+package com.caribean.goodvybzz.service;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Classifieur bayésien naïf des messages de contact (indésirable / légitime).
+ *
+ * <p>Le modèle ne contient que des compteurs: nombre de messages de chaque classe
+ * et, pour chaque mot, nombre de messages de chaque classe le contenant. Le calcul
+ * du score se limite à un découpage en mots et à quelques recherches dans une table
+ * de hachage, soit quelques microsecondes par message.</p>
+ *
+ * <p><strong>Caractéristiques:</strong></p>
+ * <ul>
+ *   <li>Apprentissage et oubli incrémentaux (un administrateur peut corriger un classement)</li>
+ *   <li>Compteurs concurrents: apprentissage et analyse simultanés sans verrou global</li>
+ *   <li>Indicateurs synthétiques ajoutés aux mots: liens, adresses email, majuscules</li>
+ *   <li>Tant que chaque classe n'a pas assez d'exemples, le score n'est pas calculé</li>
+ *   <li>Vocabulaire borné: au-delà de {@code vocabularyCapacity} mots pour une classe, les
+ *       mots les plus rares (fautes de frappe, identifiants, mots aléatoires des robots)
+ *       sont oubliés jusqu'à revenir aux trois quarts de la capacité</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see SpamFilterService
+ */
+public class SpamClassifier {
+
+    /**
+     * Nombre maximal de mots distincts pris en compte par message.
+     */
+    private static final int MAX_TOKENS = 300;
+
+    private final ConcurrentMap<String, LongAdder> spamTokens = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> hamTokens = new ConcurrentHashMap<>();
+    private final AtomicLong spamMessages = new AtomicLong();
+    private final AtomicLong hamMessages = new AtomicLong();
+    private final int minTrainingPerClass;
+    private final int vocabularyCapacity;
+
+    /**
+     * @param minTrainingPerClass nombre minimal d'exemples de chaque classe avant de calculer un score
+     * @param vocabularyCapacity nombre maximal de mots distincts conservés par classe
+     */
+    public SpamClassifier(int minTrainingPerClass, int vocabularyCapacity) {
+        this.minTrainingPerClass = minTrainingPerClass;
+        this.vocabularyCapacity = vocabularyCapacity;
+    }
+
+    /**
+     * Apprend un message classé.
+     *
+     * @param text le texte du message (sujet et contenu)
+     * @param spam true si le message est indésirable
+     */
+    public void learn(String text, boolean spam) {
+        update(text, spam, 1);
+    }
+
+    /**
+     * Oublie un message précédemment appris (correction d'un classement).
+     *
+     * @param text le texte du message
+     * @param spam la classe sous laquelle il avait été appris
+     */
+    public void forget(String text, boolean spam) {
+        update(text, spam, -1);
+    }
+
+    /**
+     * Indique si le modèle dispose d'assez d'exemples pour calculer un score.
+     *
+     * @return true si le modèle est exploitable
+     */
+    public boolean isTrained() {
+        return spamMessages.get() >= minTrainingPerClass && hamMessages.get() >= minTrainingPerClass;
+    }
+
+    /**
+     * Calcule la probabilité qu'un message soit indésirable.
+     *
+     * @param text le texte du message
+     * @return une probabilité entre 0 et 1, ou -1 si le modèle n'est pas encore exploitable
+     */
+    public double score(String text) {
+        if (!isTrained()) {
+            return -1;
+        }
+        double spamCount = spamMessages.get();
+        double hamCount = hamMessages.get();
+
+        // Log-rapport des probabilités a posteriori, lissage de Laplace
+        double logOdds = Math.log(spamCount / hamCount);
+        for (String token : tokenize(text)) {
+            double inSpam = count(spamTokens, token);
+            double inHam = count(hamTokens, token);
+            if (inSpam == 0 && inHam == 0) {
+                continue;
+            }
+            logOdds += Math.log((inSpam + 1) / (spamCount + 2)) - Math.log((inHam + 1) / (hamCount + 2));
+        }
+        return 1 / (1 + Math.exp(-logOdds));
+    }
+
+    private void update(String text, boolean spam, int delta) {
+        ConcurrentMap<String, LongAdder> tokens = spam ? spamTokens : hamTokens;
+        for (String token : tokenize(text)) {
+            tokens.computeIfAbsent(token, t -> new LongAdder()).add(delta);
+        }
+        (spam ? spamMessages : hamMessages).addAndGet(delta);
+        if (tokens.size() > vocabularyCapacity) {
+            pruneRareTokens(tokens);
+        }
+    }
+
+    /**
+     * Oublie les mots les moins fréquents d'une classe jusqu'à revenir aux trois quarts
+     * de la capacité. Un apprentissage simultané d'un mot retiré peut être perdu: sans
+     * conséquence pour un mot rare.
+     */
+    private void pruneRareTokens(ConcurrentMap<String, LongAdder> tokens) {
+        synchronized (tokens) {
+            int target = vocabularyCapacity / 4 * 3;
+            for (long floor = 1; tokens.size() > target; floor++) {
+                long removeUpTo = floor;
+                tokens.values().removeIf(adder -> adder.sum() <= removeUpTo);
+            }
+        }
+    }
+
+    /**
+     * Nombre de mots distincts conservés, toutes classes confondues.
+     *
+     * @return la taille du vocabulaire
+     */
+    int vocabularySize() {
+        return spamTokens.size() + hamTokens.size();
+    }
+
+    private static long count(ConcurrentMap<String, LongAdder> tokens, String token) {
+        LongAdder adder = tokens.get(token);
+        return adder == null ? 0 : Math.max(0, adder.sum());
+    }
+
+    /**
+     * Découpe un texte en mots distincts (minuscules, 2 à 30 caractères)
+     * et ajoute quelques indicateurs synthétiques.
+     */
+    private static Set<String> tokenize(String text) {
+        Set<String> tokens = new HashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        if (text.contains("http://") || text.contains("https://") || text.contains("www.")) {
+            tokens.add("__link__");
+        }
+        if (text.indexOf('@') >= 0) {
+            tokens.add("__email__");
+        }
+
+        int upper = 0;
+        int letters = 0;
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length() && tokens.size() < MAX_TOKENS; i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                letters++;
+                if (Character.isUpperCase(c)) {
+                    upper++;
+                }
+                word.append(c);
+            } else if (!word.isEmpty()) {
+                if (word.length() >= 2 && word.length() <= 30) {
+                    tokens.add(word.toString().toLowerCase(Locale.ROOT));
+                }
+                word.setLength(0);
+            }
+        }
+        if (letters >= 20 && upper * 2 > letters) {
+            tokens.add("__shouting__");
+        }
+        return tokens;
+    }
+}
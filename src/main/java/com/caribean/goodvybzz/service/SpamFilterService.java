@@ -0,0 +1,253 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.event.ContactClassifiedEvent;
+import com.caribean.goodvybzz.event.ContactReceivedEvent;
+import com.caribean.goodvybzz.model.Contact;
+import com.caribean.goodvybzz.repository.ContactRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service de détection des messages de contact indésirables.
+ *
+ * <p>Chaque message est analysé en arrière-plan, après le commit de son
+ * enregistrement: la soumission du formulaire n'attend jamais l'analyse.
+ * Le score et le classement sont ensuite écrits par une unique instruction
+ * {@code UPDATE}, sauf si un administrateur a déjà classé le message.</p>
+ *
+ * <p>Une fois le classement validé, un {@link ContactClassifiedEvent} est publié:
+ * le tableau de bord n'affiche ainsi que les messages retenus dans la boîte de réception.</p>
+ *
+ * <p><strong>Critères:</strong></p>
+ * <ul>
+ *   <li>Classifieur bayésien naïf ({@link SpamClassifier}) entraîné par les
+ *       classements des administrateurs et les messages lus non signalés</li>
+ *   <li>Contenu dupliqué: un même texte reçu plusieurs fois est indésirable</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see SpamClassifier
+ * @see ContactService#markAsSpam(Long, boolean)
+ */
+@Service
+public class SpamFilterService {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(SpamFilterService.class);
+
+    private final ContactRepository contactRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final SpamClassifier classifier;
+    private final ThreadPoolExecutor executor;
+    private final ConcurrentMap<Long, AtomicInteger> contentHashes = new ConcurrentHashMap<>();
+
+    /**
+     * Active l'analyse automatique des messages reçus.
+     */
+    @Value("${app.spam.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Score à partir duquel un message est classé indésirable.
+     */
+    @Value("${app.spam.threshold:0.9}")
+    private double threshold;
+
+    /**
+     * Nombre d'occurrences d'un même contenu à partir duquel il est classé indésirable.
+     */
+    @Value("${app.spam.duplicate-threshold:3}")
+    private int duplicateThreshold;
+
+    /**
+     * Nombre maximal d'empreintes de contenu conservées en mémoire.
+     */
+    @Value("${app.spam.duplicate-capacity:10000}")
+    private int duplicateCapacity;
+
+    /**
+     * Nombre maximal de messages relus au démarrage pour entraîner le classifieur.
+     */
+    @Value("${app.spam.training-size:5000}")
+    private int trainingSize;
+
+    public SpamFilterService(ContactRepository contactRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.spam.min-training:10}") int minTraining,
+                             @Value("${app.spam.queue-capacity:1000}") int queueCapacity,
+                             @Value("${app.spam.vocabulary-capacity:50000}") int vocabularyCapacity) {
+        this.contactRepository = contactRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.classifier = new SpamClassifier(minTraining, vocabularyCapacity);
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "spam-filter");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Entraîne le classifieur à partir des messages déjà classés.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void train() {
+        List<Contact> messages = contactRepository.findTrainingMessages(PageRequest.of(0, trainingSize));
+        for (Contact contact : messages) {
+            classifier.learn(textOf(contact), Boolean.TRUE.equals(contact.getSpamReviewed()) && contact.getSpam());
+        }
+        log.info("Filtre anti-spam entraîné sur {} message(s){}", messages.size(),
+                classifier.isTrained() ? "" : " (pas encore assez d'exemples: seuls les doublons sont détectés)");
+    }
+
+    /**
+     * Programme l'analyse d'un message reçu, une fois son enregistrement validé.
+     *
+     * @param event l'événement de réception
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onContactReceived(ContactReceivedEvent event) {
+        if (!enabled) {
+            eventPublisher.publishEvent(ContactClassifiedEvent.unanalyzed(event));
+            return;
+        }
+        try {
+            executor.execute(() -> analyze(event.id()));
+        } catch (RejectedExecutionException e) {
+            log.warn("File d'analyse anti-spam saturée, message {} non analysé", event.id());
+            eventPublisher.publishEvent(ContactClassifiedEvent.unanalyzed(event));
+        }
+    }
+
+    /**
+     * Prend en compte le classement d'un message par un administrateur,
+     * après le commit de la transaction en cours.
+     *
+     * @param contact le message classé
+     * @param spam le nouveau classement
+     * @param previousReview le classement précédent d'un administrateur, ou null
+     */
+    public void learnAfterCommit(Contact contact, boolean spam, Boolean previousReview) {
+        String text = textOf(contact);
+        Runnable learning = () -> {
+            if (previousReview != null) {
+                classifier.forget(text, previousReview);
+            }
+            classifier.learn(text, spam);
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    learning.run();
+                }
+            });
+        } else {
+            learning.run();
+        }
+    }
+
+    /**
+     * Retourne le nombre de messages en attente d'analyse.
+     *
+     * @return la profondeur de la file d'analyse
+     */
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Retourne la capacité de la file d'analyse.
+     *
+     * @return le nombre maximal de messages en attente d'analyse
+     */
+    public int getQueueCapacity() {
+        return executor.getQueue().size() + executor.getQueue().remainingCapacity();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void analyze(Long id) {
+        try {
+            Contact contact = contactRepository.findById(id).orElse(null);
+            if (contact == null || Boolean.TRUE.equals(contact.getSpamReviewed())) {
+                return;
+            }
+
+            long start = System.nanoTime();
+            int occurrences = recordContent(contact.getMessage());
+            double probability = classifier.score(textOf(contact));
+            Double score = probability < 0 ? null : probability;
+            boolean spam = occurrences >= duplicateThreshold || (score != null && score >= threshold);
+            long elapsedMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+            Integer updated = transactionTemplate.execute(status -> contactRepository.updateSpamScore(id, score, spam));
+            if (updated == null || updated == 0) {
+                // Classé entre-temps par un administrateur
+                return;
+            }
+            eventPublisher.publishEvent(ContactClassifiedEvent.of(contact, spam));
+            if (spam) {
+                log.info("Message {} classé indésirable (score: {}, occurrences: {})", id, score, occurrences);
+            } else if (log.isDebugEnabled()) {
+                log.debug("Message {} analysé en {} µs (score: {}, occurrences: {})", id, elapsedMicros, score, occurrences);
+            }
+        } catch (RuntimeException e) {
+            log.error("Erreur lors de l'analyse anti-spam du message {}: {}", id, e.getMessage());
+        }
+    }
+
+    /**
+     * Comptabilise le contenu d'un message par son empreinte (casse, ponctuation et
+     * espaces ignorés) et retourne le nombre de fois où il a été reçu.
+     */
+    private int recordContent(String message) {
+        if (message == null) {
+            return 0;
+        }
+        StringBuilder normalized = new StringBuilder(message.length());
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        String content = normalized.toString();
+        long fingerprint = ((long) content.hashCode() << 32) | (content.length() & 0xffffffffL);
+
+        if (contentHashes.size() >= duplicateCapacity) {
+            // Borne mémoire: on repart d'une table vide plutôt que de croître indéfiniment
+            contentHashes.clear();
+        }
+        return contentHashes.computeIfAbsent(fingerprint, f -> new AtomicInteger()).incrementAndGet();
+    }
+
+    private static String textOf(Contact contact) {
+        return (contact.getSubject() != null ? contact.getSubject() : "") + "\n"
+                + (contact.getMessage() != null ? contact.getMessage() : "");
+    }
+}
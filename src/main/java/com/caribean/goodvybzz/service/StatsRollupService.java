@@ -0,0 +1,359 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.dto.RollupSeries;
+import com.caribean.goodvybzz.model.Member.MemberStatus;
+import com.caribean.goodvybzz.model.StatsRollup;
+import com.caribean.goodvybzz.model.StatsRollup.Granularity;
+import com.caribean.goodvybzz.model.StatsRollup.Metric;
+import com.caribean.goodvybzz.repository.ArchivedContactRepository;
+import com.caribean.goodvybzz.repository.ContactRepository;
+import com.caribean.goodvybzz.repository.MemberRepository;
+import com.caribean.goodvybzz.repository.StatsRollupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Service de gestion des statistiques pré-agrégées (rollups).
+ *
+ * <p>Ce service maintient, pour chaque jour, semaine et mois, le nombre
+ * d'inscriptions par statut et le nombre de messages de contact reçus.
+ * Les compteurs sont mis à jour dans la transaction de l'opération métier
+ * par une unique instruction {@code UPDATE ... SET total = total + ?}; un compteur
+ * qui n'existe pas encore est créé par un upsert dans cette même transaction, sans
+ * jamais demander une seconde connexion au pool.</p>
+ *
+ * <p><strong>Responsabilités:</strong></p>
+ * <ul>
+ *   <li>Mise à jour incrémentale à l'inscription, au changement de statut et à la suppression</li>
+ *   <li>Création anticipée des compteurs des périodes courantes</li>
+ *   <li>Reconstruction complète à partir des données brutes (backfill)</li>
+ *   <li>Lecture des séries pour l'API d'analyse, sans jamais parcourir les données brutes</li>
+ * </ul>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ * @see StatsRollup
+ * @see StatsRollupRepository
+ */
+@Service
+@Transactional
+public class StatsRollupService {
+    private static final org.slf4j.Logger log = org.slf4j.LoggerFactory.getLogger(StatsRollupService.class);
+
+    /**
+     * Crée le compteur ou lui ajoute la valeur; une création concurrente attend la
+     * transaction de l'autre puis ajoute la valeur au compteur qu'elle a créé.
+     */
+    private static final String POSTGRESQL_UPSERT_SQL =
+            "insert into stats_rollups (metric, granularity, bucket_start, dimension, total) values (?, ?, ?, ?, ?) " +
+            "on conflict (metric, granularity, bucket_start, dimension) " +
+            "do update set total = stats_rollups.total + excluded.total";
+
+    /**
+     * Équivalent en SQL standard (H2); une création concurrente se termine par une
+     * violation d'unicité, sans annuler le reste de la transaction.
+     */
+    private static final String MERGE_SQL =
+            "merge into stats_rollups r using (values (cast(? as varchar(30)), cast(? as varchar(10)), " +
+            "cast(? as date), cast(? as varchar(30)), cast(? as bigint))) " +
+            "s (metric, granularity, bucket_start, dimension, delta) " +
+            "on r.metric = s.metric and r.granularity = s.granularity " +
+            "and r.bucket_start = s.bucket_start and r.dimension = s.dimension " +
+            "when matched then update set total = r.total + s.delta " +
+            "when not matched then insert (metric, granularity, bucket_start, dimension, total) " +
+            "values (s.metric, s.granularity, s.bucket_start, s.dimension, s.delta)";
+
+    private final StatsRollupRepository statsRollupRepository;
+    private final MemberRepository memberRepository;
+    private final ContactRepository contactRepository;
+    private final ArchivedContactRepository archivedContactRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate rebuildTransaction;
+    private final String upsertSql;
+
+    /**
+     * Reconstruit automatiquement les statistiques au démarrage si elles sont vides.
+     */
+    @Value("${app.analytics.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    public StatsRollupService(StatsRollupRepository statsRollupRepository,
+                              MemberRepository memberRepository,
+                              ContactRepository contactRepository,
+                              ArchivedContactRepository archivedContactRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.statsRollupRepository = statsRollupRepository;
+        this.memberRepository = memberRepository;
+        this.contactRepository = contactRepository;
+        this.archivedContactRepository = archivedContactRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.upsertSql = isPostgreSql(jdbcTemplate) ? POSTGRESQL_UPSERT_SQL : MERGE_SQL;
+    }
+
+    /**
+     * Comptabilise une nouvelle inscription.
+     *
+     * @param registrationDate la date d'inscription
+     * @param status le statut initial du membre
+     */
+    public void recordMemberRegistered(LocalDateTime registrationDate, MemberStatus status) {
+        adjust(Metric.MEMBER_REGISTRATIONS, registrationDate, status.name(), 1);
+    }
+
+    /**
+     * Déplace une inscription d'un statut vers un autre.
+     *
+     * @param registrationDate la date d'inscription du membre
+     * @param from l'ancien statut
+     * @param to le nouveau statut
+     */
+    public void recordMemberStatusChanged(LocalDateTime registrationDate, MemberStatus from, MemberStatus to) {
+        if (from == to) {
+            return;
+        }
+        adjust(Metric.MEMBER_REGISTRATIONS, registrationDate, from.name(), -1);
+        adjust(Metric.MEMBER_REGISTRATIONS, registrationDate, to.name(), 1);
+    }
+
+    /**
+     * Retire une inscription supprimée des statistiques.
+     *
+     * @param registrationDate la date d'inscription du membre
+     * @param status le statut du membre au moment de la suppression
+     */
+    public void recordMemberDeleted(LocalDateTime registrationDate, MemberStatus status) {
+        adjust(Metric.MEMBER_REGISTRATIONS, registrationDate, status.name(), -1);
+    }
+
+    /**
+     * Comptabilise un message de contact reçu.
+     *
+     * @param receivedDate la date de réception
+     */
+    public void recordContactReceived(LocalDateTime receivedDate) {
+        adjust(Metric.CONTACTS, receivedDate, StatsRollup.ALL, 1);
+    }
+
+    /**
+     * Comptabilise en une fois plusieurs messages reçus le même jour
+     * (écriture différée par lots).
+     *
+     * @param receivedDay le jour de réception
+     * @param count le nombre de messages
+     */
+    public void recordContactsReceived(LocalDate receivedDay, long count) {
+        adjust(Metric.CONTACTS, receivedDay.atStartOfDay(), StatsRollup.ALL, count);
+    }
+
+    /**
+     * Retire un message de contact supprimé des statistiques.
+     *
+     * @param receivedDate la date de réception du message
+     */
+    public void recordContactDeleted(LocalDateTime receivedDate) {
+        adjust(Metric.CONTACTS, receivedDate, StatsRollup.ALL, -1);
+    }
+
+    /**
+     * Retourne une série pré-agrégée sur une plage de dates.
+     *
+     * <p>Seuls les compteurs sont lus: le coût dépend du nombre de périodes
+     * demandées, pas du volume de données brutes.</p>
+     *
+     * @param metric la métrique
+     * @param granularity la granularité
+     * @param from la date de début (ramenée au début de sa période)
+     * @param to la date de fin (ramenée au début de sa période)
+     * @return la série, avec une valeur pour chaque période de la plage
+     */
+    @Transactional(readOnly = true)
+    public RollupSeries getSeries(Metric metric, Granularity granularity, LocalDate from, LocalDate to) {
+        LocalDate start = granularity.bucketOf(from);
+        LocalDate end = granularity.bucketOf(to);
+        if (log.isDebugEnabled()) {
+            log.debug("Lecture de la série {} / {} du {} au {}", metric, granularity, start, end);
+        }
+
+        Map<LocalDate, Map<String, Long>> byBucket = new TreeMap<>();
+        for (LocalDate bucket = start; !bucket.isAfter(end); bucket = next(granularity, bucket)) {
+            byBucket.put(bucket, emptyValues(metric));
+        }
+        statsRollupRepository
+                .findByMetricAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(metric, granularity, start, end)
+                .forEach(r -> byBucket.get(r.getBucketStart()).merge(r.getDimension(), r.getTotal(), Long::sum));
+
+        List<RollupSeries.Point> points = new ArrayList<>(byBucket.size());
+        byBucket.forEach((bucket, values) -> points.add(new RollupSeries.Point(bucket, values,
+                values.values().stream().mapToLong(Long::longValue).sum())));
+        return new RollupSeries(metric, granularity, start, end, points);
+    }
+
+    /**
+     * Reconstruit toutes les statistiques à partir des données brutes.
+     *
+     * <p>Les tables brutes (messages archivés compris) ne sont parcourues qu'une fois,
+     * via des requêtes {@code GROUP BY} par jour; semaines et mois sont déduits des jours.
+     * À lancer hors période d'affluence: les inscriptions concurrentes à la
+     * reconstruction peuvent ne pas être comptées.</p>
+     */
+    public void rebuild() {
+        log.info("Reconstruction des statistiques pré-agrégées...");
+        statsRollupRepository.deleteByMetric(Metric.MEMBER_REGISTRATIONS);
+        statsRollupRepository.deleteByMetric(Metric.CONTACTS);
+
+        Map<BucketKey, Long> totals = new HashMap<>();
+        for (Object[] row : memberRepository.countRegistrationsByDayAndStatus()) {
+            accumulate(totals, Metric.MEMBER_REGISTRATIONS, (LocalDate) row[0],
+                    ((MemberStatus) row[1]).name(), (Long) row[2]);
+        }
+        for (Object[] row : contactRepository.countByReceivedDay()) {
+            accumulate(totals, Metric.CONTACTS, (LocalDate) row[0], StatsRollup.ALL, (Long) row[1]);
+        }
+        for (Object[] row : archivedContactRepository.countByReceivedDay()) {
+            accumulate(totals, Metric.CONTACTS, (LocalDate) row[0], StatsRollup.ALL, (Long) row[1]);
+        }
+        // Compteurs des périodes courantes, même vides (voir prepareBuckets)
+        LocalDate today = LocalDate.now();
+        for (LocalDate day : List.of(today, today.plusDays(1))) {
+            for (MemberStatus status : MemberStatus.values()) {
+                accumulate(totals, Metric.MEMBER_REGISTRATIONS, day, status.name(), 0);
+            }
+            accumulate(totals, Metric.CONTACTS, day, StatsRollup.ALL, 0);
+        }
+
+        List<StatsRollup> rollups = new ArrayList<>(totals.size());
+        totals.forEach((key, total) -> rollups.add(
+                new StatsRollup(key.metric(), key.granularity(), key.bucketStart(), key.dimension(), total)));
+        statsRollupRepository.saveAll(rollups);
+        log.info("Statistiques reconstruites: {} compteurs", rollups.size());
+    }
+
+    /**
+     * Crée à l'avance les compteurs des périodes courantes et du lendemain,
+     * pour que les mises à jour incrémentales n'aient jamais à les insérer.
+     */
+    @Scheduled(cron = "${app.analytics.prepare-buckets-cron:0 50 23 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void prepareBuckets() {
+        LocalDate today = LocalDate.now();
+        for (LocalDate day : List.of(today, today.plusDays(1))) {
+            for (Granularity granularity : Granularity.values()) {
+                for (MemberStatus status : MemberStatus.values()) {
+                    createBucket(Metric.MEMBER_REGISTRATIONS, granularity, granularity.bucketOf(day), status.name());
+                }
+                createBucket(Metric.CONTACTS, granularity, granularity.bucketOf(day), StatsRollup.ALL);
+            }
+        }
+    }
+
+    /**
+     * Au démarrage: reconstruit les statistiques si elles n'ont jamais été calculées,
+     * puis prépare les compteurs des périodes courantes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onApplicationReady() {
+        if (backfillOnStartup && statsRollupRepository.count() == 0
+                && (memberRepository.count() > 0 || contactRepository.count() > 0
+                    || archivedContactRepository.count() > 0)) {
+            rebuildTransaction.executeWithoutResult(status -> rebuild());
+        }
+        prepareBuckets();
+    }
+
+    private void adjust(Metric metric, LocalDateTime date, String dimension, long delta) {
+        LocalDate day = (date != null ? date : LocalDateTime.now()).toLocalDate();
+        for (Granularity granularity : Granularity.values()) {
+            LocalDate bucket = granularity.bucketOf(day);
+            if (statsRollupRepository.increment(metric, granularity, bucket, dimension, delta) == 0) {
+                upsert(metric, granularity, bucket, dimension, delta);
+            }
+        }
+    }
+
+    /**
+     * Crée un compteur à zéro s'il n'existe pas encore.
+     */
+    private void createBucket(Metric metric, Granularity granularity, LocalDate bucket, String dimension) {
+        upsert(metric, granularity, bucket, dimension, 0);
+    }
+
+    /**
+     * Crée le compteur avec la valeur, ou l'ajoute au compteur existant, sur la connexion
+     * de la transaction en cours. Si une autre transaction vient de le créer (H2), la
+     * valeur est ajoutée au compteur désormais visible.
+     */
+    private void upsert(Metric metric, Granularity granularity, LocalDate bucket, String dimension, long delta) {
+        try {
+            jdbcTemplate.update(upsertSql, metric.name(), granularity.name(), Date.valueOf(bucket), dimension, delta);
+        } catch (DuplicateKeyException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Compteur {} / {} / {} / {} créé en concurrence", metric, granularity, bucket, dimension);
+            }
+            statsRollupRepository.increment(metric, granularity, bucket, dimension, delta);
+        }
+    }
+
+    private static boolean isPostgreSql(JdbcTemplate jdbcTemplate) {
+        try {
+            return "PostgreSQL".equals(JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName));
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Base de données des statistiques inaccessible", e);
+        }
+    }
+
+    private static void accumulate(Map<BucketKey, Long> totals, Metric metric, LocalDate day,
+                                   String dimension, long count) {
+        for (Granularity granularity : Granularity.values()) {
+            totals.merge(new BucketKey(metric, granularity, granularity.bucketOf(day), dimension), count, Long::sum);
+        }
+    }
+
+    private static Map<String, Long> emptyValues(Metric metric) {
+        Map<String, Long> values = new LinkedHashMap<>();
+        if (metric == Metric.MEMBER_REGISTRATIONS) {
+            for (MemberStatus status : MemberStatus.values()) {
+                values.put(status.name(), 0L);
+            }
+        } else {
+            values.put(StatsRollup.ALL, 0L);
+        }
+        return values;
+    }
+
+    private static LocalDate next(Granularity granularity, LocalDate bucket) {
+        return switch (granularity) {
+            case DAY -> bucket.plusDays(1);
+            case WEEK -> bucket.plusWeeks(1);
+            case MONTH -> bucket.plusMonths(1);
+        };
+    }
+
+    private record BucketKey(Metric metric, Granularity granularity, LocalDate bucketStart, String dimension) {
+    }
+}
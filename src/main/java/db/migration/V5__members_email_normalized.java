@@ -0,0 +1,58 @@
+package db.migration;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Normalise les emails des membres (minuscules, sans espaces).
+ *
+ * <p>Les inscriptions antérieures à la normalisation peuvent différer par la casse
+ * seulement. Aucune n'est supprimée ici: si des adresses se retrouvent en double une
+ * fois normalisées, la migration s'arrête en les listant, pour qu'elles soient
+ * fusionnées à la main avant de relancer l'application. L'index d'unicité insensible
+ * à la casse suit (V6, propre à chaque base).</p>
+ *
+ * <p>Migration Java plutôt que SQL: l'arrêt avec la liste des doublons doit être
+ * identique sur H2 et PostgreSQL.</p>
+ *
+ * @author caribean Good Vybzz Development Team
+ * @version 1.0.0
+ */
+public class V5__members_email_normalized extends BaseJavaMigration {
+
+    private static final String DUPLICATES_SQL =
+            "select lower(trim(email)), count(*) from members " +
+            "group by lower(trim(email)) having count(*) > 1 order by 1";
+
+    private static final String NORMALIZE_SQL =
+            "update members set email = lower(trim(email)) where email <> lower(trim(email))";
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        List<String> duplicates = new ArrayList<>();
+        try (PreparedStatement select = context.getConnection().prepareStatement(DUPLICATES_SQL);
+             ResultSet rows = select.executeQuery()) {
+            while (rows.next()) {
+                duplicates.add(rows.getString(1) + " (" + rows.getLong(2) + " inscriptions)");
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new FlywayException("Migration V5 interrompue: " + duplicates.size()
+                    + " adresse(s) de membres en double une fois mises en minuscules: "
+                    + String.join(", ", duplicates)
+                    + ". Fusionner ou supprimer ces inscriptions à la main, puis relancer l'application.");
+        }
+
+        try (Statement update = context.getConnection().createStatement()) {
+            update.executeUpdate(NORMALIZE_SQL);
+        }
+    }
+}
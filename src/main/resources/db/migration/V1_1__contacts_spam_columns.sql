@@ -0,0 +1,14 @@
+-- ===================================================================
+-- Colonnes anti-spam des messages de contact
+--
+-- Sur une base existante (placée en version 0), la table contacts existe
+-- déjà et V1 la conserve telle quelle: les colonnes ajoutées depuis au
+-- modèle sont créées ici, avant les index de V2 qui les utilisent.
+-- Sans effet sur une base créée par V1.
+-- ===================================================================
+
+alter table contacts add column if not exists is_spam boolean default false not null;
+
+alter table contacts add column if not exists spam_reviewed boolean default false not null;
+
+alter table contacts add column if not exists spam_score float(53);
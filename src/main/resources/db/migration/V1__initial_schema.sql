@@ -0,0 +1,157 @@
+-- ===================================================================
+-- Schéma initial (H2 et PostgreSQL)
+--
+-- Reprend le schéma produit jusqu'ici par Hibernate (ddl-auto=update)
+-- et par Spring Session. Les instructions sont idempotentes: sur une
+-- base existante, placée en version 0 par spring.flyway.baseline-on-migrate,
+-- les tables et index déjà présents sont conservés tels quels. Les colonnes
+-- ajoutées depuis aux tables existantes sont créées par V1_1.
+-- ===================================================================
+
+create table if not exists admin_users (
+    id bigint generated by default as identity,
+    username varchar(50) not null,
+    password varchar(255) not null,
+    full_name varchar(100),
+    role varchar(255) not null check (role in ('ADMIN', 'SUPER_ADMIN')),
+    is_active boolean not null,
+    created_date timestamp(6) not null,
+    last_login_date timestamp(6),
+    primary key (id),
+    constraint uk_admin_users_username unique (username)
+);
+
+create table if not exists members (
+    id bigint generated by default as identity,
+    first_name varchar(100) not null,
+    last_name varchar(100) not null,
+    full_name varchar(100) not null,
+    email varchar(150) not null,
+    phone varchar(20) not null,
+    message varchar(500),
+    status varchar(255) not null check (status in ('ACTIF', 'INACTIF', 'EN_ATTENTE')),
+    registration_date timestamp(6) not null,
+    primary key (id),
+    constraint uk_members_email unique (email)
+);
+
+create table if not exists contacts (
+    id bigint generated by default as identity,
+    name varchar(100) not null,
+    email varchar(150) not null,
+    subject varchar(150) not null,
+    message varchar(1000) not null,
+    received_date timestamp(6) not null,
+    is_read boolean not null,
+    is_spam boolean default false not null,
+    spam_reviewed boolean default false not null,
+    spam_score float(53),
+    primary key (id)
+);
+
+create table if not exists media (
+    id bigint generated by default as identity,
+    title varchar(150) not null,
+    description varchar(500),
+    file_path varchar(500) not null,
+    original_file_name varchar(255),
+    type varchar(255) not null check (type in ('PHOTO', 'VIDEO')),
+    is_published boolean not null,
+    display_order integer not null,
+    upload_date timestamp(6) not null,
+    primary key (id)
+);
+
+create table if not exists idempotency_keys (
+    idem_key varchar(100) not null,
+    outcome varchar(255),
+    created_at timestamp(6) not null,
+    primary key (idem_key)
+);
+
+create table if not exists newsletters (
+    id bigint generated by default as identity,
+    subject varchar(200) not null,
+    body varchar(10000) not null,
+    created_by varchar(100),
+    status varchar(20) not null check (status in ('RUNNING', 'COMPLETED', 'CANCELLED')),
+    total_recipients integer not null,
+    sent_count integer not null,
+    failed_count integer not null,
+    recipients_ready boolean not null,
+    last_member_id bigint,
+    started_at timestamp(6) not null,
+    completed_at timestamp(6),
+    primary key (id)
+);
+
+create table if not exists newsletter_deliveries (
+    id bigint generated by default as identity,
+    newsletter_id bigint not null,
+    member_id bigint not null,
+    email varchar(150) not null,
+    first_name varchar(100),
+    last_name varchar(100),
+    status varchar(20) not null check (status in ('PENDING', 'SENT', 'FAILED')),
+    attempts integer not null,
+    last_error varchar(500),
+    sent_at timestamp(6),
+    primary key (id),
+    constraint uk_newsletter_deliveries_member unique (newsletter_id, member_id)
+);
+
+create index if not exists idx_newsletter_deliveries_pending
+    on newsletter_deliveries (newsletter_id, status, id);
+
+create table if not exists notification_outbox (
+    id bigint generated by default as identity,
+    type varchar(30) not null check (type in ('MEMBER_REGISTERED', 'CONTACT_RECEIVED')),
+    reference_id bigint,
+    summary varchar(500) not null,
+    status varchar(20) not null check (status in ('PENDING', 'FAILED')),
+    attempts integer not null,
+    last_error varchar(500),
+    created_at timestamp(6) not null,
+    next_attempt_at timestamp(6) not null,
+    locked_until timestamp(6),
+    primary key (id)
+);
+
+create index if not exists idx_notification_outbox_due
+    on notification_outbox (status, next_attempt_at);
+
+create table if not exists stats_rollups (
+    id bigint generated by default as identity,
+    metric varchar(30) not null check (metric in ('MEMBER_REGISTRATIONS', 'CONTACTS')),
+    granularity varchar(10) not null check (granularity in ('DAY', 'WEEK', 'MONTH')),
+    bucket_start date not null,
+    dimension varchar(30) not null,
+    total bigint not null,
+    primary key (id),
+    constraint uk_stats_rollups_bucket unique (metric, granularity, bucket_start, dimension)
+);
+
+-- Sessions d'administration (schéma de Spring Session JDBC)
+create table if not exists spring_session (
+    primary_id char(36) not null,
+    session_id char(36) not null,
+    creation_time bigint not null,
+    last_access_time bigint not null,
+    max_inactive_interval integer not null,
+    expiry_time bigint not null,
+    principal_name varchar(100),
+    constraint spring_session_pk primary key (primary_id)
+);
+
+create unique index if not exists spring_session_ix1 on spring_session (session_id);
+create index if not exists spring_session_ix2 on spring_session (expiry_time);
+create index if not exists spring_session_ix3 on spring_session (principal_name);
+
+create table if not exists spring_session_attributes (
+    session_primary_id char(36) not null,
+    attribute_name varchar(200) not null,
+    attribute_bytes bytea not null,
+    constraint spring_session_attributes_pk primary key (session_primary_id, attribute_name),
+    constraint spring_session_attributes_fk foreign key (session_primary_id)
+        references spring_session (primary_id) on delete cascade
+);
@@ -0,0 +1,31 @@
+-- ===================================================================
+-- Index des requêtes de l'application
+--
+-- Un index composite par requête dérivée des dépôts: les colonnes de
+-- filtre d'abord, la colonne de tri ensuite, pour que la liste soit lue
+-- dans l'ordre de l'index sans tri supplémentaire.
+-- ===================================================================
+
+-- MemberRepository: findByStatus, countByStatus,
+-- findByStatusAndIdGreaterThanOrderByIdAsc (parcours par lots des envois)
+create index if not exists idx_members_status_id on members (status, id);
+
+-- ContactRepository: findByIsReadFalseAndIsSpamFalseOrderByReceivedDateDesc,
+-- findByIsReadTrueAndIsSpamFalseOrderByReceivedDateDesc, countByIsReadFalseAndIsSpamFalse
+create index if not exists idx_contacts_spam_read_received on contacts (is_spam, is_read, received_date);
+
+-- ContactRepository: findByIsSpamFalseOrderByReceivedDateDesc,
+-- findByIsSpamTrueOrderByReceivedDateDesc, countByIsSpam
+create index if not exists idx_contacts_spam_received on contacts (is_spam, received_date);
+
+-- ContactRepository: findByEmail (messages d'un même visiteur)
+create index if not exists idx_contacts_email on contacts (email);
+
+-- MediaRepository: findByIsPublishedTrueOrderByDisplayOrder, countByIsPublishedTrue
+create index if not exists idx_media_published_order on media (is_published, display_order);
+
+-- MediaRepository: findByTypeAndIsPublishedTrueOrderByDisplayOrder, findByType, countByType
+create index if not exists idx_media_type_published_order on media (type, is_published, display_order);
+
+-- JdbcIdempotencyStore: purge des clés expirées
+create index if not exists idx_idempotency_keys_created on idempotency_keys (created_at);
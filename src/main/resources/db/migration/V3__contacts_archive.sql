@@ -0,0 +1,32 @@
+-- ===================================================================
+-- Archive des messages de contact
+--
+-- Les messages lus plus anciens que app.contact.archive.min-age quittent
+-- la table contacts (ContactArchiveService): la boîte de réception et ses
+-- compteurs ne parcourent plus que les messages récents.
+--
+-- archive_month (premier jour du mois de réception) découpe l'archive par
+-- mois: recherche et purge d'un mois passent par son index.
+-- ===================================================================
+
+create table if not exists contacts_archive (
+    id bigint not null,
+    name varchar(100) not null,
+    email varchar(150) not null,
+    subject varchar(150) not null,
+    message varchar(1000) not null,
+    received_date timestamp(6) not null,
+    is_read boolean not null,
+    is_spam boolean default false not null,
+    spam_reviewed boolean default false not null,
+    spam_score float(53),
+    archive_month date not null,
+    archived_date timestamp(6) not null,
+    primary key (id)
+);
+
+-- Recherche et purge par mois, du plus récent au plus ancien
+create index if not exists idx_contacts_archive_month_received on contacts_archive (archive_month, received_date);
+
+-- Recherche par adresse email
+create index if not exists idx_contacts_archive_email on contacts_archive (email);
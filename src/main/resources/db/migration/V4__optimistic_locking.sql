@@ -0,0 +1,14 @@
+-- ===================================================================
+-- Verrouillage optimiste des membres, messages et médias
+--
+-- Colonne de version incrémentée à chaque modification (@Version pour
+-- les enregistrements d'entités, explicitement dans les transitions
+-- conditionnelles des dépôts). Les lignes insérées en JDBC, sans la
+-- colonne, partent de la version 0.
+-- ===================================================================
+
+alter table members add column version bigint default 0 not null;
+
+alter table contacts add column version bigint default 0 not null;
+
+alter table media add column version bigint default 0 not null;
@@ -0,0 +1,81 @@
+package com.caribean.goodvybzz.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Temporisation des connexions derrière un répartiteur de charge: les échecs d'un
+ * visiteur ne bloquent pas les administrateurs connectés depuis une autre adresse.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "server.forward-headers-strategy=native",
+        "app.login.free-attempts=2",
+        "app.login.base-delay=1m"
+})
+@ActiveProfiles("test")
+class AdminLoginThrottleTest {
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void failuresFromOneClientDoNotLockOutOthers() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            assertThat(login("203.0.113.50", "intrus" + i, "mauvais")).endsWith("/admin/login?error=true");
+        }
+        assertThat(login("203.0.113.50", "admin", "admin123")).endsWith("/admin/login?error=throttled");
+
+        assertThat(login("198.51.100.20", "admin", "admin123")).endsWith("/admin/dashboard");
+    }
+
+    /**
+     * Soumet le formulaire de connexion depuis l'adresse transmise par le proxy.
+     *
+     * @return la redirection reçue
+     */
+    private String login(String forwardedFor, String username, String password) throws Exception {
+        HttpClient client = HttpClient.newBuilder()
+                .cookieHandler(new CookieManager())
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        String page = client.send(HttpRequest.newBuilder(uri("/admin/login"))
+                        .header("X-Forwarded-For", forwardedFor).build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher csrf = CSRF.matcher(page);
+        assertThat(csrf.find()).isTrue();
+
+        String form = "username=" + encode(username) + "&password=" + encode(password) + "&_csrf=" + encode(csrf.group(1));
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri("/login"))
+                        .header("X-Forwarded-For", forwardedFor)
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(response.statusCode()).isEqualTo(302);
+        return response.headers().firstValue("Location").orElseThrow();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
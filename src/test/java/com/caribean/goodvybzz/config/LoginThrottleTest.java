@@ -0,0 +1,76 @@
+package com.caribean.goodvybzz.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Temporisation exponentielle des échecs de connexion.
+ */
+class LoginThrottleTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(0);
+
+    @Test
+    void doublesDelayAfterFreeAttemptsUpToCap() {
+        LoginThrottle throttle = new LoginThrottle(2, Duration.ofSeconds(1), Duration.ofSeconds(5),
+                Duration.ofHours(1), 100, clock::get);
+
+        throttle.recordFailure("ip:a");
+        throttle.recordFailure("ip:a");
+        assertThat(throttle.remainingDelay("ip:a")).isZero();
+
+        long[] expected = {1, 2, 4, 5, 5};
+        for (long seconds : expected) {
+            throttle.recordFailure("ip:a");
+            assertThat(throttle.remainingDelay("ip:a")).isEqualTo(seconds * SECOND);
+        }
+        assertThat(throttle.remainingDelay("ip:b")).isZero();
+
+        clock.addAndGet(5 * SECOND);
+        assertThat(throttle.remainingDelay("ip:a")).isZero();
+    }
+
+    @Test
+    void successAndQuietPeriodResetCounter() {
+        LoginThrottle throttle = new LoginThrottle(0, Duration.ofSeconds(1), Duration.ofMinutes(1),
+                Duration.ofMinutes(10), 100, clock::get);
+
+        throttle.recordFailure("user:admin");
+        throttle.recordFailure("user:admin");
+        assertThat(throttle.remainingDelay("user:admin")).isEqualTo(2 * SECOND);
+        throttle.reset("user:admin");
+        assertThat(throttle.remainingDelay("user:admin")).isZero();
+
+        throttle.recordFailure("user:admin");
+        clock.addAndGet(11 * 60 * SECOND);
+        throttle.recordFailure("user:admin");
+        assertThat(throttle.remainingDelay("user:admin")).as("compteur oublié après resetAfter")
+                .isEqualTo(SECOND);
+    }
+
+    @Test
+    void fullTableEvictsIdleKeysBeforeTrackingNewOnes() {
+        LoginThrottle throttle = new LoginThrottle(0, Duration.ofSeconds(1), Duration.ofSeconds(1),
+                Duration.ofSeconds(10), 2, clock::get);
+        throttle.recordFailure("ip:a");
+        throttle.recordFailure("ip:b");
+
+        // Table pleine de clés actives: la nouvelle clé n'est pas suivie, les autres le restent
+        throttle.recordFailure("ip:c");
+        assertThat(throttle.remainingDelay("ip:c")).isZero();
+        assertThat(throttle.size()).isEqualTo(2);
+
+        // Les clés inactives sont purgées pour faire place
+        clock.addAndGet(11 * SECOND);
+        throttle.recordFailure("ip:c");
+        assertThat(throttle.remainingDelay("ip:c")).isEqualTo(SECOND);
+        assertThat(throttle.size()).isEqualTo(1);
+    }
+}
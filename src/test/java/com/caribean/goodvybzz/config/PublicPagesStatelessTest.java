@@ -0,0 +1,121 @@
+package com.caribean.goodvybzz.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pages publiques sans session: les visites anonymes ne créent aucune session en base,
+ * et le jeton CSRF des formulaires ne peut pas être imposé par un tiers en HTTPS.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PublicPagesStatelessTest {
+
+    private static final int VIEWS_PER_PAGE = 20;
+    private static final Pattern FORM_TOKEN = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void anonymousPageViewsCreateNoSession() throws Exception {
+        long sessionsBefore = countSessions();
+
+        for (String page : List.of("/", "/inscription", "/contact", "/media")) {
+            for (int i = 0; i < VIEWS_PER_PAGE; i++) {
+                MvcResult result = mockMvc.perform(get(page)).andExpect(status().isOk()).andReturn();
+                assertThat(result.getRequest().getSession(false)).as(page).isNull();
+                assertThat(result.getResponse().getHeaders("Set-Cookie"))
+                        .as(page)
+                        .noneMatch(cookie -> cookie.startsWith("SESSION=") || cookie.startsWith("JSESSIONID="));
+            }
+        }
+
+        assertThat(countSessions()).isEqualTo(sessionsBefore);
+    }
+
+    @Test
+    void httpsFormCookieIsHostPrefixed() throws Exception {
+        String cookie = csrfCookie(true);
+
+        assertThat(cookie).startsWith("__Host-CSRF-TOKEN=").contains("Path=/;").contains("Secure").doesNotContain("Domain");
+    }
+
+    @Test
+    void tossedUnprefixedCookieIsIgnoredOverHttps() throws Exception {
+        // Jeton valide obtenu par le tiers, qui l'impose sans préfixe (sous-domaine, page HTTP)
+        MvcResult tossed = mockMvc.perform(get("/contact")).andReturn();
+        mockMvc.perform(submitContact(new Cookie("CSRF-TOKEN", cookieValue(tossed)), formToken(tossed)))
+                .andExpect(status().isForbidden());
+
+        MvcResult own = mockMvc.perform(get("/contact").secure(true)).andReturn();
+        mockMvc.perform(submitContact(new Cookie("__Host-CSRF-TOKEN", cookieValue(own)), formToken(own)))
+                .andExpect(status().is3xxRedirection());
+    }
+
+    @Test
+    void missingRequiredSecretFailsFast() {
+        assertThatThrownBy(() -> new SignedCookieCsrfTokenRepository("", true))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("CSRF_SECRET");
+    }
+
+    private String csrfCookie(boolean secure) throws Exception {
+        MvcResult result = mockMvc.perform(get("/contact").secure(secure)).andExpect(status().isOk()).andReturn();
+        return result.getResponse().getHeaders("Set-Cookie").stream()
+                .filter(cookie -> cookie.contains("CSRF-TOKEN="))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static String cookieValue(MvcResult result) {
+        Cookie cookie = result.getResponse().getCookies()[0];
+        assertThat(cookie.getName()).endsWith("CSRF-TOKEN");
+        return cookie.getValue();
+    }
+
+    /**
+     * Jeton recopié dans le formulaire (masqué différemment à chaque rendu).
+     */
+    private static String formToken(MvcResult result) throws Exception {
+        Matcher matcher = FORM_TOKEN.matcher(result.getResponse().getContentAsString());
+        assertThat(matcher.find()).isTrue();
+        return matcher.group(1);
+    }
+
+    private static MockHttpServletRequestBuilder submitContact(Cookie cookie, String formToken) {
+        return post("/contact").secure(true)
+                .cookie(cookie)
+                .param("_csrf", formToken)
+                .param("name", "Visiteur")
+                .param("email", "visiteur@example.org")
+                .param("subject", "Bonjour à tous")
+                .param("message", "Un message tout à fait ordinaire.");
+    }
+
+    private long countSessions() {
+        return jdbcTemplate.queryForObject("select count(*) from spring_session", Long.class);
+    }
+}
@@ -0,0 +1,54 @@
+package com.caribean.goodvybzz.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Limitation de débit derrière un répartiteur de charge: chaque visiteur est identifié par
+ * l'adresse d'origine transmise par le proxy de confiance, pas par l'adresse du proxy.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.rate-limit.enabled=true",
+        "server.forward-headers-strategy=native"
+})
+@ActiveProfiles("test")
+class RateLimitFilterTest {
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void limitsEachForwardedClientSeparately() throws Exception {
+        // Limite de la route inscription: 3 par 10 minutes, rafale de 3
+        for (int i = 0; i < 3; i++) {
+            assertThat(postInscription("203.0.113.10").statusCode()).isNotEqualTo(429);
+        }
+        HttpResponse<String> limited = postInscription("203.0.113.10");
+        assertThat(limited.statusCode()).isEqualTo(429);
+        assertThat(limited.headers().firstValue("Retry-After")).hasValue("200");
+
+        // Les autres visiteurs, derrière le même proxy, ne sont pas concernés
+        assertThat(postInscription("203.0.113.11").statusCode()).isNotEqualTo(429);
+        assertThat(postInscription("198.51.100.7, 203.0.113.12").statusCode()).isNotEqualTo(429);
+    }
+
+    private HttpResponse<String> postInscription(String forwardedFor) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/inscription"))
+                .header("X-Forwarded-For", forwardedFor)
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString("fullName=Test"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
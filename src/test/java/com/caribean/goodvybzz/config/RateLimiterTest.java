@@ -0,0 +1,133 @@
+package com.caribean.goodvybzz.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Limiteur GCRA: rafale, délai d'attente, débordement de {@code nanoTime()}, table pleine,
+ * accès concurrents et coût du chemin nominal.
+ */
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void acceptsBurstThenReturnsWaitUntilNextEmission() {
+        AtomicLong clock = new AtomicLong(0);
+        // 3 requêtes par 10 minutes: une toutes les 200 s
+        RateLimiter limiter = new RateLimiter(3, Duration.ofMinutes(10), 3, 100, clock::get);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(200 * SECOND);
+        assertThat(limiter.tryAcquire("b")).as("autre client").isZero();
+
+        clock.addAndGet(200 * SECOND);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isPositive();
+    }
+
+    @Test
+    void keepsLimitingWhenNanoTimeOverflows() {
+        AtomicLong clock = new AtomicLong(Long.MAX_VALUE - 5 * SECOND);
+        RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(10), 1, 100, clock::get);
+
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(10 * SECOND);
+
+        // L'horloge déborde et devient négative: le client n'est ni bloqué ni libéré à tort
+        clock.addAndGet(8 * SECOND);
+        assertThat(clock.get()).isNegative();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(2 * SECOND);
+        clock.addAndGet(2 * SECOND);
+        assertThat(limiter.tryAcquire("a")).isZero();
+        assertThat(limiter.tryAcquire("a")).isEqualTo(10 * SECOND);
+    }
+
+    @Test
+    void fullTableEvictsIdleKeysOrRejectsNewClients() {
+        AtomicLong clock = new AtomicLong(0);
+        RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(10), 1, 2, clock::get);
+        limiter.tryAcquire("a");
+        limiter.tryAcquire("b");
+
+        // Table pleine de clients actifs: le nouveau client est refusé, pas laissé passer
+        assertThat(limiter.tryAcquire("c")).isEqualTo(10 * SECOND);
+        assertThat(limiter.tryAcquire("c")).isPositive();
+        assertThat(limiter.getSaturationRejections()).isEqualTo(2);
+        assertThat(limiter.size()).isEqualTo(2);
+
+        // Les seaux de "a" et "b" sont pleins à nouveau: ils sont purgés pour faire place
+        clock.addAndGet(10 * SECOND);
+        assertThat(limiter.tryAcquire("c")).isZero();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedBurst() throws Exception {
+        RateLimiter limiter = new RateLimiter(10, Duration.ofHours(1), 10, 100);
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger accepted = new AtomicInteger();
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                        for (int i = 0; i < 1_000; i++) {
+                            if (limiter.tryAcquire("shared") == 0) {
+                                accepted.incrementAndGet();
+                            }
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        }
+        assertThat(accepted.get()).isEqualTo(10);
+    }
+
+    /**
+     * Micro-mesure du chemin nominal (client connu, requête acceptée): une lecture de
+     * table et un compare-and-set. La borne est large pour rester stable sur une machine
+     * d'intégration chargée; la mesure typique est de quelques dizaines de nanosecondes.
+     */
+    @Test
+    void happyPathCostsLessThanAMicrosecond() {
+        RateLimiter limiter = new RateLimiter(1_000_000, Duration.ofSeconds(1), 1_000_000, 10_000);
+        String[] keys = new String[1_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = "203.0.113." + i;
+        }
+        int iterations = 2_000_000;
+        long rejected = 0;
+        // Préchauffage (compilation JIT)
+        for (int i = 0; i < iterations; i++) {
+            rejected += limiter.tryAcquire(keys[i % keys.length]);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            rejected += limiter.tryAcquire(keys[i % keys.length]);
+        }
+        double nanosPerCall = (double) (System.nanoTime() - start) / iterations;
+
+        assertThat(rejected).isZero();
+        assertThat(nanosPerCall).isLessThan(1_000);
+    }
+}
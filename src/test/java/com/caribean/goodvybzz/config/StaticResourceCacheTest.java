@@ -0,0 +1,74 @@
+package com.caribean.goodvybzz.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * En-têtes de cache des ressources statiques: seule l'URL portant l'empreinte du
+ * contenu est immuable; l'URL sans empreinte est revalidée par son ETag.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StaticResourceCacheTest {
+
+    private static final Pattern STYLESHEET = Pattern.compile("href=\"(/css/style-[0-9a-f]{32}\\.css)\"");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void fingerprintedUrlIsImmutable() throws Exception {
+        String url = versionedStylesheet();
+
+        for (String encoding : new String[] {"identity", "gzip"}) {
+            MvcResult result = mockMvc.perform(get(url).header(HttpHeaders.ACCEPT_ENCODING, encoding))
+                    .andExpect(status().isOk()).andReturn();
+            assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL))
+                    .as(encoding).isEqualTo("max-age=31536000, public, immutable");
+            assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING))
+                    .as(encoding).isEqualTo("gzip".equals(encoding) ? "gzip" : null);
+        }
+    }
+
+    @Test
+    void unversionedUrlIsRevalidatedWithEtag() throws Exception {
+        for (String url : new String[] {"/css/style.css", "/js/script.js", "/images/logo.jpg"}) {
+            MvcResult result = mockMvc.perform(get(url)).andExpect(status().isOk()).andReturn();
+            assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).as(url).isEqualTo("no-cache, public");
+            String etag = result.getResponse().getHeader(HttpHeaders.ETAG);
+            assertThat(etag).as(url).isNotBlank();
+
+            mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag)).andExpect(status().isNotModified());
+        }
+    }
+
+    @Test
+    void unknownFingerprintIsNotCached() throws Exception {
+        MvcResult result = mockMvc.perform(get("/css/style-0123456789abcdef0123456789abcdef.css"))
+                .andExpect(status().isNotFound()).andReturn();
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.CACHE_CONTROL)).isNull();
+    }
+
+    private String versionedStylesheet() throws Exception {
+        String page = mockMvc.perform(get("/contact")).andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        Matcher matcher = STYLESHEET.matcher(page);
+        assertThat(matcher.find()).as("lien versionné vers la feuille de style").isTrue();
+        return matcher.group(1);
+    }
+}
@@ -0,0 +1,168 @@
+package com.caribean.goodvybzz.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.AuthenticationServiceException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Fournisseur d'authentification: temporisation par utilisateur et par adresse, cache
+ * négatif des utilisateurs inconnus et file bornée de vérification des mots de passe.
+ */
+class ThrottledAuthenticationProviderTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger userLoads = new AtomicInteger();
+    private final UserDetailsService users = username -> {
+        userLoads.incrementAndGet();
+        if (!"admin".equals(username)) {
+            throw new UsernameNotFoundException(username);
+        }
+        return User.withUsername("admin").password("secret").roles("ADMIN").build();
+    };
+
+    private ThrottledAuthenticationProvider provider;
+
+    @AfterEach
+    void shutdown() {
+        if (provider != null) {
+            provider.shutdown();
+        }
+    }
+
+    @Test
+    void throttlesOnlyTheFailingAddress() {
+        provider = new ThrottledAuthenticationProvider(users, plainEncoder(), properties(), meterRegistry);
+
+        for (String intruder : List.of("intrus1", "intrus2", "intrus3")) {
+            assertThatThrownBy(() -> provider.authenticate(login(intruder, "x", "203.0.113.1")))
+                    .isInstanceOf(BadCredentialsException.class);
+        }
+        assertThatThrownBy(() -> provider.authenticate(login("admin", "secret", "203.0.113.1")))
+                .isInstanceOf(ThrottledAuthenticationProvider.LoginThrottledException.class);
+
+        // Un administrateur connecté depuis une autre adresse n'est pas bloqué
+        Authentication result = provider.authenticate(login("admin", "secret", "198.51.100.2"));
+        assertThat(result.isAuthenticated()).isTrue();
+        assertThat(meterRegistry.get("app.login.rejected").tag("reason", "throttled").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void unknownUsernameIsLoadedOnceWithinTtl() {
+        provider = new ThrottledAuthenticationProvider(users, plainEncoder(), properties(), meterRegistry);
+
+        assertThatThrownBy(() -> provider.authenticate(login("fantome", "x", "203.0.113.1")))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> provider.authenticate(login("fantome", "x", "203.0.113.2")))
+                .isInstanceOf(BadCredentialsException.class);
+
+        assertThat(userLoads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("app.login.rejected").tag("reason", "unknown_user").counter().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void rejectsAttemptsWhenHashQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        LoginProtectionProperties properties = properties();
+        properties.setHashThreads(1);
+        properties.setHashQueueCapacity(1);
+        provider = new ThrottledAuthenticationProvider(users, blockingEncoder, properties, meterRegistry);
+
+        ExecutorService requests = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<Authentication>> pending = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                String address = "198.51.100." + i;
+                pending.add(requests.submit(() -> provider.authenticate(login("admin", "secret", address))));
+            }
+            // Une vérification en cours, une en file
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (meterRegistry.get("app.login.hash.queue").gauge().value() < 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertThatThrownBy(() -> provider.authenticate(login("admin", "secret", "198.51.100.9")))
+                    .isInstanceOf(AuthenticationServiceException.class);
+            assertThat(meterRegistry.get("app.login.rejected").tag("reason", "saturated").counter().count())
+                    .isEqualTo(1);
+
+            release.countDown();
+            for (Future<Authentication> result : pending) {
+                assertThat(result.get(10, TimeUnit.SECONDS).isAuthenticated()).isTrue();
+            }
+            assertThat(meterRegistry.get("app.login.hash").timer().count()).isEqualTo(2);
+        } finally {
+            release.countDown();
+            requests.shutdownNow();
+        }
+    }
+
+    private static LoginProtectionProperties properties() {
+        LoginProtectionProperties properties = new LoginProtectionProperties();
+        properties.setHashThreads(2);
+        properties.setFreeAttempts(2);
+        properties.setBaseDelay(Duration.ofSeconds(30));
+        properties.setUnknownUserTtl(Duration.ofMinutes(1));
+        return properties;
+    }
+
+    private static PasswordEncoder plainEncoder() {
+        return new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+    }
+
+    private static Authentication login(String username, String password, String remoteAddress) {
+        UsernamePasswordAuthenticationToken token = UsernamePasswordAuthenticationToken.unauthenticated(username, password);
+        token.setDetails(new WebAuthenticationDetails(remoteAddress, null));
+        return token;
+    }
+}
@@ -0,0 +1,76 @@
+package com.caribean.goodvybzz.controller;
+
+import com.caribean.goodvybzz.model.Contact;
+import com.caribean.goodvybzz.model.Member;
+import com.caribean.goodvybzz.repository.ContactRepository;
+import com.caribean.goodvybzz.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+
+/**
+ * Les formulaires publics ne lient que les champs saisis par le visiteur: un POST forgé
+ * ne peut renseigner ni le marquage anti-spam d'un message, ni le statut d'un membre.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PublicFormBindingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Test
+    void contactFormIgnoresModerationFields() throws Exception {
+        mockMvc.perform(post("/contact").with(csrf())
+                        .param("name", "Visiteur")
+                        .param("email", "forged-contact@example.org")
+                        .param("subject", "Bonjour à tous")
+                        .param("message", "Un message tout à fait ordinaire.")
+                        .param("id", "999")
+                        .param("read", "true")
+                        .param("spam", "false")
+                        .param("spamReviewed", "true")
+                        .param("spamScore", "0"))
+                .andExpect(redirectedUrl("/contact?success"));
+
+        Contact saved = contactRepository.findAll().stream()
+                .filter(contact -> "forged-contact@example.org".equals(contact.getEmail()))
+                .findFirst()
+                .orElseThrow();
+        assertThat(saved.getId()).isNotEqualTo(999L);
+        assertThat(saved.getRead()).isFalse();
+        assertThat(saved.getSpamReviewed()).isFalse();
+    }
+
+    @Test
+    void registrationFormIgnoresStatus() throws Exception {
+        mockMvc.perform(post("/inscription").with(csrf())
+                        .param("fullName", "Membre Forgé")
+                        .param("firstName", "Membre")
+                        .param("lastName", "Forgé")
+                        .param("email", "forged-member@example.org")
+                        .param("phone", "0690123456")
+                        .param("status", "ACTIF")
+                        .param("registrationDate", "2000-01-01T00:00"))
+                .andExpect(redirectedUrl("/inscription?success"));
+
+        Member saved = memberRepository.findByEmail("forged-member@example.org").orElseThrow();
+        assertThat(saved.getStatus()).isEqualTo(Member.MemberStatus.EN_ATTENTE);
+        assertThat(saved.getRegistrationDate().getYear()).isNotEqualTo(2000);
+    }
+}
@@ -0,0 +1,192 @@
+package com.caribean.goodvybzz.controller;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BooleanSupplier;
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Rendu lent des pages sur un vrai serveur, avec un pool de deux connexions: des
+ * navigateurs qui ne lisent plus la galerie bloquent le rendu de leur page, mais ne
+ * retiennent aucune connexion (open-in-view désactivé) et les autres requêtes passent.
+ *
+ * <p>Le cache de requêtes est désactivé pour que chaque affichage de la galerie
+ * interroge réellement la base.</p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=5000",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@ActiveProfiles("test")
+class SlowRenderConnectionPoolTest {
+
+    private static final int SLOW_CLIENTS = 8;
+    private static final int GALLERY_ITEMS = 1500;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    private final String marker = "lent-" + UUID.randomUUID().toString().substring(0, 8);
+    private final List<Socket> slowClients = new ArrayList<>();
+
+    @BeforeEach
+    void largeGallery() {
+        // Une page d'environ un mégaoctet: bien au-delà des tampons TCP d'un client qui ne lit pas
+        String description = "d".repeat(500);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < GALLERY_ITEMS; i++) {
+            rows.add(new Object[] {marker + " " + i, description, "https://example.org/" + marker + "/" + i, now});
+        }
+        jdbcTemplate.batchUpdate("insert into media (title, description, file_path, type, is_published, display_order, upload_date) "
+                + "values (?, ?, ?, 'VIDEO', true, 0, ?)", rows);
+        evictCaches();
+    }
+
+    @AfterEach
+    void cleanUp() throws Exception {
+        for (Socket socket : slowClients) {
+            socket.close();
+        }
+        jdbcTemplate.update("delete from media where file_path like ?", "https://example.org/" + marker + "/%");
+        evictCaches();
+    }
+
+    @Test
+    void slowGalleryRendersHoldNoConnection() throws Exception {
+        ThreadPoolExecutor requestThreads = (ThreadPoolExecutor) ((TomcatWebServer) context.getWebServer())
+                .getTomcat().getConnector().getProtocolHandler().getExecutor();
+        int busyBefore = requestThreads.getActiveCount();
+
+        for (int i = 0; i < SLOW_CLIENTS; i++) {
+            slowClients.add(openStalledGallery());
+        }
+        // Le début de la page arrive: le contrôleur a fini, le rendu est bloqué sur l'écriture.
+        // Avec open-in-view, chaque requête garderait sa connexion jusqu'à la fin du rendu.
+        for (Socket socket : slowClients) {
+            await(() -> available(socket) > 0);
+        }
+        Thread.sleep(1000);
+        assertThat(requestThreads.getActiveCount()).isGreaterThanOrEqualTo(busyBefore + SLOW_CLIENTS);
+        assertThat(dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections()).isZero();
+        try (Connection connection = dataSource.getConnection()) {
+            assertThat(connection.isValid(1)).isTrue();
+        }
+
+        // D'autres visiteurs, plus nombreux que le pool, sont servis pendant ce temps
+        HttpClient client = HttpClient.newHttpClient();
+        ExecutorService visitors = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<HttpResponse<String>>> requests = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                requests.add(() -> client.send(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/media")).build(),
+                        HttpResponse.BodyHandlers.ofString()));
+            }
+            for (Future<HttpResponse<String>> response : visitors.invokeAll(requests)) {
+                assertThat(response.get().statusCode()).isEqualTo(200);
+                assertThat(response.get().body()).contains(marker + " " + (GALLERY_ITEMS - 1)).endsWith("</html>\n");
+            }
+        } finally {
+            visitors.shutdownNow();
+        }
+        assertThat(requestThreads.getActiveCount()).isGreaterThanOrEqualTo(busyBefore + SLOW_CLIENTS);
+    }
+
+    /**
+     * Demande la galerie depuis un client qui ne lit jamais la réponse.
+     */
+    private Socket openStalledGallery() throws Exception {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new InetSocketAddress("localhost", port));
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET /media HTTP/1.1\r\n"
+                + "Host: localhost:" + port + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return socket;
+    }
+
+    private static int available(Socket socket) {
+        try {
+            return socket.getInputStream().available();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void evictCaches() {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        /**
+         * Petit tampon d'émission: la page ne tient pas dans les tampons TCP du serveur.
+         */
+        @Bean
+        WebServerFactoryCustomizer<TomcatServletWebServerFactory> smallSendBuffer() {
+            return factory -> factory.addConnectorCustomizers(connector -> connector.setProperty("socket.txBufSize", "8192"));
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition non atteinte en 30 s").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.caribean.goodvybzz.repository;
+
+import com.caribean.goodvybzz.model.Contact;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Démarrage sur une copie du schéma de production antérieur à Flyway: les migrations
+ * complètent les tables existantes sans perdre leurs lignes, et la validation du
+ * schéma par Hibernate ({@code ddl-auto=validate}) accepte le résultat.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BaselineSchemaUpgradeTest {
+
+    private static final String URL = "jdbc:h2:mem:baseline-upgrade;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private ContactRepository contactRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void baselineDatabase(DynamicPropertyRegistry registry) {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(URL, "admin", "admin", true);
+        try {
+            new ResourceDatabasePopulator(new ClassPathResource("db/baseline-schema.sql")).execute(dataSource);
+        } finally {
+            dataSource.destroy();
+        }
+        registry.add("spring.datasource.url", () -> URL);
+    }
+
+    @Test
+    void existingTablesAreCompletedWithoutLosingRows() {
+        List<Contact> contacts = contactRepository.findAll();
+        assertThat(contacts).singleElement().satisfies(contact -> {
+            assertThat(contact.getSubject()).isEqualTo("Avant Flyway");
+            assertThat(contact.getSpam()).isFalse();
+            assertThat(contact.getSpamReviewed()).isFalse();
+            assertThat(contact.getVersion()).isZero();
+        });
+        assertThat(memberRepository.findAll()).singleElement()
+                .satisfies(member -> assertThat(member.getEmail()).isEqualTo("ancien.membre@example.org"));
+
+        assertThat(jdbcTemplate.queryForList(
+                "select \"version\" from \"flyway_schema_history\" where \"success\" and \"version\" is not null order by \"installed_rank\"", String.class))
+                .startsWith("0", "1", "1.1");
+    }
+}
@@ -0,0 +1,101 @@
+package com.caribean.goodvybzz.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plans d'exécution des requêtes des dépôts: chaque requête peut être servie par l'index
+ * créé pour elle par les migrations (V1, V2).
+ *
+ * <p>H2 est vérifié à chaque build. PostgreSQL l'est si {@code PG_TEST_URL} désigne une
+ * base de test (avec {@code PG_TEST_USER} et {@code PG_TEST_PASSWORD}); les parcours
+ * séquentiels y sont désactivés: sur une table presque vide, le planificateur les préfère,
+ * alors que l'on vérifie ici que l'index est utilisable.</p>
+ */
+class QueryPlanTest {
+
+    /**
+     * Index attendu pour chaque requête, écrite comme celle que génère le dépôt.
+     */
+    private static final Map<String, String> QUERIES = Map.of(
+            // MemberRepository.findByStatusAndIdGreaterThanOrderByIdAsc
+            "select * from members where status = 'ACTIF' and id > 0 order by id fetch first 100 rows only",
+            "idx_members_status_id",
+            // ContactRepository.findByIsReadFalseAndIsSpamFalseOrderByReceivedDateDesc
+            "select * from contacts where is_read = false and is_spam = false order by received_date desc",
+            "idx_contacts_spam_read_received",
+            // ContactRepository.findByIsSpamTrueOrderByReceivedDateDesc
+            "select * from contacts where is_spam = true order by received_date desc",
+            "idx_contacts_spam_received",
+            // ContactRepository.findByEmail
+            "select * from contacts where email = 'visiteur@example.org'",
+            "idx_contacts_email",
+            // MediaRepository.findByIsPublishedTrueOrderByDisplayOrder
+            "select * from media where is_published = true order by display_order",
+            "idx_media_published_order",
+            // MediaRepository.findByTypeAndIsPublishedTrueOrderByDisplayOrder
+            "select * from media where type = 'PHOTO' and is_published = true order by display_order",
+            "idx_media_type_published_order",
+            // JdbcIdempotencyStore: purge des clés expirées
+            "select idem_key from idempotency_keys where created_at < timestamp '2026-01-01 00:00:00'",
+            "idx_idempotency_keys_created",
+            // NotificationOutboxRepository.findClaimable
+            "select * from notification_outbox where status = 'PENDING' and next_attempt_at <= timestamp '2026-01-01 00:00:00'",
+            "idx_notification_outbox_due"
+    );
+
+    @Test
+    void h2UsesTheIndexOfEveryQuery() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:query-plans;DB_CLOSE_DELAY=-1", "sa", "", true);
+        try {
+            migrate(dataSource, "classpath:db/vendor/h2");
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+            QUERIES.forEach((sql, index) ->
+                    assertThat(plan(jdbc, sql)).as(sql).containsIgnoringCase(index));
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "PG_TEST_URL", matches = ".+")
+    void postgresqlCanUseTheIndexOfEveryQuery() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+                System.getenv("PG_TEST_URL"), System.getenv("PG_TEST_USER"), System.getenv("PG_TEST_PASSWORD"), true);
+        try {
+            migrate(dataSource, "classpath:db/vendor/postgresql");
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            jdbc.execute("set enable_seqscan = off");
+
+            QUERIES.forEach((sql, index) ->
+                    assertThat(plan(jdbc, sql)).as(sql).contains(index));
+            assertThat(plan(jdbc, "select * from members where lower(email) = 'membre@example.org'"))
+                    .contains("uk_members_email_lower");
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    private static void migrate(SingleConnectionDataSource dataSource, String vendorLocation) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", vendorLocation)
+                .load()
+                .migrate();
+    }
+
+    private static String plan(JdbcTemplate jdbc, String sql) {
+        List<String> lines = jdbc.queryForList("explain " + sql, String.class);
+        return String.join("\n", lines);
+    }
+}
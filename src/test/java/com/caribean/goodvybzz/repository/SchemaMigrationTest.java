@@ -0,0 +1,86 @@
+package com.caribean.goodvybzz.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Migrations Flyway appliquées à une base qui contient déjà des données: aucune
+ * inscription n'est supprimée, et une situation à régler à la main arrête la
+ * migration avec un message explicite.
+ */
+class SchemaMigrationTest {
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void emptyDatabase() {
+        dataSource = new SingleConnectionDataSource(
+                "jdbc:h2:mem:migration-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        jdbc.execute("shutdown");
+        dataSource.destroy();
+    }
+
+    @Test
+    void caseVariantEmailsStopTheMigrationWithoutDeletingAnyone() {
+        migrate("4");
+        insertMember("Nina.Dupont@example.org");
+        insertMember("nina.dupont@example.org ");
+        insertMember("autre@example.org");
+        jdbc.update("insert into stats_rollups (metric, granularity, bucket_start, dimension, total) "
+                + "values ('MEMBER_REGISTRATIONS', 'DAY', current_date, 'EN_ATTENTE', 3)");
+
+        assertThatThrownBy(() -> migrate(null))
+                .isInstanceOf(FlywayException.class)
+                .hasStackTraceContaining("nina.dupont@example.org (2 inscriptions)")
+                .hasStackTraceContaining("Fusionner ou supprimer");
+
+        assertThat(jdbc.queryForObject("select count(*) from members", Long.class)).isEqualTo(3);
+        assertThat(jdbc.queryForObject("select count(*) from stats_rollups", Long.class)).isEqualTo(1);
+        assertThat(jdbc.queryForList("select email from members order by id", String.class))
+                .containsExactly("Nina.Dupont@example.org", "nina.dupont@example.org ", "autre@example.org");
+    }
+
+    @Test
+    void distinctEmailsAreNormalized() {
+        migrate("4");
+        insertMember(" Nina.Dupont@Example.org");
+        insertMember("autre@example.org");
+
+        migrate(null);
+
+        assertThat(jdbc.queryForList("select email from members order by id", String.class))
+                .containsExactly("nina.dupont@example.org", "autre@example.org");
+    }
+
+    private void insertMember(String email) {
+        jdbc.update("insert into members (first_name, last_name, full_name, email, phone, registration_date, status) "
+                + "values ('Nina', 'Dupont', 'Nina Dupont', ?, '0690123456', current_timestamp, 'EN_ATTENTE')", email);
+    }
+
+    private void migrate(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2");
+        if (target != null) {
+            configuration.target(target);
+        }
+        configuration.load().migrate();
+    }
+}
@@ -0,0 +1,82 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.model.AdminUser;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Cache des principaux administrateurs: un compte désactivé est refusé dès la
+ * validation sur ce nœud, et dès la relecture suivante quand la modification vient
+ * d'un autre nœud (simulée ici par une écriture directe en base, que les caches de
+ * ce nœud ignorent).
+ */
+@SpringBootTest(properties = "app.security.user-cache.sync-interval-ms=3600000")
+@ActiveProfiles("test")
+class AdminPrincipalCacheTest {
+
+    private static final String PASSWORD = "motdepasse123";
+
+    @Autowired
+    private AdminUserService adminUserService;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deactivatedAccountIsRefusedAfterCommit() {
+        AdminUser admin = createAdmin();
+        assertThat(adminUserService.loadUserByUsername(admin.getUsername()).isEnabled()).isTrue();
+
+        adminUserService.toggleActiveStatus(admin.getId(), false);
+
+        assertThatThrownBy(() -> adminUserService.loadUserByUsername(admin.getUsername()))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    void accountDeactivatedOnAnotherNodeIsRefusedAfterSync() {
+        AdminUser admin = createAdmin();
+        adminUserService.loadUserByUsername(admin.getUsername());
+        // Entité également présente dans le cache de second niveau de ce nœud
+        adminUserService.getAdminByUsername(admin.getUsername());
+
+        jdbcTemplate.update("update admin_users set is_active = false where id = ?", admin.getId());
+        adminUserService.syncCachedPrincipals();
+
+        assertThatThrownBy(() -> adminUserService.loadUserByUsername(admin.getUsername()))
+                .isInstanceOf(UsernameNotFoundException.class);
+    }
+
+    @Test
+    void passwordChangedOnAnotherNodeIsPickedUpAfterSync() {
+        AdminUser admin = createAdmin();
+        adminUserService.loadUserByUsername(admin.getUsername());
+
+        jdbcTemplate.update("update admin_users set password = ? where id = ?",
+                passwordEncoder.encode("nouveau-secret"), admin.getId());
+        adminUserService.syncCachedPrincipals();
+
+        assertThat(passwordEncoder.matches("nouveau-secret",
+                adminUserService.loadUserByUsername(admin.getUsername()).getPassword())).isTrue();
+    }
+
+    private AdminUser createAdmin() {
+        AdminUser admin = new AdminUser();
+        admin.setUsername("principal-" + UUID.randomUUID().toString().substring(0, 8));
+        admin.setFullName("Admin Principal");
+        return adminUserService.createAdmin(admin, PASSWORD);
+    }
+}
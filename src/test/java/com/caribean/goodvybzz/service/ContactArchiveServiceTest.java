@@ -0,0 +1,112 @@
+package com.caribean.goodvybzz.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archivage des anciens messages: seuls les messages lus quittent la table courante,
+ * un message modifié pendant le déplacement reste en place, et un passage s'arrête
+ * après {@code max-batches-per-run} lots, passe des spams comprise.
+ *
+ * <p>Chaque test travaille sur sa propre année de réception, bien avant les messages
+ * des autres tests.</p>
+ */
+@SpringBootTest(properties = {
+        "app.contact.archive.enabled=false",
+        "app.contact.archive.batch-size=2",
+        "app.contact.archive.pause-ms=0",
+        "app.contact.archive.max-batches-per-run=1"
+})
+@ActiveProfiles("test")
+class ContactArchiveServiceTest {
+
+    @Autowired
+    private ContactArchiveService archiveService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final String marker = "Archive " + UUID.randomUUID().toString().substring(0, 8);
+
+    @Test
+    void oldUnreadMessageStaysInPlace() {
+        long unread = insert(2001, false, false);
+        long read = insert(2001, true, false);
+
+        assertThat(archiveService.archiveReadMessagesReceivedBefore(LocalDateTime.of(2002, 1, 1, 0, 0))).isEqualTo(1);
+
+        assertThat(ids("contacts")).containsExactly(unread);
+        assertThat(ids("contacts_archive")).containsExactly(read);
+    }
+
+    @Test
+    void runStopsAfterMaxBatchesWithoutStartingTheSpamPass() {
+        long first = insert(2003, true, false);
+        long second = insert(2003, true, false);
+        long spam = insert(2003, true, true);
+
+        assertThat(archiveService.archiveReadMessagesReceivedBefore(LocalDateTime.of(2004, 1, 1, 0, 0))).isEqualTo(2);
+
+        assertThat(ids("contacts_archive")).containsExactlyInAnyOrder(first, second);
+        assertThat(ids("contacts")).containsExactly(spam);
+    }
+
+    @Test
+    void messageReclassifiedDuringTheMoveStaysInPlace() {
+        long reclassified = insert(2005, true, false);
+        long untouched = insert(2005, true, false);
+        // Reclasse le premier message comme spam (transaction validée à part) juste avant la suppression du lot
+        TransactionTemplate otherTransaction = new TransactionTemplate(transactionManager);
+        otherTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        JdbcTemplate reclassifying = new JdbcTemplate(jdbcTemplate.getDataSource()) {
+            @Override
+            public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                if (sql.startsWith("delete")) {
+                    otherTransaction.executeWithoutResult(status -> jdbcTemplate.update(
+                            "update contacts set is_spam = true, spam_reviewed = true, version = version + 1 where id = ?",
+                            reclassified));
+                }
+                return super.batchUpdate(sql, batchArgs);
+            }
+        };
+        ContactArchiveService service = new ContactArchiveService(reclassifying, transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "maxBatchesPerRun", 1);
+
+        assertThat(service.archiveReadMessagesReceivedBefore(LocalDateTime.of(2006, 1, 1, 0, 0))).isEqualTo(1);
+
+        assertThat(ids("contacts_archive")).containsExactly(untouched);
+        assertThat(ids("contacts")).containsExactly(reclassified);
+        assertThat(jdbcTemplate.queryForObject("select is_spam from contacts where id = ?", Boolean.class, reclassified))
+                .isTrue();
+    }
+
+    private long insert(int year, boolean read, boolean spam) {
+        jdbcTemplate.update("insert into contacts (name, email, subject, message, received_date, is_read, is_spam) "
+                        + "values ('Visiteur', 'visiteur@example.org', ?, 'Bonjour.', ?, ?, ?)",
+                marker, Timestamp.valueOf(LocalDateTime.of(year, 6, 1, 12, 0)), read, spam);
+        return jdbcTemplate.queryForObject("select max(id) from contacts where subject = ?", Long.class, marker);
+    }
+
+    private List<Long> ids(String table) {
+        return jdbcTemplate.queryForList("select id from " + table + " where subject = ? order by id", Long.class, marker);
+    }
+}
@@ -0,0 +1,200 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.event.ContactReceivedEvent;
+import com.caribean.goodvybzz.model.Contact;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Écriture différée des messages de contact: insertion par lots, vidage de la file à
+ * l'arrêt (y compris des messages acceptés pendant l'arrêt) et rejeu message par
+ * message d'un lot en échec.
+ */
+@SpringBootTest(properties = {
+        "app.contact.write-behind.enabled=true",
+        "app.contact.write-behind.batch-size=5",
+        "app.contact.write-behind.flush-interval-ms=1000"
+})
+@ActiveProfiles("test")
+class ContactWriteBehindServiceTest {
+
+    @Autowired
+    private ContactWriteBehindService writeBehindService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private BatchObserver batchObserver;
+
+    private final String marker = "Différé " + UUID.randomUUID().toString().substring(0, 8);
+
+    @AfterEach
+    void restartWriter() {
+        if (!writeBehindService.isRunning()) {
+            writeBehindService.start();
+        }
+    }
+
+    @Test
+    void messagesAreInsertedInBatches() throws Exception {
+        for (int i = 0; i < 12; i++) {
+            writeBehindService.submit(contact(marker + " " + i));
+        }
+
+        await(() -> saved() == 12);
+        // Chaque événement est publié dans la transaction de son lot, après l'insertion du lot entier
+        assertThat(batchObserver.rowsVisibleAt(marker))
+                .containsExactly(5L, 5L, 5L, 5L, 5L, 10L, 10L, 10L, 10L, 10L, 12L, 12L);
+    }
+
+    @Test
+    void pendingMessagesAreWrittenOnStop() {
+        long contactsBefore = contactsReceivedToday();
+        writeBehindService.submit(contact(marker + " a"));
+        writeBehindService.submit(contact(marker + " b"));
+
+        writeBehindService.stop();
+
+        assertThat(saved()).isEqualTo(2);
+        assertThat(writeBehindService.getQueueDepth()).isZero();
+        assertThat(contactsReceivedToday() - contactsBefore).isEqualTo(2);
+    }
+
+    @Test
+    void messagesAcceptedWhileStoppingAreNeverLost() throws Exception {
+        int submitters = 8;
+        int perSubmitter = 25;
+        ExecutorService visitors = Executors.newFixedThreadPool(submitters);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < submitters; t++) {
+                int submitter = t;
+                futures.add(visitors.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perSubmitter; i++) {
+                        writeBehindService.submit(contact(marker + " " + submitter + "-" + i));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            Thread.sleep(20);
+            writeBehindService.stop();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            visitors.shutdownNow();
+        }
+
+        // Déposés avant l'arrêt ou enregistrés directement après: tous sont en base
+        assertThat(saved()).isEqualTo(submitters * perSubmitter);
+        assertThat(writeBehindService.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void failedBatchIsReplayedOneByOne() throws Exception {
+        long contactsBefore = contactsReceivedToday();
+        writeBehindService.submit(contact(marker + " 1"));
+        writeBehindService.submit(contact(marker + " 2"));
+        // Trop long pour la colonne: fait échouer le lot, puis seul ce message est rejeté
+        Contact tooLong = contact(marker + " trop long");
+        tooLong.setMessage("x".repeat(1001));
+        writeBehindService.submit(tooLong);
+        writeBehindService.submit(contact(marker + " 3"));
+        writeBehindService.submit(contact(marker + " 4"));
+
+        await(() -> saved() == 4);
+
+        assertThat(jdbcTemplate.queryForList("select subject from contacts where subject like ? order by subject",
+                String.class, marker + "%"))
+                .containsExactly(marker + " 1", marker + " 2", marker + " 3", marker + " 4");
+        // Le lot annulé n'a rien compté: seuls les messages rejoués un par un le sont
+        assertThat(contactsReceivedToday() - contactsBefore).isEqualTo(4);
+    }
+
+    private Contact contact(String subject) {
+        Contact contact = new Contact();
+        contact.setName("Visiteur");
+        contact.setEmail("visiteur@example.org");
+        contact.setSubject(subject);
+        contact.setMessage("Bonjour, une question sur les cours.");
+        return contact;
+    }
+
+    private long saved() {
+        return jdbcTemplate.queryForObject("select count(*) from contacts where subject like ?", Long.class, marker + "%");
+    }
+
+    private long contactsReceivedToday() {
+        return jdbcTemplate.queryForObject("select coalesce(sum(total), 0) from stats_rollups where metric = 'CONTACTS' "
+                + "and granularity = 'DAY' and bucket_start = ?", Long.class, LocalDate.now());
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition non atteinte en 30 s").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+
+    /**
+     * Relève, à chaque message annoncé, le nombre de messages du même test déjà visibles
+     * dans sa transaction: un lot de cinq les rend visibles tous les cinq à la fois.
+     */
+    static class BatchObserver {
+        private final JdbcTemplate jdbcTemplate;
+        private final List<String[]> observed = Collections.synchronizedList(new ArrayList<>());
+
+        BatchObserver(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        @EventListener
+        public void onContactReceived(ContactReceivedEvent event) {
+            String prefix = event.subject().substring(0, Math.min(event.subject().length(), 16));
+            Long visible = jdbcTemplate.queryForObject("select count(*) from contacts where subject like ?",
+                    Long.class, prefix + "%");
+            observed.add(new String[] {prefix, String.valueOf(visible)});
+        }
+
+        List<Long> rowsVisibleAt(String marker) {
+            synchronized (observed) {
+                return observed.stream().filter(entry -> entry[0].equals(marker)).map(entry -> Long.valueOf(entry[1])).toList();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        BatchObserver batchObserver(JdbcTemplate jdbcTemplate) {
+            return new BatchObserver(jdbcTemplate);
+        }
+    }
+}
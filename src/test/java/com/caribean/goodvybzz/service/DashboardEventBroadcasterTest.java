@@ -0,0 +1,234 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.event.ContactClassifiedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.CookieManager;
+import java.net.HttpCookie;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Flux temps réel du tableau de bord sur un vrai serveur: un navigateur qui ne lit plus
+ * est abandonné sans retarder les autres, un flux complet répond 503 et les messages
+ * classés indésirables ne sont pas relayés.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.dashboard.sse.max-clients=2",
+        "app.dashboard.sse.send-timeout-ms=1000"
+})
+@ActiveProfiles("test")
+class DashboardEventBroadcasterTest {
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\" value=\"([^\"]+)\"");
+    private static final Pattern EVENT_ID = Pattern.compile("\"id\":(\\d+)");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DashboardEventBroadcaster broadcaster;
+
+    private final CookieManager cookies = new CookieManager();
+    private final List<AutoCloseable> connections = new ArrayList<>();
+    private HttpClient client;
+
+    @BeforeEach
+    void login() throws Exception {
+        client = HttpClient.newBuilder()
+                .cookieHandler(cookies)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .build();
+        String page = client.send(HttpRequest.newBuilder(uri("/admin/login")).build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Matcher csrf = CSRF.matcher(page);
+        assertThat(csrf.find()).isTrue();
+
+        String form = "username=admin&password=admin123&_csrf=" + URLEncoder.encode(csrf.group(1), StandardCharsets.UTF_8);
+        HttpResponse<Void> response = client.send(HttpRequest.newBuilder(uri("/login"))
+                        .header("Content-Type", "application/x-www-form-urlencoded")
+                        .POST(HttpRequest.BodyPublishers.ofString(form))
+                        .build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(response.headers().firstValue("Location")).hasValueSatisfying(location -> assertThat(location).endsWith("/admin/dashboard"));
+    }
+
+    @AfterEach
+    void disconnect() throws Exception {
+        for (AutoCloseable connection : connections) {
+            connection.close();
+        }
+        // Le serveur ne remarque une déconnexion qu'à l'écriture suivante
+        await(() -> {
+            broadcaster.heartbeat();
+            return broadcaster.getClientCount() == 0;
+        });
+    }
+
+    @Test
+    void fullStreamAnswersServiceUnavailable() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            HttpResponse<InputStream> stream = openStream();
+            assertThat(stream.statusCode()).isEqualTo(200);
+        }
+
+        HttpResponse<InputStream> refused = openStream();
+        refused.body().close();
+        assertThat(refused.statusCode()).isEqualTo(503);
+        assertThat(refused.headers().firstValue("Retry-After")).hasValue("30");
+    }
+
+    @Test
+    void slowClientIsDroppedWithoutDelayingOthers() throws Exception {
+        Socket stalled = openStalledStream();
+        await(() -> broadcaster.getClientCount() == 1);
+        HttpResponse<InputStream> stream = openStream();
+        assertThat(stream.statusCode()).isEqualTo(200);
+        await(() -> broadcaster.getClientCount() == 2);
+
+        BlockingQueue<Long> received = new LinkedBlockingQueue<>();
+        CountDownLatch streamClosed = new CountDownLatch(1);
+        Thread reader = new Thread(() -> {
+            try (BufferedReader lines = new BufferedReader(new InputStreamReader(stream.body(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = lines.readLine()) != null) {
+                    Matcher id = EVENT_ID.matcher(line);
+                    if (line.startsWith("data:") && id.find()) {
+                        received.add(Long.parseLong(id.group(1)));
+                    }
+                }
+            } catch (Exception e) {
+                // connexion fermée en fin de test
+            } finally {
+                streamClosed.countDown();
+            }
+        });
+        reader.setDaemon(true);
+        reader.start();
+
+        // Un gros événement à la fois: le client qui lit reçoit chacun avant le suivant,
+        // seul le client qui ne lit pas accumule jusqu'à bloquer l'écriture
+        String subject = "x".repeat(64 * 1024);
+        long id = 0;
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (broadcaster.getClientCount() == 2) {
+            assertThat(System.nanoTime()).as("client bloqué non abandonné en 30 s").isLessThan(deadline);
+            id++;
+            broadcaster.onContactClassified(new ContactClassifiedEvent(id, "Visiteur", "v@example.org", subject, LocalDateTime.now(), false));
+            assertThat(received.poll(10, TimeUnit.SECONDS)).as("événement %d reçu", id).isEqualTo(id);
+            Thread.sleep(50);
+        }
+
+        // Le client restant est celui qui lit: son flux reste ouvert et continue de recevoir
+        assertThat(broadcaster.getClientCount()).isEqualTo(1);
+        for (int i = 0; i < 3; i++) {
+            id++;
+            broadcaster.onContactClassified(new ContactClassifiedEvent(id, "Visiteur", "v@example.org", "Bonjour", LocalDateTime.now(), false));
+            assertThat(received.poll(10, TimeUnit.SECONDS)).isEqualTo(id);
+        }
+        assertThat(streamClosed.getCount()).isEqualTo(1);
+        assertThat(stalled.isClosed()).isFalse();
+    }
+
+    @Test
+    void spamIsNotRelayed() throws Exception {
+        HttpResponse<InputStream> stream = openStream();
+        assertThat(stream.statusCode()).isEqualTo(200);
+        await(() -> broadcaster.getClientCount() == 1);
+
+        broadcaster.onContactClassified(new ContactClassifiedEvent(41L, "Robot", "r@example.org", "Promo", LocalDateTime.now(), true));
+        broadcaster.onContactClassified(new ContactClassifiedEvent(42L, "Visiteur", "v@example.org", "Bonjour", LocalDateTime.now(), false));
+
+        CompletableFuture<String> firstContact = CompletableFuture.supplyAsync(() -> {
+            try {
+                BufferedReader lines = new BufferedReader(new InputStreamReader(stream.body(), StandardCharsets.UTF_8));
+                String line;
+                boolean contactEvent = false;
+                while ((line = lines.readLine()) != null) {
+                    if (contactEvent && line.startsWith("data:")) {
+                        return line;
+                    }
+                    contactEvent = line.equals("event:contact-received");
+                }
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        assertThat(firstContact.get(30, TimeUnit.SECONDS)).contains("\"id\":42").doesNotContain("Robot");
+    }
+
+    private HttpResponse<InputStream> openStream() throws Exception {
+        HttpResponse<InputStream> response = client.send(HttpRequest.newBuilder(uri("/admin/dashboard/stream"))
+                        .header("Accept", "text/event-stream")
+                        .build(),
+                HttpResponse.BodyHandlers.ofInputStream());
+        connections.add(response.body());
+        return response;
+    }
+
+    /**
+     * Ouvre le flux depuis un client qui ne lit jamais la réponse.
+     */
+    private Socket openStalledStream() throws Exception {
+        Socket socket = new Socket();
+        socket.setReceiveBufferSize(4096);
+        socket.connect(new InetSocketAddress("localhost", port));
+        connections.add(socket);
+
+        StringBuilder cookieHeader = new StringBuilder();
+        for (HttpCookie cookie : cookies.getCookieStore().get(uri("/"))) {
+            cookieHeader.append(cookieHeader.isEmpty() ? "" : "; ").append(cookie.getName()).append('=').append(cookie.getValue());
+        }
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET /admin/dashboard/stream HTTP/1.1\r\n"
+                + "Host: localhost:" + port + "\r\n"
+                + "Accept: text/event-stream\r\n"
+                + "Cookie: " + cookieHeader + "\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+        return socket;
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition non atteinte en 30 s").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
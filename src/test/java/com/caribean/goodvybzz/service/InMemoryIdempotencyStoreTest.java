@@ -0,0 +1,136 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.service.IdempotencyStore.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Registre d'idempotence en mémoire, seul et derrière {@link IdempotencyService}:
+ * rejeu du résultat, doublon reçu pendant le traitement, expiration des clés.
+ */
+class InMemoryIdempotencyStoreTest {
+
+    private static final String PENDING = "redirect:/contact?pending";
+    private static final String SUCCESS = "redirect:/contact?success";
+
+    private final ExecutorService visitors = Executors.newFixedThreadPool(16);
+
+    @AfterEach
+    void stopVisitors() throws InterruptedException {
+        visitors.shutdownNow();
+        assertThat(visitors.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void completedSubmissionIsReplayed() {
+        IdempotencyService service = new IdempotencyService(store(Duration.ofMinutes(30)));
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+
+        assertThat(service.execute("contact", key, PENDING, () -> submit(executions))).isEqualTo(SUCCESS);
+        assertThat(service.execute("contact", key, PENDING, () -> submit(executions))).isEqualTo(SUCCESS);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void duplicateWhileInProgressIsAnsweredImmediately() throws Exception {
+        IdempotencyService service = new IdempotencyService(store(Duration.ofMinutes(30)));
+        String key = UUID.randomUUID().toString();
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+
+        Future<String> first = visitors.submit(() -> service.execute("contact", key, PENDING, () -> {
+            started.countDown();
+            await(finish);
+            return submit(executions);
+        }));
+        assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+        long before = System.nanoTime();
+        assertThat(service.execute("contact", key, PENDING, () -> submit(executions))).isEqualTo(PENDING);
+        assertThat(System.nanoTime() - before).isLessThan(TimeUnit.MILLISECONDS.toNanos(500));
+
+        finish.countDown();
+        assertThat(first.get(10, TimeUnit.SECONDS)).isEqualTo(SUCCESS);
+        assertThat(service.execute("contact", key, PENDING, () -> submit(executions))).isEqualTo(SUCCESS);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void concurrentClaimsAcquireOnce() throws Exception {
+        InMemoryIdempotencyStore store = store(Duration.ofMinutes(30));
+        String key = "contact:" + UUID.randomUUID();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Status>> claims = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            claims.add(visitors.submit(() -> {
+                start.await();
+                return store.claim(key).status();
+            }));
+        }
+        start.countDown();
+
+        List<Status> statuses = new ArrayList<>();
+        for (Future<Status> claim : claims) {
+            statuses.add(claim.get(10, TimeUnit.SECONDS));
+        }
+        assertThat(statuses).containsOnlyOnce(Status.ACQUIRED).containsOnly(Status.ACQUIRED, Status.IN_PROGRESS);
+    }
+
+    @Test
+    void expiredKeyIsProcessedAgain() throws Exception {
+        InMemoryIdempotencyStore store = store(Duration.ofMillis(200));
+        String key = "contact:" + UUID.randomUUID();
+        assertThat(store.claim(key).status()).isEqualTo(Status.ACQUIRED);
+        store.complete(key, SUCCESS);
+        assertThat(store.claim(key)).isEqualTo(IdempotencyStore.Claim.completed(SUCCESS));
+
+        Thread.sleep(300);
+
+        assertThat(store.claim(key).status()).isEqualTo(Status.ACQUIRED);
+    }
+
+    @Test
+    void abandonedReservationIsTakenOver() throws Exception {
+        InMemoryIdempotencyStore store = new InMemoryIdempotencyStore(100, Duration.ofMinutes(30), Duration.ofMillis(200));
+        String key = "contact:" + UUID.randomUUID();
+        assertThat(store.claim(key).status()).isEqualTo(Status.ACQUIRED);
+        assertThat(store.claim(key).status()).isEqualTo(Status.IN_PROGRESS);
+
+        Thread.sleep(300);
+
+        assertThat(store.claim(key).status()).isEqualTo(Status.ACQUIRED);
+    }
+
+    private static InMemoryIdempotencyStore store(Duration ttl) {
+        return new InMemoryIdempotencyStore(100, ttl, Duration.ofSeconds(30));
+    }
+
+    private static String submit(AtomicInteger executions) {
+        executions.incrementAndGet();
+        return SUCCESS;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
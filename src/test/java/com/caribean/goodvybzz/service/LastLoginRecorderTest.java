@@ -0,0 +1,94 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.model.AdminUser;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.sql.Timestamp;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestBuilders.formLogin;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.redirectedUrl;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Date de dernière connexion: seule la connexion par le formulaire compte (pas la
+ * collecte des métriques en HTTP Basic), et son écriture ne retire du cache de second
+ * niveau que l'administrateur concerné.
+ */
+@SpringBootTest(properties = "app.last-login.flush-interval-ms=3600000")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class LastLoginRecorderTest {
+
+    private static final String PASSWORD = "motdepasse123";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AdminUserService adminUserService;
+
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void formLoginIsRecordedAndEvictsOnlyThatAdmin() throws Exception {
+        AdminUser connected = createAdmin();
+        AdminUser other = createAdmin();
+        adminUserService.getAdminByUsername(connected.getUsername());
+        adminUserService.getAdminByUsername(other.getUsername());
+        Cache cache = entityManagerFactory.getCache().unwrap(Cache.class);
+        assertThat(cache.containsEntity(AdminUser.class, other.getId())).isTrue();
+
+        mockMvc.perform(formLogin("/login").user(connected.getUsername()).password(PASSWORD))
+                .andExpect(redirectedUrl("/admin/dashboard"));
+        lastLoginRecorder.flush();
+
+        assertThat(lastLogin(connected)).isNotNull();
+        assertThat(lastLogin(other)).isNull();
+        assertThat(cache.containsEntity(AdminUser.class, connected.getId())).isFalse();
+        assertThat(cache.containsEntity(AdminUser.class, other.getId())).isTrue();
+        assertThat(adminUserService.getAdminByUsername(connected.getUsername()).orElseThrow().getLastLoginDate()).isNotNull();
+    }
+
+    @Test
+    void metricsScrapeIsNotALogin() throws Exception {
+        AdminUser collector = createAdmin();
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/actuator/metrics").with(httpBasic(collector.getUsername(), PASSWORD)))
+                    .andExpect(status().isOk());
+        }
+        lastLoginRecorder.flush();
+
+        assertThat(lastLogin(collector)).isNull();
+    }
+
+    private AdminUser createAdmin() {
+        AdminUser admin = new AdminUser();
+        admin.setUsername("connexion-" + UUID.randomUUID().toString().substring(0, 8));
+        admin.setFullName("Admin Connexion");
+        return adminUserService.createAdmin(admin, PASSWORD);
+    }
+
+    private Timestamp lastLogin(AdminUser admin) {
+        return jdbcTemplate.queryForObject("select last_login_date from admin_users where id = ?", Timestamp.class, admin.getId());
+    }
+}
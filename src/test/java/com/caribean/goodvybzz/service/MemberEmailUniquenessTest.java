@@ -0,0 +1,64 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.model.Member;
+import com.caribean.goodvybzz.repository.MemberRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * L'unicité des emails de membres ne dépend pas de la casse, que l'écriture passe
+ * par {@link MemberService} ou directement par la base.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberEmailUniquenessTest {
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void registrationWithCaseVariantIsRejected() {
+        memberService.saveMember(member("Casse.Variante@Example.org"));
+
+        assertThat(memberRepository.findByEmail("casse.variante@example.org")).isPresent();
+        assertThatThrownBy(() -> memberService.saveMember(member("  CASSE.variante@example.ORG ")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("existe déjà");
+    }
+
+    @Test
+    void databaseRejectsCaseVariantInsert() {
+        insert("direct.insert@example.org");
+
+        assertThatThrownBy(() -> insert("Direct.Insert@Example.org"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private void insert(String email) {
+        jdbcTemplate.update("insert into members (first_name, last_name, full_name, email, phone, status, registration_date) "
+                + "values ('Jean', 'Direct', 'Jean Direct', ?, '0690000000', 'EN_ATTENTE', current_timestamp)", email);
+    }
+
+    private static Member member(String email) {
+        Member member = new Member();
+        member.setFirstName("Marie");
+        member.setLastName("Variante");
+        member.setFullName("Marie Variante");
+        member.setEmail(email);
+        member.setPhone("0690123456");
+        return member;
+    }
+}
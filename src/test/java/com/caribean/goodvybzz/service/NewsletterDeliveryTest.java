@@ -0,0 +1,169 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.model.Member;
+import com.caribean.goodvybzz.model.Newsletter;
+import com.caribean.goodvybzz.repository.MemberRepository;
+import com.caribean.goodvybzz.repository.NewsletterRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Diffusion des lettres d'information contre un serveur SMTP de test: chaque membre actif
+ * reçoit une lettre personnalisée, une seule fois, au rythme configuré, même si le serveur
+ * SMTP tombe pendant la diffusion.
+ */
+@SpringBootTest(properties = {
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025",
+        "app.newsletter.page-size=10",
+        "app.newsletter.rate-per-second=20",
+        "app.newsletter.retry-delay=2s"
+})
+@ActiveProfiles("test")
+class NewsletterDeliveryTest {
+
+    private static final int ACTIVE_MEMBERS = 30;
+
+    @RegisterExtension
+    static final GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private NewsletterService newsletterService;
+
+    @Autowired
+    private NewsletterRepository newsletterRepository;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void everyActiveMemberGetsOnePersonalizedLetterAtTheConfiguredRate() throws Exception {
+        List<String> emails = registerActiveMembers(ACTIVE_MEMBERS);
+        String pending = "attente-" + UUID.randomUUID() + "@example.org";
+        memberService.saveMember(member(pending, "Pending"));
+        long recipients = memberRepository.countByStatus(Member.MemberStatus.ACTIF);
+
+        long start = System.nanoTime();
+        Newsletter newsletter = newsletterService.start("Bonjour {{prenom}}", "Chère {{prenom}} {{nom}}, à bientôt.", "admin");
+        Newsletter done = awaitCompletion(newsletter.getId());
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        assertThat(done.getSentCount()).isEqualTo(recipients);
+        assertThat(done.getFailedCount()).isZero();
+        Map<String, Integer> received = receivedByRecipient();
+        assertThat(received).hasSize((int) recipients).doesNotContainKey(pending);
+        assertThat(received.values()).containsOnly(1);
+        for (String email : emails) {
+            assertThat(received).containsKey(email);
+        }
+
+        MimeMessage letter = messageTo(emails.get(0));
+        assertThat(letter.getSubject()).isEqualTo("Bonjour Membre0");
+        assertThat((String) letter.getContent()).contains("Chère Membre0 Lettre");
+        // 20 envois par seconde, rafale de 4 (un par thread d'envoi)
+        assertThat(elapsedSeconds).isGreaterThanOrEqualTo((recipients - 4) / 20.0 * 0.9);
+    }
+
+    @Test
+    void smtpOutageIsRetriedWithoutDuplicates() throws Exception {
+        registerActiveMembers(5);
+        long recipients = memberRepository.countByStatus(Member.MemberStatus.ACTIF);
+
+        smtp.stop();
+        Newsletter newsletter = newsletterService.start("Panne", "Bonjour {{prenom}}", "admin");
+        awaitFirstPassFailed(newsletter.getId(), recipients);
+        smtp.start();
+
+        Newsletter done = awaitCompletion(newsletter.getId());
+        assertThat(done.getSentCount()).isEqualTo(recipients);
+        assertThat(done.getFailedCount()).isZero();
+        assertThat(receivedByRecipient().values()).hasSize((int) recipients).containsOnly(1);
+    }
+
+    private List<String> registerActiveMembers(int count) {
+        String batch = UUID.randomUUID().toString().substring(0, 8);
+        List<String> emails = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String email = "lettre-" + batch + "-" + i + "@example.org";
+            Member saved = memberService.saveMember(member(email, "Membre" + i));
+            memberService.approveMember(saved.getId());
+            emails.add(email);
+        }
+        return emails;
+    }
+
+    private Newsletter awaitCompletion(Long id) throws InterruptedException {
+        long deadline = System.nanoTime() + 60_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            Newsletter newsletter = newsletterRepository.findById(id).orElseThrow();
+            if (newsletter.getStatus() != Newsletter.Status.RUNNING) {
+                assertThat(newsletter.getStatus()).isEqualTo(Newsletter.Status.COMPLETED);
+                return newsletter;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Diffusion " + id + " non terminée en 60 s");
+    }
+
+    private void awaitFirstPassFailed(Long id, long recipients) throws InterruptedException {
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (System.nanoTime() < deadline) {
+            Long attempted = jdbcTemplate.queryForObject(
+                    "select count(*) from newsletter_deliveries where newsletter_id = ? and attempts = 1 and status = 'PENDING'",
+                    Long.class, id);
+            if (attempted != null && attempted == recipients) {
+                return;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Première passe de la diffusion " + id + " non terminée en 30 s");
+    }
+
+    private Map<String, Integer> receivedByRecipient() throws Exception {
+        Map<String, Integer> received = new HashMap<>();
+        for (MimeMessage message : smtp.getReceivedMessages()) {
+            received.merge(message.getAllRecipients()[0].toString(), 1, Integer::sum);
+        }
+        return received;
+    }
+
+    private MimeMessage messageTo(String email) throws Exception {
+        for (MimeMessage message : smtp.getReceivedMessages()) {
+            if (message.getAllRecipients()[0].toString().equals(email)) {
+                return message;
+            }
+        }
+        throw new AssertionError("Aucune lettre pour " + email);
+    }
+
+    private static Member member(String email, String firstName) {
+        Member member = new Member();
+        member.setFirstName(firstName);
+        member.setLastName("Lettre");
+        member.setFullName(firstName + " Lettre");
+        member.setEmail(email);
+        member.setPhone("0690123456");
+        return member;
+    }
+}
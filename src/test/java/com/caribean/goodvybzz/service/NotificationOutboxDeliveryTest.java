@@ -0,0 +1,132 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.model.Contact;
+import com.caribean.goodvybzz.model.Member;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Outbox des notifications d'administration contre un serveur SMTP de test: chaque
+ * notification validée part une seule fois, survit à une panne SMTP et n'existe pas
+ * si la transaction qui l'a produite est annulée.
+ */
+@SpringBootTest(properties = {
+        "app.notifications.sender=mail",
+        "app.notifications.recipients=bureau@example.org",
+        "app.notifications.settle-delay=0s",
+        "app.notifications.retry-backoff=0s",
+        "app.notifications.poll-interval-ms=3600000",
+        "spring.mail.host=localhost",
+        "spring.mail.port=3025"
+})
+@ActiveProfiles("test")
+class NotificationOutboxDeliveryTest {
+
+    @RegisterExtension
+    static final GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private NotificationDispatcher dispatcher;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void emptyOutbox() {
+        // Base partagée avec les autres tests: seules les notifications de ce test comptent
+        jdbcTemplate.update("delete from notification_outbox");
+    }
+
+    @Test
+    void digestIsSentOnceThroughSmtp() throws Exception {
+        String marker = UUID.randomUUID().toString().substring(0, 8);
+        memberService.saveMember(member("digest-" + marker + "@example.org"));
+        contactService.saveContact(contact("Question " + marker));
+
+        dispatcher.dispatch();
+        dispatcher.dispatch();
+
+        assertThat(smtp.waitForIncomingEmail(5000, 1)).isTrue();
+        MimeMessage[] received = smtp.getReceivedMessages();
+        assertThat(received).hasSize(1);
+        assertThat(received[0].getSubject()).contains("1 nouvelle(s) inscription(s)").contains("1 nouveau(x) message(s)");
+        assertThat(received[0].getAllRecipients()[0].toString()).isEqualTo("bureau@example.org");
+        assertThat(GreenMailUtil.getBody(received[0])).contains("digest-" + marker + "@example.org").contains("Question " + marker);
+        assertThat(outboxSize()).isZero();
+    }
+
+    @Test
+    void failedDeliveryIsRetriedWithoutLoss() throws Exception {
+        smtp.stop();
+        contactService.saveContact(contact("Pendant la panne"));
+
+        dispatcher.dispatch();
+        assertThat(jdbcTemplate.queryForObject("select attempts from notification_outbox", Integer.class)).isEqualTo(1);
+
+        smtp.start();
+        dispatcher.dispatch();
+
+        assertThat(smtp.waitForIncomingEmail(5000, 1)).isTrue();
+        assertThat(GreenMailUtil.getBody(smtp.getReceivedMessages()[0])).contains("Pendant la panne");
+        assertThat(outboxSize()).isZero();
+    }
+
+    @Test
+    void rolledBackTransactionLeavesNoNotification() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            contactService.saveContact(contact("Annulé"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(outboxSize()).isZero();
+        dispatcher.dispatch();
+        assertThat(smtp.getReceivedMessages()).isEmpty();
+    }
+
+    private long outboxSize() {
+        return jdbcTemplate.queryForObject("select count(*) from notification_outbox", Long.class);
+    }
+
+    private static Member member(String email) {
+        Member member = new Member();
+        member.setFirstName("Nina");
+        member.setLastName("Outbox");
+        member.setFullName("Nina Outbox");
+        member.setEmail(email);
+        member.setPhone("0690123456");
+        return member;
+    }
+
+    private static Contact contact(String subject) {
+        Contact contact = new Contact();
+        contact.setName("Visiteur");
+        contact.setEmail("visiteur@example.org");
+        contact.setSubject(subject);
+        contact.setMessage("Bonjour, " + subject + " " + UUID.randomUUID());
+        return contact;
+    }
+}
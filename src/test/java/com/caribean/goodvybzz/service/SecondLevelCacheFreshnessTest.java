@@ -0,0 +1,168 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.model.AdminUser;
+import com.caribean.goodvybzz.model.Media;
+import com.caribean.goodvybzz.model.Media.MediaType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.event.InteractiveAuthenticationSuccessEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Cache de second niveau des médias et des administrateurs: une lecture qui suit la
+ * validation d'une écriture ne renvoie jamais l'ancienne valeur, que l'écriture passe
+ * par l'entité, par une requête de mise à jour ou hors d'Hibernate.
+ *
+ * <p>Chaque cas vérifie d'abord que la lecture est bien servie par le cache: sans cela,
+ * le test passerait aussi avec un cache désactivé.</p>
+ */
+@SpringBootTest(properties = "app.last-login.flush-interval-ms=3600000")
+@ActiveProfiles("test")
+class SecondLevelCacheFreshnessTest {
+
+    @Autowired
+    private MediaService mediaService;
+
+    @Autowired
+    private AdminUserService adminUserService;
+
+    @Autowired
+    private LastLoginRecorder lastLoginRecorder;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void statistics() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void editedMediaIsReadFreshByIdAndInPublishedQuery() {
+        Media media = mediaService.saveMedia(media("Avant " + UUID.randomUUID()));
+        warmEntityCache(media.getId());
+        warmPublishedQueryCache();
+
+        Media edit = new Media();
+        edit.setTitle("Après " + UUID.randomUUID());
+        edit.setDescription("modifié");
+        edit.setDisplayOrder(7);
+        edit.setPublished(true);
+        mediaService.updateMedia(media.getId(), edit);
+
+        assertThat(mediaService.getMediaById(media.getId()).orElseThrow().getTitle()).isEqualTo(edit.getTitle());
+        assertThat(titles(mediaService.getPublishedMedia())).contains(edit.getTitle()).doesNotContain(media.getTitle());
+        assertThat(titles(mediaService.getPublishedMediaByType(MediaType.VIDEO))).contains(edit.getTitle());
+    }
+
+    @Test
+    void unpublishedMediaLeavesCachedQueriesImmediately() {
+        Media media = mediaService.saveMedia(media("Dépublié " + UUID.randomUUID()));
+        warmEntityCache(media.getId());
+        warmPublishedQueryCache();
+        assertThat(titles(mediaService.getPublishedMedia())).contains(media.getTitle());
+
+        // Requête de mise à jour conditionnelle: ne passe pas par l'entité chargée
+        assertThat(mediaService.togglePublishStatus(media.getId(), false)).isTrue();
+
+        assertThat(mediaService.getMediaById(media.getId()).orElseThrow().getPublished()).isFalse();
+        assertThat(titles(mediaService.getPublishedMedia())).doesNotContain(media.getTitle());
+        assertThat(titles(mediaService.getPublishedMediaByType(MediaType.VIDEO))).doesNotContain(media.getTitle());
+    }
+
+    @Test
+    void rolledBackEditNeverReachesTheCache() {
+        Media media = mediaService.saveMedia(media("Validé " + UUID.randomUUID()));
+        warmEntityCache(media.getId());
+        warmPublishedQueryCache();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Media edit = new Media();
+            edit.setTitle("Annulé");
+            edit.setDisplayOrder(0);
+            edit.setPublished(false);
+            mediaService.updateMedia(media.getId(), edit);
+            status.setRollbackOnly();
+        });
+
+        Media read = mediaService.getMediaById(media.getId()).orElseThrow();
+        assertThat(read.getTitle()).isEqualTo(media.getTitle());
+        assertThat(read.getPublished()).isTrue();
+        assertThat(titles(mediaService.getPublishedMedia())).contains(media.getTitle());
+    }
+
+    @Test
+    void adminChangesAreReadFreshByUsername() {
+        String username = "cache-" + UUID.randomUUID().toString().substring(0, 8);
+        AdminUser admin = new AdminUser();
+        admin.setUsername(username);
+        admin.setFullName("Admin Cache");
+        adminUserService.createAdmin(admin, "motdepasse123");
+        warmAdminCache(username);
+
+        adminUserService.toggleActiveStatus(admin.getId(), false);
+        assertThat(adminUserService.getAdminByUsername(username).orElseThrow().getActive()).isFalse();
+
+        // Date de connexion écrite en SQL direct, hors d'Hibernate
+        warmAdminCache(username);
+        lastLoginRecorder.onInteractiveLogin(new InteractiveAuthenticationSuccessEvent(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()), getClass()));
+        lastLoginRecorder.flush();
+        assertThat(adminUserService.getAdminByUsername(username).orElseThrow().getLastLoginDate()).isNotNull();
+    }
+
+    private void warmEntityCache(Long id) {
+        mediaService.getMediaById(id);
+        long hits = statistics.getSecondLevelCacheHitCount();
+        mediaService.getMediaById(id);
+        assertThat(statistics.getSecondLevelCacheHitCount()).as("média servi par le cache").isGreaterThan(hits);
+    }
+
+    private void warmPublishedQueryCache() {
+        mediaService.getPublishedMedia();
+        mediaService.getPublishedMediaByType(MediaType.VIDEO);
+        long hits = statistics.getQueryCacheHitCount();
+        mediaService.getPublishedMedia();
+        mediaService.getPublishedMediaByType(MediaType.VIDEO);
+        assertThat(statistics.getQueryCacheHitCount()).as("médias publiés servis par le cache").isEqualTo(hits + 2);
+    }
+
+    private void warmAdminCache(String username) {
+        adminUserService.getAdminByUsername(username);
+        long hits = statistics.getQueryCacheHitCount();
+        adminUserService.getAdminByUsername(username);
+        assertThat(statistics.getQueryCacheHitCount()).as("administrateur servi par le cache").isGreaterThan(hits);
+    }
+
+    private static List<String> titles(List<Media> media) {
+        return media.stream().map(Media::getTitle).toList();
+    }
+
+    private static Media media(String title) {
+        Media media = new Media();
+        media.setTitle(title);
+        media.setType(MediaType.VIDEO);
+        media.setFilePath("https://www.youtube.com/embed/" + UUID.randomUUID());
+        media.setPublished(true);
+        media.setDisplayOrder(0);
+        return media;
+    }
+}
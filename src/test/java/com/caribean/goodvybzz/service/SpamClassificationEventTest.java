@@ -0,0 +1,97 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.event.ContactClassifiedEvent;
+import com.caribean.goodvybzz.model.Contact;
+import com.caribean.goodvybzz.repository.ContactRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Un message reçu n'est annoncé (tableau de bord en direct) qu'après son classement
+ * anti-spam, et l'annonce reflète le classement déjà enregistré en base.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SpamClassificationEventTest {
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private ClassifiedEvents classifiedEvents;
+
+    @Test
+    void duplicateIsAnnouncedAsSpamOnlyAfterClassification() throws Exception {
+        String message = "Offre exceptionnelle " + UUID.randomUUID() + ", cliquez vite sur le lien.";
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(contactService.saveContact(contact(message)).getId());
+        }
+
+        for (int i = 0; i < 3; i++) {
+            Observed observed = classifiedEvents.next();
+            assertThat(observed.event().id()).isEqualTo(ids.get(i));
+            assertThat(observed.spamInDatabase()).isEqualTo(observed.event().spam());
+            assertThat(observed.event().spam()).isEqualTo(i == 2);
+        }
+    }
+
+    private static Contact contact(String message) {
+        Contact contact = new Contact();
+        contact.setName("Robot");
+        contact.setEmail("robot@example.org");
+        contact.setSubject("Promotion");
+        contact.setMessage(message);
+        return contact;
+    }
+
+    record Observed(ContactClassifiedEvent event, boolean spamInDatabase) {
+    }
+
+    /**
+     * Relève chaque annonce avec le classement lu en base au même instant.
+     */
+    static class ClassifiedEvents {
+        private final ContactRepository contactRepository;
+        private final BlockingQueue<Observed> observed = new LinkedBlockingQueue<>();
+
+        ClassifiedEvents(ContactRepository contactRepository) {
+            this.contactRepository = contactRepository;
+        }
+
+        @EventListener
+        public void onContactClassified(ContactClassifiedEvent event) {
+            boolean spam = contactRepository.findById(event.id()).map(Contact::getSpam).orElseThrow();
+            observed.add(new Observed(event, spam));
+        }
+
+        Observed next() throws InterruptedException {
+            Observed next = observed.poll(30, TimeUnit.SECONDS);
+            assertThat(next).as("aucune annonce de classement").isNotNull();
+            return next;
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        ClassifiedEvents classifiedEvents(ContactRepository contactRepository) {
+            return new ClassifiedEvents(contactRepository);
+        }
+    }
+}
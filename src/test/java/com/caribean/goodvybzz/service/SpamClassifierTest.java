@@ -0,0 +1,28 @@
+package com.caribean.goodvybzz.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vocabulaire borné du classifieur: les mots aléatoires d'un flot de messages
+ * n'augmentent pas la mémoire au-delà de la capacité, et les mots fréquents restent
+ * connus.
+ */
+class SpamClassifierTest {
+
+    private static final int CAPACITY = 200;
+
+    @Test
+    void rareTokensArePrunedAndFrequentOnesKept() {
+        SpamClassifier classifier = new SpamClassifier(10, CAPACITY);
+        for (int i = 0; i < 5_000; i++) {
+            classifier.learn("Offre gratuite casino jeton" + i + " code" + (i * 31), true);
+            classifier.learn("Bonjour, inscription au cours de danse, merci ref" + i, false);
+            assertThat(classifier.vocabularySize()).isLessThanOrEqualTo(2 * CAPACITY);
+        }
+
+        assertThat(classifier.score("Offre gratuite au casino")).isGreaterThan(0.9);
+        assertThat(classifier.score("Bonjour, une question sur le cours de danse")).isLessThan(0.1);
+    }
+}
@@ -0,0 +1,319 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.event.MediaPublicationChangedEvent;
+import com.caribean.goodvybzz.model.Media;
+import com.caribean.goodvybzz.model.Member;
+import com.caribean.goodvybzz.model.Member.MemberStatus;
+import com.caribean.goodvybzz.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Transitions d'état sous contention: de nombreux administrateurs cliquent en même temps
+ * sur les mêmes membres, messages et médias. Chaque transition conditionnelle ne
+ * s'applique qu'une fois, aucune bascule n'est perdue et les statistiques restent
+ * égales aux statuts réels.
+ *
+ * <p>Le pool a la taille de la production (5 connexions) pour 16 threads: une
+ * transition qui attendrait une seconde connexion en tenant la première bloquerait.</p>
+ */
+@SpringBootTest(properties = "spring.datasource.hikari.maximum-pool-size=5")
+@ActiveProfiles("test")
+class StateTransitionConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ContactService contactService;
+
+    @Autowired
+    private MediaService mediaService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PublicationEvents publicationEvents;
+
+    private ExecutorService admins;
+
+    @BeforeEach
+    void startAdmins() {
+        admins = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void stopAdmins() throws InterruptedException {
+        admins.shutdownNow();
+        assertThat(admins.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void concurrentApprovalsApplyOnceAndKeepStatisticsExact() throws Exception {
+        List<Long> ids = registerPendingMembers(5);
+        Map<MemberStatus, Long> rollupsBefore = todayRollups();
+
+        for (Long id : ids) {
+            List<Boolean> results = race(() -> memberService.approveMember(id));
+            assertThat(results).containsOnlyOnce(true);
+            assertThat(memberRepository.findById(id).orElseThrow().getStatus()).isEqualTo(MemberStatus.ACTIF);
+            assertThat(version("members", id)).isEqualTo(1);
+        }
+
+        Map<MemberStatus, Long> delta = delta(rollupsBefore, todayRollups());
+        assertThat(delta.get(MemberStatus.EN_ATTENTE)).isEqualTo(-ids.size());
+        assertThat(delta.get(MemberStatus.ACTIF)).isEqualTo(ids.size());
+        assertThat(delta.get(MemberStatus.INACTIF)).isZero();
+    }
+
+    @Test
+    void competingStatusChangesMatchStatisticsAndFinalState() throws Exception {
+        List<Long> ids = registerPendingMembers(3);
+        Map<MemberStatus, Long> rollupsBefore = todayRollups();
+
+        for (Long id : ids) {
+            AtomicInteger approvals = new AtomicInteger();
+            AtomicInteger deactivations = new AtomicInteger();
+            AtomicInteger reactivations = new AtomicInteger();
+            AtomicInteger turn = new AtomicInteger();
+            race(() -> {
+                for (int i = 0; i < 10; i++) {
+                    switch (turn.getAndIncrement() % 3) {
+                        case 0 -> count(memberService.approveMember(id), approvals);
+                        case 1 -> count(memberService.transitionStatus(id, MemberStatus.ACTIF, MemberStatus.INACTIF), deactivations);
+                        default -> count(memberService.transitionStatus(id, MemberStatus.INACTIF, MemberStatus.ACTIF), reactivations);
+                    }
+                }
+                return true;
+            });
+
+            // Le statut final se déduit des seules transitions appliquées
+            assertThat(approvals.get()).isEqualTo(1);
+            int net = deactivations.get() - reactivations.get();
+            assertThat(net).isBetween(0, 1);
+            MemberStatus expected = net == 1 ? MemberStatus.INACTIF : MemberStatus.ACTIF;
+            assertThat(memberRepository.findById(id).orElseThrow().getStatus()).isEqualTo(expected);
+            assertThat(version("members", id)).isEqualTo(1 + deactivations.get() + reactivations.get());
+        }
+
+        Map<MemberStatus, Long> delta = delta(rollupsBefore, todayRollups());
+        assertThat(delta.get(MemberStatus.EN_ATTENTE)).isEqualTo(-ids.size());
+        assertThat(delta.get(MemberStatus.ACTIF) + delta.get(MemberStatus.INACTIF)).isEqualTo(ids.size());
+        assertThat(delta.get(MemberStatus.INACTIF)).isEqualTo(countStatus(ids, MemberStatus.INACTIF));
+    }
+
+    @Test
+    void concurrentReadTogglesAreNeverLost() throws Exception {
+        Long id = insertContact();
+
+        race(() -> {
+            for (int i = 0; i < 10; i++) {
+                contactService.toggleReadStatus(id);
+            }
+            return true;
+        });
+
+        // 160 bascules: un nombre pair ramène le message à non lu
+        assertThat(contactService.getContactById(id).orElseThrow().getRead()).isFalse();
+        assertThat(version("contacts", id)).isEqualTo(THREADS * 10);
+    }
+
+    @Test
+    void concurrentMarkAsReadAppliesOnce() throws Exception {
+        Long id = insertContact();
+
+        List<Boolean> results = race(() -> contactService.markAsRead(id));
+
+        assertThat(results).containsOnlyOnce(true);
+        assertThat(contactService.getContactById(id).orElseThrow().getRead()).isTrue();
+        assertThat(version("contacts", id)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentSpamReviewsAreRecordedOnce() throws Exception {
+        Long id = insertContact();
+
+        List<Boolean> results = race(() -> contactService.markAsSpam(id, true));
+
+        assertThat(results).containsOnlyOnce(true);
+        assertThat(jdbcTemplate.queryForObject("select is_spam and spam_reviewed from contacts where id = ?", Boolean.class, id)).isTrue();
+        assertThat(version("contacts", id)).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentUnpublishAppliesOnceAndAnnouncesOnce() throws Exception {
+        Media media = new Media();
+        media.setTitle("Concurrence " + UUID.randomUUID());
+        media.setType(Media.MediaType.VIDEO);
+        media.setFilePath("https://www.youtube.com/embed/" + UUID.randomUUID());
+        media.setPublished(true);
+        media.setDisplayOrder(0);
+        Long id = mediaService.saveMedia(media).getId();
+
+        List<Boolean> results = race(() -> mediaService.togglePublishStatus(id, false));
+
+        assertThat(results).containsOnlyOnce(true);
+        assertThat(mediaService.getMediaById(id).orElseThrow().getPublished()).isFalse();
+        assertThat(version("media", id)).isEqualTo(1);
+        assertThat(publicationEvents.unpublished(id)).isEqualTo(1);
+    }
+
+    /**
+     * Lance la même action depuis tous les threads à la fois et renvoie leurs résultats.
+     */
+    private <T> List<T> race(Callable<T> action) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<T>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(admins.submit(() -> {
+                start.await();
+                return action.call();
+            }));
+        }
+        start.countDown();
+        List<T> results = new ArrayList<>();
+        for (Future<T> future : futures) {
+            results.add(future.get(60, TimeUnit.SECONDS));
+        }
+        return results;
+    }
+
+    private static void count(boolean applied, AtomicInteger counter) {
+        if (applied) {
+            counter.incrementAndGet();
+        }
+    }
+
+    private List<Long> registerPendingMembers(int count) {
+        String batch = UUID.randomUUID().toString().substring(0, 8);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Member member = new Member();
+            member.setFirstName("Membre" + i);
+            member.setLastName("Concurrent");
+            member.setFullName("Membre" + i + " Concurrent");
+            member.setEmail("concurrent-" + batch + "-" + i + "@example.org");
+            member.setPhone("0690123456");
+            Member saved = memberService.saveMember(member);
+            assertThat(saved.getStatus()).isEqualTo(MemberStatus.EN_ATTENTE);
+            ids.add(saved.getId());
+        }
+        return ids;
+    }
+
+    private long countStatus(List<Long> ids, MemberStatus status) {
+        return ids.stream().filter(id -> memberRepository.findById(id).orElseThrow().getStatus() == status).count();
+    }
+
+    /**
+     * Compteurs du jour par statut (les membres du test sont inscrits aujourd'hui).
+     */
+    private Map<MemberStatus, Long> todayRollups() {
+        Map<MemberStatus, Long> totals = new EnumMap<>(MemberStatus.class);
+        for (MemberStatus status : MemberStatus.values()) {
+            Long total = jdbcTemplate.queryForObject(
+                    "select coalesce(sum(total), 0) from stats_rollups where metric = 'MEMBER_REGISTRATIONS' "
+                            + "and granularity = 'DAY' and bucket_start = ? and dimension = ?",
+                    Long.class, LocalDate.now(), status.name());
+            totals.put(status, total);
+        }
+        return totals;
+    }
+
+    private static Map<MemberStatus, Long> delta(Map<MemberStatus, Long> before, Map<MemberStatus, Long> after) {
+        Map<MemberStatus, Long> delta = new EnumMap<>(MemberStatus.class);
+        for (MemberStatus status : MemberStatus.values()) {
+            delta.put(status, after.get(status) - before.get(status));
+        }
+        return delta;
+    }
+
+    /**
+     * Message inséré directement: le filtre anti-spam, asynchrone, ne le modifie pas
+     * pendant la course.
+     */
+    private Long insertContact() {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement insert = connection.prepareStatement(
+                    "insert into contacts (name, email, subject, message, received_date, is_read) values (?, ?, ?, ?, ?, false)",
+                    Statement.RETURN_GENERATED_KEYS);
+            insert.setString(1, "Visiteur");
+            insert.setString(2, "visiteur@example.org");
+            insert.setString(3, "Concurrence");
+            insert.setString(4, "Bonjour " + UUID.randomUUID());
+            insert.setTimestamp(5, Timestamp.valueOf(LocalDateTime.now()));
+            return insert;
+        }, keys);
+        return keys.getKey().longValue();
+    }
+
+    private long version(String table, Long id) {
+        return jdbcTemplate.queryForObject("select version from " + table + " where id = ?", Long.class, id);
+    }
+
+    /**
+     * Compte les annonces de dépublication par média.
+     */
+    static class PublicationEvents {
+        private final Map<Long, AtomicInteger> unpublished = new ConcurrentHashMap<>();
+
+        @EventListener
+        public void onPublicationChanged(MediaPublicationChangedEvent event) {
+            if (!event.published()) {
+                unpublished.computeIfAbsent(event.id(), id -> new AtomicInteger()).incrementAndGet();
+            }
+        }
+
+        int unpublished(Long id) {
+            AtomicInteger count = unpublished.get(id);
+            return count == null ? 0 : count.get();
+        }
+    }
+
+    @TestConfiguration
+    static class Config {
+
+        @Bean
+        PublicationEvents publicationEvents() {
+            return new PublicationEvents();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.caribean.goodvybzz.service;
+
+import com.caribean.goodvybzz.model.Member.MemberStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compteurs créés à la volée pour une période jamais préparée: la création se fait
+ * dans la transaction de l'opération, sur sa connexion. Avec un pool de deux connexions
+ * et seize threads, aucune transaction n'attend une seconde connexion et aucune
+ * valeur n'est perdue quand plusieurs transactions créent le même compteur.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=5000"
+})
+@ActiveProfiles("test")
+class StatsRollupUpsertTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private StatsRollupService statsRollupService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentUpdatesCreateMissingBucketsInTheirOwnTransaction() throws Exception {
+        // Un jour passé au hasard: ses compteurs n'existent pas encore
+        LocalDate day = LocalDate.of(1990, 1, 1).plusDays(ThreadLocalRandom.current().nextInt(3000));
+        ExecutorService writers = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(writers.submit(() -> {
+                    start.await();
+                    statsRollupService.recordContactReceived(day.atTime(10, 0));
+                    statsRollupService.recordMemberRegistered(day.atTime(10, 0), MemberStatus.EN_ATTENTE);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            writers.shutdownNow();
+        }
+
+        for (String granularity : List.of("DAY", "WEEK", "MONTH")) {
+            assertThat(total("CONTACTS", granularity, day, "ALL")).as(granularity).isEqualTo(THREADS);
+            assertThat(total("MEMBER_REGISTRATIONS", granularity, day, "EN_ATTENTE")).as(granularity).isEqualTo(THREADS);
+        }
+    }
+
+    @Test
+    void statusChangeOnAnUnpreparedPeriodCreatesBothBuckets() {
+        LocalDate day = LocalDate.of(1980, 1, 1).plusDays(ThreadLocalRandom.current().nextInt(3000));
+
+        statsRollupService.recordMemberStatusChanged(day.atStartOfDay(), MemberStatus.EN_ATTENTE, MemberStatus.ACTIF);
+
+        assertThat(total("MEMBER_REGISTRATIONS", "DAY", day, "EN_ATTENTE")).isEqualTo(-1);
+        assertThat(total("MEMBER_REGISTRATIONS", "DAY", day, "ACTIF")).isEqualTo(1);
+    }
+
+    /**
+     * Total du compteur de la période contenant le jour.
+     */
+    private long total(String metric, String granularity, LocalDate day, String dimension) {
+        return jdbcTemplate.queryForObject("select coalesce(sum(total), 0) from stats_rollups where metric = ? "
+                        + "and granularity = ? and dimension = ? and bucket_start <= ? and bucket_start > ?",
+                Long.class, metric, granularity, dimension, day, day.minusMonths(1));
+    }
+}
@@ -0,0 +1,57 @@
+-- Schéma d'une base de production antérieure à Flyway, tel que créé par
+-- Hibernate (ddl-auto=update) à partir des entités d'origine, avec quelques données.
+
+create table admin_users (
+    is_active boolean not null,
+    created_date timestamp(6) not null,
+    id bigint generated by default as identity,
+    last_login_date timestamp(6),
+    full_name varchar(100),
+    password varchar(255) not null,
+    role varchar(255) not null check (role in ('ADMIN', 'SUPER_ADMIN')),
+    username varchar(50) not null unique,
+    primary key (id)
+);
+
+create table contacts (
+    is_read boolean not null,
+    id bigint generated by default as identity,
+    received_date timestamp(6) not null,
+    email varchar(150) not null,
+    subject varchar(150) not null,
+    name varchar(100) not null,
+    message varchar(1000) not null,
+    primary key (id)
+);
+
+create table media (
+    display_order integer not null,
+    is_published boolean not null,
+    id bigint generated by default as identity,
+    upload_date timestamp(6) not null,
+    original_file_name varchar(255),
+    description varchar(500),
+    file_path varchar(500) not null,
+    title varchar(150) not null,
+    type varchar(255) not null check (type in ('PHOTO', 'VIDEO')),
+    primary key (id)
+);
+
+create table members (
+    id bigint generated by default as identity,
+    registration_date timestamp(6) not null,
+    phone varchar(20) not null,
+    first_name varchar(100) not null,
+    full_name varchar(100) not null,
+    last_name varchar(100) not null,
+    message varchar(500),
+    email varchar(150) not null unique,
+    status varchar(255) not null check (status in ('ACTIF', 'INACTIF', 'EN_ATTENTE')),
+    primary key (id)
+);
+
+insert into contacts (is_read, received_date, email, subject, name, message)
+values (false, current_timestamp, 'ancien@example.org', 'Avant Flyway', 'Ancien', 'Message reçu avant les migrations');
+
+insert into members (registration_date, phone, first_name, full_name, last_name, email, status)
+values (current_timestamp, '0690123456', 'Ancien', 'Ancien Membre', 'Membre', 'Ancien.Membre@example.org', 'ACTIF');